@@ -0,0 +1,265 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.benchmarks.corpus;
+
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.io.util.StreamUtil;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfArray;
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfNumber;
+import com.itextpdf.kernel.pdf.PdfString;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.WriterProperties;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Random;
+
+/**
+ * Generates the synthetic corpus which is used by all the benchmarks.
+ *
+ * <p>
+ * All the content is derived from a {@link Random} with a fixed seed and the document ids are fixed,
+ * so two corpora generated by the same generator code have the same structure and the same content.
+ * Only the creation and modification dates written by the kernel differ.
+ */
+public final class SyntheticCorpus {
+
+    /**
+     * System property which can be used to point the benchmarks to the corpus directory.
+     */
+    public static final String CORPUS_DIRECTORY_PROPERTY = "itext.benchmarks.corpus";
+
+    /**
+     * 200 pages of plain text shown with a standard font.
+     */
+    public static final String TEXT_PDF = "text.pdf";
+
+    /**
+     * 50 pages of vector graphics, i.e. content streams which consist of path construction operators mostly.
+     */
+    public static final String VECTOR_PDF = "vector.pdf";
+
+    /**
+     * Document with many small indirect objects and a classic cross-reference table.
+     */
+    public static final String OBJECTS_XREF_TABLE_PDF = "objects-xref-table.pdf";
+
+    /**
+     * Document with many small indirect objects stored in object streams and a cross-reference stream.
+     */
+    public static final String OBJECTS_XREF_STREAM_PDF = "objects-xref-stream.pdf";
+
+    /**
+     * TrueType font used by font and layout benchmarks.
+     */
+    public static final String FONT_TTF = "FreeSans.ttf";
+
+    static final long SEED = 20240917L;
+
+    private static final int TEXT_PAGES = 200;
+    private static final int VECTOR_PAGES = 50;
+    private static final int OBJECTS_COUNT = 50000;
+    private static final String DEFAULT_CORPUS_DIRECTORY = "target/corpus";
+    private static final String FONT_RESOURCE = "/com/itextpdf/benchmarks/corpus/" + FONT_TTF;
+    private static final String[] FILES = {TEXT_PDF, VECTOR_PDF, OBJECTS_XREF_TABLE_PDF, OBJECTS_XREF_STREAM_PDF,
+            FONT_TTF};
+
+    private SyntheticCorpus() {
+        // Empty constructor
+    }
+
+    /**
+     * Generates the corpus into the directory passed as the first argument.
+     *
+     * @param args the first argument is the target directory
+     *
+     * @throws IOException if the corpus can't be written
+     */
+    public static void main(String[] args) throws IOException {
+        File directory = new File(args.length > 0 ? args[0] : DEFAULT_CORPUS_DIRECTORY);
+        generate(directory);
+    }
+
+    /**
+     * Gets the corpus directory, generating the corpus first if the directory doesn't contain it yet.
+     *
+     * @return the corpus directory
+     *
+     * @throws IOException if the corpus can't be written
+     */
+    public static File ensureGenerated() throws IOException {
+        File directory = new File(System.getProperty(CORPUS_DIRECTORY_PROPERTY, DEFAULT_CORPUS_DIRECTORY));
+        for (String file : FILES) {
+            if (!new File(directory, file).exists()) {
+                generate(directory);
+                break;
+            }
+        }
+        return directory;
+    }
+
+    /**
+     * Gets the path of a corpus file, generating the corpus first if needed.
+     *
+     * @param name the name of the corpus file, one of the constants of this class
+     *
+     * @return the path of the file
+     *
+     * @throws IOException if the corpus can't be written
+     */
+    public static String getPath(String name) throws IOException {
+        return new File(ensureGenerated(), name).getAbsolutePath();
+    }
+
+    /**
+     * Reads the corpus file into memory so that the benchmarks don't measure disk access.
+     *
+     * @param name the name of the corpus file, one of the constants of this class
+     *
+     * @return the content of the file
+     *
+     * @throws IOException if the corpus can't be written or read
+     */
+    public static byte[] readBytes(String name) throws IOException {
+        return Files.readAllBytes(new File(ensureGenerated(), name).toPath());
+    }
+
+    /**
+     * Generates a deterministic sequence of pseudo words.
+     *
+     * @param random the source of randomness
+     * @param wordCount the amount of words
+     *
+     * @return the text
+     */
+    public static String generateText(Random random, int wordCount) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < wordCount; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            int length = 2 + random.nextInt(9);
+            for (int j = 0; j < length; j++) {
+                sb.append((char) ('a' + random.nextInt(26)));
+            }
+        }
+        return sb.toString();
+    }
+
+    static void generate(File directory) throws IOException {
+        if (!directory.exists() && !directory.mkdirs()) {
+            throw new IOException("Unable to create corpus directory " + directory.getAbsolutePath());
+        }
+        generateText(new File(directory, TEXT_PDF));
+        generateVector(new File(directory, VECTOR_PDF));
+        generateObjects(new File(directory, OBJECTS_XREF_TABLE_PDF), false);
+        generateObjects(new File(directory, OBJECTS_XREF_STREAM_PDF), true);
+        copyFont(new File(directory, FONT_TTF));
+    }
+
+    private static void generateText(File file) throws IOException {
+        Random random = new Random(SEED);
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(file.getAbsolutePath(),
+                createWriterProperties(TEXT_PDF)))) {
+            PdfFont font = PdfFontFactory.createFont(StandardFonts.HELVETICA);
+            for (int i = 0; i < TEXT_PAGES; i++) {
+                PdfCanvas canvas = new PdfCanvas(pdfDocument.addNewPage(PageSize.A4));
+                canvas.beginText().setFontAndSize(font, 10).setLeading(12).moveText(36, 806);
+                for (int line = 0; line < 64; line++) {
+                    canvas.newlineShowText(generateText(random, 12));
+                }
+                canvas.endText().release();
+            }
+        }
+    }
+
+    private static void generateVector(File file) throws IOException {
+        Random random = new Random(SEED);
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(file.getAbsolutePath(),
+                createWriterProperties(VECTOR_PDF)))) {
+            for (int i = 0; i < VECTOR_PAGES; i++) {
+                PdfCanvas canvas = new PdfCanvas(pdfDocument.addNewPage(PageSize.A4));
+                for (int path = 0; path < 2000; path++) {
+                    canvas.saveState()
+                            .setLineWidth(0.1f + random.nextFloat())
+                            .setStrokeColorRgb(random.nextFloat(), random.nextFloat(), random.nextFloat())
+                            .moveTo(random.nextFloat() * 595, random.nextFloat() * 842);
+                    for (int segment = 0; segment < 4; segment++) {
+                        canvas.curveTo(random.nextFloat() * 595, random.nextFloat() * 842,
+                                random.nextFloat() * 595, random.nextFloat() * 842,
+                                random.nextFloat() * 595, random.nextFloat() * 842);
+                    }
+                    canvas.stroke().restoreState();
+                }
+                canvas.release();
+            }
+        }
+    }
+
+    private static void generateObjects(File file, boolean fullCompression) throws IOException {
+        Random random = new Random(SEED);
+        String name = fullCompression ? OBJECTS_XREF_STREAM_PDF : OBJECTS_XREF_TABLE_PDF;
+        WriterProperties properties = createWriterProperties(name).setFullCompressionMode(fullCompression);
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(file.getAbsolutePath(), properties))) {
+            pdfDocument.addNewPage();
+            PdfArray objects = new PdfArray();
+            for (int i = 0; i < OBJECTS_COUNT; i++) {
+                PdfDictionary dictionary = new PdfDictionary();
+                dictionary.put(PdfName.Type, new PdfName("BenchmarkObject"));
+                dictionary.put(PdfName.Index, new PdfNumber(i));
+                dictionary.put(PdfName.V, new PdfNumber(random.nextDouble()));
+                dictionary.put(PdfName.Name, new PdfString(generateText(random, 2)));
+                dictionary.makeIndirect(pdfDocument);
+                objects.add(dictionary);
+            }
+            objects.makeIndirect(pdfDocument);
+            pdfDocument.getCatalog().put(new PdfName("BenchmarkObjects"), objects);
+        }
+    }
+
+    private static void copyFont(File file) throws IOException {
+        try (InputStream is = SyntheticCorpus.class.getResourceAsStream(FONT_RESOURCE);
+                OutputStream os = new FileOutputStream(file)) {
+            StreamUtil.transferBytes(is, os);
+        }
+    }
+
+    private static WriterProperties createWriterProperties(String name) {
+        PdfString documentId = new PdfString(name.getBytes(StandardCharsets.ISO_8859_1));
+        return new WriterProperties()
+                .setInitialDocumentId(documentId)
+                .setModifiedDocumentId(documentId);
+    }
+}
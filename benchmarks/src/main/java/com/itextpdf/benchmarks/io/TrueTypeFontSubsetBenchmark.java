@@ -0,0 +1,83 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.benchmarks.io;
+
+import com.itextpdf.benchmarks.corpus.SyntheticCorpus;
+import com.itextpdf.io.font.FontProgramFactory;
+import com.itextpdf.io.font.TrueTypeFont;
+import com.itextpdf.io.font.otf.Glyph;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures TrueType font subsetting, i.e. {@code TrueTypeFontSubset}, through {@link TrueTypeFont#getSubset}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TrueTypeFontSubsetBenchmark {
+
+    @Param({"50", "500"})
+    public int glyphCount;
+
+    private TrueTypeFont font;
+
+    private Set<Integer> glyphs;
+
+    @Setup
+    public void setup() throws IOException {
+        font = (TrueTypeFont) FontProgramFactory.createFont(SyntheticCorpus.readBytes(SyntheticCorpus.FONT_TTF),
+                false);
+        Random random = new Random(20240917L);
+        glyphs = new HashSet<>();
+        while (glyphs.size() < Math.min(glyphCount, font.countOfGlyphs())) {
+            Glyph glyph = font.getGlyphByCode(random.nextInt(font.countOfGlyphs()));
+            if (glyph != null) {
+                glyphs.add(glyph.getCode());
+            }
+        }
+    }
+
+    @Benchmark
+    public byte[] subset() {
+        return font.getSubset(glyphs, true);
+    }
+}
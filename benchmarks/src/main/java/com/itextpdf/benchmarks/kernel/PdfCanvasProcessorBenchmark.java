@@ -0,0 +1,112 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.benchmarks.kernel;
+
+import com.itextpdf.benchmarks.corpus.SyntheticCorpus;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.canvas.parser.EventType;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfCanvasProcessor;
+import com.itextpdf.kernel.pdf.canvas.parser.data.IEventData;
+import com.itextpdf.kernel.pdf.canvas.parser.listener.IEventListener;
+import com.itextpdf.kernel.pdf.canvas.parser.listener.LocationTextExtractionStrategy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link PdfCanvasProcessor#processPageContent(com.itextpdf.kernel.pdf.PdfPage)} with a listener
+ * that ignores all the events and with a text extraction strategy.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfCanvasProcessorBenchmark {
+
+    @Param({SyntheticCorpus.TEXT_PDF, SyntheticCorpus.VECTOR_PDF})
+    public String document;
+
+    private PdfDocument pdfDocument;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(SyntheticCorpus.readBytes(document))));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pdfDocument.close();
+    }
+
+    @Benchmark
+    public int processPageContent() {
+        CountingListener listener = new CountingListener();
+        for (int i = 1; i <= pdfDocument.getNumberOfPages(); i++) {
+            new PdfCanvasProcessor(listener).processPageContent(pdfDocument.getPage(i));
+        }
+        return listener.count;
+    }
+
+    @Benchmark
+    public int extractText() {
+        int length = 0;
+        for (int i = 1; i <= pdfDocument.getNumberOfPages(); i++) {
+            LocationTextExtractionStrategy strategy = new LocationTextExtractionStrategy();
+            new PdfCanvasProcessor(strategy).processPageContent(pdfDocument.getPage(i));
+            length += strategy.getResultantText().length();
+        }
+        return length;
+    }
+
+    private static final class CountingListener implements IEventListener {
+        private int count;
+
+        @Override
+        public void eventOccurred(IEventData data, EventType type) {
+            count++;
+        }
+
+        @Override
+        public Set<EventType> getSupportedEvents() {
+            return null;
+        }
+    }
+}
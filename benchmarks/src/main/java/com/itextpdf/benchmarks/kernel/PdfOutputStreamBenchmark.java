@@ -0,0 +1,103 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.benchmarks.kernel;
+
+import com.itextpdf.benchmarks.corpus.SyntheticCorpus;
+import com.itextpdf.kernel.pdf.CompressionConstants;
+import com.itextpdf.kernel.pdf.PdfArray;
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfNumber;
+import com.itextpdf.kernel.pdf.PdfOutputStream;
+import com.itextpdf.kernel.pdf.PdfStream;
+import com.itextpdf.kernel.pdf.PdfString;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures serialization of objects by {@link PdfOutputStream#write(com.itextpdf.kernel.pdf.PdfObject)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfOutputStreamBenchmark {
+
+    @Param({"" + CompressionConstants.NO_COMPRESSION, "" + CompressionConstants.DEFAULT_COMPRESSION})
+    public int compressionLevel;
+
+    private byte[] streamContent;
+
+    private PdfDictionary dictionary;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(20240917L);
+        streamContent = SyntheticCorpus.generateText(random, 40000).getBytes(StandardCharsets.ISO_8859_1);
+        dictionary = new PdfDictionary();
+        PdfArray array = new PdfArray();
+        for (int i = 0; i < 1000; i++) {
+            PdfDictionary item = new PdfDictionary();
+            item.put(PdfName.Index, new PdfNumber(i));
+            item.put(PdfName.V, new PdfNumber(random.nextDouble()));
+            item.put(PdfName.Name, new PdfString(SyntheticCorpus.generateText(random, 3)));
+            array.add(item);
+        }
+        dictionary.put(PdfName.Kids, array);
+    }
+
+    @Benchmark
+    public long writeStream() {
+        // Filter is set on the stream when it is written, so the stream can't be reused between invocations
+        PdfStream stream = new PdfStream(streamContent);
+        stream.setCompressionLevel(compressionLevel);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(streamContent.length + 1024);
+        PdfOutputStream pdfOutputStream = new PdfOutputStream(baos);
+        pdfOutputStream.write(stream);
+        return pdfOutputStream.getCurrentPos();
+    }
+
+    @Benchmark
+    public long writeDictionary() {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream(64 * 1024);
+        PdfOutputStream pdfOutputStream = new PdfOutputStream(baos);
+        pdfOutputStream.write(dictionary);
+        return pdfOutputStream.getCurrentPos();
+    }
+}
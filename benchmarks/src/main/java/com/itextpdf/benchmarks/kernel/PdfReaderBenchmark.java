@@ -0,0 +1,85 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.benchmarks.kernel;
+
+import com.itextpdf.benchmarks.corpus.SyntheticCorpus;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfObject;
+import com.itextpdf.kernel.pdf.PdfReader;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures opening of a document by {@link PdfReader}, i.e. reading of the trailer and cross-reference
+ * sections, and reading of all the objects of the document.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PdfReaderBenchmark {
+
+    @Param({SyntheticCorpus.OBJECTS_XREF_TABLE_PDF, SyntheticCorpus.OBJECTS_XREF_STREAM_PDF, SyntheticCorpus.TEXT_PDF})
+    public String document;
+
+    private byte[] bytes;
+
+    @Setup
+    public void setup() throws IOException {
+        bytes = SyntheticCorpus.readBytes(document);
+    }
+
+    @Benchmark
+    public int openDocument() throws IOException {
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(bytes)))) {
+            return pdfDocument.getNumberOfPdfObjects();
+        }
+    }
+
+    @Benchmark
+    public void readAllObjects(Blackhole blackhole) throws IOException {
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(bytes)))) {
+            int count = pdfDocument.getNumberOfPdfObjects();
+            for (int i = 1; i < count; i++) {
+                PdfObject object = pdfDocument.getPdfObject(i);
+                blackhole.consume(object);
+            }
+        }
+    }
+}
@@ -0,0 +1,114 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.benchmarks.layout;
+
+import com.itextpdf.benchmarks.corpus.SyntheticCorpus;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Table;
+
+import java.io.OutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures layout of a large {@link Table}, which is flushed each {@link #flushRows} rows, up to a million rows.
+ * The resultant document is not kept in memory, so the measurement also shows whether the memory used by
+ * the layout is bounded.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx256m")
+public class LargeTableBenchmark {
+
+    private static final int TABLE_COLUMNS = 5;
+    private static final int DISTINCT_CELLS = 10000;
+
+    @Param({"100000", "1000000"})
+    public int rows;
+
+    @Param({"50", "5000"})
+    public int flushRows;
+
+    private String[] cells;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(20241017L);
+        cells = new String[DISTINCT_CELLS];
+        for (int i = 0; i < cells.length; i++) {
+            cells[i] = SyntheticCorpus.generateText(random, 1 + random.nextInt(4));
+        }
+    }
+
+    @Benchmark
+    public long layoutLargeTable() {
+        DiscardingOutputStream out = new DiscardingOutputStream();
+        try (Document document = new Document(new PdfDocument(new PdfWriter(out)))) {
+            Table table = new Table(TABLE_COLUMNS, true);
+            for (int i = 0; i < TABLE_COLUMNS; i++) {
+                table.addHeaderCell("Column " + i);
+            }
+            document.add(table);
+            for (int row = 0; row < rows; row++) {
+                for (int column = 0; column < TABLE_COLUMNS; column++) {
+                    table.addCell(cells[(row * TABLE_COLUMNS + column) % DISTINCT_CELLS]);
+                }
+                if (row % flushRows == flushRows - 1) {
+                    table.flush();
+                }
+            }
+            table.complete();
+        }
+        return out.size;
+    }
+
+    private static final class DiscardingOutputStream extends OutputStream {
+        private long size;
+
+        @Override
+        public void write(int b) {
+            ++size;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            size += len;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.benchmarks.layout;
+
+import com.itextpdf.benchmarks.corpus.SyntheticCorpus;
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.renderer.LayoutResultCache;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link Document#relayout()} of paragraphs, one of which is changed before the relayout, with and
+ * without {@link LayoutResultCache}. A single layout is measured as well, since the cache captures the layout
+ * inputs of the elements during each layout.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RelayoutBenchmark {
+
+    private static final int PARAGRAPHS = 500;
+
+    @Param({"false", "true"})
+    public boolean cache;
+
+    private String[] texts;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(20241017L);
+        texts = new String[PARAGRAPHS];
+        for (int i = 0; i < texts.length; i++) {
+            texts[i] = SyntheticCorpus.generateText(random, 50 + random.nextInt(100));
+        }
+    }
+
+    @Benchmark
+    public int layout() {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Document document = createDocument(baos);
+        addParagraphs(document);
+        document.close();
+        return baos.size();
+    }
+
+    @Benchmark
+    public int layoutAndRelayout() {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        Document document = createDocument(baos);
+        Paragraph[] paragraphs = addParagraphs(document);
+        paragraphs[PARAGRAPHS / 2].setFontColor(ColorConstants.RED);
+        document.relayout();
+        document.close();
+        return baos.size();
+    }
+
+    private Document createDocument(ByteArrayOutputStream baos) {
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos));
+        Document document = new Document(pdfDocument, pdfDocument.getDefaultPageSize(), false);
+        document.setLayoutResultCache(cache ? new LayoutResultCache() : null);
+        return document;
+    }
+
+    private Paragraph[] addParagraphs(Document document) {
+        Paragraph[] paragraphs = new Paragraph[texts.length];
+        for (int i = 0; i < texts.length; i++) {
+            paragraphs[i] = new Paragraph(texts[i]);
+            document.add(paragraphs[i]);
+        }
+        return paragraphs;
+    }
+}
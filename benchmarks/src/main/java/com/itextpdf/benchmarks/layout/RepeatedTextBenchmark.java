@@ -0,0 +1,97 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.benchmarks.layout;
+
+import com.itextpdf.benchmarks.corpus.SyntheticCorpus;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.font.PdfFontFactory.EmbeddingStrategy;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.Table;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures layout of a table of short labels, which repeat in every row, e.g. currency codes and units of
+ * an invoice, so that the share of the conversion of the repeated strings to glyphs can be profiled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RepeatedTextBenchmark {
+
+    private static final int ROWS = 5000;
+    private static final String[] LABELS = {"EUR", "USD", "pcs", "kg", "Net", "VAT 20%", "Total", "Discount"};
+
+    @Param({"standard", "embedded"})
+    public String font;
+
+    private String fontPath;
+
+    @Setup
+    public void setup() throws IOException {
+        fontPath = SyntheticCorpus.getPath(SyntheticCorpus.FONT_TTF);
+    }
+
+    @Benchmark
+    public int layoutRepeatedLabels() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (Document document = new Document(new PdfDocument(new PdfWriter(baos)))) {
+            document.setFont(createFont());
+            Table table = new Table(LABELS.length);
+            for (int row = 0; row < ROWS; row++) {
+                for (String label : LABELS) {
+                    table.addCell(label);
+                }
+            }
+            document.add(table);
+        }
+        return baos.size();
+    }
+
+    private PdfFont createFont() throws IOException {
+        if ("embedded".equals(font)) {
+            return PdfFontFactory.createFont(fontPath, PdfEncodings.IDENTITY_H, EmbeddingStrategy.FORCE_EMBEDDED);
+        }
+        return PdfFontFactory.createFont();
+    }
+}
@@ -0,0 +1,57 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.commons.utils;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Utility class for work with {@link ExecutorService executor services}. Not for public use.
+ */
+public final class ExecutorServiceUtil {
+
+    private ExecutorServiceUtil() { }
+
+    /**
+     * Gets the number of tasks which the executor is expected to run at the same time. It is the parallelism
+     * of a {@link ForkJoinPool}, the core pool size of a {@link ThreadPoolExecutor} and the number of available
+     * processors for the other executors, as well as for thread pools with zero core size, e.g. cached ones.
+     *
+     * @param executorService the executor service
+     *
+     * @return the number of tasks the executor is expected to run at the same time
+     */
+    public static int getParallelism(ExecutorService executorService) {
+        if (executorService instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executorService).getParallelism();
+        }
+        if (executorService instanceof ThreadPoolExecutor) {
+            int corePoolSize = ((ThreadPoolExecutor) executorService).getCorePoolSize();
+            if (corePoolSize > 0) {
+                return corePoolSize;
+            }
+        }
+        return Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,67 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.commons.utils;
+
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+public class ExecutorServiceUtilTest extends ExtendedITextTest {
+
+    @Test
+    public void fixedThreadPoolParallelismTest() {
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try {
+            Assertions.assertEquals(3, ExecutorServiceUtil.getParallelism(executorService));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void forkJoinPoolParallelismTest() {
+        ForkJoinPool pool = new ForkJoinPool(5);
+        try {
+            Assertions.assertEquals(5, ExecutorServiceUtil.getParallelism(pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void cachedThreadPoolParallelismTest() {
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        try {
+            Assertions.assertEquals(Runtime.getRuntime().availableProcessors(),
+                    ExecutorServiceUtil.getParallelism(executorService));
+        } finally {
+            executorService.shutdown();
+        }
+    }
+}
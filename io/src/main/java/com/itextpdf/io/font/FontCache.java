@@ -28,13 +28,17 @@ import com.itextpdf.io.font.cmap.CMapCidUni;
 import com.itextpdf.io.font.cmap.CMapCodepointToCid;
 import com.itextpdf.io.font.cmap.CMapUniCid;
 
-import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Cache of the font programs created by {@link FontProgramFactory}.
+ * <p>
+ * The font programs are kept in the {@link IFontProgramCache} which can be replaced with
+ * {@link #setFontProgramCache(IFontProgramCache)}. By default {@link LruFontProgramCache} is used.
+ */
 public class FontCache {
 
-    private static final Map<FontCacheKey, FontProgram> fontCache = new ConcurrentHashMap<>();
+    private static volatile IFontProgramCache fontCache = new LruFontProgramCache();
 
     /**
      * Clears the cache by removing fonts that were added via {@link #saveFont(FontProgram, String)}.
@@ -46,6 +50,30 @@ public class FontCache {
         fontCache.clear();
     }
 
+    /**
+     * Gets the storage of the font programs.
+     *
+     * @return the current {@link IFontProgramCache}
+     */
+    public static IFontProgramCache getFontProgramCache() {
+        return fontCache;
+    }
+
+    /**
+     * Replaces the storage of the font programs, e.g. to change the bound of the cache or to share
+     * the font programs between the several applications running in the same process.
+     * <p>
+     * The font programs saved in the previous storage are not transferred to the new one.
+     *
+     * @param fontProgramCache the new {@link IFontProgramCache}, shall not be {@code null}
+     */
+    public static void setFontProgramCache(IFontProgramCache fontProgramCache) {
+        if (fontProgramCache == null) {
+            throw new IllegalArgumentException("fontProgramCache");
+        }
+        fontCache = fontProgramCache;
+    }
+
     public static FontProgram getFont(String fontName) {
         return fontCache.get(FontCacheKey.create(fontName));
     }
@@ -59,11 +87,10 @@ public class FontCache {
     }
 
     static FontProgram saveFont(FontProgram font, FontCacheKey key) {
-        FontProgram fontFound = fontCache.get(key);
-        if (fontFound != null) {
-            return fontFound;
-        }
-        fontCache.put(key, font);
-        return font;
+        return fontCache.putIfAbsent(key, font);
+    }
+
+    static FontProgram getOrLoadFont(FontCacheKey key, IFontProgramLoader loader) throws java.io.IOException {
+        return fontCache.getOrLoad(key, loader);
     }
 }
@@ -166,20 +166,21 @@ public final class FontProgramFactory {
         boolean isBuiltinFonts14 = StandardFonts.isStandardFont(name);
         boolean isCidFont = !isBuiltinFonts14 && CjkResourceLoader.isPredefinedCidFont(baseName);
 
-        FontProgram fontFound;
-        FontCacheKey fontKey = null;
         if (cached) {
+            FontCacheKey fontKey;
             if (isCidFont && cmap != null) {
                 fontKey = createFontCacheKey(name + cmap, fontProgram);
             } else {
                 fontKey = createFontCacheKey(name, fontProgram);
             }
-            fontFound = FontCache.getFont(fontKey);
-            if (fontFound != null) {
-                return fontFound;
-            }
+            return FontCache.getOrLoadFont(fontKey,
+                    () -> buildFont(name, cmap, fontProgram, baseName, isBuiltinFonts14, isCidFont));
         }
+        return buildFont(name, cmap, fontProgram, baseName, isBuiltinFonts14, isCidFont);
+    }
 
+    private static FontProgram buildFont(String name, String cmap, byte[] fontProgram, String baseName,
+            boolean isBuiltinFonts14, boolean isCidFont) throws java.io.IOException {
         FontProgram fontBuilt = null;
         if (name == null) {
             if (fontProgram != null) {
@@ -259,7 +260,7 @@ public final class FontProgramFactory {
                 throw new IOException(IoExceptionMessageConstant.TYPE_OF_FONT_IS_NOT_RECOGNIZED);
             }
         }
-        return cached ? FontCache.saveFont(fontBuilt, fontKey) : fontBuilt;
+        return fontBuilt;
     }
 
     /**
@@ -324,15 +325,10 @@ public final class FontProgramFactory {
      * @throws java.io.IOException exception is thrown in case an I/O error occurs when reading the file
      */
     public static FontProgram createFont(String ttc, int ttcIndex, boolean cached) throws java.io.IOException {
-        FontCacheKey fontCacheKey = FontCacheKey.create(ttc, ttcIndex);
         if (cached) {
-            FontProgram fontFound = FontCache.getFont(fontCacheKey);
-            if (fontFound != null) {
-                return fontFound;
-            }
+            return FontCache.getOrLoadFont(FontCacheKey.create(ttc, ttcIndex), () -> new TrueTypeFont(ttc, ttcIndex));
         }
-        FontProgram fontBuilt = new TrueTypeFont(ttc, ttcIndex);
-        return cached ? FontCache.saveFont(fontBuilt, fontCacheKey) : fontBuilt;
+        return new TrueTypeFont(ttc, ttcIndex);
     }
 
     /**
@@ -347,15 +343,10 @@ public final class FontProgramFactory {
      * @throws java.io.IOException exception is thrown in case an I/O error occurs when reading the file
      */
     public static FontProgram createFont(byte[] ttc, int ttcIndex, boolean cached) throws java.io.IOException {
-        FontCacheKey fontKey = FontCacheKey.create(ttc, ttcIndex);
         if (cached) {
-            FontProgram fontFound = FontCache.getFont(fontKey);
-            if (fontFound != null) {
-                return fontFound;
-            }
+            return FontCache.getOrLoadFont(FontCacheKey.create(ttc, ttcIndex), () -> new TrueTypeFont(ttc, ttcIndex));
         }
-        FontProgram fontBuilt = new TrueTypeFont(ttc, ttcIndex);
-        return cached ? FontCache.saveFont(fontBuilt, fontKey) : fontBuilt;
+        return new TrueTypeFont(ttc, ttcIndex);
     }
 
     /**
@@ -482,18 +473,11 @@ public final class FontProgramFactory {
     }
 
     private static FontProgram createType1Font(String metricsPath, String binaryPath, byte[] afm, byte[] pfb, boolean cached) throws java.io.IOException {
-        FontProgram fontProgram;
-        FontCacheKey fontKey = null;
         if (cached) {
-            fontKey = createFontCacheKey(metricsPath, afm);
-            fontProgram = FontCache.getFont(fontKey);
-            if (fontProgram != null) {
-                return fontProgram;
-            }
+            return FontCache.getOrLoadFont(createFontCacheKey(metricsPath, afm),
+                    () -> new Type1Font(metricsPath, binaryPath, afm, pfb));
         }
-
-        fontProgram = new Type1Font(metricsPath, binaryPath, afm, pfb);
-        return cached ? FontCache.saveFont(fontProgram, fontKey) : fontProgram;
+        return new Type1Font(metricsPath, binaryPath, afm, pfb);
     }
 
     private static FontCacheKey createFontCacheKey(String name, byte[] fontProgram) {
@@ -0,0 +1,67 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.io.font;
+
+/**
+ * Storage of the parsed font programs used by {@link FontCache}.
+ * <p>
+ * Implementations shall be thread-safe, since font programs are created by {@link FontProgramFactory}
+ * concurrently from different threads.
+ */
+public interface IFontProgramCache {
+
+    /**
+     * Gets the font program saved for the key.
+     *
+     * @param key the key of the font program
+     * @return saved {@link FontProgram} or {@code null} if there is no font program for the key
+     */
+    FontProgram get(FontCacheKey key);
+
+    /**
+     * Saves the font program for the key unless some font program is already saved for it.
+     *
+     * @param key the key of the font program
+     * @param fontProgram the font program to save
+     * @return the font program which is saved for the key after the call
+     */
+    FontProgram putIfAbsent(FontCacheKey key, FontProgram fontProgram);
+
+    /**
+     * Gets the font program saved for the key or creates and saves it if there is none.
+     * <p>
+     * The loader is called at most once per key at a time, threads requesting the same
+     * key concurrently wait for the font program to be created.
+     *
+     * @param key the key of the font program
+     * @param loader the loader creating the font program
+     * @return saved or created {@link FontProgram}
+     * @throws java.io.IOException exception is thrown in case an I/O error occurs when creating the font program
+     */
+    FontProgram getOrLoad(FontCacheKey key, IFontProgramLoader loader) throws java.io.IOException;
+
+    /**
+     * Removes all the saved font programs.
+     */
+    void clear();
+}
@@ -0,0 +1,282 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.io.font;
+
+import com.itextpdf.io.font.otf.Glyph;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Map of glyphs with primitive int keys, which is used for unicode to glyph and code to glyph mappings of
+ * a {@link FontProgram}.
+ *
+ * <p>
+ * Glyphs with keys in the unicode range are stored in dense pages of 256 entries, so that a lookup doesn't box
+ * the key and takes two array accesses. Other keys are stored in a regular hash map. Entries are iterated in the
+ * ascending order of the keys from the unicode range followed by the other keys.
+ *
+ * <p>
+ * Unlike {@link HashMap}, this map doesn't support {@code null} values: putting {@code null} removes the mapping.
+ */
+public class IntGlyphMap extends AbstractMap<Integer, Glyph> {
+    private static final int PAGE_BITS = 8;
+    private static final int PAGE_SIZE = 1 << PAGE_BITS;
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+    private static final int MAX_DENSE_KEY = 0x10FFFF;
+
+    private static final Glyph[][] EMPTY_PAGES = new Glyph[0][];
+
+    private Glyph[][] pages = EMPTY_PAGES;
+    private Map<Integer, Glyph> otherGlyphs;
+    private int size;
+    private EntrySet entrySet;
+
+    /**
+     * Creates an empty {@link IntGlyphMap}.
+     */
+    public IntGlyphMap() {
+        // Empty constructor
+    }
+
+    /**
+     * Gets the glyph mapped to the key.
+     *
+     * @param key the key, e.g. unicode or character code
+     *
+     * @return the glyph, or {@code null} if there is no mapping for the key
+     */
+    public Glyph getGlyph(int key) {
+        if (key >= 0 && key <= MAX_DENSE_KEY) {
+            int pageIndex = key >> PAGE_BITS;
+            if (pageIndex < pages.length) {
+                Glyph[] page = pages[pageIndex];
+                return page == null ? null : page[key & PAGE_MASK];
+            }
+            return null;
+        }
+        return otherGlyphs == null ? null : otherGlyphs.get(key);
+    }
+
+    /**
+     * Checks whether there is a glyph mapped to the key.
+     *
+     * @param key the key, e.g. unicode or character code
+     *
+     * @return {@code true} if there is a mapping for the key, {@code false} otherwise
+     */
+    public boolean containsGlyph(int key) {
+        return getGlyph(key) != null;
+    }
+
+    /**
+     * Maps the glyph to the key.
+     *
+     * @param key   the key, e.g. unicode or character code
+     * @param glyph the glyph, {@code null} removes the mapping
+     *
+     * @return the glyph previously mapped to the key, or {@code null} if there was no mapping
+     */
+    public Glyph putGlyph(int key, Glyph glyph) {
+        if (glyph == null) {
+            return removeGlyph(key);
+        }
+        Glyph previous;
+        if (key >= 0 && key <= MAX_DENSE_KEY) {
+            Glyph[] page = getOrCreatePage(key >> PAGE_BITS);
+            previous = page[key & PAGE_MASK];
+            page[key & PAGE_MASK] = glyph;
+        } else {
+            if (otherGlyphs == null) {
+                otherGlyphs = new HashMap<>();
+            }
+            previous = otherGlyphs.put(key, glyph);
+        }
+        if (previous == null) {
+            ++size;
+        }
+        return previous;
+    }
+
+    /**
+     * Removes the glyph mapped to the key.
+     *
+     * @param key the key, e.g. unicode or character code
+     *
+     * @return the removed glyph, or {@code null} if there was no mapping
+     */
+    public Glyph removeGlyph(int key) {
+        Glyph previous = null;
+        if (key >= 0 && key <= MAX_DENSE_KEY) {
+            int pageIndex = key >> PAGE_BITS;
+            if (pageIndex < pages.length && pages[pageIndex] != null) {
+                previous = pages[pageIndex][key & PAGE_MASK];
+                pages[pageIndex][key & PAGE_MASK] = null;
+            }
+        } else if (otherGlyphs != null) {
+            previous = otherGlyphs.remove(key);
+        }
+        if (previous != null) {
+            --size;
+        }
+        return previous;
+    }
+
+    @Override
+    public Glyph get(Object key) {
+        return key instanceof Integer ? getGlyph((int) (Integer) key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Integer && containsGlyph((int) (Integer) key);
+    }
+
+    @Override
+    public Glyph put(Integer key, Glyph value) {
+        return putGlyph((int) key, value);
+    }
+
+    @Override
+    public Glyph remove(Object key) {
+        return key instanceof Integer ? removeGlyph((int) (Integer) key) : null;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        pages = EMPTY_PAGES;
+        otherGlyphs = null;
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<Integer, Glyph>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private Glyph[] getOrCreatePage(int pageIndex) {
+        if (pageIndex >= pages.length) {
+            Glyph[][] newPages = new Glyph[Math.max(pageIndex + 1, Math.min(pages.length * 2,
+                    (MAX_DENSE_KEY >> PAGE_BITS) + 1))][];
+            System.arraycopy(pages, 0, newPages, 0, pages.length);
+            pages = newPages;
+        }
+        Glyph[] page = pages[pageIndex];
+        if (page == null) {
+            page = new Glyph[PAGE_SIZE];
+            pages[pageIndex] = page;
+        }
+        return page;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<Integer, Glyph>> {
+        @Override
+        public Iterator<Entry<Integer, Glyph>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<Integer, Glyph>> {
+        private int nextKey = -1;
+        private Iterator<Entry<Integer, Glyph>> otherIterator;
+        private Entry<Integer, Glyph> next;
+        private Entry<Integer, Glyph> last;
+
+        EntryIterator() {
+            next = findNext();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Entry<Integer, Glyph> next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = findNext();
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            if (last == null) {
+                throw new IllegalStateException();
+            }
+            removeGlyph((int) last.getKey());
+            last = null;
+        }
+
+        private Entry<Integer, Glyph> findNext() {
+            if (otherIterator == null) {
+                for (int key = nextKey + 1; key <= MAX_DENSE_KEY; ++key) {
+                    int pageIndex = key >> PAGE_BITS;
+                    if (pageIndex >= pages.length) {
+                        break;
+                    }
+                    Glyph[] page = pages[pageIndex];
+                    if (page == null) {
+                        // Skip to the last key of the missing page
+                        key |= PAGE_MASK;
+                        continue;
+                    }
+                    if (page[key & PAGE_MASK] != null) {
+                        nextKey = key;
+                        return new SimpleImmutableEntry<>(key, page[key & PAGE_MASK]);
+                    }
+                }
+                nextKey = MAX_DENSE_KEY;
+                // A copy is iterated so that removing the returned entries doesn't break the iteration
+                List<Entry<Integer, Glyph>> otherEntries = otherGlyphs == null
+                        ? Collections.<Entry<Integer, Glyph>>emptyList()
+                        : new ArrayList<>(otherGlyphs.entrySet());
+                otherIterator = otherEntries.iterator();
+            }
+            return otherIterator.hasNext() ? otherIterator.next() : null;
+        }
+    }
+}
@@ -0,0 +1,237 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.io.font;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thread-safe {@link IFontProgramCache} bounded by the number of font programs,
+ * the least recently used font programs are evicted once the bound is exceeded.
+ * <p>
+ * Each font program is created at most once per key at a time: while one thread loads a font program,
+ * other threads requesting the same key wait for it instead of parsing the same font again.
+ * The cache counts its hits, misses and evictions.
+ */
+public class LruFontProgramCache implements IFontProgramCache {
+
+    /**
+     * The default maximum number of the font programs kept by the cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private final int maxSize;
+
+    private final Object lock = new Object();
+
+    // Access ordered, so the eldest entry is the least recently used one
+    private final Map<FontCacheKey, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Creates a cache keeping at most {@link #DEFAULT_MAX_SIZE} font programs.
+     */
+    public LruFontProgramCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a cache keeping at most the specified number of font programs.
+     *
+     * @param maxSize the maximum number of font programs kept by the cache, shall be positive
+     */
+    public LruFontProgramCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FontProgram get(FontCacheKey key) {
+        synchronized (lock) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.fontProgram != null) {
+                ++hitCount;
+                return entry.fontProgram;
+            }
+            ++missCount;
+            return null;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FontProgram putIfAbsent(FontCacheKey key, FontProgram fontProgram) {
+        synchronized (lock) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                entry = new Entry();
+                entry.fontProgram = fontProgram;
+                entries.put(key, entry);
+                evictExcessEntries();
+                return fontProgram;
+            }
+            // The font program may still be loaded by another thread, then the passed one is returned
+            return entry.fontProgram != null ? entry.fontProgram : fontProgram;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FontProgram getOrLoad(FontCacheKey key, IFontProgramLoader loader) throws java.io.IOException {
+        Entry entry;
+        synchronized (lock) {
+            entry = entries.get(key);
+            if (entry != null && entry.fontProgram != null) {
+                ++hitCount;
+                return entry.fontProgram;
+            }
+            if (entry == null) {
+                ++missCount;
+                entry = new Entry();
+                entries.put(key, entry);
+            } else {
+                // Another thread is loading the font program, waiting for it is counted as a hit
+                ++hitCount;
+            }
+        }
+        FontProgram fontProgram;
+        synchronized (entry) {
+            if (entry.fontProgram == null) {
+                boolean loaded = false;
+                try {
+                    entry.fontProgram = loader.load();
+                    loaded = true;
+                } finally {
+                    if (!loaded) {
+                        removeEntry(key, entry);
+                    }
+                }
+            }
+            fontProgram = entry.fontProgram;
+        }
+        synchronized (lock) {
+            evictExcessEntries();
+        }
+        return fontProgram;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Gets the maximum number of font programs kept by the cache.
+     *
+     * @return the maximum number of font programs
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the number of font programs currently kept by the cache.
+     *
+     * @return the number of font programs
+     */
+    public int size() {
+        synchronized (lock) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Gets the number of requests which were served by the font programs kept by the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        synchronized (lock) {
+            return hitCount;
+        }
+    }
+
+    /**
+     * Gets the number of requests for the font programs which were not kept by the cache.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        synchronized (lock) {
+            return missCount;
+        }
+    }
+
+    /**
+     * Gets the number of font programs evicted from the cache because of its size bound.
+     *
+     * @return the number of evictions
+     */
+    public long getEvictionCount() {
+        synchronized (lock) {
+            return evictionCount;
+        }
+    }
+
+    private void removeEntry(FontCacheKey key, Entry entry) {
+        synchronized (lock) {
+            if (entries.get(key) == entry) {
+                entries.remove(key);
+            }
+        }
+    }
+
+    private void evictExcessEntries() {
+        Iterator<Map.Entry<FontCacheKey, Entry>> iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            Entry entry = iterator.next().getValue();
+            // Entries which are being loaded are kept, the threads waiting for them need the result
+            if (entry.fontProgram != null) {
+                iterator.remove();
+                ++evictionCount;
+            }
+        }
+    }
+
+    private static final class Entry {
+        volatile FontProgram fontProgram;
+    }
+}
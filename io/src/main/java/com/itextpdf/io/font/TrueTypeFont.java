@@ -34,7 +34,6 @@ import com.itextpdf.io.logs.IoLogMessageConstant;
 import com.itextpdf.io.util.IntHashtable;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -300,8 +299,10 @@ public class TrueTypeFont extends FontProgram {
         Map<Integer, int[]> cmap = getActiveCmap();
         int[] glyphWidths = fontParser.getGlyphWidthsByIndex();
         int numOfGlyphs = fontMetrics.getNumberOfGlyphs();
-        unicodeToGlyph = new LinkedHashMap<>(cmap.size());
-        codeToGlyph = new LinkedHashMap<>(numOfGlyphs);
+        IntGlyphMap unicodeGlyphs = new IntGlyphMap();
+        IntGlyphMap codeGlyphs = new IntGlyphMap();
+        unicodeToGlyph = unicodeGlyphs;
+        codeToGlyph = codeGlyphs;
         avgWidth = 0;
         CFFFontSubset cffFontSubset = null;
         if (isCff()) {
@@ -328,21 +329,21 @@ public class TrueTypeFont extends FontProgram {
                 glyph = new Glyph(cid, glyphWidths[index], charCode, glyphBBox);
             }
 
-            unicodeToGlyph.put(charCode, glyph);
+            unicodeGlyphs.putGlyph(charCode, glyph);
             // This is done on purpose to keep the mapping to glyphs with smaller unicode values, in contrast with
             // larger values which often represent different forms of other characters.
-            if (!codeToGlyph.containsKey(cid)) {
-                codeToGlyph.put(cid, glyph);
+            if (!codeGlyphs.containsGlyph(cid)) {
+                codeGlyphs.putGlyph(cid, glyph);
             }
             avgWidth += glyph.getWidth();
         }
         fixSpaceIssue();
         for (int index = 0; index < glyphWidths.length; index++) {
-            if (codeToGlyph.containsKey(index)) {
+            if (codeGlyphs.containsGlyph(index)) {
                 continue;
             }
             Glyph glyph = new Glyph(index, glyphWidths[index], -1);
-            codeToGlyph.put(index, glyph);
+            codeGlyphs.putGlyph(index, glyph);
             avgWidth += glyph.getWidth();
         }
 
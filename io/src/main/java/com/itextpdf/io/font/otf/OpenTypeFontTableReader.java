@@ -22,6 +22,7 @@
  */
 package com.itextpdf.io.font.otf;
 
+import com.itextpdf.io.font.IntGlyphMap;
 import com.itextpdf.io.util.IntHashtable;
 import com.itextpdf.io.source.RandomAccessFileOrArray;
 
@@ -54,6 +55,9 @@ public abstract class OpenTypeFontTableReader {
 	}
 
     public Glyph getGlyph(int index) {
+        if (indexGlyphMap instanceof IntGlyphMap) {
+            return ((IntGlyphMap) indexGlyphMap).getGlyph(index);
+        }
         return indexGlyphMap.get(index);
     }
 
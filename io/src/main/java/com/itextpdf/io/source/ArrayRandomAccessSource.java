@@ -75,4 +75,13 @@ class ArrayRandomAccessSource implements IRandomAccessSource {
     public void close() throws java.io.IOException {
         array = null;
     }
+
+    /**
+     * Gets the backing array.
+     *
+     * @return the backing array or {@code null} if the source is closed
+     */
+    byte[] getArray() {
+        return array;
+    }
 }
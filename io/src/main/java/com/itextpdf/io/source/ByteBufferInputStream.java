@@ -0,0 +1,124 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.io.source;
+
+import java.io.InputStream;
+
+/**
+ * An input stream that reads the remaining bytes of a {@link java.nio.ByteBuffer}.
+ * The position and the limit of the passed buffer are not changed.
+ */
+public class ByteBufferInputStream extends InputStream {
+
+    /**
+     * The buffer the bytes are read from.
+     */
+    private final java.nio.ByteBuffer buffer;
+
+    /**
+     * The position of the mark.
+     */
+    private int mark;
+
+    /**
+     * Creates an input stream based on the remaining bytes of the buffer.
+     *
+     * @param buffer the buffer to read the bytes from
+     */
+    public ByteBufferInputStream(java.nio.ByteBuffer buffer) {
+        this.buffer = buffer.duplicate();
+        this.mark = this.buffer.position();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() {
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        return buffer.get() & 0xff;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(byte[] b, int off, int len) {
+        if (len == 0) {
+            return 0;
+        }
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+        int count = Math.min(len, buffer.remaining());
+        buffer.get(b, off, count);
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long skip(long n) {
+        if (n <= 0) {
+            return 0;
+        }
+        int count = (int) Math.min(n, buffer.remaining());
+        buffer.position(buffer.position() + count);
+        return count;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void mark(int readLimit) {
+        mark = buffer.position();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        buffer.position(mark);
+    }
+}
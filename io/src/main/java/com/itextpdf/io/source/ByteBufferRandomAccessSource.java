@@ -55,6 +55,15 @@ class ByteBufferRandomAccessSource implements IRandomAccessSource {
         this.byteBuffer = byteBuffer;
     }
 
+    /**
+     * Gets the backing buffer. The buffer must not be modified, including its position and limit.
+     *
+     * @return the backing buffer
+     */
+    java.nio.ByteBuffer getByteBuffer() {
+        return byteBuffer;
+    }
+
     /**
      * Enables ByteBuffer memory unmapping hack
      */
@@ -164,7 +173,7 @@ class ByteBufferRandomAccessSource implements IRandomAccessSource {
      *
      * @return boolean true on success
      */
-    private static boolean clean(final java.nio.ByteBuffer buffer) {
+    static boolean clean(final java.nio.ByteBuffer buffer) {
         if (buffer == null || !buffer.isDirect()) {
             return false;
         }
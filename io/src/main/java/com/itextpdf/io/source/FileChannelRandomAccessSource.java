@@ -57,6 +57,15 @@ public class FileChannelRandomAccessSource implements IRandomAccessSource {
         source.open();
     }
 
+    /**
+     * Gets the source that tracks the actual mapping.
+     *
+     * @return the mapped source
+     */
+    MappedChannelRandomAccessSource getMappedSource() {
+        return source;
+    }
+
 
     /**
      * {@inheritDoc}
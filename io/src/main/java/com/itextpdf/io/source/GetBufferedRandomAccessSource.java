@@ -42,6 +42,15 @@ public class GetBufferedRandomAccessSource implements IRandomAccessSource {
         this.getBufferEnd = -1;
     }
 
+    /**
+     * Gets the wrapped source.
+     *
+     * @return the wrapped source
+     */
+    IRandomAccessSource getSource() {
+        return source;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -68,4 +68,13 @@ public class IndependentRandomAccessSource implements IRandomAccessSource {
     public void close() throws java.io.IOException {
         // do not close the source
     }
+
+    /**
+     * Gets the wrapped source.
+     *
+     * @return the wrapped source
+     */
+    IRandomAccessSource getSource() {
+        return source;
+    }
 }
@@ -118,6 +118,33 @@ class MappedChannelRandomAccessSource implements IRandomAccessSource {
         source = null;
     }
 
+    /**
+     * Gets the underlying channel.
+     *
+     * @return the underlying channel
+     */
+    FileChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Gets the offset into the channel that this source maps to.
+     *
+     * @return the offset of the map
+     */
+    long getOffset() {
+        return offset;
+    }
+
+    /**
+     * Gets the active map.
+     *
+     * @return the active map or {@code null} if the region is not mapped
+     */
+    ByteBufferRandomAccessSource getMappedSource() {
+        return source;
+    }
+
     @Override
     public String toString() {
         return getClass().getName() + " (" + offset + ", " + length + ")";
@@ -81,6 +81,15 @@ class PagedChannelRandomAccessSource extends GroupedRandomAccessSource implement
         this.mru = new MRU<IRandomAccessSource>(maxOpenBuffers);
     }
 
+    /**
+     * Gets the channel this source is based on.
+     *
+     * @return the underlying channel
+     */
+    FileChannel getChannel() {
+        return channel;
+    }
+
     /**
      * Constructs a set of {@link MappedChannelRandomAccessSource}s for each page (of size bufferSize) of the underlying channel
      * @param channel the underlying channel
@@ -183,6 +183,27 @@ public class PdfTokenizer implements Closeable {
         return outBuf.toByteArray();
     }
 
+    /**
+     * Gets the length of the current token content, see {@link #getByteContent()}.
+     *
+     * @return the number of bytes of the current token content
+     */
+    public int getByteContentLength() {
+        return outBuf.size();
+    }
+
+    /**
+     * Copies the current token content into the given array. Unlike {@link #getByteContent()}
+     * no new array is created.
+     *
+     * @param destination the array to copy the content to, shall have at least {@link #getByteContentLength()}
+     *                    bytes available starting from the offset
+     * @param offset the position in the destination array to copy the content to
+     */
+    public void copyByteContent(byte[] destination, int offset) {
+        System.arraycopy(outBuf.getInternalBuffer(), 0, destination, offset, outBuf.size());
+    }
+
     public String getStringValue() {
         return new String(outBuf.getInternalBuffer(), 0, outBuf.size());
     }
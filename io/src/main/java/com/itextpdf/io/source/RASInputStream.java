@@ -40,6 +40,11 @@ public class RASInputStream extends InputStream {
      */
     private long position = 0;
 
+    /**
+     * The position marked by {@link #mark(int)}.
+     */
+    private long markedPosition = 0;
+
     /**
      * Creates an input stream based on the source.
      * @param source The source.
@@ -74,4 +79,28 @@ public class RASInputStream extends InputStream {
     public int read() throws java.io.IOException {
         return source.get(position++);
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean markSupported() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void mark(int readlimit) {
+        markedPosition = position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void reset() {
+        position = markedPosition;
+    }
 }
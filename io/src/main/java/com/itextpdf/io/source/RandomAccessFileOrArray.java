@@ -25,12 +25,19 @@ package com.itextpdf.io.source;
 import java.io.DataInput;
 import java.io.DataInputStream;
 import java.io.EOFException;
+import java.nio.channels.FileChannel;
 
 /**
  * Class that is used to unify reading from random access files and arrays.
  */
 public class RandomAccessFileOrArray implements DataInput {
 
+    /**
+     * The minimal length of a region for which a separate memory map is created by
+     * {@link #createByteBufferView(long, int)}. Smaller regions are cheaper to copy.
+     */
+    private static final int MIN_SEPARATELY_MAPPED_LENGTH = 1 << 16;
+
     /**
      * The source that backs this object
      */
@@ -82,6 +89,76 @@ public class RandomAccessFileOrArray implements DataInput {
         return new IndependentRandomAccessSource(byteSource);
     }
 
+    /**
+     * Creates a read-only {@link java.nio.ByteBuffer} with the bytes of the specified region of the source.
+     * The position of this object is not affected.
+     *
+     * <p>
+     * If the source is backed by a byte array or by a memory mapped file, the returned buffer shares
+     * the memory of the source and no bytes are copied. For sources which map the whole file, the buffer
+     * is a slice of that map and must not be used after the source is closed. For sources which page the
+     * file in chunks, a separate map of the region is created, unless the region is small enough for
+     * copying to be cheaper. Such a map is unmapped when the buffer is garbage collected, or right away by
+     * {@link #releaseByteBufferView(java.nio.ByteBuffer)}. For all other sources the bytes are read into
+     * a new heap buffer. Buffers which share the memory of the source are read-only.
+     *
+     * @param position the position in the source where the region starts
+     * @param length   the length of the region
+     * @return the buffer of {@code length} bytes
+     * @throws java.io.IOException if the region can't be read
+     */
+    public java.nio.ByteBuffer createByteBufferView(long position, int length) throws java.io.IOException {
+        if (position < 0 || length < 0 || position + length > byteSource.length()) {
+            throw new EOFException();
+        }
+        java.nio.ByteBuffer view = createByteBufferView(byteSource, position, length);
+        if (view == null) {
+            byte[] bytes = new byte[length];
+            int read = 0;
+            while (read < length) {
+                int n = byteSource.get(position + read, bytes, read, length - read);
+                if (n <= 0) {
+                    throw new EOFException();
+                }
+                read += n;
+            }
+            return java.nio.ByteBuffer.wrap(bytes);
+        }
+        // Separate maps are returned as they are, so that they can be released
+        return view.isReadOnly() ? view : view.asReadOnlyBuffer();
+    }
+
+    /**
+     * Frees the memory of a buffer created by {@link #createByteBufferView(long, int)} right away if the buffer
+     * is a separate map of the region. Buffers which share the memory of the source, e.g. slices of a map of
+     * the whole file, are left untouched, since that memory is still used by the source.
+     * <p>
+     * The buffer must be the one returned by {@link #createByteBufferView(long, int)}, and it must not be used
+     * afterwards, neither directly nor through its duplicates.
+     *
+     * @param view the buffer created by {@link #createByteBufferView(long, int)}
+     * @return true if the memory has been freed, false otherwise
+     */
+    public boolean releaseByteBufferView(java.nio.ByteBuffer view) {
+        if (view == null || !view.isDirect() || view.capacity() < MIN_SEPARATELY_MAPPED_LENGTH) {
+            return false;
+        }
+        return isPagedChannelSource(byteSource) && releaseByteBuffer(view);
+    }
+
+    /**
+     * Frees the memory of a direct buffer right away instead of waiting for the garbage collector, which doesn't
+     * take the memory outside of the java heap into account. Heap buffers are ignored.
+     * <p>
+     * The buffer must not be used afterwards, neither directly nor through its duplicates.
+     *
+     * @param buffer the direct buffer to release
+     * @return true if the memory has been freed, false otherwise
+     */
+    public static boolean releaseByteBuffer(java.nio.ByteBuffer buffer) {
+        return ByteBufferRandomAccessSource.clean(buffer);
+    }
+
     /**
      * Pushes a byte back.  The next get() will return this byte instead of the value from the underlying data source
      *
@@ -606,6 +683,65 @@ public class RandomAccessFileOrArray implements DataInput {
         return new String(buf, encoding);
     }
 
+    private static java.nio.ByteBuffer createByteBufferView(IRandomAccessSource source, long position, int length)
+            throws java.io.IOException {
+        if (source instanceof ThreadSafeRandomAccessSource) {
+            return createByteBufferView(((ThreadSafeRandomAccessSource) source).getSource(), position, length);
+        }
+        if (source instanceof IndependentRandomAccessSource) {
+            return createByteBufferView(((IndependentRandomAccessSource) source).getSource(), position, length);
+        }
+        if (source instanceof GetBufferedRandomAccessSource) {
+            return createByteBufferView(((GetBufferedRandomAccessSource) source).getSource(), position, length);
+        }
+        if (source instanceof WindowRandomAccessSource) {
+            WindowRandomAccessSource window = (WindowRandomAccessSource) source;
+            return createByteBufferView(window.getSource(), window.getOffset() + position, length);
+        }
+        if (source instanceof ArrayRandomAccessSource) {
+            byte[] array = ((ArrayRandomAccessSource) source).getArray();
+            return array == null ? null : java.nio.ByteBuffer.wrap(array, (int) position, length).slice();
+        }
+        if (source instanceof ByteBufferRandomAccessSource) {
+            return slice(((ByteBufferRandomAccessSource) source).getByteBuffer(), position, length);
+        }
+        if (source instanceof FileChannelRandomAccessSource) {
+            ByteBufferRandomAccessSource map = ((FileChannelRandomAccessSource) source).getMappedSource()
+                    .getMappedSource();
+            return map == null ? null : slice(map.getByteBuffer(), position, length);
+        }
+        if (source instanceof PagedChannelRandomAccessSource && length >= MIN_SEPARATELY_MAPPED_LENGTH) {
+            // Pages are unmapped when they are evicted, so slices of them can't be handed out
+            FileChannel channel = ((PagedChannelRandomAccessSource) source).getChannel();
+            return channel.isOpen() ? channel.map(FileChannel.MapMode.READ_ONLY, position, length) : null;
+        }
+        return null;
+    }
+
+    private static boolean isPagedChannelSource(IRandomAccessSource source) {
+        if (source instanceof ThreadSafeRandomAccessSource) {
+            return isPagedChannelSource(((ThreadSafeRandomAccessSource) source).getSource());
+        }
+        if (source instanceof IndependentRandomAccessSource) {
+            return isPagedChannelSource(((IndependentRandomAccessSource) source).getSource());
+        }
+        if (source instanceof GetBufferedRandomAccessSource) {
+            return isPagedChannelSource(((GetBufferedRandomAccessSource) source).getSource());
+        }
+        if (source instanceof WindowRandomAccessSource) {
+            return isPagedChannelSource(((WindowRandomAccessSource) source).getSource());
+        }
+        return source instanceof PagedChannelRandomAccessSource;
+    }
+
+    private static java.nio.ByteBuffer slice(java.nio.ByteBuffer buffer, long position, int length) {
+        // Duplicate is required since the position and the limit of the shared buffer must not be changed
+        java.nio.ByteBuffer duplicate = buffer.duplicate();
+        duplicate.limit((int) position + length);
+        duplicate.position((int) position);
+        return duplicate.slice();
+    }
+
     private void ensureByteSourceIsThreadSafe() {
         if (!(byteSource instanceof ThreadSafeRandomAccessSource)) {
             byteSource = new ThreadSafeRandomAccessSource(byteSource);
@@ -59,4 +59,13 @@ public class ThreadSafeRandomAccessSource implements IRandomAccessSource {
             source.close();
         }
     }
+
+    /**
+     * Gets the wrapped source.
+     *
+     * @return the wrapped source
+     */
+    IRandomAccessSource getSource() {
+        return source;
+    }
 }
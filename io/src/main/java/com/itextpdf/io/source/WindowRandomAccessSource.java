@@ -99,4 +99,22 @@ public class WindowRandomAccessSource implements IRandomAccessSource {
     public void close() throws java.io.IOException {
         source.close();
     }
+
+    /**
+     * Gets the wrapped source.
+     *
+     * @return the wrapped source
+     */
+    IRandomAccessSource getSource() {
+        return source;
+    }
+
+    /**
+     * Gets the offset of this window in the underlying source.
+     *
+     * @return the offset
+     */
+    long getOffset() {
+        return offset;
+    }
 }
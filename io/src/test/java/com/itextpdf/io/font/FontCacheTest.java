@@ -22,6 +22,7 @@
  */
 package com.itextpdf.io.font;
 
+import com.itextpdf.io.font.constants.StandardFonts;
 import com.itextpdf.io.font.otf.Glyph;
 import com.itextpdf.test.ExtendedITextTest;
 
@@ -52,6 +53,25 @@ public class FontCacheTest extends ExtendedITextTest {
         Assertions.assertNull(FontCache.getFont(fontName));
     }
 
+    @Test
+    public void customFontProgramCacheTest() throws java.io.IOException {
+        IFontProgramCache defaultCache = FontCache.getFontProgramCache();
+        LruFontProgramCache customCache = new LruFontProgramCache(1);
+        try {
+            FontCache.setFontProgramCache(customCache);
+            FontProgram fontProgram = FontProgramFactory.createFont(StandardFonts.HELVETICA);
+            Assertions.assertSame(fontProgram, FontProgramFactory.createFont(StandardFonts.HELVETICA));
+            Assertions.assertSame(fontProgram, customCache.get(FontCacheKey.create(StandardFonts.HELVETICA)));
+            Assertions.assertNull(defaultCache.get(FontCacheKey.create(StandardFonts.HELVETICA)));
+
+            FontProgramFactory.createFont(StandardFonts.COURIER);
+            Assertions.assertEquals(1, customCache.getEvictionCount());
+            Assertions.assertNotSame(fontProgram, FontProgramFactory.createFont(StandardFonts.HELVETICA));
+        } finally {
+            FontCache.setFontProgramCache(defaultCache);
+        }
+    }
+
     @Test
     public void fontStringTtcCacheKeyTest() {
         String fontName = "Font.ttc";
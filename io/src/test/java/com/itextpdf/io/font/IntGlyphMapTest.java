@@ -0,0 +1,149 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.io.font;
+
+import com.itextpdf.io.font.otf.Glyph;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+public class IntGlyphMapTest extends ExtendedITextTest {
+
+    @Test
+    public void putAndGetTest() {
+        IntGlyphMap map = new IntGlyphMap();
+        Glyph a = new Glyph(1, 500, 'a');
+        Glyph cjk = new Glyph(2, 1000, 0x4E00);
+        Glyph supplementary = new Glyph(3, 1000, 0x1F600);
+        Assertions.assertNull(map.putGlyph('a', a));
+        Assertions.assertNull(map.putGlyph(0x4E00, cjk));
+        Assertions.assertNull(map.putGlyph(0x1F600, supplementary));
+
+        Assertions.assertEquals(3, map.size());
+        Assertions.assertSame(a, map.getGlyph('a'));
+        Assertions.assertSame(cjk, map.get(0x4E00));
+        Assertions.assertSame(supplementary, map.getGlyph(0x1F600));
+        Assertions.assertNull(map.getGlyph('b'));
+        Assertions.assertNull(map.getGlyph(0x20000));
+        Assertions.assertNull(map.get("a"));
+        Assertions.assertTrue(map.containsKey((int) 'a'));
+        Assertions.assertFalse(map.containsGlyph('b'));
+    }
+
+    @Test
+    public void replaceAndRemoveTest() {
+        IntGlyphMap map = new IntGlyphMap();
+        Glyph first = new Glyph(1, 500, 'a');
+        Glyph second = new Glyph(2, 600, 'a');
+        map.put((int) 'a', first);
+        Assertions.assertSame(first, map.put((int) 'a', second));
+        Assertions.assertEquals(1, map.size());
+
+        Assertions.assertSame(second, map.remove((int) 'a'));
+        Assertions.assertNull(map.removeGlyph('a'));
+        Assertions.assertEquals(0, map.size());
+        Assertions.assertTrue(map.isEmpty());
+
+        map.putGlyph('a', first);
+        Assertions.assertSame(first, map.putGlyph('a', null));
+        Assertions.assertFalse(map.containsGlyph('a'));
+        Assertions.assertEquals(0, map.size());
+    }
+
+    @Test
+    public void keysOutsideOfUnicodeRangeTest() {
+        IntGlyphMap map = new IntGlyphMap();
+        Glyph negative = new Glyph(1, 500, -1);
+        Glyph large = new Glyph(2, 500, -1);
+        map.putGlyph(-5, negative);
+        map.putGlyph(Integer.MAX_VALUE, large);
+
+        Assertions.assertEquals(2, map.size());
+        Assertions.assertSame(negative, map.getGlyph(-5));
+        Assertions.assertSame(large, map.getGlyph(Integer.MAX_VALUE));
+        Assertions.assertSame(negative, map.removeGlyph(-5));
+        Assertions.assertEquals(1, map.size());
+    }
+
+    @Test
+    public void iterationOrderTest() {
+        IntGlyphMap map = new IntGlyphMap();
+        for (int key : new int[] {0x4E00, 'z', -1, 0x1F600, 0, 'a'}) {
+            map.putGlyph(key, new Glyph(key, 0, key));
+        }
+        List<Integer> keys = new ArrayList<>(map.keySet());
+        Assertions.assertEquals(Arrays.asList(0, (int) 'a', (int) 'z', 0x4E00, 0x1F600, -1), keys);
+    }
+
+    @Test
+    public void removeWhileIteratingTest() {
+        IntGlyphMap map = new IntGlyphMap();
+        for (int key : new int[] {1, 2, 3, 0x300, -7}) {
+            map.putGlyph(key, new Glyph(key, 0, key));
+        }
+        Iterator<Integer> iterator = map.keySet().iterator();
+        while (iterator.hasNext()) {
+            int key = (int) iterator.next();
+            if (key != 2) {
+                iterator.remove();
+            }
+        }
+        Assertions.assertEquals(1, map.size());
+        Assertions.assertTrue(map.containsGlyph(2));
+    }
+
+    @Test
+    public void equalsToHashMapTest() {
+        IntGlyphMap map = new IntGlyphMap();
+        Map<Integer, Glyph> expected = new HashMap<>();
+        for (int key = 0; key < 2000; key += 7) {
+            Glyph glyph = new Glyph(key, key, key);
+            map.putGlyph(key, glyph);
+            expected.put(key, glyph);
+        }
+        Assertions.assertEquals(expected, map);
+        map.clear();
+        Assertions.assertEquals(0, map.size());
+        Assertions.assertNull(map.getGlyph(7));
+    }
+
+    @Test
+    public void fontProgramUsesIntGlyphMapTest() throws java.io.IOException {
+        FontProgram fontProgram = FontProgramFactory.createFont(
+                "./src/test/resources/com/itextpdf/io/font/otf/FreeSans.ttf");
+        Assertions.assertTrue(fontProgram.unicodeToGlyph instanceof IntGlyphMap);
+        Assertions.assertTrue(fontProgram.codeToGlyph instanceof IntGlyphMap);
+        Glyph glyph = fontProgram.getGlyph('A');
+        Assertions.assertNotNull(glyph);
+        Assertions.assertSame(glyph, fontProgram.getGlyphByCode(glyph.getCode()));
+    }
+}
@@ -0,0 +1,150 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.io.font;
+
+import com.itextpdf.io.font.otf.Glyph;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+public class LruFontProgramCacheTest extends ExtendedITextTest {
+
+    @Test
+    public void leastRecentlyUsedFontIsEvictedTest() {
+        LruFontProgramCache cache = new LruFontProgramCache(2);
+        FontProgram first = new FontProgramMock();
+        FontProgram second = new FontProgramMock();
+        FontProgram third = new FontProgramMock();
+        cache.putIfAbsent(FontCacheKey.create("first"), first);
+        cache.putIfAbsent(FontCacheKey.create("second"), second);
+        Assertions.assertSame(first, cache.get(FontCacheKey.create("first")));
+
+        cache.putIfAbsent(FontCacheKey.create("third"), third);
+
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(1, cache.getEvictionCount());
+        Assertions.assertSame(first, cache.get(FontCacheKey.create("first")));
+        Assertions.assertNull(cache.get(FontCacheKey.create("second")));
+        Assertions.assertSame(third, cache.get(FontCacheKey.create("third")));
+    }
+
+    @Test
+    public void putIfAbsentKeepsSavedFontTest() {
+        LruFontProgramCache cache = new LruFontProgramCache();
+        FontProgram saved = new FontProgramMock();
+        Assertions.assertSame(saved, cache.putIfAbsent(FontCacheKey.create("font"), saved));
+        Assertions.assertSame(saved, cache.putIfAbsent(FontCacheKey.create("font"), new FontProgramMock()));
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void hitAndMissCountersTest() throws java.io.IOException {
+        LruFontProgramCache cache = new LruFontProgramCache();
+        FontProgram fontProgram = new FontProgramMock();
+        Assertions.assertNull(cache.get(FontCacheKey.create("font")));
+        Assertions.assertSame(fontProgram, cache.getOrLoad(FontCacheKey.create("font"), () -> fontProgram));
+        Assertions.assertSame(fontProgram, cache.getOrLoad(FontCacheKey.create("font"), () -> new FontProgramMock()));
+        Assertions.assertSame(fontProgram, cache.get(FontCacheKey.create("font")));
+
+        Assertions.assertEquals(2, cache.getMissCount());
+        Assertions.assertEquals(2, cache.getHitCount());
+        Assertions.assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    public void failedLoadIsNotCachedTest() throws java.io.IOException {
+        LruFontProgramCache cache = new LruFontProgramCache();
+        Assertions.assertThrows(java.io.IOException.class, () -> cache.getOrLoad(FontCacheKey.create("font"), () -> {
+            throw new java.io.IOException("Broken font");
+        }));
+        Assertions.assertEquals(0, cache.size());
+
+        FontProgram fontProgram = new FontProgramMock();
+        Assertions.assertSame(fontProgram, cache.getOrLoad(FontCacheKey.create("font"), () -> fontProgram));
+    }
+
+    @Test
+    public void concurrentRequestsLoadFontOnceTest() throws Exception {
+        final int threadsCount = 8;
+        LruFontProgramCache cache = new LruFontProgramCache();
+        AtomicInteger loadsCount = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadsCount);
+        try {
+            List<Future<FontProgram>> results = new ArrayList<>();
+            for (int i = 0; i < threadsCount; i++) {
+                results.add(executor.submit((Callable<FontProgram>) () -> {
+                    start.await();
+                    return cache.getOrLoad(FontCacheKey.create("font"), () -> {
+                        loadsCount.incrementAndGet();
+                        try {
+                            Thread.sleep(50);
+                        } catch (InterruptedException e) {
+                            throw new java.io.IOException(e);
+                        }
+                        return new FontProgramMock();
+                    });
+                }));
+            }
+            start.countDown();
+            FontProgram expected = results.get(0).get();
+            for (Future<FontProgram> result : results) {
+                Assertions.assertSame(expected, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertEquals(1, loadsCount.get());
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(threadsCount - 1, cache.getHitCount());
+    }
+
+    @Test
+    public void invalidMaxSizeTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new LruFontProgramCache(0));
+    }
+
+    private static class FontProgramMock extends FontProgram {
+
+        @Override
+        public int getPdfFontFlags() {
+            return 0;
+        }
+
+        @Override
+        public int getKerning(Glyph first, Glyph second) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.io.source;
+
+import com.itextpdf.commons.utils.FileUtil;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+public class RandomAccessFileOrArrayTest extends ExtendedITextTest {
+
+    private final static String SOURCE_FILE = "./src/test/resources/com/itextpdf/io/source/RAF.txt";
+
+    private final static String DESTINATION_FOLDER = "./target/test/com/itextpdf/io/source/RandomAccessFileOrArrayTest/";
+
+    @BeforeAll
+    public static void beforeClass() {
+        createOrClearDestinationFolder(DESTINATION_FOLDER);
+    }
+
+    @Test
+    public void createByteBufferViewOfArrayTest() throws IOException {
+        byte[] data = "Hello, world!".getBytes(StandardCharsets.ISO_8859_1);
+        RandomAccessFileOrArray file = new RandomAccessFileOrArray(new RandomAccessSourceFactory().createSource(data));
+        file.seek(3);
+
+        ByteBuffer view = file.createByteBufferView(7, 5);
+
+        Assertions.assertEquals("world", toString(view));
+        Assertions.assertTrue(view.isReadOnly());
+        Assertions.assertEquals(3, file.getPosition());
+        data[7] = (byte) 'W';
+        Assertions.assertEquals("World", toString(view));
+    }
+
+    @Test
+    public void createByteBufferViewOfSafeViewTest() throws IOException {
+        byte[] data = "Hello, world!".getBytes(StandardCharsets.ISO_8859_1);
+        RandomAccessFileOrArray file = new RandomAccessFileOrArray(new RandomAccessSourceFactory().createSource(data));
+        RandomAccessFileOrArray view = file.createView();
+        data[0] = (byte) 'J';
+        Assertions.assertEquals("Jello", toString(view.createByteBufferView(0, 5)));
+    }
+
+    @Test
+    public void createByteBufferViewOfWindowTest() throws IOException {
+        byte[] data = "Hello, world!".getBytes(StandardCharsets.ISO_8859_1);
+        IRandomAccessSource window = new WindowRandomAccessSource(new RandomAccessSourceFactory().createSource(data), 7);
+        RandomAccessFileOrArray file = new RandomAccessFileOrArray(window);
+        Assertions.assertEquals("world!", toString(file.createByteBufferView(0, 6)));
+    }
+
+    @Test
+    public void createByteBufferViewOfMappedFileTest() throws IOException {
+        RandomAccessFileOrArray file = new RandomAccessFileOrArray(
+                new RandomAccessSourceFactory().createBestSource(SOURCE_FILE));
+        try {
+            ByteBuffer view = file.createByteBufferView(7, 6);
+            Assertions.assertEquals("world!", toString(view));
+            Assertions.assertTrue(view.isDirect());
+        } finally {
+            file.close();
+        }
+    }
+
+    @Test
+    public void createByteBufferViewOfPagedFileTest() throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(SOURCE_FILE, "r")) {
+            RandomAccessFileOrArray file = new RandomAccessFileOrArray(
+                    new PagedChannelRandomAccessSource(raf.getChannel(), 10, 2));
+            // Small regions of paged files are copied instead of being mapped separately
+            ByteBuffer view = file.createByteBufferView(3, 9);
+            Assertions.assertEquals("lo, world", toString(view));
+            Assertions.assertFalse(view.isDirect());
+        }
+    }
+
+    @Test
+    public void createByteBufferViewOutOfBoundsTest() {
+        byte[] data = "Hello".getBytes(StandardCharsets.ISO_8859_1);
+        RandomAccessFileOrArray file = new RandomAccessFileOrArray(new RandomAccessSourceFactory().createSource(data));
+        Assertions.assertThrows(IOException.class, () -> file.createByteBufferView(3, 5));
+    }
+
+    @Test
+    public void releaseByteBufferTest() {
+        Assertions.assertTrue(RandomAccessFileOrArray.releaseByteBuffer(ByteBuffer.allocateDirect(16)));
+        Assertions.assertFalse(RandomAccessFileOrArray.releaseByteBuffer(ByteBuffer.allocate(16)));
+    }
+
+    @Test
+    public void releaseSeparatelyMappedByteBufferViewTest() throws IOException {
+        String fileName = DESTINATION_FOLDER + "separatelyMapped.bin";
+        byte[] data = new byte[1 << 17];
+        data[1000] = 42;
+        try (OutputStream os = FileUtil.getFileOutputStream(fileName)) {
+            os.write(data);
+        }
+        try (RandomAccessFile raf = new RandomAccessFile(fileName, "r")) {
+            RandomAccessFileOrArray file = new RandomAccessFileOrArray(
+                    new PagedChannelRandomAccessSource(raf.getChannel(), 1 << 12, 2)).createView();
+            ByteBuffer view = file.createByteBufferView(1000, 1 << 16);
+            Assertions.assertTrue(view.isDirect());
+            Assertions.assertTrue(view.isReadOnly());
+            Assertions.assertEquals(42, view.get(0));
+            Assertions.assertTrue(file.releaseByteBufferView(view));
+        }
+    }
+
+    @Test
+    public void sharedByteBufferViewIsNotReleasedTest() throws IOException {
+        RandomAccessFileOrArray file = new RandomAccessFileOrArray(
+                new RandomAccessSourceFactory().createBestSource(SOURCE_FILE));
+        try {
+            ByteBuffer view = file.createByteBufferView(7, 6);
+            Assertions.assertFalse(file.releaseByteBufferView(view));
+            Assertions.assertEquals("world!", toString(view));
+        } finally {
+            file.close();
+        }
+    }
+
+    private static String toString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return new String(bytes, StandardCharsets.ISO_8859_1);
+    }
+}
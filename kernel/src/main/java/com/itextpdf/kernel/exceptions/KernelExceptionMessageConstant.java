@@ -480,6 +480,14 @@ public final class KernelExceptionMessageConstant {
             "because it has child layers.";
     public static final String TYPE_SHOULD_NOT_BE_NULL = "ClassArgument type should not be null";
     public static final String INSTANCE_SHOULD_NOT_BE_NULL = "Instance should not be null";
+    public static final String CONCURRENT_READING_OBJECT_CANNOT_BE_MODIFIED = "Objects of a document read "
+            + "in concurrent reading mode can't be modified.";
+    public static final String CONCURRENT_READING_REQUIRES_READING_MODE = "Reader in concurrent reading mode "
+            + "can only be used to open a document in reading mode.";
+    public static final String PARALLEL_CONTENT_PROCESSING_REQUIRES_READING_MODE = "Parallel content processing "
+            + "is only supported for documents opened in reading mode.";
+    public static final String STANDALONE_VALIDATION_REQUIRES_READING_MODE = "Standalone conformance validation "
+            + "is only supported for documents opened in reading mode.";
 
     private KernelExceptionMessageConstant() {
     }
@@ -39,9 +39,9 @@ import com.itextpdf.kernel.pdf.PdfStream;
 import com.itextpdf.kernel.pdf.PdfString;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 
 public abstract class PdfFont extends PdfObjectWrapper<PdfDictionary> {
@@ -56,7 +56,8 @@ public abstract class PdfFont extends PdfObjectWrapper<PdfDictionary> {
 
     protected static final byte[] EMPTY_BYTES = new byte[0];
 
-    protected Map<Integer, Glyph> notdefGlyphs = new HashMap<>();
+    // Glyphs of a font may be requested concurrently, e.g. by the sections of a document laid out in parallel
+    protected Map<Integer, Glyph> notdefGlyphs = new ConcurrentHashMap<>();
 
     /**
      * false, if the font comes from PdfDocument.
@@ -75,7 +76,9 @@ public abstract class PdfFont extends PdfObjectWrapper<PdfDictionary> {
 
     protected PdfFont(PdfDictionary fontDictionary) {
         super(fontDictionary);
-        getPdfObject().put(PdfName.Type, PdfName.Font);
+        if (fontDictionary.isModifiable()) {
+            getPdfObject().put(PdfName.Type, PdfName.Font);
+        }
     }
 
     protected PdfFont() {
@@ -0,0 +1,209 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.io.source.RandomAccessFileOrArray;
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.MemoryLimitsAwareException;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Compact storage of the cross-reference entries which have no {@link PdfIndirectReference} instance yet.
+ * <p>
+ * Every entry takes 12 bytes: the offset of the object (or its index in the object stream) together with the type
+ * of the entry and either the generation number or the number of the containing object stream. The entries
+ * are kept in a heap or a direct {@link java.nio.ByteBuffer}, so that documents with millions of objects don't
+ * need millions of objects on the heap before they are actually read.
+ * <p>
+ * The references created for the entries are kept in chunks which are allocated only for the ranges of object
+ * numbers with references. The references can be read without locking.
+ */
+final class CompactXrefEntries {
+    static final byte ABSENT = 0;
+    static final byte FREE = 1;
+    static final byte IN_USE = 2;
+    static final byte COMPRESSED = 3;
+
+    private static final int ENTRY_SIZE = 12;
+    private static final int TYPE_SHIFT = 56;
+    private static final long OFFSET_MASK = (1L << TYPE_SHIFT) - 1;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE / ENTRY_SIZE;
+    private static final int REFERENCES_CHUNK_SHIFT = 10;
+    private static final int REFERENCES_CHUNK_MASK = (1 << REFERENCES_CHUNK_SHIFT) - 1;
+
+    private final boolean offHeap;
+    private java.nio.ByteBuffer entries;
+    private int capacity;
+
+    /**
+     * The chunks of references, the array is replaced when a chunk is added, so a read of the field is enough
+     * to see the chunk.
+     */
+    private volatile AtomicReferenceArray<PdfIndirectReference>[] referenceChunks = newReferenceChunks(0);
+
+    CompactXrefEntries(int capacity, boolean offHeap) {
+        this.offHeap = offHeap;
+        this.capacity = capacity;
+        this.entries = allocate(capacity);
+    }
+
+    boolean isOffHeap() {
+        return offHeap;
+    }
+
+    int getCapacity() {
+        return capacity;
+    }
+
+    void ensureCapacity(int capacity) {
+        if (capacity <= this.capacity) {
+            return;
+        }
+        if (entries != null) {
+            java.nio.ByteBuffer newEntries = allocate(capacity);
+            // Entries are accessed by absolute indices only, so the buffers are copied through their duplicates
+            // to keep the positions of the buffers at zero
+            newEntries.duplicate().put(entries.duplicate());
+            free(entries);
+            entries = newEntries;
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Stores the entry.
+     *
+     * @param objNr             the object number
+     * @param type              {@link #FREE}, {@link #IN_USE} or {@link #COMPRESSED}
+     * @param offset            the offset of the object, the next free object number for free entries
+     *                          or the index of the object in the object stream for compressed entries
+     * @param genOrObjStmNumber the generation number or the object stream number for compressed entries
+     */
+    void set(int objNr, byte type, long offset, int genOrObjStmNumber) {
+        int position = objNr * ENTRY_SIZE;
+        entries.putLong(position, ((long) type << TYPE_SHIFT) | (offset & OFFSET_MASK));
+        entries.putInt(position + 8, genOrObjStmNumber);
+    }
+
+    /**
+     * Gets the reference created for the entry.
+     *
+     * @param objNr the object number
+     * @return the reference or {@code null} if no reference has been created for the object number
+     */
+    PdfIndirectReference getReference(int objNr) {
+        AtomicReferenceArray<PdfIndirectReference>[] chunks = referenceChunks;
+        int chunkIndex = objNr >>> REFERENCES_CHUNK_SHIFT;
+        if (chunkIndex >= chunks.length || chunks[chunkIndex] == null) {
+            return null;
+        }
+        return chunks[chunkIndex].get(objNr & REFERENCES_CHUNK_MASK);
+    }
+
+    /**
+     * Stores the reference created for the entry.
+     *
+     * @param objNr     the object number
+     * @param reference the reference, {@code null} to remove the stored one
+     */
+    synchronized void setReference(int objNr, PdfIndirectReference reference) {
+        AtomicReferenceArray<PdfIndirectReference>[] chunks = referenceChunks;
+        int chunkIndex = objNr >>> REFERENCES_CHUNK_SHIFT;
+        if (chunkIndex >= chunks.length || chunks[chunkIndex] == null) {
+            if (reference == null) {
+                return;
+            }
+            AtomicReferenceArray<PdfIndirectReference>[] newChunks =
+                    newReferenceChunks(Math.max(chunks.length, chunkIndex + 1));
+            System.arraycopy(chunks, 0, newChunks, 0, chunks.length);
+            newChunks[chunkIndex] = new AtomicReferenceArray<>(REFERENCES_CHUNK_MASK + 1);
+            chunks = newChunks;
+            referenceChunks = newChunks;
+        }
+        chunks[chunkIndex].set(objNr & REFERENCES_CHUNK_MASK, reference);
+    }
+
+    void remove(int objNr) {
+        if (objNr < capacity && entries != null) {
+            entries.putLong(objNr * ENTRY_SIZE, 0L);
+        }
+    }
+
+    byte getType(int objNr) {
+        if (objNr < 0 || objNr >= capacity || entries == null) {
+            return ABSENT;
+        }
+        return (byte) (entries.getLong(objNr * ENTRY_SIZE) >>> TYPE_SHIFT);
+    }
+
+    long getOffset(int objNr) {
+        return entries.getLong(objNr * ENTRY_SIZE) & OFFSET_MASK;
+    }
+
+    int getGenOrObjStmNumber(int objNr) {
+        return entries.getInt(objNr * ENTRY_SIZE + 8);
+    }
+
+    /**
+     * Removes the entries.
+     *
+     * @param keepFree whether the free entries should be kept
+     */
+    void clear(boolean keepFree) {
+        for (int objNr = 0; objNr < capacity; objNr++) {
+            if (!keepFree || getType(objNr) != FREE) {
+                remove(objNr);
+            }
+        }
+    }
+
+    /**
+     * Releases the memory of the entries, the entries can't be used afterwards. The references are kept.
+     */
+    void release() {
+        if (entries != null) {
+            free(entries);
+            entries = null;
+        }
+    }
+
+    private void free(java.nio.ByteBuffer buffer) {
+        if (offHeap) {
+            RandomAccessFileOrArray.releaseByteBuffer(buffer);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AtomicReferenceArray<PdfIndirectReference>[] newReferenceChunks(int length) {
+        return (AtomicReferenceArray<PdfIndirectReference>[]) new AtomicReferenceArray[length];
+    }
+
+    private java.nio.ByteBuffer allocate(int capacity) {
+        if (capacity > MAX_CAPACITY) {
+            throw new MemoryLimitsAwareException(KernelExceptionMessageConstant.XREF_STRUCTURE_SIZE_EXCEEDED_THE_LIMIT);
+        }
+        return offHeap ? java.nio.ByteBuffer.allocateDirect(capacity * ENTRY_SIZE)
+                : java.nio.ByteBuffer.allocate(capacity * ENTRY_SIZE);
+    }
+}
@@ -43,7 +43,15 @@ public abstract class MemoryLimitsAwareFilter implements IFilterHandler {
         MemoryLimitsAwareOutputStream outputStream = new MemoryLimitsAwareOutputStream();
         MemoryLimitsAwareHandler memoryLimitsAwareHandler = null;
         if (null != streamDictionary.getIndirectReference()) {
-            memoryLimitsAwareHandler = streamDictionary.getIndirectReference().getDocument().memoryLimitsAwareHandler;
+            PdfDocument document = streamDictionary.getIndirectReference().getDocument();
+            memoryLimitsAwareHandler = document.memoryLimitsAwareHandler;
+            if (null != memoryLimitsAwareHandler && document.getReader() != null
+                    && document.getReader().isConcurrentReading()) {
+                // Concurrent decodings track the current stream on their own handler copies,
+                // so the limit of a single stream is always applied
+                outputStream.setMaxStreamSize(memoryLimitsAwareHandler.getMaxSizeOfSingleDecompressedPdfStream());
+                return outputStream;
+            }
         } else {
             // We do not reuse some static instance because one can process pdfs in different threads.
             memoryLimitsAwareHandler = new MemoryLimitsAwareHandler();
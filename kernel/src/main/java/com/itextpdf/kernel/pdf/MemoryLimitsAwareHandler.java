@@ -299,6 +299,24 @@ public class MemoryLimitsAwareHandler {
         return this;
     }
 
+    /**
+     * Considers the number of bytes of the pdf stream which has been decompressed while it was read.
+     * Such streams don't hold the decompressed bytes at once, so they are only considered in the sum of all
+     * decompressed pdf streams. If memory limits have been faced, throws an exception.
+     *
+     * @param numOfOccupiedBytes the number of bytes of the decompressed pdf stream.
+     * @return this {@link MemoryLimitsAwareHandler} instance.
+     * @see MemoryLimitsAwareException
+     */
+    MemoryLimitsAwareHandler considerBytesOccupiedByStreamedPdfStream(long numOfOccupiedBytes) {
+        allMemoryUsedForDecompression += numOfOccupiedBytes;
+        if (allMemoryUsedForDecompression > maxSizeOfDecompressedPdfStreamsSum) {
+            throw new MemoryLimitsAwareException(
+                    KernelExceptionMessageConstant.DURING_DECOMPRESSION_MULTIPLE_STREAMS_IN_SUM_OCCUPIED_MORE_MEMORY_THAN_ALLOWED);
+        }
+        return this;
+    }
+
     long getAllMemoryUsedForDecompression() {
         return allMemoryUsedForDecompression;
     }
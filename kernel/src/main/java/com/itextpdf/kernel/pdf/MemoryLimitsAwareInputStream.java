@@ -0,0 +1,114 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.MemoryLimitsAwareException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * This class implements an input stream which can be used for memory limits aware decoding of pdf streams
+ * while they are read. The limits are checked every time the bytes are read.
+ */
+class MemoryLimitsAwareInputStream extends FilterInputStream {
+
+    private final long maxStreamSize;
+
+    private final MemoryLimitsAwareHandler handler;
+
+    private long count;
+
+    private boolean endReached;
+
+    /**
+     * Creates a new memory limits aware input stream.
+     *
+     * @param in            the stream with the decoded bytes
+     * @param maxStreamSize the maximum number of bytes which can be read from the stream
+     * @param handler       the handler which is notified about the size of the stream when its end is reached,
+     *                      can be {@code null}
+     */
+    MemoryLimitsAwareInputStream(InputStream in, long maxStreamSize, MemoryLimitsAwareHandler handler) {
+        super(in);
+        this.maxStreamSize = maxStreamSize;
+        this.handler = handler;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        consider(b < 0 ? -1 : 1);
+        return b;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = in.read(b, off, len);
+        consider(n);
+        return n;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = in.skip(n);
+        if (skipped > 0) {
+            consider(skipped);
+        }
+        return skipped;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void consider(long n) {
+        if (n < 0) {
+            if (!endReached && handler != null) {
+                endReached = true;
+                handler.considerBytesOccupiedByStreamedPdfStream(count);
+            }
+            return;
+        }
+        count += n;
+        if (count > maxStreamSize) {
+            throw new MemoryLimitsAwareException(
+                    KernelExceptionMessageConstant.DURING_DECOMPRESSION_SINGLE_STREAM_OCCUPIED_MORE_MEMORY_THAN_ALLOWED);
+        }
+    }
+}
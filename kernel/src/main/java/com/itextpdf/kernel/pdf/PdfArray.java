@@ -205,6 +205,7 @@ public class PdfArray extends PdfObject implements Iterable<PdfObject> {
     }
 
     public void add(PdfObject pdfObject) {
+        checkModificationAllowed();
         list.add(pdfObject);
     }
 
@@ -216,6 +217,7 @@ public class PdfArray extends PdfObject implements Iterable<PdfObject> {
      * @see java.util.List#add(int, Object)
      */
     public void add(int index, PdfObject element) {
+        checkModificationAllowed();
         list.add(index, element);
     }
 
@@ -228,6 +230,7 @@ public class PdfArray extends PdfObject implements Iterable<PdfObject> {
      * @see java.util.List#set(int, Object)
      */
     public PdfObject set(int index, PdfObject element) {
+        checkModificationAllowed();
         return list.set(index, element);
     }
 
@@ -238,6 +241,7 @@ public class PdfArray extends PdfObject implements Iterable<PdfObject> {
      * @see java.util.List#addAll(java.util.Collection)
      */
     public void addAll(Collection<PdfObject> c) {
+        checkModificationAllowed();
         list.addAll(c);
     }
 
@@ -268,6 +272,7 @@ public class PdfArray extends PdfObject implements Iterable<PdfObject> {
      * @see java.util.List#remove(int)
      */
     public void remove(int index) {
+        checkModificationAllowed();
         list.remove(index);
     }
 
@@ -278,6 +283,7 @@ public class PdfArray extends PdfObject implements Iterable<PdfObject> {
      * @see java.util.List#remove(Object)
      */
     public void remove(PdfObject o) {
+        checkModificationAllowed();
         if (list.remove(o))
             return;
         if (o == null)
@@ -291,6 +297,7 @@ public class PdfArray extends PdfObject implements Iterable<PdfObject> {
     }
 
     public void clear() {
+        checkModificationAllowed();
         list.clear();
     }
 
@@ -299,6 +299,7 @@ public class PdfDictionary extends PdfObject {
      */
     public PdfObject put(PdfName key, PdfObject value) {
         assert value != null;
+        checkModificationAllowed();
         return map.put(key, value);
     }
 
@@ -309,6 +310,7 @@ public class PdfDictionary extends PdfObject {
      * @return the removed value associated with the specified key
      */
     public PdfObject remove(PdfName key) {
+        checkModificationAllowed();
         return map.remove(key);
     }
 
@@ -318,6 +320,7 @@ public class PdfDictionary extends PdfObject {
      * @param d PdfDictionary holding the key-value pairs to be copied
      */
     public void putAll(PdfDictionary d) {
+        checkModificationAllowed();
         map.putAll(d.map);
     }
 
@@ -325,6 +328,7 @@ public class PdfDictionary extends PdfObject {
      * Removes all key-value pairs from this PdfDictionary.
      */
     public void clear() {
+        checkModificationAllowed();
         map.clear();
     }
 
@@ -278,6 +278,9 @@ public class PdfDocument implements Closeable {
         if (writer == null) {
             throw new IllegalArgumentException("The writer in PdfDocument constructor can not be null.");
         }
+        if (reader.isConcurrentReading()) {
+            throw new PdfException(KernelExceptionMessageConstant.CONCURRENT_READING_REQUIRES_READING_MODE);
+        }
         documentId = new SequenceId();
         this.reader = reader;
         this.writer = writer;
@@ -474,6 +477,11 @@ public class PdfDocument implements Closeable {
      */
     public PdfPage getPage(int pageNum) {
         checkClosingStatus();
+        if (isConcurrentReading()) {
+            synchronized (reader) {
+                return catalog.getPageTree().getPage(pageNum);
+            }
+        }
         return catalog.getPageTree().getPage(pageNum);
     }
 
@@ -486,6 +494,11 @@ public class PdfDocument implements Closeable {
      */
     public PdfPage getPage(PdfDictionary pageDictionary) {
         checkClosingStatus();
+        if (isConcurrentReading()) {
+            synchronized (reader) {
+                return catalog.getPageTree().getPage(pageDictionary);
+            }
+        }
         return catalog.getPageTree().getPage(pageDictionary);
     }
 
@@ -637,6 +650,11 @@ public class PdfDocument implements Closeable {
      */
     public int getPageNumber(PdfPage page) {
         checkClosingStatus();
+        if (isConcurrentReading()) {
+            synchronized (reader) {
+                return catalog.getPageTree().getPageNumber(page);
+            }
+        }
         return catalog.getPageTree().getPageNumber(page);
     }
 
@@ -648,6 +666,11 @@ public class PdfDocument implements Closeable {
      * @return page number by {@link PdfDictionary}.
      */
     public int getPageNumber(PdfDictionary pageDictionary) {
+        if (isConcurrentReading()) {
+            synchronized (reader) {
+                return catalog.getPageTree().getPageNumber(pageDictionary);
+            }
+        }
         return catalog.getPageTree().getPageNumber(pageDictionary);
     }
 
@@ -1147,6 +1170,9 @@ public class PdfDocument implements Closeable {
                     LOGGER.error(IoLogMessageConstant.PDF_READER_CLOSING_FAILED, e);
                 }
             }
+            if (xref != null) {
+                xref.releaseCompactEntries();
+            }
 
         }
         closed = true;
@@ -1904,6 +1930,15 @@ public class PdfDocument implements Closeable {
      * until it will be added to {@link com.itextpdf.kernel.pdf.canvas.PdfCanvas} or {@link PdfResources}.
      */
     public PdfFont getFont(PdfDictionary dictionary) {
+        if (isConcurrentReading()) {
+            synchronized (reader) {
+                return getFontInternal(dictionary);
+            }
+        }
+        return getFontInternal(dictionary);
+    }
+
+    private PdfFont getFontInternal(PdfDictionary dictionary) {
         PdfIndirectReference indirectReference = dictionary.getIndirectReference();
         if (indirectReference != null && documentFonts.containsKey(indirectReference)) {
             return documentFonts.get(indirectReference);
@@ -2088,6 +2123,9 @@ public class PdfDocument implements Closeable {
                     memoryLimitsAwareHandler = new MemoryLimitsAwareHandler(reader.tokens.getSafeFile().length());
                 }
                 xref.setMemoryLimitsAwareHandler(memoryLimitsAwareHandler);
+                if (reader.properties.compactXrefTable) {
+                    xref.useCompactEntries(this, reader.properties.offHeapXrefTable);
+                }
                 reader.readPdf();
                 if (reader.decrypt != null && reader.decrypt.isEmbeddedFilesOnly()) {
                     encryptedEmbeddedStreamsHandler.storeAllEmbeddedStreams();
@@ -2114,6 +2152,9 @@ public class PdfDocument implements Closeable {
                             KernelExceptionMessageConstant.APPEND_MODE_REQUIRES_A_DOCUMENT_WITHOUT_ERRORS_EVEN_IF_RECOVERY_IS_POSSIBLE);
                 }
                 pdfConformance = reader.getPdfConformance();
+                if (writer == null) {
+                    reader.initObjectsCache();
+                }
             }
             xref.initFreeReferencesList(this);
             if (writer != null) {
@@ -2242,6 +2283,11 @@ public class PdfDocument implements Closeable {
                     writer.crypto.configureEncryptionParametersFromWriter(this);
                 }
             }
+            if (isConcurrentReading()) {
+                // The objects are shared between threads from now on, so they shouldn't be modified anymore. Pages
+                // are loaded lazily under the reader lock, see getPage
+                reader.markReadObjectsImmutable();
+            }
             if (EventConfirmationType.ON_DEMAND == event.getConfirmationType()) {
                 // Event confirmation: opening has passed successfully
                 EventManager.getInstance().onEvent(new ConfirmEvent(event));
@@ -2571,6 +2617,10 @@ public class PdfDocument implements Closeable {
         names.setModified();
     }
 
+    private boolean isConcurrentReading() {
+        return reader != null && reader.isConcurrentReading();
+    }
+
     private boolean writerHasEncryption() {
         return writer.properties.isStandardEncryptionUsed() || writer.properties.isPublicKeyEncryptionUsed();
     }
@@ -42,7 +42,7 @@ public class PdfIndirectReference extends PdfObject implements Comparable<PdfInd
     /**
      * PdfObject that current PdfIndirectReference instance refers to.
      */
-    protected PdfObject refersTo = null;
+    protected volatile PdfObject refersTo = null;
 
     /**
      * Indirect reference number of object stream containing refersTo object.
@@ -107,6 +107,8 @@ public class PdfIndirectReference extends PdfObject implements Comparable<PdfInd
             if (refersTo == null && !checkState(FLUSHED) && !checkState(MODIFIED) && !checkState(FREE)
                     && getReader() != null) {
                 refersTo = getReader().readObject(this);
+            } else if (checkState(CACHED) && getReader() != null) {
+                getReader().objectAccessed(this);
             }
             return refersTo;
         } else {
@@ -109,6 +109,18 @@ public abstract class PdfObject {
      */
     protected static final short UNENCRYPTED = 1 << 9;
 
+    /**
+     * Indicates that the object has been read by a reader in concurrent reading mode and can't be modified,
+     * see {@link ReaderProperties#setConcurrentReading(boolean)}.
+     */
+    protected static final short IMMUTABLE = 1 << 10;
+
+    /**
+     * Indicates that the object of the indirect reference is tracked by the object cache of the reader
+     * and could be released when the cache limits are exceeded, see {@link ReaderProperties#setObjectCacheSize(int)}.
+     */
+    protected static final short CACHED = 1 << 11;
+
     /**
      * If object is flushed the indirect reference is kept here.
      */
@@ -395,6 +407,16 @@ public abstract class PdfObject {
         return this;
     }
 
+    /**
+     * Checks if this {@link PdfObject} instance can be modified. The objects read by a reader in concurrent
+     * reading mode can't be modified, see {@link ReaderProperties#setConcurrentReading(boolean)}.
+     *
+     * @return true if the object can be modified, otherwise false
+     */
+    public boolean isModifiable() {
+        return !checkState(IMMUTABLE);
+    }
+
     /**
      * Checks if it's forbidden to release this {@link PdfObject} instance.
      * Some objects are vital for the living period of {@link PdfDocument} or may be
@@ -414,6 +436,7 @@ public abstract class PdfObject {
             logger.warn(IoLogMessageConstant.FORBID_RELEASE_IS_SET);
         } else {
             if (indirectReference != null && indirectReference.getReader() != null
+                    && !indirectReference.getReader().isConcurrentReading()
                     && !indirectReference.checkState(FLUSHED)) {
                 indirectReference.refersTo = null;
                 indirectReference = null;
@@ -560,6 +583,15 @@ public abstract class PdfObject {
         return this;
     }
 
+    /**
+     * Throws an exception if the object can't be modified, see {@link #IMMUTABLE}.
+     */
+    void checkModificationAllowed() {
+        if (checkState(IMMUTABLE)) {
+            throw new PdfException(KernelExceptionMessageConstant.CONCURRENT_READING_OBJECT_CANNOT_BE_MODIFIED);
+        }
+    }
+
     /**
      * Clear state of the flag of current object.
      *
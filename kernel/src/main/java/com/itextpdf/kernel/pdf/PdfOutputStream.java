@@ -35,6 +35,12 @@ import com.itextpdf.commons.utils.MessageFormatUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 public class PdfOutputStream extends HighPrecisionOutputStream<PdfOutputStream> {
 
@@ -56,6 +62,8 @@ public class PdfOutputStream extends HighPrecisionOutputStream<PdfOutputStream>
      */
     protected PdfEncryption crypto;
 
+    private Map<PdfStream, Future<byte[]>> scheduledCompressions;
+
     /**
      * Create a pdfOutputSteam writing to the passed OutputStream.
      *
@@ -314,22 +322,19 @@ public class PdfOutputStream extends HighPrecisionOutputStream<PdfOutputStream>
                 }
                 assert pdfStream.getOutputStream() != null : "PdfStream lost OutputStream";
                 ByteArrayOutputStream byteArrayStream;
+                Future<byte[]> scheduledCompression = scheduledCompressions == null ?
+                        null : scheduledCompressions.remove(pdfStream);
                 try {
                     if (toCompress && !containsFlateFilter(pdfStream) && decodeParamsArrayNotFlushed(pdfStream)
                             && (allowCompression || userDefinedCompression)) {
                         // compress
                         updateCompressionFilter(pdfStream);
                         byteArrayStream = new ByteArrayOutputStream();
-                        DeflaterOutputStream zip = new DeflaterOutputStream(byteArrayStream, pdfStream.getCompressionLevel());
-                        if (pdfStream instanceof PdfObjectStream) {
-                            PdfObjectStream objectStream = (PdfObjectStream) pdfStream;
-                            ((ByteArrayOutputStream) objectStream.getIndexStream().getOutputStream()).writeTo(zip);
-                            ((ByteArrayOutputStream) objectStream.getOutputStream().getOutputStream()).writeTo(zip);
+                        if (scheduledCompression != null) {
+                            byteArrayStream.write(getScheduledCompressionResult(scheduledCompression, pdfStream));
                         } else {
-                            assert pdfStream.getOutputStream() != null : "Error in outputStream";
-                            ((ByteArrayOutputStream) pdfStream.getOutputStream().getOutputStream()).writeTo(zip);
+                            compress(pdfStream, byteArrayStream);
                         }
-                        zip.finish();
                     } else {
                         if (pdfStream instanceof PdfObjectStream) {
                             PdfObjectStream objectStream = (PdfObjectStream) pdfStream;
@@ -364,6 +369,63 @@ public class PdfOutputStream extends HighPrecisionOutputStream<PdfOutputStream>
         }
     }
 
+    /**
+     * Starts the compression of the stream data on the passed executor, if the stream is going to be compressed
+     * when it is written. The result of the compression is used by the next write of the stream.
+     * Only the most common case of the streams with the data in memory and without filters is handled,
+     * other streams are compressed at the moment they are written.
+     *
+     * @param pdfStream the stream to compress
+     * @param executor  the executor to compress the stream data on
+     * @return true if the compression has been scheduled, false otherwise
+     */
+    boolean scheduleCompression(PdfStream pdfStream, ExecutorService executor) {
+        if (pdfStream.getInputStream() != null || pdfStream.getOutputStream() == null
+                || pdfStream.containsKey(PdfName.Filter) || pdfStream.containsKey(PdfName.DecodeParms)
+                || !isNotMetadataPdfStream(pdfStream)) {
+            return false;
+        }
+        int compressionLevel = pdfStream.getCompressionLevel();
+        if (compressionLevel == CompressionConstants.UNDEFINED_COMPRESSION) {
+            compressionLevel = document != null ?
+                    document.getWriter().getCompressionLevel() : CompressionConstants.DEFAULT_COMPRESSION;
+        }
+        if (compressionLevel == CompressionConstants.NO_COMPRESSION) {
+            return false;
+        }
+        ByteArrayOutputStream[] parts;
+        if (pdfStream instanceof PdfObjectStream) {
+            // Buffers of the object stream are reused by the next object stream, so the data is copied
+            PdfObjectStream objectStream = (PdfObjectStream) pdfStream;
+            parts = new ByteArrayOutputStream[] {
+                    copyOf((ByteArrayOutputStream) objectStream.getIndexStream().getOutputStream()),
+                    copyOf((ByteArrayOutputStream) objectStream.getOutputStream().getOutputStream())};
+        } else {
+            parts = new ByteArrayOutputStream[] {
+                    (ByteArrayOutputStream) pdfStream.getOutputStream().getOutputStream()};
+        }
+        if (scheduledCompressions == null) {
+            scheduledCompressions = new HashMap<>();
+        }
+        scheduledCompressions.put(pdfStream, executor.submit(new StreamCompressor(parts, compressionLevel)));
+        return true;
+    }
+
+    /**
+     * Checks whether the compression of the stream data scheduled by
+     * {@link #scheduleCompression(PdfStream, ExecutorService)} is not finished yet.
+     *
+     * @param pdfObject the object to check
+     * @return true if the object is a stream which is being compressed, false otherwise
+     */
+    boolean isCompressionInProgress(PdfObject pdfObject) {
+        if (scheduledCompressions == null) {
+            return false;
+        }
+        Future<byte[]> scheduledCompression = scheduledCompressions.get(pdfObject);
+        return scheduledCompression != null && !scheduledCompression.isDone();
+    }
+
     protected boolean checkEncryption(PdfStream pdfStream) {
         if (crypto == null || (crypto.isEmbeddedFilesOnly() && !document.doesStreamBelongToEmbeddedFile(pdfStream))) {
             return false;
@@ -556,6 +618,38 @@ public class PdfOutputStream extends HighPrecisionOutputStream<PdfOutputStream>
         return obj != null && obj.isFlushed();
     }
 
+    private static void compress(PdfStream pdfStream, ByteArrayOutputStream byteArrayStream) throws IOException {
+        DeflaterOutputStream zip = new DeflaterOutputStream(byteArrayStream, pdfStream.getCompressionLevel());
+        if (pdfStream instanceof PdfObjectStream) {
+            PdfObjectStream objectStream = (PdfObjectStream) pdfStream;
+            ((ByteArrayOutputStream) objectStream.getIndexStream().getOutputStream()).writeTo(zip);
+            ((ByteArrayOutputStream) objectStream.getOutputStream().getOutputStream()).writeTo(zip);
+        } else {
+            assert pdfStream.getOutputStream() != null : "Error in outputStream";
+            ((ByteArrayOutputStream) pdfStream.getOutputStream().getOutputStream()).writeTo(zip);
+        }
+        zip.finish();
+    }
+
+    private static byte[] getScheduledCompressionResult(Future<byte[]> scheduledCompression, PdfStream pdfStream) {
+        try {
+            return scheduledCompression.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PdfException(KernelExceptionMessageConstant.CANNOT_WRITE_TO_PDF_STREAM, e, pdfStream);
+        } catch (ExecutionException e) {
+            throw new PdfException(KernelExceptionMessageConstant.CANNOT_WRITE_TO_PDF_STREAM, e.getCause(),
+                    pdfStream);
+        }
+    }
+
+    private static ByteArrayOutputStream copyOf(ByteArrayOutputStream stream) {
+        byte[] data = stream.toByteArray();
+        ByteArrayOutputStream copy = new ByteArrayOutputStream(data.length);
+        copy.write(data, 0, data.length);
+        return copy;
+    }
+
     private static boolean decodeParamsArrayNotFlushed(PdfStream pdfStream) {
         PdfArray decodeParams = pdfStream.getAsArray(PdfName.DecodeParms);
         if (decodeParams == null) {
@@ -567,4 +661,27 @@ public class PdfOutputStream extends HighPrecisionOutputStream<PdfOutputStream>
         }
         return true;
     }
+
+    private static final class StreamCompressor implements Callable<byte[]> {
+        private final ByteArrayOutputStream[] parts;
+        private final int compressionLevel;
+
+        StreamCompressor(ByteArrayOutputStream[] parts, int compressionLevel) {
+            this.parts = parts;
+            this.compressionLevel = compressionLevel;
+        }
+
+        @Override
+        public byte[] call() throws IOException {
+            // The data is passed to the deflater in the same portions as on writing without the executor,
+            // so that the compressed bytes are exactly the same
+            ByteArrayOutputStream byteArrayStream = new ByteArrayOutputStream();
+            DeflaterOutputStream zip = new DeflaterOutputStream(byteArrayStream, compressionLevel);
+            for (ByteArrayOutputStream part : parts) {
+                part.writeTo(zip);
+            }
+            zip.finish();
+            return byteArrayStream.toByteArray();
+        }
+    }
 }
@@ -64,7 +64,7 @@ import org.slf4j.LoggerFactory;
 
 public class PdfPage extends PdfObjectWrapper<PdfDictionary> {
 
-    private PdfResources resources = null;
+    private volatile PdfResources resources = null;
     private int mcid = -1;
     PdfPages parentPages;
     private static final List<PdfName> PAGE_EXCLUDED_KEYS = new ArrayList<>(Arrays.asList(
@@ -275,7 +275,16 @@ public class PdfPage extends PdfObjectWrapper<PdfDictionary> {
 
     PdfResources getResources(boolean initResourcesField) {
         if (this.resources == null && initResourcesField) {
-            initResources(true);
+            PdfReader reader = getDocument() == null ? null : getDocument().getReader();
+            if (reader != null && reader.isConcurrentReading()) {
+                synchronized (reader) {
+                    if (this.resources == null) {
+                        initResources(true);
+                    }
+                }
+            } else {
+                initResources(true);
+            }
         }
         return this.resources;
     }
@@ -292,7 +301,10 @@ public class PdfPage extends PdfObjectWrapper<PdfDictionary> {
         if (resources == null) {
             resources = new PdfDictionary();
             // not marking page as modified because of this change
-            getPdfObject().put(PdfName.Resources, resources);
+            // and the pages of a document read in concurrent reading mode are left as they are
+            if (getPdfObject().isModifiable()) {
+                getPdfObject().put(PdfName.Resources, resources);
+            }
         }
         if (initResourcesField) {
             this.resources = new PdfResources(resources);
@@ -744,6 +756,11 @@ public class PdfPage extends PdfObjectWrapper<PdfDictionary> {
             long usedMemory = null == handler ? -1 : handler.getAllMemoryUsedForDecompression();
 
             MemoryLimitsAwareOutputStream baos = new MemoryLimitsAwareOutputStream();
+            if (null != handler && getDocument().getReader() != null
+                    && getDocument().getReader().isConcurrentReading()) {
+                // Concurrent decodings don't update the document handler, so the content is always limited
+                baos.setMaxStreamSize(handler.getMaxSizeOfSingleDecompressedPdfStream());
+            }
             int streamCount = getContentStreamCount();
             byte[] streamBytes;
             for (int i = 0; i < streamCount; i++) {
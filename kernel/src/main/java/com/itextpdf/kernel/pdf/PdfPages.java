@@ -57,21 +57,25 @@ class PdfPages extends PdfObjectWrapper<PdfDictionary> {
         this.from = from;
         this.count = pdfObject.getAsNumber(PdfName.Count);
         this.parent = parent;
+        this.kids = pdfObject.getAsArray(PdfName.Kids);
+        allowModification();
         if (this.count == null) {
             this.count = new PdfNumber(1);
             pdfObject.put(PdfName.Count, this.count);
         } else if (maxCount < this.count.intValue()) {
             this.count.setValue(maxCount);
         }
-        this.kids = pdfObject.getAsArray(PdfName.Kids);
         pdfObject.put(PdfName.Type, PdfName.Pages);
     }
 
     public void addPage(PdfDictionary page) {
         kids.add(page);
         incrementCount();
-        page.put(PdfName.Parent, getPdfObject());
-        page.setModified();
+        // A page shared between threads keeps its original parent, which is enough for reading
+        if (page.isModifiable()) {
+            page.put(PdfName.Parent, getPdfObject());
+            page.setModified();
+        }
     }
 
     public boolean addPage(int index, PdfPage pdfPage) {
@@ -157,4 +161,15 @@ class PdfPages extends PdfObjectWrapper<PdfDictionary> {
     protected boolean isWrappedObjectMustBeIndirect() {
         return true;
     }
+
+    /**
+     * Makes the node modifiable again. In concurrent reading mode the page tree is restructured lazily under
+     * the reader lock, so its nodes are excluded from the immutability of the other read objects.
+     */
+    void allowModification() {
+        getPdfObject().clearState(PdfObject.IMMUTABLE);
+        if (kids != null) {
+            kids.clearState(PdfObject.IMMUTABLE);
+        }
+    }
 }
@@ -362,6 +362,7 @@ class PdfPagesTree {
         if (kids == null) {
             throw new PdfException(KernelExceptionMessageConstant.INVALID_PAGE_STRUCTURE).setMessageParams(pageNum + 1);
         }
+        parent.allowModification();
         int kidsCount = parent.getCount();
 
         // we should handle separated pages, it means every PdfArray kids must contain either PdfPage or PdfPages,
@@ -39,7 +39,9 @@ import com.itextpdf.kernel.exceptions.MemoryLimitsAwareException;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.exceptions.XrefCycledReferencesException;
 import com.itextpdf.kernel.pdf.filters.FilterHandlers;
+import com.itextpdf.kernel.pdf.filters.IByteBufferFilterHandler;
 import com.itextpdf.kernel.pdf.filters.IFilterHandler;
+import com.itextpdf.kernel.pdf.filters.IStreamingFilterHandler;
 import com.itextpdf.kernel.xmp.XMPException;
 import com.itextpdf.kernel.xmp.XMPMeta;
 
@@ -79,6 +81,9 @@ public class PdfReader implements Closeable {
 
     private boolean memorySavingMode;
 
+    // Set once the document is opened in concurrent reading mode, see markReadObjectsImmutable
+    private volatile boolean readObjectsImmutable;
+
     private StrictnessLevel strictnessLevel = DEFAULT_STRICTNESS_LEVEL;
 
     //indicate nearest first Indirect reference object which includes current reading the object, using for PdfString decrypt
@@ -106,6 +111,8 @@ public class PdfReader implements Closeable {
     protected boolean xrefStm = false;
 
     private XMPMeta xmpMeta;
+
+    private ReadObjectsCache objectsCache;
     private PdfConformance pdfConformance;
 
     /**
@@ -238,6 +245,16 @@ public class PdfReader implements Closeable {
         return this;
     }
 
+    /**
+     * Checks whether the reader is in concurrent read-only mode.
+     * See {@link ReaderProperties#setConcurrentReading(boolean)}.
+     *
+     * @return {@code true} if the document can be read from several threads, {@code false} otherwise
+     */
+    public boolean isConcurrentReading() {
+        return properties != null && properties.concurrentReading;
+    }
+
     /**
      * Get the current {@link StrictnessLevel} of the reader.
      *
@@ -380,6 +397,15 @@ public class PdfReader implements Closeable {
      * @throws IOException on error.
      */
     public byte[] readStreamBytesRaw(PdfStream stream) throws IOException {
+        if (isConcurrentReading()) {
+            synchronized (this) {
+                return readStreamBytesRawInternal(stream);
+            }
+        }
+        return readStreamBytesRawInternal(stream);
+    }
+
+    private byte[] readStreamBytesRawInternal(PdfStream stream) throws IOException {
         if (stream == null) {
             throw new PdfException(KernelExceptionMessageConstant.UNABLE_TO_READ_STREAM_BYTES);
         }
@@ -400,35 +426,68 @@ public class PdfReader implements Closeable {
             file.seek(offset);
             bytes = new byte[length];
             file.readFully(bytes);
-            boolean embeddedStream = pdfDocument.doesStreamBelongToEmbeddedFile(stream);
-            if (decrypt != null && (!decrypt.isEmbeddedFilesOnly() || embeddedStream)) {
-                PdfObject filter = stream.get(PdfName.Filter, true);
-                boolean skip = false;
-                if (filter != null) {
-                    if (filter.isFlushed()) {
-                        IndirectFilterUtils.throwFlushedFilterException(stream);
-                    }
-                    if (PdfName.Crypt.equals(filter)) {
-                        skip = true;
-                    } else if (filter.getType() == PdfObject.ARRAY) {
-                        PdfArray filters = (PdfArray) filter;
-                        for (int k = 0; k < filters.size(); k++) {
-                            if (filters.get(k).isFlushed()) {
-                                IndirectFilterUtils.throwFlushedFilterException(stream);
-                            }
-                            if (!filters.isEmpty() && PdfName.Crypt.equals(filters.get(k, true))) {
-                                skip = true;
-                                break;
-                            }
-                        }
-                    }
-                    filter.release();
-                }
-                if (!skip) {
-                    decrypt.setHashKeyForNextObject(stream.getIndirectReference().getObjNumber(), stream.getIndirectReference().getGenNumber());
-                    bytes = decrypt.decryptByteArray(bytes);
-                }
+            bytes = decryptStreamBytes(stream, bytes);
+        } finally {
+            try {
+                file.close();
+            } catch (Exception e) {
+                // ignored
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Reads and decrypt stream bytes into a read-only {@link java.nio.ByteBuffer}.
+     * Note, this method doesn't store actual bytes in any internal structures.
+     *
+     * <p>
+     * If the stream isn't encrypted, the bytes aren't copied whenever the source of the reader allows it:
+     * for documents read from a byte array the buffer shares that array, for memory mapped files
+     * the buffer is a view of the mapped region. Such a view must not be used after the reader is closed.
+     * For files which are mapped in pages a separate map of the stream is created, which is freed when
+     * the buffer is garbage collected.
+     *
+     * @param stream a {@link PdfStream} stream instance to be read
+     * @return the buffer with the raw stream bytes or {@code null} if the stream has no bytes in the source.
+     * @throws IOException on error.
+     */
+    public java.nio.ByteBuffer readStreamByteBufferRaw(PdfStream stream) throws IOException {
+        java.nio.ByteBuffer b;
+        if (isConcurrentReading()) {
+            synchronized (this) {
+                b = readStreamByteBufferRawInternal(stream);
+            }
+        } else {
+            b = readStreamByteBufferRawInternal(stream);
+        }
+        return b != null ? b.asReadOnlyBuffer() : null;
+    }
+
+    private java.nio.ByteBuffer readStreamByteBufferRawInternal(PdfStream stream) throws IOException {
+        if (stream == null) {
+            throw new PdfException(KernelExceptionMessageConstant.UNABLE_TO_READ_STREAM_BYTES);
+        }
+
+        PdfName type = stream.getAsName(PdfName.Type);
+        if (!PdfName.XRef.equals(type) && !PdfName.ObjStm.equals(type)) {
+            checkPdfStreamLength(stream);
+        }
+        long offset = stream.getOffset();
+        if (offset <= 0)
+            return null;
+        int length = stream.getLength();
+        if (length <= 0)
+            return java.nio.ByteBuffer.allocate(0);
+        RandomAccessFileOrArray file = tokens.getSafeFile();
+        try {
+            java.nio.ByteBuffer buffer = file.createByteBufferView(offset, length);
+            if (decrypt != null) {
+                byte[] bytes = new byte[length];
+                buffer.get(bytes);
+                buffer = java.nio.ByteBuffer.wrap(decryptStreamBytes(stream, bytes));
             }
+            return buffer;
         } finally {
             try {
                 file.close();
@@ -436,23 +495,142 @@ public class PdfReader implements Closeable {
                 // ignored
             }
         }
+    }
+
+    private byte[] decryptStreamBytes(PdfStream stream, byte[] bytes) {
+        boolean embeddedStream = pdfDocument.doesStreamBelongToEmbeddedFile(stream);
+        if (decrypt != null && (!decrypt.isEmbeddedFilesOnly() || embeddedStream)) {
+            PdfObject filter = stream.get(PdfName.Filter, true);
+            boolean skip = false;
+            if (filter != null) {
+                if (filter.isFlushed()) {
+                    IndirectFilterUtils.throwFlushedFilterException(stream);
+                }
+                if (PdfName.Crypt.equals(filter)) {
+                    skip = true;
+                } else if (filter.getType() == PdfObject.ARRAY) {
+                    PdfArray filters = (PdfArray) filter;
+                    for (int k = 0; k < filters.size(); k++) {
+                        if (filters.get(k).isFlushed()) {
+                            IndirectFilterUtils.throwFlushedFilterException(stream);
+                        }
+                        if (!filters.isEmpty() && PdfName.Crypt.equals(filters.get(k, true))) {
+                            skip = true;
+                            break;
+                        }
+                    }
+                }
+                filter.release();
+            }
+            if (!skip) {
+                decrypt.setHashKeyForNextObject(stream.getIndirectReference().getObjNumber(), stream.getIndirectReference().getGenNumber());
+                bytes = decrypt.decryptByteArray(bytes);
+            }
+        }
         return bytes;
     }
 
     /**
-     * Reads, decrypts and optionally decodes stream bytes into {@link ByteArrayInputStream}.
+     * Reads, decrypts and optionally decodes stream bytes into {@link InputStream}.
      * User is responsible for closing returned stream.
      *
+     * <p>
+     * If all the filters of the stream are handled by {@link IStreamingFilterHandler}s, the stream is decoded
+     * lazily while it is read: neither the raw bytes of unencrypted streams nor the decoded bytes are held in memory
+     * as a whole. Such a stream reads from the source of this reader, so it must be consumed before the reader is
+     * closed. Otherwise the stream is decoded in memory with {@link #readStreamBytes(PdfStream, boolean)}.
+     *
      * @param stream a {@link PdfStream} stream instance to be read
      * @param decode true if to get decoded stream, false if to leave it originally encoded.
      * @return InputStream or {@code null} if reading was failed.
      * @throws IOException on error.
      */
     public InputStream readStream(PdfStream stream, boolean decode) throws IOException {
+        if (decode && stream != null && isStreamingDecodingSupported(stream, FilterHandlers.getDefaultFilterHandlers())) {
+            InputStream raw = readStreamRaw(stream);
+            return raw != null ? createDecodingStream(raw, stream, FilterHandlers.getDefaultFilterHandlers()) : null;
+        }
         byte[] bytes = readStreamBytes(stream, decode);
         return bytes != null ? new ByteArrayInputStream(bytes) : null;
     }
 
+    private InputStream readStreamRaw(PdfStream stream) throws IOException {
+        if (isConcurrentReading()) {
+            synchronized (this) {
+                return readStreamRawInternal(stream);
+            }
+        }
+        return readStreamRawInternal(stream);
+    }
+
+    private InputStream readStreamRawInternal(PdfStream stream) throws IOException {
+        if (decrypt != null) {
+            byte[] bytes = readStreamBytesRawInternal(stream);
+            return bytes != null ? new ByteArrayInputStream(bytes) : null;
+        }
+        PdfName type = stream.getAsName(PdfName.Type);
+        if (!PdfName.XRef.equals(type) && !PdfName.ObjStm.equals(type)) {
+            checkPdfStreamLength(stream);
+        }
+        long offset = stream.getOffset();
+        if (offset <= 0)
+            return null;
+        int length = stream.getLength();
+        if (length <= 0)
+            return new ByteArrayInputStream(new byte[0]);
+        return new RASInputStream(new WindowRandomAccessSource(tokens.getSafeFile().createSourceView(), offset, length));
+    }
+
+    private static boolean isStreamingDecodingSupported(PdfDictionary streamDictionary,
+            Map<PdfName, IFilterHandler> filterHandlers) {
+        PdfArray filters = getFilters(streamDictionary);
+        for (int j = 0; j < filters.size(); ++j) {
+            if (!(getFilterHandler(filterHandlers, (PdfName) filters.get(j)) instanceof IStreamingFilterHandler)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static InputStream createDecodingStream(InputStream encoded, PdfDictionary streamDictionary,
+            Map<PdfName, IFilterHandler> filterHandlers) {
+        PdfArray filters = getFilters(streamDictionary);
+
+        MemoryLimitsAwareHandler memoryLimitsAwareHandler = getDecompressionMemoryLimitsAwareHandler(streamDictionary);
+        // The bytes are counted while they are read, so the limits are enforced before the stream is fully decoded
+        final boolean memoryLimitsAwarenessRequired = null != memoryLimitsAwareHandler &&
+                memoryLimitsAwareHandler.isMemoryLimitsAwarenessRequiredOnDecompression(filters);
+
+        PdfArray dp = getDecodeParamsArray(streamDictionary);
+        InputStream decoded = encoded;
+        for (int j = 0; j < filters.size(); ++j) {
+            PdfName filterName = (PdfName) filters.get(j);
+            IStreamingFilterHandler filterHandler =
+                    (IStreamingFilterHandler) getFilterHandler(filterHandlers, filterName);
+            decoded = filterHandler.createDecodingStream(decoded, filterName, getDecodeParams(dp, j), streamDictionary);
+            if (memoryLimitsAwarenessRequired) {
+                decoded = new MemoryLimitsAwareInputStream(decoded,
+                        memoryLimitsAwareHandler.getMaxSizeOfSingleDecompressedPdfStream(),
+                        j == filters.size() - 1 ? memoryLimitsAwareHandler : null);
+            }
+        }
+        return decoded;
+    }
+
+    private static MemoryLimitsAwareHandler getDecompressionMemoryLimitsAwareHandler(PdfDictionary streamDictionary) {
+        if (null == streamDictionary.getIndirectReference()) {
+            return null;
+        }
+        PdfDocument document = streamDictionary.getIndirectReference().getDocument();
+        MemoryLimitsAwareHandler memoryLimitsAwareHandler = document.memoryLimitsAwareHandler;
+        if (memoryLimitsAwareHandler != null && document.getReader() != null
+                && document.getReader().isConcurrentReading()) {
+            // The handler tracks the decompressed bytes, so concurrent decodings can't share it
+            return memoryLimitsAwareHandler.createNewInstance();
+        }
+        return memoryLimitsAwareHandler;
+    }
+
     /**
      * Decode bytes applying the filters specified in the provided dictionary using default filter handlers.
      *
@@ -478,20 +656,47 @@ public class PdfReader implements Closeable {
         if (b == null) {
             return null;
         }
-        PdfObject filter = streamDictionary.get(PdfName.Filter);
-        PdfArray filters = new PdfArray();
-        if (filter != null) {
-            if (filter.getType() == PdfObject.NAME) {
-                filters.add(filter);
-            } else if (filter.getType() == PdfObject.ARRAY) {
-                filters = ((PdfArray) filter);
-            }
-        }
+        return decodeBytes(b, null, streamDictionary, filterHandlers);
+    }
 
-        MemoryLimitsAwareHandler memoryLimitsAwareHandler = null;
-        if (null != streamDictionary.getIndirectReference()) {
-            memoryLimitsAwareHandler = streamDictionary.getIndirectReference().getDocument().memoryLimitsAwareHandler;
+    /**
+     * Decode the remaining bytes of a buffer applying the filters specified in the provided dictionary
+     * using default filter handlers.
+     *
+     * @param b                the buffer with the bytes to decode
+     * @param streamDictionary the dictionary that contains filter information
+     * @return the decoded bytes
+     * @throws PdfException if there are any problems decoding the bytes
+     */
+    public static byte[] decodeBytes(java.nio.ByteBuffer b, PdfDictionary streamDictionary) {
+        return decodeBytes(b, streamDictionary, FilterHandlers.getDefaultFilterHandlers());
+    }
+
+    /**
+     * Decode the remaining bytes of a buffer applying the filters specified in the provided dictionary
+     * using the provided filter handlers. The first filter decodes directly from the buffer if its handler
+     * is an {@link IByteBufferFilterHandler}, otherwise the bytes are copied to an array first.
+     * The position and the limit of the buffer are not changed.
+     *
+     * @param b                the buffer with the bytes to decode
+     * @param streamDictionary the dictionary that contains filter information
+     * @param filterHandlers   the map used to look up a handler for each type of filter
+     * @return the decoded bytes
+     * @throws PdfException if there are any problems decoding the bytes
+     */
+    public static byte[] decodeBytes(java.nio.ByteBuffer b, PdfDictionary streamDictionary,
+            Map<PdfName, IFilterHandler> filterHandlers) {
+        if (b == null) {
+            return null;
         }
+        return decodeBytes(null, b, streamDictionary, filterHandlers);
+    }
+
+    private static byte[] decodeBytes(byte[] b, java.nio.ByteBuffer buffer, PdfDictionary streamDictionary,
+            Map<PdfName, IFilterHandler> filterHandlers) {
+        PdfArray filters = getFilters(streamDictionary);
+
+        MemoryLimitsAwareHandler memoryLimitsAwareHandler = getDecompressionMemoryLimitsAwareHandler(streamDictionary);
 
         final boolean memoryLimitsAwarenessRequired = null != memoryLimitsAwareHandler &&
                 memoryLimitsAwareHandler.isMemoryLimitsAwarenessRequiredOnDecompression(filters);
@@ -500,6 +705,45 @@ public class PdfReader implements Closeable {
             memoryLimitsAwareHandler.beginDecompressedPdfStreamProcessing();
         }
 
+        PdfArray dp = getDecodeParamsArray(streamDictionary);
+        for (int j = 0; j < filters.size(); ++j) {
+            PdfName filterName = (PdfName) filters.get(j);
+            IFilterHandler filterHandler = getFilterHandler(filterHandlers, filterName);
+            PdfDictionary decodeParams = getDecodeParams(dp, j);
+            if (buffer == null) {
+                b = filterHandler.decode(b, filterName, decodeParams, streamDictionary);
+            } else if (filterHandler instanceof IByteBufferFilterHandler) {
+                b = ((IByteBufferFilterHandler) filterHandler).decode(buffer, filterName, decodeParams,
+                        streamDictionary);
+                buffer = null;
+            } else {
+                b = filterHandler.decode(toByteArray(buffer), filterName, decodeParams, streamDictionary);
+                buffer = null;
+            }
+            if (memoryLimitsAwarenessRequired) {
+                memoryLimitsAwareHandler.considerBytesOccupiedByDecompressedPdfStream(b.length);
+            }
+        }
+        if (memoryLimitsAwarenessRequired) {
+            memoryLimitsAwareHandler.endDecompressedPdfStreamProcessing();
+        }
+        return buffer == null ? b : toByteArray(buffer);
+    }
+
+    private static PdfArray getFilters(PdfDictionary streamDictionary) {
+        PdfObject filter = streamDictionary.get(PdfName.Filter);
+        PdfArray filters = new PdfArray();
+        if (filter != null) {
+            if (filter.getType() == PdfObject.NAME) {
+                filters.add(filter);
+            } else if (filter.getType() == PdfObject.ARRAY) {
+                filters = ((PdfArray) filter);
+            }
+        }
+        return filters;
+    }
+
+    private static PdfArray getDecodeParamsArray(PdfDictionary streamDictionary) {
         PdfArray dp = new PdfArray();
         PdfObject dpo = streamDictionary.get(PdfName.DecodeParms);
         if (dpo == null || (dpo.getType() != PdfObject.DICTIONARY && dpo.getType() != PdfObject.ARRAY)) {
@@ -514,36 +758,40 @@ public class PdfReader implements Closeable {
             }
             dpo.release();
         }
-        for (int j = 0; j < filters.size(); ++j) {
-            PdfName filterName = (PdfName) filters.get(j);
-            IFilterHandler filterHandler = filterHandlers.get(filterName);
-            if (filterHandler == null)
-                throw new PdfException(KernelExceptionMessageConstant.THIS_FILTER_IS_NOT_SUPPORTED)
-                        .setMessageParams(filterName);
-
-            PdfDictionary decodeParams;
-            if (j < dp.size()) {
-                PdfObject dpEntry = dp.get(j, true);
-                if (dpEntry == null || dpEntry.getType() == PdfObject.NULL) {
-                    decodeParams = null;
-                } else if (dpEntry.getType() == PdfObject.DICTIONARY) {
-                    decodeParams = (PdfDictionary) dpEntry;
-                } else {
-                    throw new PdfException(KernelExceptionMessageConstant.THIS_DECODE_PARAMETER_TYPE_IS_NOT_SUPPORTED)
-                            .setMessageParams(dpEntry.getClass().toString());
-                }
-            } else {
-                decodeParams = null;
-            }
-            b = filterHandler.decode(b, filterName, decodeParams, streamDictionary);
-            if (memoryLimitsAwarenessRequired) {
-                memoryLimitsAwareHandler.considerBytesOccupiedByDecompressedPdfStream(b.length);
-            }
+        return dp;
+    }
+
+    private static IFilterHandler getFilterHandler(Map<PdfName, IFilterHandler> filterHandlers, PdfName filterName) {
+        IFilterHandler filterHandler = filterHandlers.get(filterName);
+        if (filterHandler == null)
+            throw new PdfException(KernelExceptionMessageConstant.THIS_FILTER_IS_NOT_SUPPORTED)
+                    .setMessageParams(filterName);
+        return filterHandler;
+    }
+
+    private static PdfDictionary getDecodeParams(PdfArray dp, int filterIndex) {
+        if (filterIndex >= dp.size()) {
+            return null;
         }
-        if (memoryLimitsAwarenessRequired) {
-            memoryLimitsAwareHandler.endDecompressedPdfStreamProcessing();
+        PdfObject dpEntry = dp.get(filterIndex, true);
+        if (dpEntry == null || dpEntry.getType() == PdfObject.NULL) {
+            return null;
+        } else if (dpEntry.getType() == PdfObject.DICTIONARY) {
+            return (PdfDictionary) dpEntry;
+        } else {
+            throw new PdfException(KernelExceptionMessageConstant.THIS_DECODE_PARAMETER_TYPE_IS_NOT_SUPPORTED)
+                    .setMessageParams(dpEntry.getClass().toString());
         }
-        return b;
+    }
+
+    private static byte[] toByteArray(java.nio.ByteBuffer buffer) {
+        if (buffer.hasArray() && buffer.arrayOffset() == 0 && buffer.position() == 0
+                && buffer.remaining() == buffer.array().length) {
+            return buffer.array();
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
     }
 
     /**
@@ -822,6 +1070,10 @@ public class PdfReader implements Closeable {
 
                     continue;
                 }
+                if (objectsCache != null && objectsCache.restoreReleasedObject(reference)) {
+                    // The released object is still used, so the read copy would lose its changes
+                    continue;
+                }
                 if (tokens.getTokenType() == PdfTokenizer.TokenType.Number) {
                     // This ensure that we don't even try to read as indirect reference token (two numbers and "R")
                     // which are forbidden in object streams.
@@ -830,8 +1082,14 @@ public class PdfReader implements Closeable {
                     tokens.seek(address[k]);
                     obj = readObject(false, true);
                 }
+                if (readObjectsImmutable) {
+                    markImmutable(obj);
+                }
                 reference.setRefersTo(obj);
                 obj.setIndirectReference(reference);
+                if (objectsCache != null) {
+                    objectsCache.objectRead(reference);
+                }
             }
             objectStream.getIndirectReference().setState(PdfObject.ORIGINAL_OBJECT_STREAM);
         } finally {
@@ -840,7 +1098,23 @@ public class PdfReader implements Closeable {
     }
 
     protected PdfObject readObject(PdfIndirectReference reference) {
-        return readObject(reference, true);
+        if (isConcurrentReading()) {
+            synchronized (this) {
+                return readObjectConcurrently(reference);
+            }
+        }
+        if (objectsCache != null && objectsCache.restoreReleasedObject(reference)) {
+            PdfObject restored = reference.refersTo;
+            objectsCache.releaseExcessObjects();
+            return restored;
+        }
+        PdfObject object = readObject(reference, true);
+        if (objectsCache != null && object != null) {
+            reference.setRefersTo(object);
+            objectsCache.objectRead(reference);
+            objectsCache.releaseExcessObjects();
+        }
+        return object;
     }
 
     protected PdfObject readObject(boolean readAsDirect) throws IOException {
@@ -1116,14 +1390,18 @@ public class PdfReader implements Closeable {
                     end--;
                     continue;
                 }
-                PdfIndirectReference reference = xref.get(num);
+                PdfIndirectReference reference = xref.getIfCreated(num);
                 boolean refReadingState = reference != null && reference.checkState(PdfObject.READING) && reference.getGenNumber() == gen;
                 // for references that are added by xref table itself (like 0 entry)
-                boolean refFirstEncountered = reference == null
-                        || !refReadingState && reference.getDocument() == null;
+                boolean refFirstEncountered = reference == null ? !xref.containsCompactEntry(num)
+                        : !refReadingState && reference.getDocument() == null;
+                // the reference instance is created on demand if the xref table is compact
+                boolean storeCompactly = refFirstEncountered && reference == null && xref.isCompact();
 
                 if (refFirstEncountered) {
-                    reference = new PdfIndirectReference(pdfDocument, num, gen, pos);
+                    if (!storeCompactly) {
+                        reference = new PdfIndirectReference(pdfDocument, num, gen, pos);
+                    }
                 } else if (refReadingState) {
                     reference.setOffset(pos);
                     reference.clearState(PdfObject.READING);
@@ -1131,13 +1409,15 @@ public class PdfReader implements Closeable {
                     continue;
                 }
 
+                byte entryType = CompactXrefEntries.IN_USE;
                 if (tokens.tokenValueEqualsTo(PdfTokenizer.N)) {
                     if (pos == 0) {
                         tokens.throwError(
                                 KernelExceptionMessageConstant.FILE_POSITION_0_CROSS_REFERENCE_ENTRY_IN_THIS_XREF_SUBSECTION);
                     }
                 } else if (tokens.tokenValueEqualsTo(PdfTokenizer.F)) {
-                    if (refFirstEncountered) {
+                    entryType = CompactXrefEntries.FREE;
+                    if (refFirstEncountered && !storeCompactly) {
                         reference.setState(PdfObject.FREE);
                     }
                 } else {
@@ -1145,7 +1425,9 @@ public class PdfReader implements Closeable {
                             KernelExceptionMessageConstant.INVALID_CROSS_REFERENCE_ENTRY_IN_THIS_XREF_SUBSECTION);
                 }
 
-                if (refFirstEncountered) {
+                if (storeCompactly) {
+                    xref.addCompactEntry(num, entryType, pos, gen);
+                } else if (refFirstEncountered) {
                     xref.add(reference);
                 }
             }
@@ -1247,33 +1529,53 @@ public class PdfReader implements Closeable {
                         field3 = (field3 << 8) + (b[bptr++] & 0xff);
                     }
                     int base = start;
-                    PdfIndirectReference newReference;
+                    int gen;
+                    long offset;
+                    int objStmNumber = 0;
+                    byte entryType;
                     switch (type) {
                         case 0:
-                            newReference = (PdfIndirectReference) new PdfIndirectReference(pdfDocument, base, field3, field2).setState(PdfObject.FREE);
+                            gen = field3;
+                            offset = field2;
+                            entryType = CompactXrefEntries.FREE;
                             break;
                         case 1:
-                            newReference = new PdfIndirectReference(pdfDocument, base, field3, field2);
+                            gen = field3;
+                            offset = field2;
+                            entryType = CompactXrefEntries.IN_USE;
                             break;
                         case 2:
-                            newReference = new PdfIndirectReference(pdfDocument, base, 0, field3);
-                            newReference.setObjStreamNumber((int) field2);
+                            gen = 0;
+                            offset = field3;
+                            objStmNumber = (int) field2;
+                            entryType = CompactXrefEntries.COMPRESSED;
                             break;
                         default:
                             throw new PdfException(KernelExceptionMessageConstant.INVALID_XREF_STREAM);
                     }
 
-                    PdfIndirectReference reference = xref.get(base);
-                    boolean refReadingState = reference != null && reference.checkState(PdfObject.READING) && reference.getGenNumber() == newReference.getGenNumber();
+                    PdfIndirectReference reference = xref.getIfCreated(base);
+                    boolean refReadingState = reference != null && reference.checkState(PdfObject.READING) && reference.getGenNumber() == gen;
                     // for references that are added by xref table itself (like 0 entry)
-                    boolean refFirstEncountered = reference == null
-                            || !refReadingState && reference.getDocument() == null;
+                    boolean refFirstEncountered = reference == null ? !xref.containsCompactEntry(base)
+                            : !refReadingState && reference.getDocument() == null;
 
                     if (refFirstEncountered) {
-                        xref.add(newReference);
+                        if (reference == null && xref.isCompact()) {
+                            // the reference instance is created on demand
+                            xref.addCompactEntry(base, entryType, offset, type == 2 ? objStmNumber : gen);
+                        } else {
+                            PdfIndirectReference newReference = new PdfIndirectReference(pdfDocument, base, gen, offset);
+                            if (type == 0) {
+                                newReference.setState(PdfObject.FREE);
+                            } else if (type == 2) {
+                                newReference.setObjStreamNumber(objStmNumber);
+                            }
+                            xref.add(newReference);
+                        }
                     } else if (refReadingState) {
-                        reference.setOffset(newReference.getOffset());
-                        reference.setObjStreamNumber(newReference.getObjStreamNumber());
+                        reference.setOffset(offset);
+                        reference.setObjStreamNumber(objStmNumber);
                         reference.clearState(PdfObject.READING);
                     }
                     ++start;
@@ -1422,6 +1724,27 @@ public class PdfReader implements Closeable {
         return memorySavingMode;
     }
 
+    /**
+     * Starts tracking of the read objects if the object cache policy is set in the reader properties.
+     * Shall be called once the document is opened in reading mode.
+     */
+    void initObjectsCache() {
+        if (properties != null && !properties.concurrentReading
+                && (properties.objectCacheSize > 0 || properties.releaseObjectsOnLowMemory)) {
+            objectsCache = new ReadObjectsCache(properties.objectCacheSize, properties.releaseObjectsOnLowMemory);
+        }
+    }
+
+    ReadObjectsCache getObjectsCache() {
+        return objectsCache;
+    }
+
+    void objectAccessed(PdfIndirectReference reference) {
+        if (objectsCache != null) {
+            objectsCache.objectAccessed(reference);
+        }
+    }
+
     void setXrefProcessor(XrefProcessor xrefProcessor) {
         this.xrefProcessor = xrefProcessor;
     }
@@ -1508,6 +1831,72 @@ public class PdfReader implements Closeable {
         }
     }
 
+    private PdfObject readObjectConcurrently(PdfIndirectReference reference) {
+        if (reference == null) {
+            return null;
+        }
+        if (reference.refersTo != null) {
+            return reference.refersTo;
+        }
+        PdfObject object = readObject(reference, true);
+        if (object != null && reference.refersTo == null) {
+            if (readObjectsImmutable) {
+                // The length is corrected in advance, because no object can be modified after it's published
+                if (object.isStream()) {
+                    try {
+                        checkPdfStreamLength((PdfStream) object);
+                    } catch (IOException e) {
+                        throw new PdfException(KernelExceptionMessageConstant.CANNOT_READ_PDF_OBJECT, e);
+                    }
+                }
+                markImmutable(object);
+            }
+            // Published under the lock, so that the other threads don't read the same object once more
+            reference.refersTo = object;
+        }
+        return object;
+    }
+
+    /**
+     * Makes the objects which have been read so far and all the objects read later immutable. Called in concurrent
+     * reading mode once the document is opened, as the objects are shared between threads from then on.
+     */
+    void markReadObjectsImmutable() {
+        PdfXrefTable xref = pdfDocument.getXref();
+        for (int i = 0; i < xref.size(); ++i) {
+            PdfIndirectReference reference = xref.getIfCreated(i);
+            if (reference != null && reference.refersTo != null) {
+                markImmutable(reference.refersTo);
+            }
+        }
+        readObjectsImmutable = true;
+    }
+
+    private static void markImmutable(PdfObject object) {
+        if (!object.isModifiable()) {
+            return;
+        }
+        if (object.isDictionary() || object.isStream()) {
+            object.setState(PdfObject.IMMUTABLE);
+            for (PdfObject value : ((PdfDictionary) object).values(false)) {
+                markImmutableIfDirect(value);
+            }
+        } else if (object.isArray()) {
+            object.setState(PdfObject.IMMUTABLE);
+            PdfArray array = (PdfArray) object;
+            for (int i = 0; i < array.size(); ++i) {
+                markImmutableIfDirect(array.get(i, false));
+            }
+        }
+    }
+
+    private static void markImmutableIfDirect(PdfObject object) {
+        // Indirect objects might be put directly instead of their references, they are marked on their own
+        if (object.getIndirectReference() == null) {
+            markImmutable(object);
+        }
+    }
+
     private void checkPdfStreamLength(PdfStream pdfStream) throws IOException {
         if (!correctStreamLength)
             return;
@@ -92,6 +92,26 @@ public class PdfRevisionsReader {
         return documentRevisions;
     }
 
+    /**
+     * Creates {@link PdfReader} for the document as it was at the given revision.
+     * <p>
+     * The created reader works directly on the bytes of the original document limited by the end of the revision,
+     * so neither the whole document nor the revision is copied. Closing the created reader doesn't close
+     * the original one.
+     *
+     * @param revision {@link DocumentRevision} to create reader for
+     *
+     * @return {@link PdfReader} instance, which shall be closed by the caller
+     *
+     * @throws IOException in case of input-output related exceptions during PDF document reading
+     */
+    public PdfReader createRevisionReader(DocumentRevision revision) throws IOException {
+        RandomAccessFileOrArray raf = reader.getSafeFile();
+        WindowRandomAccessSource source = new WindowRandomAccessSource(
+                raf.createSourceView(), 0, revision.getEofOffset());
+        return new PdfReader(source, reader.getPropertiesCopy());
+    }
+
     static class RevisionsXrefProcessor extends XrefProcessor {
         private final List<DocumentRevision> documentRevisions = new ArrayList<>();
 
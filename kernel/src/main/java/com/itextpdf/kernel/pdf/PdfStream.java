@@ -254,6 +254,37 @@ public class PdfStream extends PdfDictionary {
         return bytes;
     }
 
+    /**
+     * Gets raw (not decoded) stream bytes as a read-only {@link java.nio.ByteBuffer}.
+     *
+     * <p>
+     * For the streams which are read from a document and aren't encrypted, the bytes are not copied
+     * if the source of the {@link PdfReader} allows it, e.g. the buffer is a view of the memory mapped file.
+     * Such a view must not be used after the reader is closed. The buffer can be decoded without copying it
+     * with {@link PdfReader#decodeBytes(java.nio.ByteBuffer, PdfDictionary)}.
+     *
+     * @return raw byte content of the {@code PdfStream}. Byte content will be {@code null},
+     * if the {@code PdfStream} was created by {@code InputStream}.
+     */
+    public java.nio.ByteBuffer getRawByteBuffer() {
+        if (isFlushed()) {
+            throw new PdfException(KernelExceptionMessageConstant.CANNOT_OPERATE_WITH_FLUSHED_PDF_STREAM);
+        }
+        if (inputStream == null && (outputStream == null || outputStream.getOutputStream() == null)
+                && getIndirectReference() != null) {
+            PdfReader reader = getIndirectReference().getReader();
+            if (reader != null) {
+                try {
+                    return reader.readStreamByteBufferRaw(this);
+                } catch (IOException ioe) {
+                    throw new PdfException(KernelExceptionMessageConstant.CANNOT_GET_PDF_STREAM_BYTES, ioe, this);
+                }
+            }
+        }
+        byte[] bytes = getBytes(false);
+        return bytes != null ? java.nio.ByteBuffer.wrap(bytes).asReadOnlyBuffer() : null;
+    }
+
     /**
      * Sets <code>bytes</code> as stream's content.
      * Could not be used with streams which were created by <code>InputStream</code>.
@@ -277,6 +308,7 @@ public class PdfStream extends PdfDictionary {
      *               rather then replace original content. The original content will be decoded if needed.  
      */
     public void setData(byte[] bytes, boolean append) {
+        checkModificationAllowed();
         if (isFlushed()) {
             throw new PdfException(KernelExceptionMessageConstant.CANNOT_OPERATE_WITH_FLUSHED_PDF_STREAM);
         }
@@ -38,6 +38,7 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -47,6 +48,7 @@ import org.slf4j.LoggerFactory;
 public class PdfWriter extends PdfOutputStream {
     private static final byte[] OBJ = ByteUtils.getIsoBytes(" obj\n");
     private static final byte[] ENDOBJ = ByteUtils.getIsoBytes("\nendobj\n");
+    private static final int MAX_DEFERRED_OBJECTS = 64;
 
     protected WriterProperties properties;
     //forewarned is forearmed
@@ -66,6 +68,10 @@ public class PdfWriter extends PdfOutputStream {
      * Is used in smart mode to serialize and store serialized objects content.
      */
     private final SmartModePdfObjectsSerializer smartModeSerializer = new SmartModePdfObjectsSerializer();
+    /**
+     * Objects waiting to be written to the body while the compression of a stream is in progress.
+     */
+    private final LinkedList<PdfObject> deferredObjects = new LinkedList<>();
     private OutputStream originalOutputStream;
 
     /**
@@ -242,36 +248,46 @@ public class PdfWriter extends PdfOutputStream {
      */
     protected void flushObject(PdfObject pdfObject, boolean canBeInObjStm) {
         PdfIndirectReference indirectReference = pdfObject.getIndirectReference();
+        boolean deferred = false;
         if (isFullCompression() && canBeInObjStm) {
             PdfObjectStream objectStream = getObjectStream();
             objectStream.addObject(pdfObject);
+        } else if (properties.compressionExecutor != null) {
+            if (pdfObject.isStream() && scheduleCompression((PdfStream) pdfObject, properties.compressionExecutor)) {
+                deferred = true;
+            } else if (pdfObject instanceof PdfObjectStream) {
+                // Object stream buffers are reused by the next object stream, so it can't wait in the queue
+                writeDeferredObjects();
+            } else {
+                deferred = !deferredObjects.isEmpty();
+            }
+            if (!deferred) {
+                indirectReference.setOffset(getCurrentPos());
+                writeToBody(pdfObject);
+            }
         } else {
             indirectReference.setOffset(getCurrentPos());
             writeToBody(pdfObject);
         }
         indirectReference.setState(PdfObject.FLUSHED).clearState(PdfObject.MUST_BE_FLUSHED);
+        // The content is marked right away, so that the objects are flushed in the same order as without deferring
         switch (pdfObject.getType()) {
-            case PdfObject.BOOLEAN:
-            case PdfObject.NAME:
-            case PdfObject.NULL:
-            case PdfObject.NUMBER:
-            case PdfObject.STRING:
-                ((PdfPrimitiveObject) pdfObject).content = null;
-                break;
             case PdfObject.ARRAY:
-                PdfArray array = ((PdfArray) pdfObject);
-                markArrayContentToFlush(array);
-                array.releaseContent();
+                markArrayContentToFlush((PdfArray) pdfObject);
                 break;
             case PdfObject.STREAM:
             case PdfObject.DICTIONARY:
-                PdfDictionary dictionary = ((PdfDictionary) pdfObject);
-                markDictionaryContentToFlush(dictionary);
-                dictionary.releaseContent();
+                markDictionaryContentToFlush((PdfDictionary) pdfObject);
                 break;
             case PdfObject.INDIRECT_REFERENCE:
                 markObjectToFlush(((PdfIndirectReference) pdfObject).getRefersTo(false));
         }
+        if (deferred) {
+            deferredObjects.addLast(pdfObject);
+            writeDeferredObjects(false);
+        } else {
+            releaseContent(pdfObject);
+        }
     }
 
     /**
@@ -502,6 +518,48 @@ public class PdfWriter extends PdfOutputStream {
         return originalOutputStream != null;
     }
 
+    /**
+     * Writes all the objects which have been deferred until the compression of a stream is finished.
+     * Must be called before the current position of the writer is used, e.g. before writing the cross-reference
+     * table.
+     */
+    void writeDeferredObjects() {
+        writeDeferredObjects(true);
+    }
+
+    private void writeDeferredObjects(boolean waitForCompression) {
+        while (!deferredObjects.isEmpty()) {
+            PdfObject pdfObject = deferredObjects.getFirst();
+            if (!waitForCompression && deferredObjects.size() <= MAX_DEFERRED_OBJECTS
+                    && isCompressionInProgress(pdfObject)) {
+                break;
+            }
+            deferredObjects.removeFirst();
+            pdfObject.getIndirectReference().setOffset(getCurrentPos());
+            writeToBody(pdfObject);
+            releaseContent(pdfObject);
+        }
+    }
+
+    private static void releaseContent(PdfObject pdfObject) {
+        switch (pdfObject.getType()) {
+            case PdfObject.BOOLEAN:
+            case PdfObject.NAME:
+            case PdfObject.NULL:
+            case PdfObject.NUMBER:
+            case PdfObject.STRING:
+                ((PdfPrimitiveObject) pdfObject).content = null;
+                break;
+            case PdfObject.ARRAY:
+                ((PdfArray) pdfObject).releaseContent();
+                break;
+            case PdfObject.STREAM:
+            case PdfObject.DICTIONARY:
+                ((PdfDictionary) pdfObject).releaseContent();
+                break;
+        }
+    }
+
     private void markArrayContentToFlush(PdfArray array) {
         for (int i = 0; i < array.size(); i++) {
             markObjectToFlush(array.get(i, false));
@@ -61,11 +61,21 @@ public class PdfXrefTable {
     private static final byte[] freeXRefEntry = ByteUtils.getIsoBytes("f \n");
     private static final byte[] inUseXRefEntry = ByteUtils.getIsoBytes("n \n");
 
+    /**
+     * The references by object numbers, {@code null} if the compact storage of entries is used.
+     */
     private PdfIndirectReference[] xref;
     private int count = 0;
     private boolean readingCompleted;
     private MemoryLimitsAwareHandler memoryLimitsAwareHandler;
 
+    /**
+     * Entries read from the document for which no {@link PdfIndirectReference} has been created yet together with
+     * the created references, {@code null} if the compact storage of entries isn't used.
+     */
+    private CompactXrefEntries compactEntries;
+    private PdfDocument compactEntriesDocument;
+
     /**
      * Free references linked list is stored in a form of a map, where:
      * key - free reference obj number;
@@ -141,7 +151,7 @@ public class PdfXrefTable {
         int objNr = reference.getObjNumber();
         this.count = Math.max(this.count, objNr);
         ensureCount(objNr);
-        xref[objNr] = reference;
+        setStoredReference(objNr, reference);
         return reference;
     }
 
@@ -162,10 +172,17 @@ public class PdfXrefTable {
     public int getCountOfIndirectObjects() {
         int countOfIndirectObjects = 0;
 
-        for (final PdfIndirectReference ref: xref) {
+        for (int i = 0; i < getCapacity(); i++) {
+            final PdfIndirectReference ref = getStoredReference(i);
             if (ref != null && ! ref.isFree()) {
                 countOfIndirectObjects++;
             }
+            if (compactEntries != null) {
+                byte type = compactEntries.getType(i);
+                if (type == CompactXrefEntries.IN_USE || type == CompactXrefEntries.COMPRESSED) {
+                    countOfIndirectObjects++;
+                }
+            }
         }
 
         return countOfIndirectObjects;
@@ -181,6 +198,11 @@ public class PdfXrefTable {
         if (index > count) {
             return null;
         }
+        if (compactEntries != null) {
+            // Created references are read without locking, only the creation of a reference is synchronized
+            PdfIndirectReference reference = compactEntries.getReference(index);
+            return reference != null ? reference : getOrCreateReferenceFromCompactEntry(index);
+        }
         return xref[index];
     }
 
@@ -232,7 +254,7 @@ public class PdfXrefTable {
      * @return the capacity of xref stream.
      */
     protected int getCapacity() {
-        return xref.length;
+        return compactEntries != null ? compactEntries.getCapacity() : xref.length;
     }
 
     /**
@@ -241,7 +263,7 @@ public class PdfXrefTable {
      * @param capacity is a new capacity to set
      */
     protected void setCapacity(int capacity) {
-        if (capacity > xref.length) {
+        if (capacity > getCapacity()) {
             extendXref(capacity);
         }
     }
@@ -256,10 +278,11 @@ public class PdfXrefTable {
      */
     protected void writeXrefTableAndTrailer(PdfDocument document, PdfObject fileId, PdfObject crypto) throws IOException {
         PdfWriter writer = document.getWriter();
+        writer.writeDeferredObjects();
 
         if (!document.properties.appendMode) {
             for (int i = count; i > 0; --i) {
-                PdfIndirectReference lastRef = xref[i];
+                PdfIndirectReference lastRef = get(i);
                 if (lastRef == null || lastRef.isFree()) {
                     removeFreeRefFromList(i);
                     --count;
@@ -334,6 +357,7 @@ public class PdfXrefTable {
                 }
             }
             xrefStream.flush();
+            writer.writeDeferredObjects();
             xRefStmPos = startxref;
         }
 
@@ -426,6 +450,83 @@ public class PdfXrefTable {
         return readingCompleted;
     }
 
+    /**
+     * Enables the compact storage of the entries read from the document. With it the reader stores the entries
+     * in primitive form and {@link PdfIndirectReference} instances are created only when they are requested
+     * by {@link #get(int)}.
+     *
+     * @param document the document the references are created for
+     * @param offHeap  whether the entries should be stored outside of the java heap
+     */
+    void useCompactEntries(PdfDocument document, boolean offHeap) {
+        compactEntriesDocument = document;
+        compactEntries = new CompactXrefEntries(xref.length, offHeap);
+        for (int i = 0; i < xref.length; i++) {
+            if (xref[i] != null) {
+                compactEntries.setReference(i, xref[i]);
+            }
+        }
+        // The references are kept in chunks which are allocated only for the object numbers in use
+        xref = null;
+    }
+
+    /**
+     * Checks whether the entries read from the document are stored compactly.
+     *
+     * @return true if the compact storage of entries is used, false otherwise
+     */
+    boolean isCompact() {
+        return compactEntries != null;
+    }
+
+    /**
+     * Gets the reference with the given number if its instance is already created. Unlike {@link #get(int)},
+     * doesn't create references for the compactly stored entries.
+     *
+     * @param index the object number
+     * @return the reference or {@code null} if there is no reference instance for the object number
+     */
+    PdfIndirectReference getIfCreated(int index) {
+        if (index > count) {
+            return null;
+        }
+        return getStoredReference(index);
+    }
+
+    /**
+     * Releases the memory of the compactly stored entries. The entries stored outside of the java heap
+     * are freed right away instead of waiting for the garbage collector. The created references are kept.
+     */
+    synchronized void releaseCompactEntries() {
+        if (compactEntries != null) {
+            compactEntries.release();
+        }
+    }
+
+    /**
+     * Checks whether the entry with the given number is stored compactly, i.e. it has no reference instance yet.
+     *
+     * @param index the object number
+     * @return true if there is a compactly stored entry for the object number, false otherwise
+     */
+    boolean containsCompactEntry(int index) {
+        return compactEntries != null && index <= count && compactEntries.getType(index) != CompactXrefEntries.ABSENT;
+    }
+
+    /**
+     * Stores the entry compactly, the reference for it is created on demand.
+     *
+     * @param objNr             the object number
+     * @param type              the type of the entry, see {@link CompactXrefEntries}
+     * @param offset            the offset of the object or the index of the object in the object stream
+     * @param genOrObjStmNumber the generation number or the object stream number for compressed objects
+     */
+    void addCompactEntry(int objNr, byte type, long offset, int genOrObjStmNumber) {
+        this.count = Math.max(this.count, objNr);
+        ensureCount(objNr);
+        compactEntries.set(objNr, type, offset, genOrObjStmNumber);
+    }
+
     /**
      * Set up appropriate state for the free references list.
      *
@@ -435,45 +536,53 @@ public class PdfXrefTable {
         freeReferencesLinkedList.clear();
 
         // ensure zero object is free
-        xref[0].setState(PdfObject.FREE);
+        getStoredReference(0).setState(PdfObject.FREE);
         TreeSet<Integer> freeReferences = new TreeSet<>();
-        for (int i = 1; i < size() && i < xref.length; ++i) {
-            PdfIndirectReference ref = xref[i];
+        for (int i = 1; i < size() && i < getCapacity(); ++i) {
+            PdfIndirectReference ref = getStoredReference(i);
+            if (ref == null && containsCompactEntry(i)) {
+                if (compactEntries.getType(i) != CompactXrefEntries.FREE) {
+                    continue;
+                }
+                // Free references are always needed for the linked list, so they're created right away
+                ref = get(i);
+            }
             if (ref == null || ref.isFree()) {
                 freeReferences.add(i);
             }
         }
 
-        PdfIndirectReference prevFreeRef = xref[0];
+        PdfIndirectReference prevFreeRef = getStoredReference(0);
         while (!freeReferences.<Integer>isEmpty()) {
             int currFreeRefObjNr = -1;
             if (prevFreeRef.getOffset() <= Integer.MAX_VALUE) {
                 currFreeRefObjNr = (int) prevFreeRef.getOffset();
             }
-            if (!freeReferences.contains(currFreeRefObjNr) || xref[currFreeRefObjNr] == null) {
+            if (!freeReferences.contains(currFreeRefObjNr) || getStoredReference(currFreeRefObjNr) == null) {
                 break;
             }
 
             freeReferencesLinkedList.put(currFreeRefObjNr, prevFreeRef);
-            prevFreeRef = xref[currFreeRefObjNr];
+            prevFreeRef = getStoredReference(currFreeRefObjNr);
             freeReferences.remove(currFreeRefObjNr);
         }
 
         while (!freeReferences.<Integer>isEmpty()) {
             int next = freeReferences.pollFirst();
-            if (xref[next] == null) {
+            PdfIndirectReference nextRef = getStoredReference(next);
+            if (nextRef == null) {
                 if (pdfDocument.properties.appendMode) {
                     continue;
                 }
-                xref[next] = (PdfIndirectReference) new PdfIndirectReference(pdfDocument, next, 0).setState(PdfObject.FREE).setState(PdfObject.MODIFIED);
-            } else if (xref[next].getGenNumber() == MAX_GENERATION && xref[next].getOffset() == 0) {
+                setStoredReference(next, (PdfIndirectReference) new PdfIndirectReference(pdfDocument, next, 0).setState(PdfObject.FREE).setState(PdfObject.MODIFIED));
+            } else if (nextRef.getGenNumber() == MAX_GENERATION && nextRef.getOffset() == 0) {
                 continue;
             }
             if (prevFreeRef.getOffset() != (long)next) {
                 ((PdfIndirectReference) prevFreeRef.setState(PdfObject.MODIFIED)).setOffset(next);
             }
             freeReferencesLinkedList.put(next, prevFreeRef);
-            prevFreeRef = xref[next];
+            prevFreeRef = getStoredReference(next);
         }
 
         if (prevFreeRef.getOffset() != 0) {
@@ -499,10 +608,14 @@ public class PdfXrefTable {
      */
     void clear() {
         for (int i = 1; i <= count; i++) {
-            if (xref[i] != null && xref[i].isFree()) {
+            PdfIndirectReference reference = getStoredReference(i);
+            if (reference != null && reference.isFree()) {
                 continue;
             }
-            xref[i] = null;
+            setStoredReference(i, null);
+        }
+        if (compactEntries != null) {
+            compactEntries.clear(true);
         }
         count = 1;
     }
@@ -512,7 +625,10 @@ public class PdfXrefTable {
      */
     void clearAllReferences() {
         for (int i = 1; i <= count; i++) {
-            xref[i] = null;
+            setStoredReference(i, null);
+        }
+        if (compactEntries != null) {
+            compactEntries.clear(false);
         }
         count = 1;
     }
@@ -522,7 +638,8 @@ public class PdfXrefTable {
         int first = 0;
         int len = 0;
         for (int i = 0; i < size(); i++) {
-            PdfIndirectReference reference = xref[i];
+            // Compactly stored entries are not modified, so they are skipped in append mode
+            PdfIndirectReference reference = document.properties.appendMode ? getStoredReference(i) : get(i);
             if (document.properties.appendMode && reference != null &&
                     (!reference.checkState(PdfObject.MODIFIED) || (dropObjectsFromObjectStream && reference.getObjStreamNumber() != 0))) {
                 reference = null;
@@ -602,7 +719,7 @@ public class PdfXrefTable {
         if (freeRefObjNr < 0) {
             Integer leastFreeRefObjNum = null;
             for (Map.Entry<Integer, PdfIndirectReference> entry : freeReferencesLinkedList.entrySet()) {
-                if (entry.getKey() <= 0 || xref[entry.getKey()].getGenNumber() >= MAX_GENERATION) {
+                if (entry.getKey() <= 0 || getStoredReference(entry.getKey()).getGenNumber() >= MAX_GENERATION) {
                     continue;
                 }
                 leastFreeRefObjNum = entry.getKey();
@@ -614,7 +731,7 @@ public class PdfXrefTable {
             freeRefObjNr = (int)leastFreeRefObjNum;
         }
 
-        PdfIndirectReference freeRef = xref[freeRefObjNr];
+        PdfIndirectReference freeRef = getStoredReference(freeRefObjNr);
         if (!freeRef.isFree()) {
             return null;
         }
@@ -629,7 +746,7 @@ public class PdfXrefTable {
     }
 
     private void ensureCount(int count) {
-        if (count >= xref.length) {
+        if (count >= getCapacity()) {
             extendXref(count << 1);
         }
     }
@@ -638,8 +755,49 @@ public class PdfXrefTable {
         if (this.memoryLimitsAwareHandler != null) {
             this.memoryLimitsAwareHandler.checkIfXrefStructureExceedsTheLimit(capacity);
         }
+        if (compactEntries != null) {
+            compactEntries.ensureCapacity(capacity);
+            return;
+        }
         PdfIndirectReference[] newXref = new PdfIndirectReference[capacity];
         System.arraycopy(this.xref, 0, newXref, 0, this.xref.length);
         this.xref = newXref;
     }
+
+    private PdfIndirectReference getStoredReference(int index) {
+        return compactEntries != null ? compactEntries.getReference(index) : xref[index];
+    }
+
+    private void setStoredReference(int index, PdfIndirectReference reference) {
+        if (compactEntries != null) {
+            compactEntries.setReference(index, reference);
+            compactEntries.remove(index);
+        } else {
+            xref[index] = reference;
+        }
+    }
+
+    private synchronized PdfIndirectReference getOrCreateReferenceFromCompactEntry(int index) {
+        PdfIndirectReference reference = compactEntries.getReference(index);
+        if (reference != null) {
+            return reference;
+        }
+        byte type = compactEntries.getType(index);
+        if (type == CompactXrefEntries.ABSENT) {
+            return null;
+        }
+        long offset = compactEntries.getOffset(index);
+        int genOrObjStmNumber = compactEntries.getGenOrObjStmNumber(index);
+        if (type == CompactXrefEntries.COMPRESSED) {
+            reference = new PdfIndirectReference(compactEntriesDocument, index, 0, offset);
+            reference.setObjStreamNumber(genOrObjStmNumber);
+        } else {
+            reference = new PdfIndirectReference(compactEntriesDocument, index, genOrObjStmNumber, offset);
+            if (type == CompactXrefEntries.FREE) {
+                reference.setState(PdfObject.FREE);
+            }
+        }
+        setStoredReference(index, reference);
+        return reference;
+    }
 }
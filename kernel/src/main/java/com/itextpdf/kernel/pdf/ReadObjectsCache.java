@@ -0,0 +1,171 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Keeps track of the objects read by {@link PdfReader} and releases the least recently used of them according
+ * to the object cache policy set in {@link ReaderProperties}.
+ *
+ * <p>
+ * A released object is only weakly referenced afterwards. While it is still used by some code, it is returned
+ * again instead of being read from the source, so the changes made to it aren't lost.
+ */
+final class ReadObjectsCache {
+    private final int maxSize;
+    private final boolean releaseOnLowMemory;
+
+    // Access ordered, so the eldest entry is the least recently used one
+    private final LinkedHashMap<PdfIndirectReference, PdfIndirectReference> references =
+            new LinkedHashMap<>(16, 0.75f, true);
+
+    private final Map<PdfIndirectReference, ReleasedObject> releasedObjects = new HashMap<>();
+    private final ReferenceQueue<PdfObject> collectedObjects = new ReferenceQueue<>();
+
+    private SoftReference<Object> lowMemorySentinel;
+
+    ReadObjectsCache(int maxSize, boolean releaseOnLowMemory) {
+        this.maxSize = maxSize > 0 ? maxSize : Integer.MAX_VALUE;
+        this.releaseOnLowMemory = releaseOnLowMemory;
+        if (releaseOnLowMemory) {
+            lowMemorySentinel = createSentinel();
+        }
+    }
+
+    /**
+     * Registers the reference whose object has just been read. The reference becomes the most recently used one.
+     *
+     * @param reference the reference of the read object
+     */
+    void objectRead(PdfIndirectReference reference) {
+        reference.setState(PdfObject.CACHED);
+        references.put(reference, reference);
+    }
+
+    /**
+     * Marks the reference as the most recently used one.
+     *
+     * @param reference the reference whose object has been requested
+     */
+    void objectAccessed(PdfIndirectReference reference) {
+        references.get(reference);
+    }
+
+    /**
+     * Restores the released object of the reference if it is still used.
+     *
+     * @param reference the reference whose object has been released
+     * @return true if the object has been restored, false if it should be read again
+     */
+    boolean restoreReleasedObject(PdfIndirectReference reference) {
+        ReleasedObject released = releasedObjects.remove(reference);
+        PdfObject object = released != null ? released.get() : null;
+        if (object == null) {
+            return false;
+        }
+        reference.refersTo = object;
+        objectRead(reference);
+        return true;
+    }
+
+    /**
+     * Releases the least recently used objects exceeding the cache limits.
+     */
+    void releaseExcessObjects() {
+        removeCollectedObjects();
+        int targetSize = maxSize;
+        if (releaseOnLowMemory && lowMemorySentinel.get() == null) {
+            targetSize = Math.min(targetSize, references.size() / 2);
+            lowMemorySentinel = createSentinel();
+        }
+        if (references.size() <= targetSize) {
+            return;
+        }
+        Iterator<PdfIndirectReference> iterator = references.keySet().iterator();
+        while (references.size() > targetSize && iterator.hasNext()) {
+            PdfIndirectReference reference = iterator.next();
+            iterator.remove();
+            reference.clearState(PdfObject.CACHED);
+            release(reference);
+        }
+    }
+
+    /**
+     * Gets the number of the released objects which may still be used.
+     *
+     * @return the number of the weakly referenced released objects
+     */
+    int releasedSize() {
+        return releasedObjects.size();
+    }
+
+    /**
+     * Gets the number of the tracked objects.
+     *
+     * @return the number of the objects currently kept by the cache
+     */
+    int size() {
+        return references.size();
+    }
+
+    private void release(PdfIndirectReference reference) {
+        PdfObject object = reference.refersTo;
+        if (object == null || reference.checkState(PdfObject.MODIFIED) || object.isReleaseForbidden()) {
+            // Modified and protected objects stay in memory, they can't be read again from the source
+            return;
+        }
+        // Unlike PdfObject#release the object is not detached from its reference, so the code
+        // which still holds it, e.g. to read the stream bytes, keeps working with it
+        releasedObjects.put(reference, new ReleasedObject(object, reference, collectedObjects));
+        reference.refersTo = null;
+    }
+
+    private void removeCollectedObjects() {
+        ReleasedObject collected;
+        while ((collected = (ReleasedObject) collectedObjects.poll()) != null) {
+            if (releasedObjects.get(collected.reference) == collected) {
+                releasedObjects.remove(collected.reference);
+            }
+        }
+    }
+
+    private static SoftReference<Object> createSentinel() {
+        return new SoftReference<>(new Object());
+    }
+
+    private static final class ReleasedObject extends WeakReference<PdfObject> {
+        private final PdfIndirectReference reference;
+
+        ReleasedObject(PdfObject object, PdfIndirectReference reference, ReferenceQueue<PdfObject> queue) {
+            super(object, queue);
+            this.reference = reference;
+        }
+    }
+}
@@ -39,6 +39,11 @@ public class ReaderProperties {
     protected String certificateKeyProvider;
     protected IExternalDecryptionProcess externalDecryptionProcess;
     protected MemoryLimitsAwareHandler memoryLimitsAwareHandler;
+    protected boolean concurrentReading;
+    protected boolean compactXrefTable;
+    protected boolean offHeapXrefTable;
+    protected int objectCacheSize;
+    protected boolean releaseObjectsOnLowMemory;
 
     /**
      * Creates an instance of {@link ReaderProperties}.
@@ -56,6 +61,11 @@ public class ReaderProperties {
         this.externalDecryptionProcess = readerProperties.externalDecryptionProcess;
         this.memoryLimitsAwareHandler = readerProperties.memoryLimitsAwareHandler == null ? null :
                 readerProperties.memoryLimitsAwareHandler.createNewInstance();
+        this.concurrentReading = readerProperties.concurrentReading;
+        this.compactXrefTable = readerProperties.compactXrefTable;
+        this.offHeapXrefTable = readerProperties.offHeapXrefTable;
+        this.objectCacheSize = readerProperties.objectCacheSize;
+        this.releaseObjectsOnLowMemory = readerProperties.releaseObjectsOnLowMemory;
     }
 
     /**
@@ -121,6 +131,99 @@ public class ReaderProperties {
         return this;
     }
 
+    /**
+     * Defines whether the document will be read in concurrent read-only mode.
+     * <p>
+     * In this mode a {@link PdfDocument} opened in reading mode can be shared between threads: objects are
+     * resolved under the lock of the {@link PdfReader} and their release is not performed. All the pages are
+     * loaded while the document is opened, fonts are created under the lock of the reader. Stream bytes are
+     * decoded outside of the lock, so the threads decode content streams and images concurrently. Each decoding
+     * is checked by its own copy of the {@link MemoryLimitsAwareHandler}, thus the limit of the sum of
+     * decompressed streams is applied per stream, while the limit of a single stream is always applied.
+     * <p>
+     * The document can't be opened in stamping mode with such a reader. Dictionaries, arrays and streams
+     * of the document are immutable once it is opened: an attempt to modify them leads to a
+     * {@link com.itextpdf.kernel.exceptions.PdfException}, see {@link PdfObject#isModifiable()}.
+     *
+     * @param concurrentReading {@code true} to enable concurrent read-only mode, {@code false} to disable it
+     * @return this {@link ReaderProperties} instance
+     */
+    public ReaderProperties setConcurrentReading(boolean concurrentReading) {
+        this.concurrentReading = concurrentReading;
+        return this;
+    }
+
+    /**
+     * Defines whether the cross-reference table of the document will be stored compactly.
+     * <p>
+     * By default every entry of the cross-reference table is read into a {@link PdfIndirectReference} instance.
+     * In compact mode the entries are kept in primitive form, 12 bytes per entry, and the
+     * {@link PdfIndirectReference} instances are created only for the objects which are actually requested.
+     * This considerably reduces the memory footprint of the documents with millions of objects.
+     *
+     * @param compactXrefTable {@code true} to store the cross-reference table compactly, {@code false} otherwise
+     * @return this {@link ReaderProperties} instance
+     */
+    public ReaderProperties setCompactXrefTable(boolean compactXrefTable) {
+        this.compactXrefTable = compactXrefTable;
+        return this;
+    }
+
+    /**
+     * Defines whether the compactly stored cross-reference table, see {@link #setCompactXrefTable(boolean)},
+     * is kept outside of the java heap, in a direct buffer. The buffer is released when the document is closed.
+     * Has no effect if the compact storage isn't enabled.
+     *
+     * @param offHeapXrefTable {@code true} to keep the compact cross-reference table outside of the java heap,
+     *                         {@code false} otherwise
+     * @return this {@link ReaderProperties} instance
+     */
+    public ReaderProperties setOffHeapXrefTable(boolean offHeapXrefTable) {
+        this.offHeapXrefTable = offHeapXrefTable;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of the objects read from the document which are kept in memory.
+     * <p>
+     * By default an object, once read, stays referenced from its {@link PdfIndirectReference} until
+     * the document is closed. If the limit is set, the least recently used objects which exceed it are released
+     * and transparently read again from the source on the next {@link PdfIndirectReference#getRefersTo()} call,
+     * so read-only processing of the huge documents is done in bounded memory.
+     * <p>
+     * The limit is applied only to the documents opened in reading mode without concurrent reading enabled.
+     * Objects which are modified or protected from releasing, e.g. the dictionaries of the pages and fonts
+     * wrapped by {@link PdfPage} and {@link com.itextpdf.kernel.font.PdfFont} instances, are never released.
+     * A released object stays usable by the code holding it: while it is held, the next call of
+     * {@link PdfIndirectReference#getRefersTo()} returns the same instance, so the changes made to it are kept.
+     * Only the objects which aren't used anymore are read again from the source.
+     *
+     * @param objectCacheSize the maximum number of the read objects kept in memory, zero or negative value
+     *                        means that the number of the objects isn't limited
+     * @return this {@link ReaderProperties} instance
+     */
+    public ReaderProperties setObjectCacheSize(int objectCacheSize) {
+        this.objectCacheSize = objectCacheSize;
+        return this;
+    }
+
+    /**
+     * Defines whether the objects read from the document are released when the java virtual machine
+     * is running low on memory.
+     * <p>
+     * The memory pressure is detected with the help of a soft reference, which the garbage collector clears before
+     * throwing an {@link OutOfMemoryError}. Once it happens, the least recently used half of the read objects
+     * is released. The same restrictions as for {@link #setObjectCacheSize(int)} apply, both options can be
+     * used together.
+     *
+     * @param releaseObjectsOnLowMemory {@code true} to release the read objects on low memory, {@code false} otherwise
+     * @return this {@link ReaderProperties} instance
+     */
+    public ReaderProperties setReleaseObjectsOnLowMemory(boolean releaseObjectsOnLowMemory) {
+        this.releaseObjectsOnLowMemory = releaseObjectsOnLowMemory;
+        return this;
+    }
+
     private void clearEncryptionParams() {
         this.password = null;
         this.certificate = null;
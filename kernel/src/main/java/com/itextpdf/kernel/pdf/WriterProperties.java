@@ -26,6 +26,7 @@ import com.itextpdf.bouncycastleconnector.BouncyCastleFactoryCreator;
 import com.itextpdf.kernel.mac.MacProperties;
 
 import java.security.cert.Certificate;
+import java.util.concurrent.ExecutorService;
 
 public class WriterProperties {
 
@@ -36,6 +37,11 @@ public class WriterProperties {
      */
     protected Boolean isFullCompression;
 
+    /**
+     * The executor the stream compression is delegated to, or {@code null} to compress streams in the writing thread.
+     */
+    protected ExecutorService compressionExecutor;
+
     /**
      * Indicates if the writer copy objects in a smart mode. If so PdfDictionary and PdfStream will be hashed
      * and reused if there's an object with the same content later.
@@ -167,6 +173,21 @@ public class WriterProperties {
         return this;
     }
 
+    /**
+     * Defines the executor which compresses the streams of the document. If set, the streams are compressed
+     * concurrently while the writer keeps flushing other objects. The objects are still written in the order
+     * they are flushed, so the resultant document is byte-to-byte equal to the one created without an executor.
+     * The executor is not shut down by the writer.
+     *
+     * @param compressionExecutor the executor to compress streams on, or {@code null} to compress streams
+     *                            in the writing thread
+     * @return this {@link WriterProperties} instance
+     */
+    public WriterProperties setCompressionExecutor(ExecutorService compressionExecutor) {
+        this.compressionExecutor = compressionExecutor;
+        return this;
+    }
+
     /**
      * Sets the encryption options for the document.
      *
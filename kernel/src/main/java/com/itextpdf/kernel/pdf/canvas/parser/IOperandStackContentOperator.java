@@ -0,0 +1,47 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.canvas.parser;
+
+import com.itextpdf.kernel.pdf.canvas.parser.util.ContentOperandStack;
+
+/**
+ * A handler for content stream operators which can process an operation directly from the
+ * {@link ContentOperandStack}, without the {@link com.itextpdf.kernel.pdf.PdfObject} representation
+ * of its operands.
+ * <p>
+ * {@link PdfCanvasProcessor} calls {@link #invoke(PdfCanvasProcessor, ContentOperandStack)} first and only creates
+ * the operand objects for {@link IContentOperator#invoke} if the operation hasn't been processed.
+ */
+public interface IOperandStackContentOperator extends IContentOperator {
+
+    /**
+     * Called when a content operator should be processed.
+     *
+     * @param processor The processor that is dealing with the PDF content stream.
+     * @param operands  The operands and the operator of the current operation. The stack is reused
+     *                  for the next operation, so it shall not be kept.
+     * @return {@code true} if the operation has been processed, {@code false} if the operands can't be handled
+     * without their object representation, in which case {@link IContentOperator#invoke} is called instead
+     */
+    boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands);
+}
@@ -27,6 +27,7 @@ import com.itextpdf.io.logs.IoLogMessageConstant;
 import com.itextpdf.io.source.PdfTokenizer;
 import com.itextpdf.io.source.RandomAccessFileOrArray;
 import com.itextpdf.io.source.RandomAccessSourceFactory;
+import com.itextpdf.io.util.IntHashtable;
 import com.itextpdf.commons.utils.MessageFormatUtil;
 import com.itextpdf.kernel.logs.KernelLogMessageConstant;
 import com.itextpdf.kernel.exceptions.PdfException;
@@ -57,6 +58,7 @@ import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfNumber;
 import com.itextpdf.kernel.pdf.PdfObject;
 import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.PdfReader;
 import com.itextpdf.kernel.pdf.PdfResources;
 import com.itextpdf.kernel.pdf.PdfStream;
 import com.itextpdf.kernel.pdf.PdfString;
@@ -70,6 +72,7 @@ import com.itextpdf.kernel.pdf.canvas.parser.data.ImageRenderInfo;
 import com.itextpdf.kernel.pdf.canvas.parser.data.PathRenderInfo;
 import com.itextpdf.kernel.pdf.canvas.parser.data.TextRenderInfo;
 import com.itextpdf.kernel.pdf.canvas.parser.listener.IEventListener;
+import com.itextpdf.kernel.pdf.canvas.parser.util.ContentOperandStack;
 import com.itextpdf.kernel.pdf.canvas.parser.util.PdfCanvasParser;
 import com.itextpdf.kernel.pdf.colorspace.PdfCieBasedCs;
 import com.itextpdf.kernel.pdf.colorspace.PdfColorSpace;
@@ -119,6 +122,14 @@ public class PdfCanvasProcessor {
      */
     private Map<String, IContentOperator> operators;
 
+    /**
+     * Operators resolved by the operator codes, see {@link ContentOperandStack#getOperatorCode(String)}.
+     * The map contains the index of the operator in {@link #resolvedOperators} increased by one.
+     */
+    private final IntHashtable resolvedOperatorIndexes = new IntHashtable();
+
+    private final List<IContentOperator> resolvedOperators = new ArrayList<>();
+
     /**
      * Resources for the content stream.
      * Current resources are always at the top of the stack.
@@ -160,6 +171,12 @@ public class PdfCanvasProcessor {
      */
     private long pageSize = 0;
 
+    /**
+     * Reader of the processed page, which is used to lock the creation of fonts of a document
+     * shared between threads.
+     */
+    private PdfReader pageReader;
+
     /**
      * Creates a new PDF Content Stream Processor that will send its output to the
      * designated render listener.
@@ -217,6 +234,8 @@ public class PdfCanvasProcessor {
      * @return the existing registered operator, if any
      */
     public IContentOperator registerContentOperator(String operatorString, IContentOperator operator) {
+        resolvedOperatorIndexes.clear();
+        resolvedOperators.clear();
         return operators.put(operatorString, operator);
     }
 
@@ -234,6 +253,7 @@ public class PdfCanvasProcessor {
      */
     public void reset() {
         memoryLimitsHandler = null;
+        pageReader = null;
         pageSize = 0;
         gsStack.removeAllElements();
         gsStack.push(new ParserGraphicsState());
@@ -272,10 +292,24 @@ public class PdfCanvasProcessor {
         this.resourcesStack.add(resources);
         PdfTokenizer tokeniser = new PdfTokenizer(new RandomAccessFileOrArray(new RandomAccessSourceFactory().createSource(contentBytes)));
         PdfCanvasParser ps = new PdfCanvasParser(tokeniser, resources);
+        ContentOperandStack operandStack = new ContentOperandStack();
+        boolean operandStackDispatchAllowed = isOperandStackDispatchAllowed();
         List<PdfObject> operands = new ArrayList<>();
         try {
-            while (ps.parse(operands).size() > 0) {
-                PdfLiteral operator = (PdfLiteral) operands.get(operands.size() - 1);
+            while (ps.parseOperation(operandStack)) {
+                if (operandStackDispatchAllowed) {
+                    IContentOperator op = resolveOperator(operandStack);
+                    if (op instanceof IOperandStackContentOperator
+                            && ((IOperandStackContentOperator) op).invoke(this, operandStack)) {
+                        continue;
+                    }
+                }
+                operands.clear();
+                for (int i = 0; i < operandStack.size(); i++) {
+                    operands.add(operandStack.getObject(i));
+                }
+                PdfLiteral operator = new PdfLiteral(operandStack.getOperator());
+                operands.add(operator);
                 invokeOperator(operator, operands);
             }
         } catch (IOException e) {
@@ -295,6 +329,7 @@ public class PdfCanvasProcessor {
      */
     public void processPageContent(PdfPage page) {
         this.memoryLimitsHandler = page.getDocument().getMemoryLimitsAwareHandler();
+        this.pageReader = page.getDocument().getReader();
         initClippingPath(page);
         ParserGraphicsState gs = getGraphicsState();
         eventOccurred(new ClippingPathInfo(gs, gs.getClippingPath(), gs.getCtm()), EventType.CLIP_PATH_CHANGED);
@@ -445,11 +480,48 @@ public class PdfCanvasProcessor {
      * @param operands a list with operands
      */
     protected void invokeOperator(PdfLiteral operator, List<PdfObject> operands) {
-        IContentOperator op = operators.get(operator.toString());
+        findOperator(operator.toString()).invoke(this, operator, operands);
+    }
+
+    /**
+     * Checks whether the operators implementing {@link IOperandStackContentOperator} may process the operations
+     * directly from the operand stack. Such operations aren't passed to
+     * {@link #invokeOperator(PdfLiteral, List)}, that is why the dispatch is only allowed by default
+     * if the method can't be overridden, i.e. for the instances of {@link PdfCanvasProcessor} itself.
+     * Subclasses which don't override {@link #invokeOperator(PdfLiteral, List)} may allow it too.
+     *
+     * @return {@code true} if the operations may be processed from the operand stack, {@code false} if all
+     * the operations shall be passed to {@link #invokeOperator(PdfLiteral, List)}
+     */
+    protected boolean isOperandStackDispatchAllowed() {
+        return getClass() == PdfCanvasProcessor.class;
+    }
+
+    private IContentOperator findOperator(String operatorString) {
+        IContentOperator op = operators.get(operatorString);
         if (op == null) {
             op = operators.get(DEFAULT_OPERATOR);
         }
-        op.invoke(this, operator, operands);
+        return op;
+    }
+
+    /**
+     * Gets the handler of the current operation of the stack without creating a string,
+     * unless the operator is met for the first time or it is not a known one.
+     */
+    private IContentOperator resolveOperator(ContentOperandStack operandStack) {
+        int code = operandStack.getOperatorCode();
+        if (code == ContentOperandStack.UNKNOWN_OPERATOR_CODE) {
+            return findOperator(operandStack.getOperator());
+        }
+        int index = resolvedOperatorIndexes.get(code);
+        if (index > 0) {
+            return resolvedOperators.get(index - 1);
+        }
+        IContentOperator op = findOperator(operandStack.getOperator());
+        resolvedOperators.add(op);
+        resolvedOperatorIndexes.put(code, resolvedOperators.size());
+        return op;
     }
 
     protected PdfStream getXObjectStream(PdfName xobjectName) {
@@ -480,19 +552,31 @@ public class PdfCanvasProcessor {
      */
     protected PdfFont getFont(PdfDictionary fontDict) {
         if (fontDict.getIndirectReference() == null) {
-            return PdfFontFactory.createFont(fontDict);
+            return createFont(fontDict);
         } else {
             int n = fontDict.getIndirectReference().getObjNumber();
             WeakReference<PdfFont> fontRef = cachedFonts.get(n);
             PdfFont font = (PdfFont) (fontRef == null ? null : fontRef.get());
             if (font == null) {
-                font = PdfFontFactory.createFont(fontDict);
+                font = createFont(fontDict);
                 cachedFonts.put(n, new WeakReference<>(font));
             }
             return font;
         }
     }
 
+    private PdfFont createFont(PdfDictionary fontDict) {
+        PdfReader reader = fontDict.getIndirectReference() == null ? pageReader
+                : fontDict.getIndirectReference().getDocument().getReader();
+        if (reader != null && reader.isConcurrentReading()) {
+            // The fonts of a document shared between threads are created under the lock its objects are read with
+            synchronized (reader) {
+                return PdfFontFactory.createFont(fontDict);
+            }
+        }
+        return PdfFontFactory.createFont(fontDict);
+    }
+
     /**
      * Add to the marked content stack
      *
@@ -713,7 +797,7 @@ public class PdfCanvasProcessor {
     /**
      * A handler that implements operator (T*). For more information see Table 51 ISO-32000-1
      */
-    private static class TextMoveNextLineOperator implements IContentOperator {
+    private static class TextMoveNextLineOperator implements IOperandStackContentOperator {
         private final TextMoveStartNextLineOperator moveStartNextLine;
 
         public TextMoveNextLineOperator(TextMoveStartNextLineOperator moveStartNextLine) {
@@ -729,12 +813,20 @@ public class PdfCanvasProcessor {
             tdoperands.add(1, new PdfNumber(-processor.getGraphicsState().getLeading()));
             moveStartNextLine.invoke(processor, null, tdoperands);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            TextMoveStartNextLineOperator.moveStartNextLine(processor, 0, -processor.getGraphicsState().getLeading());
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (Tm). For more information see Table 51 ISO-32000-1
      */
-    private static class TextSetTextMatrixOperator implements IContentOperator {
+    private static class TextSetTextMatrixOperator implements IOperandStackContentOperator {
         /**
          * {@inheritDoc}
          */
@@ -749,12 +841,25 @@ public class PdfCanvasProcessor {
             processor.textLineMatrix = new Matrix(a, b, c, d, e, f);
             processor.textMatrix = processor.textLineMatrix;
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 6)) {
+                return false;
+            }
+            processor.textLineMatrix = new Matrix(operands.getFloat(0), operands.getFloat(1), operands.getFloat(2),
+                    operands.getFloat(3), operands.getFloat(4), operands.getFloat(5));
+            processor.textMatrix = processor.textLineMatrix;
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (TD). For more information see Table 51 ISO-32000-1
      */
-    private static class TextMoveStartNextLineWithLeadingOperator implements IContentOperator {
+    private static class TextMoveStartNextLineWithLeadingOperator implements IOperandStackContentOperator {
         private final TextMoveStartNextLineOperator moveStartNextLine;
         private final SetTextLeadingOperator setTextLeading;
 
@@ -774,19 +879,46 @@ public class PdfCanvasProcessor {
             setTextLeading.invoke(processor, null, tlOperands);
             moveStartNextLine.invoke(processor, null, operands);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 2)) {
+                return false;
+            }
+            float ty = operands.getFloat(1);
+            processor.getGraphicsState().setLeading(-ty);
+            TextMoveStartNextLineOperator.moveStartNextLine(processor, operands.getFloat(0), ty);
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (Td). For more information see Table 51 ISO-32000-1
      */
-    private static class TextMoveStartNextLineOperator implements IContentOperator {
+    private static class TextMoveStartNextLineOperator implements IOperandStackContentOperator {
         /**
          * {@inheritDoc}
          */
         public void invoke(PdfCanvasProcessor processor, PdfLiteral operator, List<PdfObject> operands) {
             float tx = ((PdfNumber) operands.get(0)).floatValue();
             float ty = ((PdfNumber) operands.get(1)).floatValue();
+            moveStartNextLine(processor, tx, ty);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 2)) {
+                return false;
+            }
+            moveStartNextLine(processor, operands.getFloat(0), operands.getFloat(1));
+            return true;
+        }
 
+        private static void moveStartNextLine(PdfCanvasProcessor processor, float tx, float ty) {
             Matrix translationMatrix = new Matrix(tx, ty);
             processor.textMatrix = translationMatrix.multiply(processor.textLineMatrix);
             processor.textLineMatrix = processor.textMatrix;
@@ -831,7 +963,7 @@ public class PdfCanvasProcessor {
     /**
      * A handler that implements operator (Ts). For more information see Table 51 ISO-32000-1
      */
-    private static class SetTextRiseOperator implements IContentOperator {
+    private static class SetTextRiseOperator implements IOperandStackContentOperator {
         /**
          * {@inheritDoc}
          */
@@ -839,12 +971,23 @@ public class PdfCanvasProcessor {
             PdfNumber rise = (PdfNumber) operands.get(0);
             processor.getGraphicsState().setTextRise(rise.floatValue());
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 1)) {
+                return false;
+            }
+            processor.getGraphicsState().setTextRise(operands.getFloat(0));
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (TL). For more information see Table 51 ISO-32000-1
      */
-    private static class SetTextLeadingOperator implements IContentOperator {
+    private static class SetTextLeadingOperator implements IOperandStackContentOperator {
         /**
          * {@inheritDoc}
          */
@@ -852,12 +995,23 @@ public class PdfCanvasProcessor {
             PdfNumber leading = (PdfNumber) operands.get(0);
             processor.getGraphicsState().setLeading(leading.floatValue());
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 1)) {
+                return false;
+            }
+            processor.getGraphicsState().setLeading(operands.getFloat(0));
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (Tz). For more information see Table 51 ISO-32000-1
      */
-    private static class SetTextHorizontalScalingOperator implements IContentOperator {
+    private static class SetTextHorizontalScalingOperator implements IOperandStackContentOperator {
         /**
          * {@inheritDoc}
          */
@@ -865,12 +1019,23 @@ public class PdfCanvasProcessor {
             PdfNumber scale = (PdfNumber) operands.get(0);
             processor.getGraphicsState().setHorizontalScaling(scale.floatValue());
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 1)) {
+                return false;
+            }
+            processor.getGraphicsState().setHorizontalScaling(operands.getFloat(0));
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (Tc). For more information see Table 51 ISO-32000-1
      */
-    private static class SetTextCharacterSpacingOperator implements IContentOperator {
+    private static class SetTextCharacterSpacingOperator implements IOperandStackContentOperator {
         /**
          * {@inheritDoc}
          */
@@ -878,12 +1043,23 @@ public class PdfCanvasProcessor {
             PdfNumber charSpace = (PdfNumber) operands.get(0);
             processor.getGraphicsState().setCharSpacing(charSpace.floatValue());
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 1)) {
+                return false;
+            }
+            processor.getGraphicsState().setCharSpacing(operands.getFloat(0));
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (Tw). For more information see Table 51 ISO-32000-1
      */
-    private static class SetTextWordSpacingOperator implements IContentOperator {
+    private static class SetTextWordSpacingOperator implements IOperandStackContentOperator {
         /**
          * {@inheritDoc}
          */
@@ -891,6 +1067,17 @@ public class PdfCanvasProcessor {
             PdfNumber wordSpace = (PdfNumber) operands.get(0);
             processor.getGraphicsState().setWordSpacing(wordSpace.floatValue());
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 1)) {
+                return false;
+            }
+            processor.getGraphicsState().setWordSpacing(operands.getFloat(0));
+            return true;
+        }
     }
 
     /**
@@ -930,7 +1117,7 @@ public class PdfCanvasProcessor {
     /**
      * A handler that implements operator (q). For more information see Table 51 ISO-32000-1
      */
-    private static class PushGraphicsStateOperator implements IContentOperator {
+    private static class PushGraphicsStateOperator implements IOperandStackContentOperator {
         /**
          * {@inheritDoc}
          */
@@ -939,12 +1126,20 @@ public class PdfCanvasProcessor {
             ParserGraphicsState copy = new ParserGraphicsState(gs);
             processor.gsStack.push(copy);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            invoke(processor, null, null);
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (cm). For more information see Table 51 ISO-32000-1
      */
-    private static class ModifyCurrentTransformationMatrixOperator implements IContentOperator {
+    private static class ModifyCurrentTransformationMatrixOperator implements IOperandStackContentOperator {
         /**
          * {@inheritDoc}
          */
@@ -955,7 +1150,22 @@ public class PdfCanvasProcessor {
             float d = ((PdfNumber) operands.get(3)).floatValue();
             float e = ((PdfNumber) operands.get(4)).floatValue();
             float f = ((PdfNumber) operands.get(5)).floatValue();
-            Matrix matrix = new Matrix(a, b, c, d, e, f);
+            modifyCtm(processor, new Matrix(a, b, c, d, e, f));
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 6)) {
+                return false;
+            }
+            modifyCtm(processor, new Matrix(operands.getFloat(0), operands.getFloat(1), operands.getFloat(2),
+                    operands.getFloat(3), operands.getFloat(4), operands.getFloat(5)));
+            return true;
+        }
+
+        private static void modifyCtm(PdfCanvasProcessor processor, Matrix matrix) {
             try {
                 processor.getGraphicsState().updateCtm(matrix);
             } catch (PdfException exception) {
@@ -1043,8 +1253,22 @@ public class PdfCanvasProcessor {
         for (int i = 0; i < nOperands; i++) {
             c[i] = ((PdfNumber) operands.get(i)).floatValue();
         }
+        return getColor(c);
+    }
+
+    /**
+     * Gets a color based on the number operands of the stack.
+     */
+    private static Color getColor(int nOperands, ContentOperandStack operands) {
+        float[] c = new float[nOperands];
+        for (int i = 0; i < nOperands; i++) {
+            c[i] = operands.getFloat(i);
+        }
+        return getColor(c);
+    }
 
-        switch (nOperands) {
+    private static Color getColor(float[] c) {
+        switch (c.length) {
             case 1:
                 return new DeviceGray(c[0]);
             case 3:
@@ -1055,6 +1279,22 @@ public class PdfCanvasProcessor {
         return null;
     }
 
+    /**
+     * Checks whether the first operands of the stack are numbers, so the operation can be processed
+     * without the objects of the operands.
+     */
+    private static boolean hasNumberOperands(ContentOperandStack operands, int count) {
+        if (operands.size() < count) {
+            return false;
+        }
+        for (int i = 0; i < count; i++) {
+            if (operands.getType(i) != PdfObject.NUMBER) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static float[] getColorants(List<PdfObject> operands) {
         float[] c = new float[operands.size() - 1];
         for (int i = 0; i < operands.size() - 1; i++) {
@@ -1080,73 +1320,139 @@ public class PdfCanvasProcessor {
     /**
      * A handler that implements operator (g). For more information see Table 51 ISO-32000-1
      */
-    private static class SetGrayFillOperator implements IContentOperator {
+    private static class SetGrayFillOperator implements IOperandStackContentOperator {
         /**
          * {@inheritDoc}
          */
         public void invoke(PdfCanvasProcessor processor, PdfLiteral operator, List<PdfObject> operands) {
             processor.getGraphicsState().setFillColor(getColor(1, operands));
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 1)) {
+                return false;
+            }
+            processor.getGraphicsState().setFillColor(getColor(1, operands));
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (G). For more information see Table 51 ISO-32000-1
      */
-    private static class SetGrayStrokeOperator implements IContentOperator {
+    private static class SetGrayStrokeOperator implements IOperandStackContentOperator {
         /**
          * {@inheritDoc}
          */
         public void invoke(PdfCanvasProcessor processor, PdfLiteral operator, List<PdfObject> operands) {
             processor.getGraphicsState().setStrokeColor(getColor(1, operands));
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 1)) {
+                return false;
+            }
+            processor.getGraphicsState().setStrokeColor(getColor(1, operands));
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (rg). For more information see Table 51 ISO-32000-1
      */
-    private static class SetRGBFillOperator implements IContentOperator {
+    private static class SetRGBFillOperator implements IOperandStackContentOperator {
         /**
          * {@inheritDoc}
          */
         public void invoke(PdfCanvasProcessor processor, PdfLiteral operator, List<PdfObject> operands) {
             processor.getGraphicsState().setFillColor(getColor(3, operands));
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 3)) {
+                return false;
+            }
+            processor.getGraphicsState().setFillColor(getColor(3, operands));
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (RG). For more information see Table 51 ISO-32000-1
      */
-    private static class SetRGBStrokeOperator implements IContentOperator {
+    private static class SetRGBStrokeOperator implements IOperandStackContentOperator {
         /**
          * {@inheritDoc}
          */
         public void invoke(PdfCanvasProcessor processor, PdfLiteral operator, List<PdfObject> operands) {
             processor.getGraphicsState().setStrokeColor(getColor(3, operands));
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 3)) {
+                return false;
+            }
+            processor.getGraphicsState().setStrokeColor(getColor(3, operands));
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (k). For more information see Table 51 ISO-32000-1
      */
-    private static class SetCMYKFillOperator implements IContentOperator {
+    private static class SetCMYKFillOperator implements IOperandStackContentOperator {
         /**
          * {@inheritDoc}
          */
         public void invoke(PdfCanvasProcessor processor, PdfLiteral operator, List<PdfObject> operands) {
             processor.getGraphicsState().setFillColor(getColor(4, operands));
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 4)) {
+                return false;
+            }
+            processor.getGraphicsState().setFillColor(getColor(4, operands));
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (K). For more information see Table 51 ISO-32000-1
      */
-    private static class SetCMYKStrokeOperator implements IContentOperator {
+    private static class SetCMYKStrokeOperator implements IOperandStackContentOperator {
         /**
          * {@inheritDoc}
          */
         public void invoke(PdfCanvasProcessor processor, PdfLiteral operator, List<PdfObject> operands) {
             processor.getGraphicsState().setStrokeColor(getColor(4, operands));
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 4)) {
+                return false;
+            }
+            processor.getGraphicsState().setStrokeColor(getColor(4, operands));
+            return true;
+        }
     }
 
     /**
@@ -1216,7 +1522,7 @@ public class PdfCanvasProcessor {
     /**
      * A handler that implements operator (BT). For more information see Table 51 ISO-32000-1
      */
-    private static class BeginTextOperator implements IContentOperator {
+    private static class BeginTextOperator implements IOperandStackContentOperator {
         /**
          * {@inheritDoc}
          */
@@ -1225,12 +1531,20 @@ public class PdfCanvasProcessor {
             processor.textLineMatrix = processor.textMatrix;
             processor.beginText();
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            invoke(processor, null, null);
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (ET). For more information see Table 51 ISO-32000-1
      */
-    private static class EndTextOperator implements IContentOperator {
+    private static class EndTextOperator implements IOperandStackContentOperator {
         /**
          * {@inheritDoc}
          */
@@ -1239,6 +1553,14 @@ public class PdfCanvasProcessor {
             processor.textLineMatrix = null;
             processor.endText();
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            invoke(processor, null, null);
+            return true;
+        }
     }
 
     /**
@@ -1298,7 +1620,7 @@ public class PdfCanvasProcessor {
     /**
      * A handler that implements operator (EMC). For more information see Table 51 ISO-32000-1
      */
-    private static class EndMarkedContentOperator implements IContentOperator {
+    private static class EndMarkedContentOperator implements IOperandStackContentOperator {
         /**
          * {@inheritDoc}
          */
@@ -1306,6 +1628,14 @@ public class PdfCanvasProcessor {
                            PdfLiteral operator, List<PdfObject> operands) {
             processor.endMarkedContent();
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            invoke(processor, null, null);
+            return true;
+        }
     }
 
     /**
@@ -1340,7 +1670,7 @@ public class PdfCanvasProcessor {
     /**
      * A handler that implements operator (w). For more information see Table 51 ISO-32000-1
      */
-    private static class SetLineWidthOperator implements IContentOperator {
+    private static class SetLineWidthOperator implements IOperandStackContentOperator {
         /**
          * {@inheritDoc}
          */
@@ -1348,6 +1678,17 @@ public class PdfCanvasProcessor {
             float lineWidth = ((PdfNumber) operands.get(0)).floatValue();
             processor.getGraphicsState().setLineWidth(lineWidth);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 1)) {
+                return false;
+            }
+            processor.getGraphicsState().setLineWidth(operands.getFloat(0));
+            return true;
+        }
     }
 
     /**
@@ -1381,7 +1722,7 @@ public class PdfCanvasProcessor {
     /**
      * A handler that implements operator (M). For more information see Table 51 ISO-32000-1
      */
-    private static class SetMiterLimitOperator implements IContentOperator {
+    private static class SetMiterLimitOperator implements IOperandStackContentOperator {
 
         /**
          * {@inheritDoc}
@@ -1390,6 +1731,17 @@ public class PdfCanvasProcessor {
             float miterLimit = ((PdfNumber) operands.get(0)).floatValue();
             processor.getGraphicsState().setMiterLimit(miterLimit);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 1)) {
+                return false;
+            }
+            processor.getGraphicsState().setMiterLimit(operands.getFloat(0));
+            return true;
+        }
     }
 
     /**
@@ -1468,7 +1820,7 @@ public class PdfCanvasProcessor {
     /**
      * A handler that implements operator (m). For more information see Table 51 ISO-32000-1
      */
-    private static class MoveToOperator implements IContentOperator {
+    private static class MoveToOperator implements IOperandStackContentOperator {
 
         /**
          * {@inheritDoc}
@@ -1478,12 +1830,23 @@ public class PdfCanvasProcessor {
             float y = ((PdfNumber) operands.get(1)).floatValue();
             processor.currentPath.moveTo(x, y);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 2)) {
+                return false;
+            }
+            processor.currentPath.moveTo(operands.getFloat(0), operands.getFloat(1));
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (l). For more information see Table 51 ISO-32000-1
      */
-    private static class LineToOperator implements IContentOperator {
+    private static class LineToOperator implements IOperandStackContentOperator {
 
         /**
          * {@inheritDoc}
@@ -1493,12 +1856,23 @@ public class PdfCanvasProcessor {
             float y = ((PdfNumber) operands.get(1)).floatValue();
             processor.currentPath.lineTo(x, y);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 2)) {
+                return false;
+            }
+            processor.currentPath.lineTo(operands.getFloat(0), operands.getFloat(1));
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (c). For more information see Table 51 ISO-32000-1
      */
-    private static class CurveOperator implements IContentOperator {
+    private static class CurveOperator implements IOperandStackContentOperator {
 
         /**
          * {@inheritDoc}
@@ -1512,12 +1886,24 @@ public class PdfCanvasProcessor {
             float y3 = ((PdfNumber) operands.get(5)).floatValue();
             processor.currentPath.curveTo(x1, y1, x2, y2, x3, y3);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 6)) {
+                return false;
+            }
+            processor.currentPath.curveTo(operands.getFloat(0), operands.getFloat(1), operands.getFloat(2),
+                    operands.getFloat(3), operands.getFloat(4), operands.getFloat(5));
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (v). For more information see Table 51 ISO-32000-1
      */
-    private static class CurveFirstPointDuplicatedOperator implements IContentOperator {
+    private static class CurveFirstPointDuplicatedOperator implements IOperandStackContentOperator {
 
         /**
          * {@inheritDoc}
@@ -1529,12 +1915,24 @@ public class PdfCanvasProcessor {
             float y3 = ((PdfNumber) operands.get(3)).floatValue();
             processor.currentPath.curveTo(x2, y2, x3, y3);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 4)) {
+                return false;
+            }
+            processor.currentPath.curveTo(operands.getFloat(0), operands.getFloat(1), operands.getFloat(2),
+                    operands.getFloat(3));
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (y). For more information see Table 51 ISO-32000-1
      */
-    private static class CurveFourhPointDuplicatedOperator implements IContentOperator {
+    private static class CurveFourhPointDuplicatedOperator implements IOperandStackContentOperator {
 
         /**
          * {@inheritDoc}
@@ -1546,12 +1944,24 @@ public class PdfCanvasProcessor {
             float y3 = ((PdfNumber) operands.get(3)).floatValue();
             processor.currentPath.curveFromTo(x1, y1, x3, y3);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 4)) {
+                return false;
+            }
+            processor.currentPath.curveFromTo(operands.getFloat(0), operands.getFloat(1), operands.getFloat(2),
+                    operands.getFloat(3));
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (h). For more information see Table 51 ISO-32000-1
      */
-    private static class CloseSubpathOperator implements IContentOperator {
+    private static class CloseSubpathOperator implements IOperandStackContentOperator {
 
         /**
          * {@inheritDoc}
@@ -1559,12 +1969,20 @@ public class PdfCanvasProcessor {
         public void invoke(PdfCanvasProcessor processor, PdfLiteral operator, List<PdfObject> operands) {
             processor.currentPath.closeSubpath();
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            invoke(processor, null, null);
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (re). For more information see Table 51 ISO-32000-1
      */
-    private static class RectangleOperator implements IContentOperator {
+    private static class RectangleOperator implements IOperandStackContentOperator {
 
         /**
          * {@inheritDoc}
@@ -1576,12 +1994,24 @@ public class PdfCanvasProcessor {
             float h = ((PdfNumber) operands.get(3)).floatValue();
             processor.currentPath.rectangle(x, y, w, h);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            if (!hasNumberOperands(operands, 4)) {
+                return false;
+            }
+            processor.currentPath.rectangle(operands.getFloat(0), operands.getFloat(1), operands.getFloat(2),
+                    operands.getFloat(3));
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (S, s, f, F, f*, B, B*, b, b*). For more information see Table 51 ISO-32000-1
      */
-    private static class PaintPathOperator implements IContentOperator {
+    private static class PaintPathOperator implements IOperandStackContentOperator {
 
         private int operation;
         private int rule;
@@ -1613,12 +2043,20 @@ public class PdfCanvasProcessor {
 
             processor.paintPath(operation, rule);
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            invoke(processor, null, null);
+            return true;
+        }
     }
 
     /**
      * A handler that implements operator (W, W*). For more information see Table 51 ISO-32000-1
      */
-    private static class ClipPathOperator implements IContentOperator {
+    private static class ClipPathOperator implements IOperandStackContentOperator {
 
         private int rule;
 
@@ -1633,5 +2071,13 @@ public class PdfCanvasProcessor {
             processor.isClip = true;
             processor.clippingRule = rule;
         }
+
+        /**
+         * {@inheritDoc}
+         */
+        public boolean invoke(PdfCanvasProcessor processor, ContentOperandStack operands) {
+            invoke(processor, null, null);
+            return true;
+        }
     }
 }
@@ -24,9 +24,16 @@ package com.itextpdf.kernel.pdf.canvas.parser;
 
 import com.itextpdf.kernel.pdf.canvas.parser.listener.IEventListener;
 import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.utils.PageRange;
+import com.itextpdf.kernel.utils.ParallelPageProcessor;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 /**
  * A utility class that makes it cleaner to process content from pages of a {@link PdfDocument}
@@ -69,4 +76,50 @@ public class PdfDocumentContentParser {
         return processContent(pageNumber, renderListener, new HashMap<String, IContentOperator>());
     }
 
+    /**
+     * Processes content from the pages of the specified page range concurrently.
+     * <p>
+     * The pages are distributed between workers submitted to the passed executor, see {@link ParallelPageProcessor}
+     * for the details on how many workers are submitted and on how they read the document. A new listener
+     * is requested from the factory for every page, the listeners are returned in the page range order.
+     * <p>
+     * Only documents opened in reading mode are supported, since the changes which are not written yet are not
+     * visible to the workers.
+     *
+     * @param <E>                        the type of the listeners
+     * @param pageRange                  the pages to process
+     * @param listenerFactory            the factory which creates a new listener for every page
+     * @param executor                   the executor the workers are submitted to
+     * @param additionalContentOperators an optional map of custom ContentOperators for rendering instructions
+     * @return the listeners which have processed the pages in the page range order
+     */
+    public <E extends IEventListener> List<E> processContentParallel(PageRange pageRange, Supplier<E> listenerFactory,
+            ExecutorService executor, Map<String, IContentOperator> additionalContentOperators) {
+        List<Integer> pageNumbers = pageRange.getQualifyingPageNums(pdfDocument.getNumberOfPages());
+        // Every worker sets the listeners of its own pages only, so the list is never structurally modified
+        List<E> listeners = new ArrayList<>(Collections.<E>nCopies(pageNumbers.size(), null));
+        ParallelPageProcessor.processPages(pdfDocument, pageNumbers.size(), executor,
+                () -> (document, index) -> {
+                    E listener = listenerFactory.get();
+                    new PdfCanvasProcessor(listener, additionalContentOperators)
+                            .processPageContent(document.getPage((int) pageNumbers.get(index)));
+                    listeners.set(index, listener);
+                });
+        return listeners;
+    }
+
+    /**
+     * Processes content from the pages of the specified page range concurrently.
+     * See {@link #processContentParallel(PageRange, Supplier, ExecutorService, Map)} for the details.
+     *
+     * @param <E>             the type of the listeners
+     * @param pageRange       the pages to process
+     * @param listenerFactory the factory which creates a new listener for every page
+     * @param executor        the executor the workers are submitted to
+     * @return the listeners which have processed the pages in the page range order
+     */
+    public <E extends IEventListener> List<E> processContentParallel(PageRange pageRange, Supplier<E> listenerFactory,
+            ExecutorService executor) {
+        return processContentParallel(pageRange, listenerFactory, executor, new HashMap<String, IContentOperator>());
+    }
 }
@@ -24,10 +24,16 @@ package com.itextpdf.kernel.pdf.canvas.parser;
 
 import com.itextpdf.kernel.pdf.canvas.parser.listener.LocationTextExtractionStrategy;
 import com.itextpdf.kernel.pdf.canvas.parser.listener.ITextExtractionStrategy;
+import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.utils.PageRange;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
 
 public final class PdfTextExtractor {
 
@@ -74,4 +80,26 @@ public final class PdfTextExtractor {
     public static String getTextFromPage(PdfPage page) {
         return getTextFromPage(page, new LocationTextExtractionStrategy());
     }
+
+    /**
+     * Extract text from the pages of the specified page range concurrently.
+     * See {@link PdfDocumentContentParser#processContentParallel(PageRange, Supplier, ExecutorService)}
+     * for the details.
+     *
+     * @param pdfDocument     the document opened in reading mode
+     * @param pageRange       the pages for the text to be extracted from
+     * @param strategyFactory the factory which creates a new extraction strategy for every page
+     * @param executor        the executor the workers are submitted to
+     * @return the extracted text of every page in the page range order
+     */
+    public static List<String> getTextFromPagesParallel(PdfDocument pdfDocument, PageRange pageRange,
+            Supplier<ITextExtractionStrategy> strategyFactory, ExecutorService executor) {
+        List<ITextExtractionStrategy> strategies = new PdfDocumentContentParser(pdfDocument)
+                .processContentParallel(pageRange, strategyFactory, executor);
+        List<String> texts = new ArrayList<>(strategies.size());
+        for (ITextExtractionStrategy strategy : strategies) {
+            texts.add(strategy.getResultantText());
+        }
+        return texts;
+    }
 }
@@ -0,0 +1,347 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.canvas.parser.util;
+
+import com.itextpdf.io.source.PdfTokenizer;
+import com.itextpdf.kernel.pdf.PdfLiteral;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfNumber;
+import com.itextpdf.kernel.pdf.PdfObject;
+import com.itextpdf.kernel.pdf.PdfString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reusable storage of a single content stream operation filled by
+ * {@link PdfCanvasParser#parseOperation(ContentOperandStack)}.
+ * <p>
+ * Unlike {@link PdfCanvasParser#parse(java.util.List)}, which creates a {@link PdfObject} for each operand,
+ * the stack keeps numbers as primitive values and names, strings and operators as byte slices of its own buffer.
+ * The buffers are reused for the next operation, so processing of the content stream doesn't create any objects
+ * except for the array and dictionary operands and inline images. The {@link PdfObject} representation of an operand
+ * is only created on demand with {@link #getObject(int)}.
+ * <p>
+ * Operators are identified by integer codes, see {@link #getOperatorCode(String)}, so they can be dispatched
+ * without creating strings.
+ */
+public class ContentOperandStack {
+
+    /**
+     * The code of the operators which are longer than three bytes. Such operators aren't defined
+     * by the PDF specification and can only be compared by their string value, see {@link #getOperator()}.
+     */
+    public static final int UNKNOWN_OPERATOR_CODE = -1;
+
+    private static final int INITIAL_CAPACITY = 8;
+
+    /**
+     * The powers of ten which are represented exactly by {@code double}.
+     */
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    private byte[] types = new byte[INITIAL_CAPACITY];
+    private double[] numbers = new double[INITIAL_CAPACITY];
+    private int[] offsets = new int[INITIAL_CAPACITY];
+    private int[] lengths = new int[INITIAL_CAPACITY];
+    private boolean[] hexStrings = new boolean[INITIAL_CAPACITY];
+    private PdfObject[] objects = new PdfObject[INITIAL_CAPACITY];
+    private int size;
+
+    private byte[] data = new byte[64];
+    private int dataSize;
+
+    private int operatorOffset;
+    private int operatorLength;
+    private int operatorCode = UNKNOWN_OPERATOR_CODE;
+
+    /**
+     * Creates an empty stack.
+     */
+    public ContentOperandStack() {
+        // Empty constructor
+    }
+
+    /**
+     * Gets the code of the operator.
+     * <p>
+     * Operators of up to three bytes, which covers all the operators defined by the PDF specification, get unique
+     * codes. The code of all other operators is {@link #UNKNOWN_OPERATOR_CODE}.
+     *
+     * @param operator the operator
+     * @return the code of the operator
+     */
+    public static int getOperatorCode(String operator) {
+        if (operator.length() > 3) {
+            return UNKNOWN_OPERATOR_CODE;
+        }
+        byte[] bytes = operator.getBytes(StandardCharsets.ISO_8859_1);
+        return computeOperatorCode(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Gets the number of operands of the current operation.
+     *
+     * @return the number of operands
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the type of the operand, one of {@link PdfObject#NUMBER}, {@link PdfObject#NAME}, {@link PdfObject#STRING},
+     * {@link PdfObject#LITERAL}, {@link PdfObject#ARRAY}, {@link PdfObject#DICTIONARY} or
+     * {@link PdfObject#STREAM} in case of an inline image.
+     *
+     * @param index the index of the operand
+     * @return the type of the operand
+     */
+    public byte getType(int index) {
+        checkIndex(index);
+        return types[index];
+    }
+
+    /**
+     * Gets the value of the number operand.
+     *
+     * @param index the index of the operand
+     * @return the value of the operand or {@link Double#NaN} if the operand isn't a valid number
+     */
+    public double getNumber(int index) {
+        checkIndex(index);
+        return types[index] == PdfObject.NUMBER ? numbers[index] : Double.NaN;
+    }
+
+    /**
+     * Gets the value of the number operand as float.
+     *
+     * @param index the index of the operand
+     * @return the value of the operand or {@link Float#NaN} if the operand isn't a valid number
+     */
+    public float getFloat(int index) {
+        return (float) getNumber(index);
+    }
+
+    /**
+     * Gets the {@link PdfObject} representation of the operand. The object is created by each call.
+     *
+     * @param index the index of the operand
+     * @return the operand as {@link PdfObject}
+     */
+    public PdfObject getObject(int index) {
+        checkIndex(index);
+        switch (types[index]) {
+            case PdfObject.NUMBER:
+                return new PdfNumber(copyOfData(offsets[index], lengths[index]));
+            case PdfObject.NAME:
+                return new PdfName(copyOfData(offsets[index], lengths[index]));
+            case PdfObject.STRING:
+                return new PdfString(PdfTokenizer.decodeStringContent(copyOfData(offsets[index], lengths[index]),
+                        hexStrings[index])).setHexWriting(hexStrings[index]);
+            case PdfObject.LITERAL:
+                return new PdfLiteral(copyOfData(offsets[index], lengths[index]));
+            default:
+                return objects[index];
+        }
+    }
+
+    /**
+     * Gets the code of the operator of the current operation, see {@link #getOperatorCode(String)}.
+     *
+     * @return the code of the operator
+     */
+    public int getOperatorCode() {
+        return operatorCode;
+    }
+
+    /**
+     * Gets the operator of the current operation. A new string is created by each call.
+     *
+     * @return the operator
+     */
+    public String getOperator() {
+        return new String(data, operatorOffset, operatorLength, StandardCharsets.ISO_8859_1);
+    }
+
+    /**
+     * Checks whether the operator of the current operation is equal to the given one.
+     *
+     * @param operator the operator to compare with
+     * @return {@code true} if the operators are equal, {@code false} otherwise
+     */
+    public boolean isOperator(String operator) {
+        if (operator.length() != operatorLength) {
+            return false;
+        }
+        for (int i = 0; i < operatorLength; i++) {
+            if ((operator.charAt(i) & 0xff) != (data[operatorOffset + i] & 0xff)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    void clear() {
+        Arrays.fill(objects, 0, size, null);
+        size = 0;
+        dataSize = 0;
+        operatorOffset = 0;
+        operatorLength = 0;
+        operatorCode = UNKNOWN_OPERATOR_CODE;
+    }
+
+    void pushToken(byte type, PdfTokenizer tokenizer) {
+        int index = push(type);
+        int length = tokenizer.getByteContentLength();
+        offsets[index] = appendToData(tokenizer);
+        lengths[index] = length;
+        if (type == PdfObject.NUMBER) {
+            numbers[index] = parseNumber(data, offsets[index], length);
+        } else if (type == PdfObject.STRING) {
+            hexStrings[index] = tokenizer.isHexString();
+        }
+    }
+
+    void pushObject(PdfObject object) {
+        int index = push(object.getType());
+        objects[index] = object;
+    }
+
+    void setOperator(PdfTokenizer tokenizer) {
+        operatorLength = tokenizer.getByteContentLength();
+        operatorOffset = appendToData(tokenizer);
+        operatorCode = computeOperatorCode(data, operatorOffset, operatorLength);
+    }
+
+    void setOperator(String operator) {
+        byte[] bytes = operator.getBytes(StandardCharsets.ISO_8859_1);
+        ensureDataCapacity(bytes.length);
+        System.arraycopy(bytes, 0, data, dataSize, bytes.length);
+        operatorOffset = dataSize;
+        operatorLength = bytes.length;
+        dataSize += bytes.length;
+        operatorCode = computeOperatorCode(data, operatorOffset, operatorLength);
+    }
+
+    static int computeOperatorCode(byte[] bytes, int offset, int length) {
+        if (length == 0 || length > 3) {
+            return UNKNOWN_OPERATOR_CODE;
+        }
+        int code = length << 24;
+        for (int i = 0; i < length; i++) {
+            code |= (bytes[offset + i] & 0xff) << (16 - 8 * i);
+        }
+        return code;
+    }
+
+    /**
+     * Parses the number in the format produced by {@link PdfTokenizer}: an optional sign, digits and an optional
+     * fractional part. The result is the same as of {@link Double#parseDouble(String)}.
+     */
+    static double parseNumber(byte[] bytes, int offset, int length) {
+        int i = offset;
+        int end = offset + length;
+        boolean negative = false;
+        if (i < end && (bytes[i] == '-' || bytes[i] == '+')) {
+            negative = bytes[i] == '-';
+            ++i;
+        }
+        long mantissa = 0;
+        int significantDigits = 0;
+        int fractionDigits = 0;
+        boolean hasDigits = false;
+        boolean fraction = false;
+        for (; i < end; i++) {
+            byte b = bytes[i];
+            if (b >= '0' && b <= '9') {
+                hasDigits = true;
+                mantissa = mantissa * 10 + (b - '0');
+                if (mantissa != 0 && ++significantDigits > 15) {
+                    return parseNumberSlowly(bytes, offset, length);
+                }
+                if (fraction && ++fractionDigits >= POWERS_OF_TEN.length) {
+                    return parseNumberSlowly(bytes, offset, length);
+                }
+            } else if (b == '.' && !fraction) {
+                fraction = true;
+            } else {
+                return parseNumberSlowly(bytes, offset, length);
+            }
+        }
+        if (!hasDigits) {
+            return parseNumberSlowly(bytes, offset, length);
+        }
+        // Both the mantissa and the power of ten are represented exactly,
+        // so the single division gives the correctly rounded result
+        double value = mantissa / POWERS_OF_TEN[fractionDigits];
+        return negative ? -value : value;
+    }
+
+    private static double parseNumberSlowly(byte[] bytes, int offset, int length) {
+        try {
+            return Double.parseDouble(new String(bytes, offset, length, StandardCharsets.ISO_8859_1));
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    private int push(byte type) {
+        if (size == types.length) {
+            int capacity = size * 2;
+            types = Arrays.copyOf(types, capacity);
+            numbers = Arrays.copyOf(numbers, capacity);
+            offsets = Arrays.copyOf(offsets, capacity);
+            lengths = Arrays.copyOf(lengths, capacity);
+            hexStrings = Arrays.copyOf(hexStrings, capacity);
+            objects = Arrays.copyOf(objects, capacity);
+        }
+        types[size] = type;
+        return size++;
+    }
+
+    private int appendToData(PdfTokenizer tokenizer) {
+        int length = tokenizer.getByteContentLength();
+        ensureDataCapacity(length);
+        int offset = dataSize;
+        tokenizer.copyByteContent(data, offset);
+        dataSize += length;
+        return offset;
+    }
+
+    private void ensureDataCapacity(int length) {
+        if (dataSize + length > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, dataSize + length));
+        }
+    }
+
+    private byte[] copyOfData(int offset, int length) {
+        return Arrays.copyOfRange(data, offset, offset + length);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException(String.valueOf(index));
+        }
+    }
+}
@@ -23,9 +23,10 @@
 package com.itextpdf.kernel.pdf.canvas.parser.util;
 
 import com.itextpdf.commons.utils.MessageFormatUtil;
-import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.io.source.ByteUtils;
 import com.itextpdf.io.source.PdfTokenizer;
 import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.pdf.PdfArray;
 import com.itextpdf.kernel.pdf.PdfDictionary;
 import com.itextpdf.kernel.pdf.PdfLiteral;
@@ -45,6 +46,8 @@ import java.util.List;
  */
 public class PdfCanvasParser {
 
+    private static final byte[] INLINE_IMAGE_OPERATOR = ByteUtils.getIsoBytes("BI");
+
     /**
      * Holds value of property tokeniser.
      */
@@ -107,6 +110,59 @@ public class PdfCanvasParser {
         return ls;
     }
 
+    /**
+     * Parses a single command from the content into the reusable operand stack. In contrast to
+     * {@link #parse(List)}, number, name and string operands as well as the operator itself are kept in the buffers
+     * of the stack without creating {@link PdfObject} instances for them.
+     * <br>
+     * Inline images are handled the same way as by {@link #parse(List)}: the stack will contain the inline image
+     * encapsulated in {@link PdfStream} object as the only operand and EI as the operator.
+     * <br>
+     * Operands which aren't followed by an operator at the end of content are ignored.
+     *
+     * @param operandStack the stack to fill, it will be cleared before using
+     * @return {@code true} if an operation was read, {@code false} if the end of content was reached
+     * @throws IOException on error
+     */
+    public boolean parseOperation(ContentOperandStack operandStack) throws IOException {
+        operandStack.clear();
+        while (nextValidToken()) {
+            switch (tokeniser.getTokenType()) {
+                case StartDic:
+                    operandStack.pushObject(readDictionary());
+                    break;
+                case StartArray:
+                    operandStack.pushObject(readArray());
+                    break;
+                case String:
+                    operandStack.pushToken(PdfObject.STRING, tokeniser);
+                    break;
+                case Name:
+                    operandStack.pushToken(PdfObject.NAME, tokeniser);
+                    break;
+                case Number:
+                    operandStack.pushToken(PdfObject.NUMBER, tokeniser);
+                    break;
+                case Other:
+                    if (tokeniser.tokenValueEqualsTo(INLINE_IMAGE_OPERATOR)) {
+                        PdfStream inlineImageAsStream = InlineImageParsingUtils.parse(this,
+                                currentResources.getResource(PdfName.ColorSpace));
+                        operandStack.clear();
+                        operandStack.pushObject(inlineImageAsStream);
+                        operandStack.setOperator("EI");
+                    } else {
+                        operandStack.setOperator(tokeniser);
+                    }
+                    return true;
+                default:
+                    operandStack.pushToken(PdfObject.LITERAL, tokeniser);
+                    break;
+            }
+        }
+        operandStack.clear();
+        return false;
+    }
+
     /**
      * Gets the tokeniser.
      * @return the tokeniser.
@@ -31,12 +31,14 @@ import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfObject;
 
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 
 
 /**
  * Handles ASCII85Decode filter
  */
-public class ASCII85DecodeFilter extends MemoryLimitsAwareFilter {
+public class ASCII85DecodeFilter extends MemoryLimitsAwareFilter implements IByteBufferFilterHandler,
+        IStreamingFilterHandler {
 
     /**
      * Decodes the input bytes according to ASCII85.
@@ -45,7 +47,7 @@ public class ASCII85DecodeFilter extends MemoryLimitsAwareFilter {
      * @return the decoded byte[]
      */
     public static byte[] ASCII85Decode(byte[] in) {
-        return ASCII85DecodeInternal(in, new ByteArrayOutputStream());
+        return ASCII85DecodeInternal(java.nio.ByteBuffer.wrap(in), new ByteArrayOutputStream());
     }
 
     /**
@@ -54,23 +56,33 @@ public class ASCII85DecodeFilter extends MemoryLimitsAwareFilter {
     @Override
     public byte[] decode(byte[] b, PdfName filterName, PdfObject decodeParams, PdfDictionary streamDictionary) {
         ByteArrayOutputStream outputStream = enableMemoryLimitsAwareHandler(streamDictionary);
-        b = ASCII85DecodeInternal(b, outputStream);
+        b = ASCII85DecodeInternal(java.nio.ByteBuffer.wrap(b), outputStream);
         return b;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] decode(java.nio.ByteBuffer b, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary) {
+        ByteArrayOutputStream outputStream = enableMemoryLimitsAwareHandler(streamDictionary);
+        return ASCII85DecodeInternal(b, outputStream);
+    }
+
 
     /**
-     * Decodes the input bytes according to ASCII85.
+     * Decodes the remaining bytes of a buffer according to ASCII85.
      *
-     * @param in  the byte[] to be decoded
+     * @param in  the buffer to be decoded
      * @param out the out stream which will be used to write the bytes.
      * @return the decoded byte[]
      */
-    private static byte[] ASCII85DecodeInternal(byte[] in, ByteArrayOutputStream out) {
+    private static byte[] ASCII85DecodeInternal(java.nio.ByteBuffer in, ByteArrayOutputStream out) {
         int state = 0;
         int[] chn = new int[5];
-        for (int k = 0; k < in.length; ++k) {
-            int ch = in[k] & 0xff;
+        for (int k = in.position(); k < in.limit(); ++k) {
+            int ch = in.get(k) & 0xff;
             if (ch == '~') {
                 break;
             }
@@ -116,4 +128,13 @@ public class ASCII85DecodeFilter extends MemoryLimitsAwareFilter {
         }
         return out.toByteArray();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream createDecodingStream(InputStream encoded, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary) {
+        return new ASCII85DecodeInputStream(encoded);
+    }
 }
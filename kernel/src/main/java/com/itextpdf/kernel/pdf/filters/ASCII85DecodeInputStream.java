@@ -0,0 +1,99 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.filters;
+
+import com.itextpdf.io.source.PdfTokenizer;
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A stream which decodes ASCII85 encoded bytes while they are read.
+ */
+class ASCII85DecodeInputStream extends DecodingInputStream {
+
+    private static final int PORTION_SIZE = 256;
+
+    private final int[] chn = new int[5];
+
+    ASCII85DecodeInputStream(InputStream encoded) {
+        super(encoded);
+    }
+
+    @Override
+    boolean decodeNextPortion() throws IOException {
+        int state = 0;
+        while (getPortionSize() < PORTION_SIZE || state != 0) {
+            int ch = readEncoded();
+            if (ch == -1 || ch == '~') {
+                writeFinalTuple(state);
+                return false;
+            }
+            if (PdfTokenizer.isWhitespace(ch)) {
+                continue;
+            }
+            if (ch == 'z' && state == 0) {
+                write(0);
+                write(0);
+                write(0);
+                write(0);
+                continue;
+            }
+            if (ch < '!' || ch > 'u') {
+                throw new PdfException(KernelExceptionMessageConstant.ILLEGAL_CHARACTER_IN_ASCII85DECODE);
+            }
+            chn[state] = ch - '!';
+            ++state;
+            if (state == 5) {
+                state = 0;
+                int r = 0;
+                for (int j = 0; j < 5; ++j) {
+                    r = r * 85 + chn[j];
+                }
+                write((byte) (r >> 24));
+                write((byte) (r >> 16));
+                write((byte) (r >> 8));
+                write((byte) r);
+            }
+        }
+        return true;
+    }
+
+    private void writeFinalTuple(int state) {
+        if (state == 2) {
+            int r = chn[0] * 85 * 85 * 85 * 85 + chn[1] * 85 * 85 * 85 + 85 * 85 * 85 + 85 * 85 + 85;
+            write((byte) (r >> 24));
+        } else if (state == 3) {
+            int r = chn[0] * 85 * 85 * 85 * 85 + chn[1] * 85 * 85 * 85 + chn[2] * 85 * 85 + 85 * 85 + 85;
+            write((byte) (r >> 24));
+            write((byte) (r >> 16));
+        } else if (state == 4) {
+            int r = chn[0] * 85 * 85 * 85 * 85 + chn[1] * 85 * 85 * 85 + chn[2] * 85 * 85 + chn[3] * 85 + 85;
+            write((byte) (r >> 24));
+            write((byte) (r >> 16));
+            write((byte) (r >> 8));
+        }
+    }
+}
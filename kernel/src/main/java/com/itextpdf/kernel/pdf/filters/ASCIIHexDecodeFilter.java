@@ -32,11 +32,13 @@ import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfObject;
 
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 
 /**
  * Handles ASCIIHexDecode filter
  */
-public class ASCIIHexDecodeFilter extends MemoryLimitsAwareFilter {
+public class ASCIIHexDecodeFilter extends MemoryLimitsAwareFilter implements IByteBufferFilterHandler,
+        IStreamingFilterHandler {
 
     /**
      * Decodes a byte[] according to ASCII Hex encoding.
@@ -45,7 +47,7 @@ public class ASCIIHexDecodeFilter extends MemoryLimitsAwareFilter {
      * @return decoded byte[]
      */
     public static byte[] ASCIIHexDecode(byte[] in) {
-        return ASCIIHexDecodeInternal(in, new ByteArrayOutputStream());
+        return ASCIIHexDecodeInternal(java.nio.ByteBuffer.wrap(in), new ByteArrayOutputStream());
     }
 
     /**
@@ -54,22 +56,32 @@ public class ASCIIHexDecodeFilter extends MemoryLimitsAwareFilter {
     @Override
     public byte[] decode(byte[] b, PdfName filterName, PdfObject decodeParams, PdfDictionary streamDictionary) {
         ByteArrayOutputStream outputStream = enableMemoryLimitsAwareHandler(streamDictionary);
-        b = ASCIIHexDecodeInternal(b, outputStream);
+        b = ASCIIHexDecodeInternal(java.nio.ByteBuffer.wrap(b), outputStream);
         return b;
     }
 
     /**
-     * Decodes a byte[] according to ASCII Hex encoding.
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] decode(java.nio.ByteBuffer b, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary) {
+        ByteArrayOutputStream outputStream = enableMemoryLimitsAwareHandler(streamDictionary);
+        return ASCIIHexDecodeInternal(b, outputStream);
+    }
+
+    /**
+     * Decodes the remaining bytes of a buffer according to ASCII Hex encoding.
      *
-     * @param in  byte[] to be decoded
+     * @param in  the buffer to be decoded
      * @param out the out stream which will be used to write the bytes.
      * @return decoded byte[]
      */
-    private static byte[] ASCIIHexDecodeInternal(byte[] in, ByteArrayOutputStream out) {
+    private static byte[] ASCIIHexDecodeInternal(java.nio.ByteBuffer in, ByteArrayOutputStream out) {
         boolean first = true;
         int n1 = 0;
-        for (int k = 0; k < in.length; ++k) {
-            int ch = in[k] & 0xff;
+        for (int k = in.position(); k < in.limit(); ++k) {
+            int ch = in.get(k) & 0xff;
             if (ch == '>') {
                 break;
             }
@@ -92,4 +104,13 @@ public class ASCIIHexDecodeFilter extends MemoryLimitsAwareFilter {
         }
         return out.toByteArray();
     }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream createDecodingStream(InputStream encoded, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary) {
+        return new ASCIIHexDecodeInputStream(encoded);
+    }
 }
@@ -0,0 +1,72 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.filters;
+
+import com.itextpdf.io.source.ByteBuffer;
+import com.itextpdf.io.source.PdfTokenizer;
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A stream which decodes ASCII Hex encoded bytes while they are read.
+ */
+class ASCIIHexDecodeInputStream extends DecodingInputStream {
+
+    private static final int PORTION_SIZE = 256;
+
+    ASCIIHexDecodeInputStream(InputStream encoded) {
+        super(encoded);
+    }
+
+    @Override
+    boolean decodeNextPortion() throws IOException {
+        boolean first = true;
+        int n1 = 0;
+        while (getPortionSize() < PORTION_SIZE || !first) {
+            int ch = readEncoded();
+            if (ch == -1 || ch == '>') {
+                if (!first) {
+                    write((byte) (n1 << 4));
+                }
+                return false;
+            }
+            if (PdfTokenizer.isWhitespace(ch)) {
+                continue;
+            }
+            int n = ByteBuffer.getHex(ch);
+            if (n == -1) {
+                throw new PdfException(KernelExceptionMessageConstant.ILLEGAL_CHARACTER_IN_ASCIIHEXDECODE);
+            }
+            if (first) {
+                n1 = n;
+            } else {
+                write((byte) ((n1 << 4) + n));
+            }
+            first = !first;
+        }
+        return true;
+    }
+}
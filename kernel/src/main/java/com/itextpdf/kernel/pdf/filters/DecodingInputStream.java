@@ -0,0 +1,199 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.filters;
+
+import com.itextpdf.io.source.ByteBufferInputStream;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A base class for the streams returned by {@link IStreamingFilterHandler}s. A subclass decodes the data
+ * portion by portion, each portion is kept until it's read.
+ */
+abstract class DecodingInputStream extends InputStream {
+
+    private static final int INITIAL_PORTION_CAPACITY = 512;
+
+    private final InputStream encoded;
+
+    private byte[] portion = new byte[INITIAL_PORTION_CAPACITY];
+
+    private int position;
+
+    private int count;
+
+    private boolean finished;
+
+    /**
+     * Creates the stream decoding the bytes of the passed stream.
+     *
+     * @param encoded the stream with the bytes that need to be decoded
+     */
+    DecodingInputStream(InputStream encoded) {
+        // Subclasses read the encoded bytes one by one, so the streams which are expensive to read that way are buffered
+        if (encoded instanceof ByteBufferInputStream || encoded instanceof ByteArrayInputStream
+                || encoded instanceof BufferedInputStream) {
+            this.encoded = encoded;
+        } else {
+            this.encoded = new BufferedInputStream(encoded);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read() throws IOException {
+        if (!ensurePortion()) {
+            return -1;
+        }
+        return portion[position++] & 0xff;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensurePortion()) {
+            return -1;
+        }
+        int n = Math.min(len, count - position);
+        System.arraycopy(portion, position, b, off, n);
+        position += n;
+        return n;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int available() {
+        return count - position;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() throws IOException {
+        encoded.close();
+    }
+
+    /**
+     * Decodes the next portion of the data and writes it with {@link #write(int)} and {@link #write(byte[], int, int)}.
+     *
+     * @return {@code false} if the end of the data has been reached, {@code true} otherwise
+     * @throws IOException if the encoded bytes can't be read
+     */
+    abstract boolean decodeNextPortion() throws IOException;
+
+    /**
+     * Reads the next encoded byte.
+     *
+     * @return the next encoded byte or -1 if the end of the encoded stream has been reached
+     * @throws IOException if the encoded bytes can't be read
+     */
+    final int readEncoded() throws IOException {
+        return encoded.read();
+    }
+
+    /**
+     * Reads the encoded bytes until the array is filled or the end of the encoded stream is reached.
+     *
+     * @param b   the array to read the bytes into
+     * @param off the offset in the array
+     * @param len the number of bytes to read
+     * @return the number of bytes actually read
+     * @throws IOException if the encoded bytes can't be read
+     */
+    final int readEncoded(byte[] b, int off, int len) throws IOException {
+        int read = 0;
+        while (read < len) {
+            int n = encoded.read(b, off + read, len - read);
+            if (n < 0) {
+                break;
+            }
+            read += n;
+        }
+        return read;
+    }
+
+    /**
+     * Adds a decoded byte to the current portion.
+     *
+     * @param b the decoded byte
+     */
+    final void write(int b) {
+        ensureCapacity(1);
+        portion[count++] = (byte) b;
+    }
+
+    /**
+     * Adds decoded bytes to the current portion.
+     *
+     * @param b   the array with the decoded bytes
+     * @param off the offset in the array
+     * @param len the number of bytes to add
+     */
+    final void write(byte[] b, int off, int len) {
+        ensureCapacity(len);
+        System.arraycopy(b, off, portion, count, len);
+        count += len;
+    }
+
+    /**
+     * Gets the number of decoded bytes in the current portion.
+     *
+     * @return the size of the current portion
+     */
+    final int getPortionSize() {
+        return count;
+    }
+
+    private boolean ensurePortion() throws IOException {
+        while (position == count) {
+            if (finished) {
+                return false;
+            }
+            position = 0;
+            count = 0;
+            finished = !decodeNextPortion();
+        }
+        return true;
+    }
+
+    private void ensureCapacity(int len) {
+        if (count + len > portion.length) {
+            byte[] newPortion = new byte[Math.max(portion.length << 1, count + len)];
+            System.arraycopy(portion, 0, newPortion, 0, count);
+            portion = newPortion;
+        }
+    }
+}
@@ -27,13 +27,21 @@ import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfObject;
 import com.itextpdf.kernel.pdf.xobject.PdfImageXObject;
 
+import java.io.InputStream;
+
 /**
  * A filter that doesn't modify the stream at all
  */
-public class DoNothingFilter implements IFilterHandler {
+public class DoNothingFilter implements IStreamingFilterHandler {
 
     @Override
     public byte[] decode(byte[] b, PdfName filterName, PdfObject decodeParams, PdfDictionary streamDictionary) {
         return b;
     }
+
+    @Override
+    public InputStream createDecodingStream(InputStream encoded, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary) {
+        return encoded;
+    }
 }
@@ -22,6 +22,7 @@
  */
 package com.itextpdf.kernel.pdf.filters;
 
+import com.itextpdf.io.source.ByteBufferInputStream;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
 import com.itextpdf.kernel.exceptions.MemoryLimitsAwareException;
@@ -35,12 +36,14 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.zip.InflaterInputStream;
 
 /**
  * Handles FlateDecode filter.
  */
-public class FlateDecodeFilter extends MemoryLimitsAwareFilter {
+public class FlateDecodeFilter extends MemoryLimitsAwareFilter implements IByteBufferFilterHandler,
+        IStreamingFilterHandler {
 
     /**
      * A helper to flateDecode.
@@ -187,6 +190,30 @@ public class FlateDecodeFilter extends MemoryLimitsAwareFilter {
         return b;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] decode(java.nio.ByteBuffer b, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary) {
+        ByteArrayOutputStream outputStream = enableMemoryLimitsAwareHandler(streamDictionary);
+        byte[] res = flateDecodeInternal(new ByteBufferInputStream(b), true, outputStream);
+        if (res == null) {
+            outputStream.reset();
+            res = flateDecodeInternal(new ByteBufferInputStream(b), false, outputStream);
+        }
+        return decodePredictor(res, decodeParams);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream createDecodingStream(InputStream encoded, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary) {
+        return createPredictorDecodingStream(new FlateDecodeInputStream(encoded, false), decodeParams);
+    }
+
     /**
      * A helper to flateDecode.
      *
@@ -196,8 +223,19 @@ public class FlateDecodeFilter extends MemoryLimitsAwareFilter {
      * @return the decoded data
      */
     protected static byte[] flateDecodeInternal(byte[] in, boolean strict, ByteArrayOutputStream out) {
-        ByteArrayInputStream stream = new ByteArrayInputStream(in);
-        InflaterInputStream zip = new InflaterInputStream(stream);
+        return flateDecodeInternal(new ByteArrayInputStream(in), strict, out);
+    }
+
+    /**
+     * A helper to flateDecode.
+     *
+     * @param in     the input stream with the data
+     * @param strict {@code true} to read a correct stream. {@code false} to try to read a corrupted stream.
+     * @param out    the out stream which will be used to write the bytes.
+     * @return the decoded data
+     */
+    static byte[] flateDecodeInternal(InputStream in, boolean strict, ByteArrayOutputStream out) {
+        InflaterInputStream zip = new InflaterInputStream(in);
         byte[] b = new byte[strict ? 4092 : 1];
         try {
             int n;
@@ -217,6 +255,30 @@ public class FlateDecodeFilter extends MemoryLimitsAwareFilter {
         }
     }
 
+    /**
+     * Creates a stream which applies the predictor specified in the decode parameters while the bytes are read.
+     *
+     * @param in           the stream with the bytes to which the predictor should be applied
+     * @param decodeParams PdfDictionary of decodeParams
+     * @return the passed stream if no predictor is specified, otherwise the decoding stream
+     */
+    static InputStream createPredictorDecodingStream(InputStream in, PdfObject decodeParams) {
+        if (decodeParams == null || decodeParams.getType() != PdfObject.DICTIONARY) {
+            return in;
+        }
+        PdfDictionary dic = (PdfDictionary) decodeParams;
+        PdfObject obj = dic.get(PdfName.Predictor);
+        if (obj == null || obj.getType() != PdfObject.NUMBER) {
+            return in;
+        }
+        int predictor = ((PdfNumber) obj).intValue();
+        if (predictor < 10 && predictor != 2) {
+            return in;
+        }
+        return new PredictorDecodeInputStream(in, predictor, getNumberOrDefault(dic, PdfName.Columns, 1),
+                getNumberOrDefault(dic, PdfName.Colors, 1), getNumberOrDefault(dic, PdfName.BitsPerComponent, 8));
+    }
+
     private static int getNumberOrDefault(PdfDictionary dict, PdfName key, int defaultInt) {
         int result = defaultInt;
         final PdfObject obj = dict.get(key);
@@ -0,0 +1,137 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.filters;
+
+import com.itextpdf.kernel.exceptions.MemoryLimitsAwareException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A stream which inflates Flate encoded bytes while they are read. In the lenient mode a corrupted or truncated
+ * stream is treated as the end of the data, so everything that could be inflated before the broken part is returned.
+ *
+ * <p>
+ * The lenient mode returns the same bytes as {@link FlateDecodeFilter#flateDecode(byte[], boolean)} if the encoded
+ * stream supports {@link InputStream#mark(int)}: the bytes which have been inflated by the failed read are restored
+ * by inflating the stream once more byte by byte. Otherwise these bytes are lost.
+ */
+class FlateDecodeInputStream extends InflaterInputStream {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final boolean strict;
+
+    private final boolean rewindable;
+
+    private boolean broken;
+
+    private long bytesRead;
+
+    private byte[] restored;
+
+    private int restoredPosition;
+
+    FlateDecodeInputStream(InputStream encoded, boolean strict) {
+        super(encoded, new Inflater(), BUFFER_SIZE);
+        this.strict = strict;
+        this.rewindable = !strict && encoded.markSupported();
+        if (rewindable) {
+            encoded.mark(Integer.MAX_VALUE);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            super.close();
+        } finally {
+            // The inflater is not the default one, so it isn't released by InflaterInputStream itself
+            inf.end();
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (restored != null) {
+            if (restoredPosition == restored.length) {
+                return -1;
+            }
+            int n = Math.min(len, restored.length - restoredPosition);
+            System.arraycopy(restored, restoredPosition, b, off, n);
+            restoredPosition += n;
+            return n;
+        }
+        if (broken) {
+            return -1;
+        }
+        try {
+            int n = super.read(b, off, len);
+            if (n > 0) {
+                bytesRead += n;
+            }
+            return n;
+        } catch (MemoryLimitsAwareException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            if (strict) {
+                throw e;
+            }
+            broken = true;
+            if (rewindable) {
+                restored = inflateRemainingBytes();
+                return read(b, off, len);
+            }
+            return -1;
+        }
+    }
+
+    private byte[] inflateRemainingBytes() throws IOException {
+        in.reset();
+        Inflater inflater = new Inflater();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            // Single bytes are inflated, so that every byte before the broken part is returned
+            InflaterInputStream zip = new InflaterInputStream(in, inflater);
+            long skipped = 0;
+            int b;
+            while ((b = zip.read()) >= 0) {
+                if (skipped < bytesRead) {
+                    ++skipped;
+                } else {
+                    out.write(b);
+                }
+            }
+        } catch (MemoryLimitsAwareException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            // The end of the data which can be inflated has been reached
+        } finally {
+            inflater.end();
+        }
+        return out.toByteArray();
+    }
+}
@@ -22,11 +22,13 @@
  */
 package com.itextpdf.kernel.pdf.filters;
 
+import com.itextpdf.io.source.ByteBufferInputStream;
 import com.itextpdf.kernel.pdf.PdfDictionary;
 import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfObject;
 
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 
 /**
  * Handles strict FlateDecode filter.
@@ -44,6 +46,26 @@ public class FlateDecodeStrictFilter extends FlateDecodeFilter {
         return b;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] decode(java.nio.ByteBuffer b, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary) {
+        ByteArrayOutputStream outputStream = enableMemoryLimitsAwareHandler(streamDictionary);
+        byte[] res = flateDecodeInternal(new ByteBufferInputStream(b), true, outputStream);
+        return decodePredictor(res, decodeParams);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream createDecodingStream(InputStream encoded, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary) {
+        return createPredictorDecodingStream(new FlateDecodeInputStream(encoded, true), decodeParams);
+    }
+
     /**
      * A helper to flateDecode.
      *
@@ -0,0 +1,48 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.filters;
+
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfObject;
+
+/**
+ * A {@link IFilterHandler} which is able to decode the bytes directly from a {@link java.nio.ByteBuffer},
+ * e.g. from a memory mapped region of the file returned by {@link com.itextpdf.kernel.pdf.PdfStream#getRawByteBuffer()},
+ * without copying them to a byte array first.
+ */
+public interface IByteBufferFilterHandler extends IFilterHandler {
+
+    /**
+     * Decode the remaining bytes of the buffer using the provided filterName.
+     * The position and the limit of the buffer are not changed.
+     *
+     * @param b                the buffer with the bytes that need to be decoded
+     * @param filterName       PdfName of the filter
+     * @param decodeParams     decode parameters
+     * @param streamDictionary the dictionary of the stream. Can contain additional information needed to decode the
+     *                         bytes.
+     * @return decoded byte array
+     */
+    byte[] decode(java.nio.ByteBuffer b, PdfName filterName, PdfObject decodeParams, PdfDictionary streamDictionary);
+}
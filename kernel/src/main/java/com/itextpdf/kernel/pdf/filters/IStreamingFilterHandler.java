@@ -0,0 +1,51 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.filters;
+
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfObject;
+
+import java.io.InputStream;
+
+/**
+ * A {@link IFilterHandler} which is able to decode the bytes lazily, while they are read from a stream.
+ * Filters chained this way never hold the whole decoded data in memory, which is what
+ * {@link com.itextpdf.kernel.pdf.PdfReader#readStream(com.itextpdf.kernel.pdf.PdfStream, boolean)} relies on.
+ */
+public interface IStreamingFilterHandler extends IFilterHandler {
+
+    /**
+     * Creates a stream which decodes the bytes of the passed stream using the provided filterName.
+     * Closing the returned stream closes the passed stream.
+     *
+     * @param encoded          the stream with the bytes that need to be decoded
+     * @param filterName       PdfName of the filter
+     * @param decodeParams     decode parameters
+     * @param streamDictionary the dictionary of the stream. Can contain additional information needed to decode the
+     *                         bytes.
+     * @return the stream of decoded bytes
+     */
+    InputStream createDecodingStream(InputStream encoded, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary);
+}
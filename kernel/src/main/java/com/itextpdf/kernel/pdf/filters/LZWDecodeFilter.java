@@ -28,11 +28,12 @@ import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfObject;
 
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 
 /**
  * Handles LZWDECODE filter
  */
-public class LZWDecodeFilter extends MemoryLimitsAwareFilter {
+public class LZWDecodeFilter extends MemoryLimitsAwareFilter implements IStreamingFilterHandler {
 
     /**
      * Decodes a byte[] according to the LZW encoding.
@@ -55,6 +56,15 @@ public class LZWDecodeFilter extends MemoryLimitsAwareFilter {
         return b;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream createDecodingStream(InputStream encoded, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary) {
+        return FlateDecodeFilter.createPredictorDecodingStream(new LZWDecodeInputStream(encoded), decodeParams);
+    }
+
     /**
      * Decodes a byte[] according to the LZW encoding.
      *
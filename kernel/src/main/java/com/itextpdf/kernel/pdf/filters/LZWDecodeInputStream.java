@@ -0,0 +1,168 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.filters;
+
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A stream which decodes LZW encoded bytes while they are read. The decoding is the same as in {@link LZWDecoder}.
+ */
+class LZWDecodeInputStream extends DecodingInputStream {
+
+    private static final int PORTION_SIZE = 256;
+
+    private static final int CLEAR_TABLE = 256;
+
+    private static final int END_OF_INFORMATION = 257;
+
+    private static final int[] AND_TABLE = {
+            511,
+            1023,
+            2047,
+            4095
+    };
+
+    private byte[][] stringTable;
+    private int tableIndex;
+    private int bitsToGet = 9;
+    private int nextData = 0;
+    private int nextBits = 0;
+    private int oldCode = 0;
+
+    /**
+     * The first two bytes of the data, which are read ahead to check the LZW flavour.
+     */
+    private int[] lookAhead;
+    private int lookAheadPosition;
+
+    LZWDecodeInputStream(InputStream encoded) {
+        super(encoded);
+    }
+
+    @Override
+    boolean decodeNextPortion() throws IOException {
+        if (lookAhead == null) {
+            lookAhead = new int[] {readEncoded(), readEncoded()};
+            if (lookAhead[0] == 0x00 && lookAhead[1] == 0x01) {
+                throw new PdfException(KernelExceptionMessageConstant.LZW_FLAVOUR_NOT_SUPPORTED);
+            }
+            initializeStringTable();
+        }
+        int code;
+        while (getPortionSize() < PORTION_SIZE) {
+            if ((code = getNextCode()) == END_OF_INFORMATION) {
+                return false;
+            }
+            byte[] string;
+            if (code == CLEAR_TABLE) {
+                initializeStringTable();
+                code = getNextCode();
+                if (code == END_OF_INFORMATION) {
+                    return false;
+                }
+                writeString(stringTable[code]);
+            } else if (code < tableIndex) {
+                string = stringTable[code];
+                writeString(string);
+                addStringToTable(composeString(stringTable[oldCode], string[0]));
+            } else {
+                string = stringTable[oldCode];
+                string = composeString(string, string[0]);
+                writeString(string);
+                addStringToTable(string);
+            }
+            oldCode = code;
+        }
+        return true;
+    }
+
+    private void initializeStringTable() {
+        stringTable = new byte[8192][];
+        for (int i = 0; i < 256; i++) {
+            stringTable[i] = new byte[] {(byte) i};
+        }
+        tableIndex = 258;
+        bitsToGet = 9;
+    }
+
+    private void writeString(byte[] string) {
+        write(string, 0, string.length);
+    }
+
+    private void addStringToTable(byte[] string) {
+        stringTable[tableIndex++] = string;
+        if (tableIndex == 511) {
+            bitsToGet = 10;
+        } else if (tableIndex == 1023) {
+            bitsToGet = 11;
+        } else if (tableIndex == 2047) {
+            bitsToGet = 12;
+        }
+    }
+
+    private static byte[] composeString(byte[] oldString, byte newString) {
+        int length = oldString.length;
+        byte[] string = new byte[length + 1];
+        System.arraycopy(oldString, 0, string, 0, length);
+        string[length] = newString;
+        return string;
+    }
+
+    /**
+     * Gets the next 9, 10, 11 or 12 bits. If the data isn't terminated as expected, EndOfInformation code is returned.
+     *
+     * @return next code
+     */
+    private int getNextCode() throws IOException {
+        int b = nextEncoded();
+        if (b == -1) {
+            return END_OF_INFORMATION;
+        }
+        nextData = (nextData << 8) | b;
+        nextBits += 8;
+
+        if (nextBits < bitsToGet) {
+            b = nextEncoded();
+            if (b == -1) {
+                return END_OF_INFORMATION;
+            }
+            nextData = (nextData << 8) | b;
+            nextBits += 8;
+        }
+
+        int code = (nextData >> (nextBits - bitsToGet)) & AND_TABLE[bitsToGet - 9];
+        nextBits -= bitsToGet;
+        return code;
+    }
+
+    private int nextEncoded() throws IOException {
+        if (lookAheadPosition < lookAhead.length) {
+            return lookAhead[lookAheadPosition++];
+        }
+        return readEncoded();
+    }
+}
@@ -0,0 +1,135 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.filters;
+
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A stream which applies PNG and TIFF predictors to the bytes while they are read, row by row.
+ * The decoding is the same as in {@link FlateDecodeFilter#decodePredictor(byte[], com.itextpdf.kernel.pdf.PdfObject)}.
+ */
+class PredictorDecodeInputStream extends DecodingInputStream {
+
+    private final int predictor;
+    private final int bitsPerComponent;
+    private final int bytesPerPixel;
+    private final int bytesPerRow;
+
+    private byte[] curr;
+    private byte[] prior;
+
+    PredictorDecodeInputStream(InputStream encoded, int predictor, int columns, int colors, int bitsPerComponent) {
+        super(encoded);
+        this.predictor = predictor;
+        this.bitsPerComponent = bitsPerComponent;
+        this.bytesPerPixel = colors * bitsPerComponent / 8;
+        this.bytesPerRow = (colors * columns * bitsPerComponent + 7) / 8;
+        this.curr = new byte[bytesPerRow];
+        this.prior = new byte[bytesPerRow];
+    }
+
+    @Override
+    boolean decodeNextPortion() throws IOException {
+        if (predictor == 2) {
+            return decodeTiffRow();
+        }
+        // Read the filter type byte and a row of data
+        int filter = readEncoded();
+        if (filter < 0 || readEncoded(curr, 0, bytesPerRow) < bytesPerRow) {
+            return false;
+        }
+        switch (filter) {
+            case 0: //PNG_FILTER_NONE
+                break;
+            case 1: //PNG_FILTER_SUB
+                for (int i = bytesPerPixel; i < bytesPerRow; i++) {
+                    curr[i] += curr[i - bytesPerPixel];
+                }
+                break;
+            case 2: //PNG_FILTER_UP
+                for (int i = 0; i < bytesPerRow; i++) {
+                    curr[i] += prior[i];
+                }
+                break;
+            case 3: //PNG_FILTER_AVERAGE
+                for (int i = 0; i < bytesPerPixel; i++) {
+                    curr[i] += (byte) (prior[i] / 2);
+                }
+                for (int i = bytesPerPixel; i < bytesPerRow; i++) {
+                    curr[i] += (byte) (((curr[i - bytesPerPixel] & 0xff) + (prior[i] & 0xff)) / 2);
+                }
+                break;
+            case 4: //PNG_FILTER_PAETH
+                for (int i = 0; i < bytesPerPixel; i++) {
+                    curr[i] += prior[i];
+                }
+                for (int i = bytesPerPixel; i < bytesPerRow; i++) {
+                    int a = curr[i - bytesPerPixel] & 0xff;
+                    int b = prior[i] & 0xff;
+                    int c = prior[i - bytesPerPixel] & 0xff;
+
+                    int p = a + b - c;
+                    int pa = Math.abs(p - a);
+                    int pb = Math.abs(p - b);
+                    int pc = Math.abs(p - c);
+
+                    int ret;
+                    if (pa <= pb && pa <= pc) {
+                        ret = a;
+                    } else if (pb <= pc) {
+                        ret = b;
+                    } else {
+                        ret = c;
+                    }
+                    curr[i] += (byte) ret;
+                }
+                break;
+            default:
+                // Error -- unknown filter type
+                throw new PdfException(KernelExceptionMessageConstant.PNG_FILTER_UNKNOWN);
+        }
+        write(curr, 0, bytesPerRow);
+
+        // Swap curr and prior
+        byte[] tmp = prior;
+        prior = curr;
+        curr = tmp;
+        return true;
+    }
+
+    private boolean decodeTiffRow() throws IOException {
+        int read = readEncoded(curr, 0, bytesPerRow);
+        // Incomplete rows are left as is
+        if (bitsPerComponent == 8 && read == bytesPerRow) {
+            for (int col = bytesPerPixel; col < bytesPerRow; col++) {
+                curr[col] = (byte) (curr[col] + curr[col - bytesPerPixel]);
+            }
+        }
+        write(curr, 0, read);
+        return read == bytesPerRow;
+    }
+}
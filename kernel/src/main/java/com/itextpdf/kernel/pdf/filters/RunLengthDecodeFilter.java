@@ -28,11 +28,13 @@ import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfObject;
 
 import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
 
 /**
  * Handles RunLengthDecode filter.
  */
-public class RunLengthDecodeFilter extends MemoryLimitsAwareFilter {
+public class RunLengthDecodeFilter extends MemoryLimitsAwareFilter implements IByteBufferFilterHandler,
+        IStreamingFilterHandler {
 
     /**
      * {@inheritDoc}
@@ -40,9 +42,30 @@ public class RunLengthDecodeFilter extends MemoryLimitsAwareFilter {
     @Override
     public byte[] decode(byte[] b, PdfName filterName, PdfObject decodeParams, PdfDictionary streamDictionary) {
         ByteArrayOutputStream outputStream = enableMemoryLimitsAwareHandler(streamDictionary);
+        return runLengthDecodeInternal(java.nio.ByteBuffer.wrap(b), outputStream);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public byte[] decode(java.nio.ByteBuffer b, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary) {
+        ByteArrayOutputStream outputStream = enableMemoryLimitsAwareHandler(streamDictionary);
+        return runLengthDecodeInternal(b, outputStream);
+    }
+
+    /**
+     * Decodes the remaining bytes of a buffer according to RunLength encoding.
+     *
+     * @param in  the buffer to be decoded
+     * @param out the out stream which will be used to write the bytes.
+     * @return decoded byte[]
+     */
+    private static byte[] runLengthDecodeInternal(java.nio.ByteBuffer in, ByteArrayOutputStream out) {
         byte dupCount;
-        for (int i = 0; i < b.length; i++) {
-            dupCount = b[i];
+        for (int i = in.position(); i < in.limit(); i++) {
+            dupCount = in.get(i);
             if (dupCount == (byte) 0x80) {
                 // this is implicit end of data
 
@@ -50,17 +73,29 @@ public class RunLengthDecodeFilter extends MemoryLimitsAwareFilter {
             }
             if ((dupCount & 0x80) == 0) {
                 int bytesToCopy = dupCount + 1;
-                outputStream.write(b, i + 1, bytesToCopy);
+                for (int j = i + 1; j <= i + bytesToCopy; j++) {
+                    out.write(in.get(j));
+                }
                 i += bytesToCopy;
             } else {
                 // make dupcount copies of the next byte
 
                 i++;
+                byte value = in.get(i);
                 for (int j = 0; j < 257 - (dupCount & 0xff); j++) {
-                    outputStream.write(b[i]);
+                    out.write(value);
                 }
             }
         }
-        return outputStream.toByteArray();
+        return out.toByteArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public InputStream createDecodingStream(InputStream encoded, PdfName filterName, PdfObject decodeParams,
+            PdfDictionary streamDictionary) {
+        return new RunLengthDecodeInputStream(encoded);
     }
 }
@@ -0,0 +1,63 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.filters;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * A stream which decodes run length encoded bytes while they are read.
+ */
+class RunLengthDecodeInputStream extends DecodingInputStream {
+
+    private final byte[] run = new byte[128];
+
+    RunLengthDecodeInputStream(InputStream encoded) {
+        super(encoded);
+    }
+
+    @Override
+    boolean decodeNextPortion() throws IOException {
+        int dupCount = readEncoded();
+        if (dupCount == -1 || dupCount == 0x80) {
+            // this is implicit end of data
+            return false;
+        }
+        if ((dupCount & 0x80) == 0) {
+            int bytesToCopy = dupCount + 1;
+            int read = readEncoded(run, 0, bytesToCopy);
+            write(run, 0, read);
+            return read == bytesToCopy;
+        } else {
+            // make dupcount copies of the next byte
+            int value = readEncoded();
+            if (value == -1) {
+                return false;
+            }
+            for (int j = 0; j < 257 - dupCount; j++) {
+                write(value);
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.utils;
+
+import com.itextpdf.kernel.pdf.PdfDocument;
+
+/**
+ * A worker of {@link ParallelPageProcessor} which processes the tasks it takes one by one.
+ * A new worker is created for every thread, so a worker may keep a state between its tasks.
+ */
+@FunctionalInterface
+public interface IPageProcessingWorker {
+
+    /**
+     * Processes the task with the specified index.
+     *
+     * @param document  the document the task shall be processed with, either the processed document itself
+     *                  or the document opened by this worker over the same source
+     * @param taskIndex the index of the task
+     */
+    void process(PdfDocument document, int taskIndex);
+}
@@ -0,0 +1,153 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.utils;
+
+import com.itextpdf.commons.utils.ExecutorServiceUtil;
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.ReaderProperties;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Processes the pages of a document opened in reading mode by workers submitted to an {@link ExecutorService}.
+ *
+ * <p>
+ * The tasks, e.g. the pages, are distributed between at most
+ * {@link ExecutorServiceUtil#getParallelism(ExecutorService)} workers, each of them takes the next task
+ * once the previous one is processed. If the document is read in concurrent reading mode
+ * (see {@link ReaderProperties#setConcurrentReading(boolean)}), the workers share it. Otherwise each worker
+ * reads the document through its own {@link PdfDocument} instance opened over a read-only view of the source
+ * of the document, so that the processed document is not accessed from the other threads. Such an instance parses
+ * the cross-reference table and the page tree once again, so for documents with a lot of objects the concurrent
+ * reading mode is preferable.
+ */
+public final class ParallelPageProcessor {
+
+    private ParallelPageProcessor() { }
+
+    /**
+     * Processes the tasks with the indexes from zero to {@code tasksCount - 1} concurrently and waits until
+     * all the workers are finished. If a worker fails, the first exception is rethrown once all the workers
+     * are finished, so that no worker reads the document after this method returns.
+     *
+     * @param document      the document opened in reading mode
+     * @param tasksCount    the number of tasks
+     * @param executor      the executor the workers are submitted to
+     * @param workerFactory the factory which creates a new worker for every submitted worker
+     */
+    public static void processPages(PdfDocument document, int tasksCount, ExecutorService executor,
+            Supplier<? extends IPageProcessingWorker> workerFactory) {
+        PdfReader reader = document.getReader();
+        if (reader == null || document.getWriter() != null) {
+            throw new PdfException(
+                    KernelExceptionMessageConstant.PARALLEL_CONTENT_PROCESSING_REQUIRES_READING_MODE);
+        }
+        int workersCount = Math.min(tasksCount, ExecutorServiceUtil.getParallelism(executor));
+        AtomicInteger nextTask = new AtomicInteger();
+        List<Future<?>> workers = new ArrayList<>(workersCount);
+        for (int i = 0; i < workersCount; i++) {
+            workers.add(executor.submit(new Worker(document, tasksCount, nextTask, workerFactory.get())));
+        }
+        awaitWorkers(workers);
+    }
+
+    private static void awaitWorkers(List<Future<?>> workers) {
+        RuntimeException exception = null;
+        for (Future<?> worker : workers) {
+            try {
+                worker.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                for (Future<?> w : workers) {
+                    w.cancel(true);
+                }
+                throw new PdfException(e);
+            } catch (ExecutionException e) {
+                // Wait for all the workers anyway, so that no worker reads the document after this method returns
+                if (exception == null) {
+                    exception = e.getCause() instanceof RuntimeException ?
+                            (RuntimeException) e.getCause() : new PdfException(e.getCause());
+                }
+            }
+        }
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    private static final class Worker implements Runnable {
+        private final PdfDocument document;
+        private final int tasksCount;
+        private final AtomicInteger nextTask;
+        private final IPageProcessingWorker pageWorker;
+
+        Worker(PdfDocument document, int tasksCount, AtomicInteger nextTask, IPageProcessingWorker pageWorker) {
+            this.document = document;
+            this.tasksCount = tasksCount;
+            this.nextTask = nextTask;
+            this.pageWorker = pageWorker;
+        }
+
+        @Override
+        public void run() {
+            int taskIndex = nextTask.getAndIncrement();
+            if (taskIndex >= tasksCount) {
+                return;
+            }
+            PdfReader reader = document.getReader();
+            if (reader.isConcurrentReading()) {
+                processTasks(document, taskIndex);
+                return;
+            }
+            try (PdfDocument view = new PdfDocument(openView(reader))) {
+                processTasks(view, taskIndex);
+            } catch (IOException e) {
+                throw new PdfException(e);
+            }
+        }
+
+        private static PdfReader openView(PdfReader reader) throws IOException {
+            // Creation of a view changes the state of the reader, so the views are created one at a time
+            synchronized (reader) {
+                return new PdfReader(reader.getSafeFile().createSourceView(), reader.getPropertiesCopy())
+                        .setStrictnessLevel(reader.getStrictnessLevel());
+            }
+        }
+
+        private void processTasks(PdfDocument processedDocument, int firstTaskIndex) {
+            for (int taskIndex = firstTaskIndex; taskIndex < tasksCount; taskIndex = nextTask.getAndIncrement()) {
+                pageWorker.process(processedDocument, taskIndex);
+            }
+        }
+    }
+}
@@ -24,6 +24,17 @@ package com.itextpdf.kernel.utils.checkers;
 
 import com.itextpdf.io.util.TextUtil;
 import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.pdf.PdfArray;
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfIndirectReference;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfObject;
+import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.PdfStream;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
 
 /**
  * Utility class that contains common checks used in both the  PDFA and PDFUA module for fonts.
@@ -59,6 +70,39 @@ public final class FontCheckUtil {
         return -1;
     }
 
+    /**
+     * Collects the dictionaries of the fonts used by the page. Besides the fonts of the page resources, the fonts
+     * of the resources of the form XObjects, tiling patterns and Type 3 fonts used by the page and of the appearance
+     * streams of its annotations are collected, recursively.
+     *
+     * <p>
+     * Indirect fonts and resource holders are visited only once, so the same set of visited objects can be passed
+     * for all the pages of a document to get every font only once.
+     *
+     * @param page the page to collect the fonts of
+     * @param visitedObjects the indirect references of the fonts and of the objects with resources which have already
+     *                       been visited, the references of the newly visited objects are added to it
+     *
+     * @return the dictionaries of the fonts which haven't been visited yet
+     */
+    public static List<PdfDictionary> collectFonts(PdfPage page, Set<PdfIndirectReference> visitedObjects) {
+        List<PdfDictionary> fonts = new ArrayList<>();
+        collectFonts(page.getResources().getPdfObject(), visitedObjects, fonts);
+        PdfArray annots = page.getPdfObject().getAsArray(PdfName.Annots);
+        if (annots != null) {
+            for (int i = 0; i < annots.size(); ++i) {
+                PdfDictionary annot = annots.getAsDictionary(i);
+                PdfDictionary appearances = annot == null ? null : annot.getAsDictionary(PdfName.AP);
+                if (appearances != null) {
+                    for (PdfObject appearance : appearances.values()) {
+                        collectAppearanceFonts(appearance, visitedObjects, fonts);
+                    }
+                }
+            }
+        }
+        return fonts;
+    }
+
     /**
      * Character checker which performs check of passed symbol against the font.
      */
@@ -73,4 +117,67 @@ public final class FontCheckUtil {
          */
         boolean check(int ch, PdfFont font);
     }
+
+    private static void collectAppearanceFonts(PdfObject appearance, Set<PdfIndirectReference> visitedObjects,
+            List<PdfDictionary> fonts) {
+        if (appearance instanceof PdfStream) {
+            collectFormFonts((PdfStream) appearance, visitedObjects, fonts);
+        } else if (appearance instanceof PdfDictionary) {
+            // Appearance subdictionary with the appearance streams of the different states
+            for (PdfObject stateAppearance : ((PdfDictionary) appearance).values()) {
+                if (stateAppearance instanceof PdfStream) {
+                    collectFormFonts((PdfStream) stateAppearance, visitedObjects, fonts);
+                }
+            }
+        }
+    }
+
+    private static void collectFormFonts(PdfStream form, Set<PdfIndirectReference> visitedObjects,
+            List<PdfDictionary> fonts) {
+        if (markVisited(form, visitedObjects)) {
+            collectFonts(form.getAsDictionary(PdfName.Resources), visitedObjects, fonts);
+        }
+    }
+
+    private static void collectFonts(PdfDictionary resources, Set<PdfIndirectReference> visitedObjects,
+            List<PdfDictionary> fonts) {
+        if (resources == null || !markVisited(resources, visitedObjects)) {
+            return;
+        }
+        PdfDictionary fontResources = resources.getAsDictionary(PdfName.Font);
+        if (fontResources != null) {
+            for (PdfObject font : fontResources.values()) {
+                if (font instanceof PdfDictionary && markVisited(font, visitedObjects)) {
+                    PdfDictionary fontDictionary = (PdfDictionary) font;
+                    fonts.add(fontDictionary);
+                    if (PdfName.Type3.equals(fontDictionary.getAsName(PdfName.Subtype))) {
+                        collectFonts(fontDictionary.getAsDictionary(PdfName.Resources), visitedObjects, fonts);
+                    }
+                }
+            }
+        }
+        PdfDictionary xObjects = resources.getAsDictionary(PdfName.XObject);
+        if (xObjects != null) {
+            for (PdfObject xObject : xObjects.values()) {
+                if (xObject instanceof PdfStream
+                        && PdfName.Form.equals(((PdfStream) xObject).getAsName(PdfName.Subtype))) {
+                    collectFormFonts((PdfStream) xObject, visitedObjects, fonts);
+                }
+            }
+        }
+        PdfDictionary patterns = resources.getAsDictionary(PdfName.Pattern);
+        if (patterns != null) {
+            for (PdfObject pattern : patterns.values()) {
+                // Only tiling patterns have content and resources, shading patterns are dictionaries
+                if (pattern instanceof PdfStream) {
+                    collectFormFonts((PdfStream) pattern, visitedObjects, fonts);
+                }
+            }
+        }
+    }
+
+    private static boolean markVisited(PdfObject object, Set<PdfIndirectReference> visitedObjects) {
+        PdfIndirectReference reference = object.getIndirectReference();
+        return reference == null || visitedObjects.add(reference);
+    }
 }
@@ -0,0 +1,123 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.validation;
+
+import com.itextpdf.kernel.exceptions.PdfException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Report of a standalone conformance validation of an existing document.
+ *
+ * <p>
+ * Conformance checkers stop at the first violation they meet, so the report contains at most one failure
+ * for the document-wide requirements and at most one failure per page.
+ */
+public class ConformanceValidationReport {
+    /**
+     * The page number which is used for the failures of the document-wide requirements.
+     */
+    public static final int DOCUMENT_LEVEL = 0;
+
+    private final List<Failure> failures = new ArrayList<>();
+
+    /**
+     * Creates an empty {@link ConformanceValidationReport}.
+     */
+    public ConformanceValidationReport() {
+        // Empty constructor
+    }
+
+    /**
+     * Adds a failure to the report.
+     *
+     * @param pageNumber the number of the page which doesn't conform, or {@link #DOCUMENT_LEVEL}
+     * @param exception  the exception thrown by the conformance checker
+     *
+     * @return same instance of {@link ConformanceValidationReport}
+     */
+    public ConformanceValidationReport addFailure(int pageNumber, PdfException exception) {
+        failures.add(new Failure(pageNumber, exception));
+        return this;
+    }
+
+    /**
+     * Gets the failures in the order they were added.
+     *
+     * @return unmodifiable list of {@link Failure} instances
+     */
+    public List<Failure> getFailures() {
+        return Collections.unmodifiableList(failures);
+    }
+
+    /**
+     * Checks whether no conformance violations were found.
+     *
+     * @return {@code true} if the report contains no failures, {@code false} otherwise
+     */
+    public boolean isValid() {
+        return failures.isEmpty();
+    }
+
+    /**
+     * Conformance violation found during the validation.
+     */
+    public static final class Failure {
+        private final int pageNumber;
+        private final PdfException exception;
+
+        Failure(int pageNumber, PdfException exception) {
+            this.pageNumber = pageNumber;
+            this.exception = exception;
+        }
+
+        /**
+         * Gets the number of the page which doesn't conform.
+         *
+         * @return the page number, or {@link #DOCUMENT_LEVEL} for the document-wide requirements
+         */
+        public int getPageNumber() {
+            return pageNumber;
+        }
+
+        /**
+         * Gets the exception thrown by the conformance checker.
+         *
+         * @return the {@link PdfException} instance
+         */
+        public PdfException getException() {
+            return exception;
+        }
+
+        /**
+         * Gets the message describing the violation.
+         *
+         * @return the message of the exception
+         */
+        public String getMessage() {
+            return exception.getMessage();
+        }
+    }
+}
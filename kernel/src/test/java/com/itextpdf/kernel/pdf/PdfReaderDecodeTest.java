@@ -30,6 +30,7 @@ import com.itextpdf.test.ExtendedITextTest;
 import com.itextpdf.test.annotations.LogMessage;
 import com.itextpdf.test.annotations.LogMessages;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -313,4 +314,92 @@ public class PdfReaderDecodeTest extends ExtendedITextTest {
             Assertions.assertEquals(KernelExceptionMessageConstant.DURING_DECOMPRESSION_SINGLE_STREAM_OCCUPIED_MORE_MEMORY_THAN_ALLOWED, e.getMessage());
         }
     }
+
+    @Test
+    @LogMessages(messages = {
+            @LogMessage(messageTemplate = IoLogMessageConstant.INVALID_INDIRECT_REFERENCE),
+            @LogMessage(messageTemplate = IoLogMessageConstant.XREF_ERROR_WHILE_READING_TABLE_WILL_BE_REBUILT_WITH_CAUSE)
+    })
+    public void readStreamDecodesWhileReadingTest() throws IOException {
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(SOURCE_FOLDER + "timing.pdf"))) {
+            PdfStream stream = pdfDocument.getFirstPage().getContentStream(0);
+            PdfArray array = new PdfArray();
+            array.add(PdfName.Fl);
+            array.add(PdfName.Fl);
+            array.add(PdfName.Fl);
+            stream.put(PdfName.Filter, array);
+
+            byte[] expected = pdfDocument.getReader().readStreamBytes(stream, true);
+            Assertions.assertEquals(1000000, expected.length);
+            try (InputStream is = pdfDocument.getReader().readStream(stream, true)) {
+                Assertions.assertFalse(is instanceof ByteArrayInputStream);
+                Assertions.assertArrayEquals(expected, readAll(is));
+            }
+        }
+    }
+
+    @Test
+    @LogMessages(messages = {
+            @LogMessage(messageTemplate = IoLogMessageConstant.INVALID_INDIRECT_REFERENCE),
+            @LogMessage(messageTemplate = IoLogMessageConstant.XREF_ERROR_WHILE_READING_TABLE_WILL_BE_REBUILT_WITH_CAUSE)
+    })
+    public void readStreamCustomMemoryHandlerSingleTest() throws IOException {
+        MemoryLimitsAwareHandler handler = new MemoryLimitsAwareHandler();
+        handler.setMaxSizeOfSingleDecompressedPdfStream(1000);
+
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(SOURCE_FOLDER + "timing.pdf",
+                new ReaderProperties().setMemoryLimitsAwareHandler(handler)))) {
+            PdfStream stream = pdfDocument.getFirstPage().getContentStream(0);
+            PdfArray array = new PdfArray();
+            array.add(PdfName.Fl);
+            array.add(PdfName.Fl);
+            array.add(PdfName.Fl);
+            stream.put(PdfName.Filter, array);
+
+            try (InputStream is = pdfDocument.getReader().readStream(stream, true)) {
+                // The limit is checked while the stream is read, before it's fully decoded
+                byte[] buffer = new byte[500];
+                Assertions.assertEquals(500, is.read(buffer));
+                Exception e = Assertions.assertThrows(MemoryLimitsAwareException.class, () -> readAll(is));
+                Assertions.assertEquals(KernelExceptionMessageConstant.DURING_DECOMPRESSION_SINGLE_STREAM_OCCUPIED_MORE_MEMORY_THAN_ALLOWED,
+                        e.getMessage());
+            }
+        }
+    }
+
+    @Test
+    @LogMessages(messages = {
+            @LogMessage(messageTemplate = IoLogMessageConstant.INVALID_INDIRECT_REFERENCE),
+            @LogMessage(messageTemplate = IoLogMessageConstant.XREF_ERROR_WHILE_READING_TABLE_WILL_BE_REBUILT_WITH_CAUSE)
+    })
+    public void readStreamCustomMemoryHandlerSumTest() throws IOException {
+        MemoryLimitsAwareHandler handler = new MemoryLimitsAwareHandler();
+        handler.setMaxSizeOfDecompressedPdfStreamsSum(100000);
+
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(SOURCE_FOLDER + "timing.pdf",
+                new ReaderProperties().setMemoryLimitsAwareHandler(handler)))) {
+            PdfStream stream = pdfDocument.getFirstPage().getContentStream(0);
+            PdfArray array = new PdfArray();
+            array.add(PdfName.Fl);
+            array.add(PdfName.Fl);
+            array.add(PdfName.Fl);
+            stream.put(PdfName.Filter, array);
+
+            try (InputStream is = pdfDocument.getReader().readStream(stream, true)) {
+                Exception e = Assertions.assertThrows(MemoryLimitsAwareException.class, () -> readAll(is));
+                Assertions.assertEquals(KernelExceptionMessageConstant.DURING_DECOMPRESSION_MULTIPLE_STREAMS_IN_SUM_OCCUPIED_MORE_MEMORY_THAN_ALLOWED,
+                        e.getMessage());
+            }
+        }
+    }
+
+    private static byte[] readAll(InputStream is) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int n;
+        while ((n = is.read(buffer)) > 0) {
+            baos.write(buffer, 0, n);
+        }
+        return baos.toByteArray();
+    }
 }
@@ -26,6 +26,9 @@ import com.itextpdf.commons.utils.MessageFormatUtil;
 import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Tag;
@@ -69,4 +72,159 @@ public class PdfReaderUnitTest extends ExtendedITextTest {
         Assertions.assertEquals(MessageFormatUtil.format(
                 KernelExceptionMessageConstant.INVALID_OBJECT_STREAM_NUMBER, 20, 5, 0), e.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void concurrentReadingStampingModeTest() throws java.io.IOException {
+        PdfReader reader = new PdfReader(SOURCE_FOLDER + "testFile.pdf",
+                new ReaderProperties().setConcurrentReading(true));
+        PdfWriter writer = new PdfWriter(new ByteArrayOutputStream());
+        Exception e = Assertions.assertThrows(PdfException.class, () -> new PdfDocument(reader, writer));
+        Assertions.assertEquals(KernelExceptionMessageConstant.CONCURRENT_READING_REQUIRES_READING_MODE,
+                e.getMessage());
+    }
+
+    @Test
+    public void concurrentReadingReleaseTest() throws java.io.IOException {
+        try (PdfDocument doc = new PdfDocument(new PdfReader(SOURCE_FOLDER + "testFile.pdf",
+                new ReaderProperties().setConcurrentReading(true)))) {
+            Assertions.assertTrue(doc.getReader().isConcurrentReading());
+            PdfStream contentStream = doc.getPage(1).getContentStream(0);
+            PdfIndirectReference reference = contentStream.getIndirectReference();
+            contentStream.release();
+            // Objects of the shared document stay available to the other threads
+            Assertions.assertSame(contentStream, reference.getRefersTo());
+            Assertions.assertFalse(contentStream.checkState(PdfObject.READ_ONLY));
+        }
+    }
+
+    @Test
+    public void concurrentReadingImmutableObjectsTest() throws java.io.IOException {
+        try (PdfDocument doc = new PdfDocument(new PdfReader(SOURCE_FOLDER + "testFile.pdf",
+                new ReaderProperties().setConcurrentReading(true)))) {
+            PdfDictionary pageDict = doc.getPage(1).getPdfObject();
+            PdfArray mediaBox = pageDict.getAsArray(PdfName.MediaBox);
+            PdfStream contentStream = doc.getPage(1).getContentStream(0);
+            Assertions.assertFalse(pageDict.isModifiable());
+            Assertions.assertFalse(mediaBox.isModifiable());
+            Assertions.assertFalse(contentStream.isModifiable());
+
+            Exception e = Assertions.assertThrows(PdfException.class,
+                    () -> pageDict.put(PdfName.Rotate, new PdfNumber(90)));
+            Assertions.assertEquals(KernelExceptionMessageConstant.CONCURRENT_READING_OBJECT_CANNOT_BE_MODIFIED,
+                    e.getMessage());
+            e = Assertions.assertThrows(PdfException.class, () -> mediaBox.set(0, new PdfNumber(10)));
+            Assertions.assertEquals(KernelExceptionMessageConstant.CONCURRENT_READING_OBJECT_CANNOT_BE_MODIFIED,
+                    e.getMessage());
+            e = Assertions.assertThrows(PdfException.class, () -> contentStream.setData(new byte[0]));
+            Assertions.assertEquals(KernelExceptionMessageConstant.CONCURRENT_READING_OBJECT_CANNOT_BE_MODIFIED,
+                    e.getMessage());
+
+            // Objects created by the caller aren't shared, so they stay modifiable
+            PdfDictionary newDict = new PdfDictionary();
+            newDict.put(PdfName.Rotate, new PdfNumber(90));
+            Assertions.assertTrue(newDict.isModifiable());
+        }
+    }
+
+    @Test
+    public void modifiableObjectsInRegularModeTest() throws java.io.IOException {
+        try (PdfDocument doc = new PdfDocument(new PdfReader(SOURCE_FOLDER + "testFile.pdf"))) {
+            PdfDictionary pageDict = doc.getPage(1).getPdfObject();
+            Assertions.assertTrue(pageDict.isModifiable());
+            pageDict.put(PdfName.Rotate, new PdfNumber(90));
+            Assertions.assertEquals(90, doc.getPage(1).getRotation());
+        }
+    }
+
+    @Test
+    public void concurrentReadingTest() throws Exception {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument doc = new PdfDocument(new PdfWriter(baos))) {
+            for (int i = 0; i < 50; i++) {
+                doc.addNewPage().getPdfObject().put(PdfName.Rotate, new PdfNumber(i * 90 % 360));
+            }
+        }
+        try (PdfDocument doc = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray()),
+                new ReaderProperties().setConcurrentReading(true)))) {
+            Thread[] threads = new Thread[4];
+            boolean[] failed = new boolean[threads.length];
+            for (int t = 0; t < threads.length; t++) {
+                final int thread = t;
+                threads[t] = new Thread(() -> {
+                    for (int i = 1; i <= 50; i++) {
+                        if (doc.getPage(i).getRotation() != (i - 1) * 90 % 360) {
+                            failed[thread] = true;
+                        }
+                    }
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            for (boolean f : failed) {
+                Assertions.assertFalse(f);
+            }
+        }
+    }
+
+    @Test
+    public void concurrentReadingLoadsMixedPageTreeLazilyTest() throws java.io.IOException {
+        String[] objects = new String[] {
+                "<</Type/Catalog/Pages 2 0 R>>",
+                "<</Type/Pages/Kids[3 0 R 4 0 R]/Count 3>>",
+                "<</Type/Page/Parent 2 0 R/MediaBox[0 0 100 100]/Rotate 0>>",
+                "<</Type/Pages/Parent 2 0 R/Kids[5 0 R 6 0 R]/Count 2>>",
+                "<</Type/Page/Parent 4 0 R/MediaBox[0 0 100 100]/Rotate 90>>",
+                "<</Type/Page/Parent 4 0 R/MediaBox[0 0 100 100]/Rotate 180>>"
+        };
+        StringBuilder pdf = new StringBuilder("%PDF-1.7\n");
+        int[] offsets = new int[objects.length];
+        for (int i = 0; i < objects.length; i++) {
+            offsets[i] = pdf.length();
+            pdf.append(i + 1).append(" 0 obj\n").append(objects[i]).append("\nendobj\n");
+        }
+        int xrefOffset = pdf.length();
+        pdf.append("xref\n0 ").append(objects.length + 1).append("\n0000000000 65535 f \n");
+        for (int offset : offsets) {
+            pdf.append(MessageFormatUtil.format("{0} 00000 n \n", String.format("%010d", offset)));
+        }
+        pdf.append("trailer\n<</Size ").append(objects.length + 1).append("/Root 1 0 R>>\nstartxref\n")
+                .append(xrefOffset).append("\n%%EOF\n");
+
+        try (PdfDocument doc = new PdfDocument(new PdfReader(
+                new ByteArrayInputStream(pdf.toString().getBytes(java.nio.charset.StandardCharsets.ISO_8859_1)),
+                new ReaderProperties().setConcurrentReading(true)))) {
+            // The pages aren't read on opening
+            Assertions.assertNull(doc.getXref().get(6).refersTo);
+
+            // Loading the last page restructures the root node, which mixes pages and page tree nodes
+            PdfPage lastPage = doc.getPage(3);
+            Assertions.assertEquals(180, lastPage.getRotation());
+            Assertions.assertFalse(lastPage.getPdfObject().isModifiable());
+            Assertions.assertEquals(0, doc.getPage(1).getRotation());
+            Assertions.assertEquals(90, doc.getPage(2).getRotation());
+            Assertions.assertEquals(3, doc.getPageNumber(lastPage));
+        }
+    }
+
+    @Test
+    public void readStreamBytesDecodesOverriddenRawBytesTest() throws java.io.IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument doc = new PdfDocument(new PdfWriter(baos))) {
+            doc.addNewPage();
+        }
+        byte[] replacement = "q Q".getBytes(java.nio.charset.StandardCharsets.ISO_8859_1);
+        PdfReader reader = new PdfReader(new ByteArrayInputStream(baos.toByteArray())) {
+            @Override
+            public byte[] readStreamBytesRaw(PdfStream stream) {
+                return replacement;
+            }
+        };
+        try (PdfDocument doc = new PdfDocument(reader)) {
+            PdfStream contentStream = doc.getPage(1).getContentStream(0);
+            contentStream.remove(PdfName.Filter);
+            Assertions.assertArrayEquals(replacement, reader.readStreamBytes(contentStream, true));
+        }
+    }
+}
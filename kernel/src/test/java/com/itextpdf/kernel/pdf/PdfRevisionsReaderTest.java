@@ -90,6 +90,28 @@ public class PdfRevisionsReaderTest extends ExtendedITextTest {
         }
     }
 
+    @Test
+    public void createRevisionReaderTest() throws IOException {
+        String filename = SOURCE_FOLDER + "multipleRevisionsDocument.pdf";
+
+        try (PdfReader reader = new PdfReader(filename)) {
+            PdfRevisionsReader revisionsReader = new PdfRevisionsReader(reader);
+            List<DocumentRevision> documentRevisions = revisionsReader.getAllRevisions();
+
+            try (PdfDocument firstRevisionDocument = new PdfDocument(
+                    revisionsReader.createRevisionReader(documentRevisions.get(0)))) {
+                Assertions.assertEquals(7, firstRevisionDocument.getNumberOfPdfObjects());
+                Assertions.assertEquals(930, firstRevisionDocument.getReader().getFileLength());
+            }
+            try (PdfDocument lastRevisionDocument = new PdfDocument(
+                    revisionsReader.createRevisionReader(documentRevisions.get(2)))) {
+                Assertions.assertEquals(29, lastRevisionDocument.getNumberOfPdfObjects());
+            }
+            // The original reader stays usable after revision readers are closed
+            Assertions.assertEquals(3, new PdfRevisionsReader(reader).getAllRevisions().size());
+        }
+    }
+
     @Test
     public void freeReferencesDocument() throws IOException {
         String filename = SOURCE_FOLDER + "freeReferencesDocument.pdf";
@@ -28,7 +28,10 @@ import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.test.ExtendedITextTest;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Tag;
@@ -55,4 +58,37 @@ public class PdfStreamUnitTest extends ExtendedITextTest {
                 KernelExceptionMessageConstant.CANNOT_SET_DATA_TO_PDF_STREAM_WHICH_WAS_CREATED_BY_INPUT_STREAM,
                 exception.getMessage());
     }
+
+    @Test
+    public void getRawByteBufferOfNewStreamTest() {
+        PdfStream pdfStream = new PdfStream("stream data".getBytes(StandardCharsets.ISO_8859_1));
+        ByteBuffer buffer = pdfStream.getRawByteBuffer();
+        Assertions.assertTrue(buffer.isReadOnly());
+        Assertions.assertArrayEquals(pdfStream.getBytes(false), toByteArray(buffer));
+    }
+
+    @Test
+    public void getRawByteBufferOfReadStreamTest() throws IOException {
+        byte[] content = "q 0 0 m 100 100 l S Q".getBytes(StandardCharsets.ISO_8859_1);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos))) {
+            pdfDocument.addNewPage().getFirstContentStream().setData(content);
+        }
+
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())))) {
+            PdfStream contentStream = pdfDocument.getPage(1).getFirstContentStream();
+            ByteBuffer buffer = contentStream.getRawByteBuffer();
+            Assertions.assertTrue(buffer.isReadOnly());
+            Assertions.assertArrayEquals(contentStream.getBytes(false), toByteArray(buffer));
+            Assertions.assertArrayEquals(content, PdfReader.decodeBytes(buffer, contentStream));
+            // decoding must not consume the buffer
+            Assertions.assertEquals(contentStream.getLength(), buffer.remaining());
+        }
+    }
+
+    private static byte[] toByteArray(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
 }
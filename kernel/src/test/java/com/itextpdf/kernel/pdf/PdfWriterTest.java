@@ -27,6 +27,7 @@ import com.itextpdf.io.source.ByteUtils;
 import com.itextpdf.commons.utils.DateTimeUtil;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
 import com.itextpdf.kernel.utils.CompareTool;
 import com.itextpdf.test.ExtendedITextTest;
 
@@ -43,6 +44,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 @Tag("IntegrationTest")
 public class PdfWriterTest extends ExtendedITextTest {
@@ -619,4 +622,66 @@ public class PdfWriterTest extends ExtendedITextTest {
         Assertions.assertArrayEquals(streamContent.getBytes(), pdfStream.getBytes(), "Stream by InputStream");
         document.close();
     }
+
+    @Test
+    public void compressionExecutorTest() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            byte[] expected = createDocumentWithManyStreams(new WriterProperties());
+            byte[] actual = createDocumentWithManyStreams(new WriterProperties().setCompressionExecutor(executor));
+            Assertions.assertArrayEquals(expected, actual);
+
+            PdfReader reader = new PdfReader(new ByteArrayInputStream(actual));
+            PdfDocument pdfDocument = new PdfDocument(reader);
+            Assertions.assertFalse(reader.hasRebuiltXref());
+            Assertions.assertEquals(50, pdfDocument.getNumberOfPages());
+            Assertions.assertTrue(new String(pdfDocument.getPage(50).getContentBytes()).startsWith("0 0 m\n10 20 l\nS\n"));
+            pdfDocument.close();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void compressionExecutorFullCompressionTest() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            byte[] expected = createDocumentWithManyStreams(new WriterProperties().setFullCompressionMode(true));
+            byte[] actual = createDocumentWithManyStreams(new WriterProperties().setFullCompressionMode(true)
+                    .setCompressionExecutor(executor));
+            Assertions.assertArrayEquals(expected, actual);
+
+            PdfReader reader = new PdfReader(new ByteArrayInputStream(actual));
+            PdfDocument pdfDocument = new PdfDocument(reader);
+            Assertions.assertFalse(reader.hasRebuiltXref());
+            Assertions.assertEquals(50, pdfDocument.getNumberOfPages());
+            pdfDocument.close();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static byte[] createDocumentWithManyStreams(WriterProperties properties) {
+        properties.setInitialDocumentId(new PdfString("initial")).setModifiedDocumentId(new PdfString("modified"));
+        java.io.ByteArrayOutputStream baos = new java.io.ByteArrayOutputStream();
+        PdfDocument pdfDoc = new PdfDocument(new PdfWriter(baos, properties));
+        pdfDoc.getDocumentInfo().getPdfObject().put(PdfName.CreationDate, new PdfString("D:20240101000000Z"));
+        pdfDoc.getDocumentInfo().getPdfObject().put(PdfName.ModDate, new PdfString("D:20240101000000Z"));
+        for (int i = 0; i < 50; i++) {
+            PdfPage page = pdfDoc.addNewPage();
+            PdfCanvas canvas = new PdfCanvas(page);
+            for (int j = 0; j < 100 * i; j++) {
+                canvas.moveTo(j, 2 * j).lineTo(10 + j, 20 + 2 * j).stroke();
+            }
+            canvas.release();
+            PdfStream uncompressed = new PdfStream(("uncompressed " + i).getBytes(),
+                    CompressionConstants.NO_COMPRESSION);
+            page.getPdfObject().put(new PdfName("Uncompressed"), uncompressed.makeIndirect(pdfDoc));
+            if (i % 10 == 0) {
+                page.flush();
+            }
+        }
+        pdfDoc.close();
+        return baos.toByteArray();
+    }
 }
@@ -34,6 +34,7 @@ import com.itextpdf.test.LogLevelConstants;
 import com.itextpdf.test.annotations.LogMessage;
 import com.itextpdf.test.annotations.LogMessages;
 
+import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import org.junit.jupiter.api.AfterAll;
@@ -195,4 +196,135 @@ public class PdfXrefTableTest extends ExtendedITextTest {
         Assertions.assertEquals(1, freeRef2.genNr);
         pdfDocument.close();
     }
+
+    @Test
+    public void compactXrefTableTest() throws IOException {
+        compareCompactAndRegularXrefTables(createDocumentWithManyObjects(false), false);
+    }
+
+    @Test
+    public void compactXrefStreamTest() throws IOException {
+        compareCompactAndRegularXrefTables(createDocumentWithManyObjects(true), false);
+    }
+
+    @Test
+    public void offHeapCompactXrefStreamTest() throws IOException {
+        compareCompactAndRegularXrefTables(createDocumentWithManyObjects(true), true);
+    }
+
+    @Test
+    public void compactXrefTableCreatesReferencesLazilyTest() throws IOException {
+        byte[] pdf = createDocumentWithManyObjects(false);
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf),
+                new ReaderProperties().setCompactXrefTable(true)));
+        PdfXrefTable xref = pdfDocument.getXref();
+        Assertions.assertTrue(xref.isCompact());
+        int objNr = findObjectNumber(pdf, new PdfNumber(999));
+        Assertions.assertNull(xref.getIfCreated(objNr));
+        Assertions.assertTrue(xref.containsCompactEntry(objNr));
+        Assertions.assertEquals(new PdfNumber(999), pdfDocument.getPdfObject(objNr));
+        Assertions.assertNotNull(xref.getIfCreated(objNr));
+        Assertions.assertFalse(xref.containsCompactEntry(objNr));
+        pdfDocument.close();
+    }
+
+    @Test
+    public void offHeapCompactXrefTableReleasedOnCloseTest() throws IOException {
+        byte[] pdf = createDocumentWithManyObjects(true);
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf),
+                new ReaderProperties().setCompactXrefTable(true).setOffHeapXrefTable(true)));
+        PdfXrefTable xref = pdfDocument.getXref();
+        Assertions.assertTrue(xref.isCompact());
+        int objNr = xref.size() - 1;
+        while (!xref.containsCompactEntry(objNr)) {
+            --objNr;
+        }
+        PdfIndirectReference catalogReference = pdfDocument.getCatalog().getPdfObject().getIndirectReference();
+        pdfDocument.close();
+        Assertions.assertFalse(xref.containsCompactEntry(objNr));
+        // The created references are kept
+        Assertions.assertSame(catalogReference, xref.get(catalogReference.getObjNumber()));
+    }
+
+    @Test
+    public void compactXrefTableConcurrentGetTest() throws Exception {
+        byte[] pdf = createDocumentWithManyObjects(false);
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf),
+                new ReaderProperties().setCompactXrefTable(true).setConcurrentReading(true)));
+        PdfXrefTable xref = pdfDocument.getXref();
+        int size = xref.size();
+        PdfIndirectReference[][] references = new PdfIndirectReference[4][size];
+        Thread[] threads = new Thread[references.length];
+        for (int t = 0; t < threads.length; t++) {
+            final PdfIndirectReference[] threadReferences = references[t];
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < size; i++) {
+                    threadReferences[i] = xref.get(i);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        for (int i = 0; i < size; i++) {
+            for (int t = 1; t < references.length; t++) {
+                Assertions.assertSame(references[0][i], references[t][i]);
+            }
+        }
+        pdfDocument.close();
+    }
+
+    private static void compareCompactAndRegularXrefTables(byte[] pdf, boolean offHeap) throws IOException {
+        PdfDocument expected = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)));
+        PdfDocument actual = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf),
+                new ReaderProperties().setCompactXrefTable(true).setOffHeapXrefTable(offHeap)));
+        Assertions.assertEquals(expected.getNumberOfPdfObjects(), actual.getNumberOfPdfObjects());
+        Assertions.assertEquals(expected.getXref().getCountOfIndirectObjects(),
+                actual.getXref().getCountOfIndirectObjects());
+        for (int i = 0; i < expected.getNumberOfPdfObjects(); i++) {
+            PdfIndirectReference expectedRef = expected.getXref().get(i);
+            PdfIndirectReference actualRef = actual.getXref().get(i);
+            Assertions.assertEquals(expectedRef.getGenNumber(), actualRef.getGenNumber());
+            Assertions.assertEquals(expectedRef.getOffset(), actualRef.getOffset());
+            Assertions.assertEquals(expectedRef.getObjStreamNumber(), actualRef.getObjStreamNumber());
+            Assertions.assertEquals(expectedRef.isFree(), actualRef.isFree());
+            Assertions.assertEquals(String.valueOf(expectedRef.getRefersTo()),
+                    String.valueOf(actualRef.getRefersTo()));
+        }
+        expected.close();
+        actual.close();
+    }
+
+    private static byte[] createDocumentWithManyObjects(boolean fullCompression) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos,
+                new WriterProperties().setFullCompressionMode(fullCompression)));
+        PdfArray array = new PdfArray();
+        for (int i = 0; i < 1000; i++) {
+            PdfObject object = new PdfNumber(i).makeIndirect(pdfDocument);
+            if (i % 100 == 50) {
+                object.getIndirectReference().setFree();
+            } else {
+                array.add(object);
+            }
+        }
+        pdfDocument.addNewPage().getPdfObject().put(new PdfName("Numbers"), array);
+        for (int i = 0; i < 10; i++) {
+            array.add(new PdfNumber(1000 + i).makeIndirect(pdfDocument));
+        }
+        pdfDocument.close();
+        return baos.toByteArray();
+    }
+
+    private static int findObjectNumber(byte[] pdf, PdfObject object) throws IOException {
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)))) {
+            for (int i = 1; i < pdfDocument.getNumberOfPdfObjects(); i++) {
+                if (object.equals(pdfDocument.getPdfObject(i))) {
+                    return i;
+                }
+            }
+        }
+        return -1;
+    }
 }
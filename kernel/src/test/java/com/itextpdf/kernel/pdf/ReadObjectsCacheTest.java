@@ -0,0 +1,170 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf;
+
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("IntegrationTest")
+public class ReadObjectsCacheTest extends ExtendedITextTest {
+    private static final int PAGES_COUNT = 100;
+
+    @Test
+    public void readAllPagesWithBoundedCacheTest() throws IOException {
+        readAllPagesWithBoundedCache(false);
+    }
+
+    @Test
+    public void readAllPagesWithBoundedCacheFullCompressionTest() throws IOException {
+        readAllPagesWithBoundedCache(true);
+    }
+
+    @Test
+    public void releasedObjectInUseIsRestoredTest() throws IOException {
+        byte[] pdf = createDocument(false);
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf),
+                new ReaderProperties().setObjectCacheSize(1)));
+        PdfIndirectReference contentsReference = pdfDocument.getPage(1).getPdfObject()
+                .getAsStream(PdfName.Contents).getIndirectReference();
+        PdfStream contents = (PdfStream) contentsReference.getRefersTo();
+        Assertions.assertTrue(contentsReference.checkState(PdfObject.CACHED));
+
+        pdfDocument.getPage(2).getContentBytes();
+
+        Assertions.assertFalse(contentsReference.checkState(PdfObject.CACHED));
+        Assertions.assertNull(contentsReference.refersTo);
+        // The object is still held here, so it is restored instead of being read again
+        Assertions.assertSame(contents, contentsReference.getRefersTo());
+        Assertions.assertTrue(contentsReference.checkState(PdfObject.CACHED));
+        pdfDocument.close();
+    }
+
+    @Test
+    public void changesOfReleasedObjectAreKeptTest() throws IOException {
+        for (boolean fullCompression : new boolean[] {false, true}) {
+            PdfDocument pdfDocument = new PdfDocument(new PdfReader(
+                    new ByteArrayInputStream(createDocument(fullCompression)),
+                    new ReaderProperties().setObjectCacheSize(1)));
+            PdfArray extra = pdfDocument.getPage(1).getPdfObject().getAsArray(new PdfName("Extra"));
+            for (int i = 2; i <= PAGES_COUNT; i++) {
+                pdfDocument.getPage(i).getPdfObject().getAsArray(new PdfName("Extra"));
+            }
+            Assertions.assertNull(extra.getIndirectReference().refersTo);
+            Assertions.assertTrue(pdfDocument.getReader().getObjectsCache().releasedSize() > 0);
+
+            extra.add(new PdfNumber(7));
+            PdfArray reread = pdfDocument.getPage(1).getPdfObject().getAsArray(new PdfName("Extra"));
+            Assertions.assertSame(extra, reread);
+            Assertions.assertEquals(3, reread.size());
+            pdfDocument.close();
+        }
+    }
+
+    @Test
+    public void releaseForbiddenObjectsAreKeptTest() throws IOException {
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(createDocument(false)),
+                new ReaderProperties().setObjectCacheSize(1)));
+        PdfDictionary pageDictionary = pdfDocument.getPage(1).getPdfObject();
+        for (int i = 2; i <= PAGES_COUNT; i++) {
+            pdfDocument.getPage(i).getContentBytes();
+        }
+        Assertions.assertSame(pageDictionary, pageDictionary.getIndirectReference().getRefersTo());
+        Assertions.assertSame(pdfDocument.getCatalog().getPdfObject(),
+                pdfDocument.getCatalog().getPdfObject().getIndirectReference().getRefersTo());
+        pdfDocument.close();
+    }
+
+    @Test
+    public void recentlyAccessedObjectIsKeptTest() throws IOException {
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(createDocument(false)),
+                new ReaderProperties().setObjectCacheSize(20)));
+        PdfIndirectReference firstContents = pdfDocument.getPage(1).getPdfObject()
+                .getAsStream(PdfName.Contents).getIndirectReference();
+        PdfObject first = firstContents.getRefersTo();
+        for (int i = 2; i <= PAGES_COUNT; i++) {
+            pdfDocument.getPage(i).getContentBytes();
+            Assertions.assertSame(first, firstContents.getRefersTo());
+        }
+        pdfDocument.close();
+    }
+
+    @Test
+    public void cacheIsNotUsedInStampingModeTest() throws IOException {
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(createDocument(false)),
+                new ReaderProperties().setObjectCacheSize(1)), new PdfWriter(new ByteArrayOutputStream()));
+        Assertions.assertNull(pdfDocument.getReader().getObjectsCache());
+        pdfDocument.close();
+    }
+
+    @Test
+    public void cacheIsNotUsedInConcurrentReadingModeTest() throws IOException {
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(createDocument(false)),
+                new ReaderProperties().setObjectCacheSize(1).setConcurrentReading(true)));
+        Assertions.assertNull(pdfDocument.getReader().getObjectsCache());
+        pdfDocument.close();
+    }
+
+    private static void readAllPagesWithBoundedCache(boolean fullCompression) throws IOException {
+        byte[] pdf = createDocument(fullCompression);
+        List<byte[]> expected = new ArrayList<>();
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)));
+        for (int i = 1; i <= PAGES_COUNT; i++) {
+            expected.add(pdfDocument.getPage(i).getContentBytes());
+        }
+        pdfDocument.close();
+
+        pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf),
+                new ReaderProperties().setObjectCacheSize(5)));
+        ReadObjectsCache cache = pdfDocument.getReader().getObjectsCache();
+        // Read the pages twice, so that the second pass reads the released objects again
+        for (int pass = 0; pass < 2; pass++) {
+            for (int i = 1; i <= PAGES_COUNT; i++) {
+                Assertions.assertArrayEquals(expected.get(i - 1), pdfDocument.getPage(i).getContentBytes());
+                Assertions.assertTrue(cache.size() <= 5);
+            }
+        }
+        pdfDocument.close();
+    }
+
+    private static byte[] createDocument(boolean fullCompression) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos,
+                new WriterProperties().setFullCompressionMode(fullCompression)));
+        for (int i = 0; i < PAGES_COUNT; i++) {
+            PdfPage page = pdfDocument.addNewPage();
+            page.getFirstContentStream().getOutputStream().writeString("% page " + i + "\n0 0 m 100 " + i + " l S");
+            page.getPdfObject().put(new PdfName("Extra"),
+                    new PdfArray(new float[] {i, i + 1}).makeIndirect(pdfDocument));
+        }
+        pdfDocument.close();
+        return baos.toByteArray();
+    }
+}
@@ -37,11 +37,18 @@ public class ReaderPropertiesTest extends ExtendedITextTest {
         MemoryLimitsAwareHandler handler = new MemoryLimitsAwareHandler();
         handler.setMaxXObjectsSizePerPage(10);
         ReaderProperties properties = new ReaderProperties().setPassword("123".getBytes(StandardCharsets.ISO_8859_1))
-                .setMemoryLimitsAwareHandler(handler);
+                .setMemoryLimitsAwareHandler(handler).setConcurrentReading(true)
+                .setCompactXrefTable(true).setOffHeapXrefTable(true)
+                .setObjectCacheSize(100).setReleaseObjectsOnLowMemory(true);
 
         ReaderProperties copy = new ReaderProperties(properties);
 
         Assertions.assertArrayEquals(copy.password, properties.password);
+        Assertions.assertTrue(copy.concurrentReading);
+        Assertions.assertTrue(copy.compactXrefTable);
+        Assertions.assertTrue(copy.offHeapXrefTable);
+        Assertions.assertEquals(100, copy.objectCacheSize);
+        Assertions.assertTrue(copy.releaseObjectsOnLowMemory);
 
         Assertions.assertNotEquals(copy.memoryLimitsAwareHandler, properties.memoryLimitsAwareHandler);
         Assertions.assertEquals(copy.memoryLimitsAwareHandler.getMaxXObjectsSizePerPage(),
@@ -22,16 +22,30 @@
  */
 package com.itextpdf.kernel.pdf.canvas.parser;
 
+import com.itextpdf.kernel.geom.IShape;
+import com.itextpdf.kernel.geom.Subpath;
 import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfLiteral;
 import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.kernel.pdf.PdfObject;
+import com.itextpdf.kernel.pdf.PdfResources;
+import com.itextpdf.kernel.pdf.canvas.parser.data.IEventData;
+import com.itextpdf.kernel.pdf.canvas.parser.data.PathRenderInfo;
 import com.itextpdf.kernel.pdf.canvas.parser.listener.FilteredEventListener;
+import com.itextpdf.kernel.pdf.canvas.parser.listener.IEventListener;
 import com.itextpdf.test.ExtendedITextTest;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Tag;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Tag("UnitTest")
 public class PdfCanvasProcessorUnitTest extends ExtendedITextTest {
@@ -48,4 +62,104 @@ public class PdfCanvasProcessorUnitTest extends ExtendedITextTest {
         processor.registerContentOperator("BMC", contentOperator);
         contentOperator.invoke(processor, null, Collections.singletonList((PdfObject) null));
     }
+
+    @Test
+    public void overriddenInvokeOperatorReceivesAllOperationsTest() {
+        byte[] content = "q 1 0 0 1 10 20 cm 0 0 m 10 10 l 0 10 m 20 20 l S Q BT 0 0 Td ET"
+                .getBytes(StandardCharsets.ISO_8859_1);
+        final List<String> invokedOperators = new ArrayList<>();
+        final Map<PdfLiteral, Boolean> literals = new IdentityHashMap<>();
+        PdfCanvasProcessor processor = new PdfCanvasProcessor(new FilteredEventListener()) {
+            @Override
+            protected void invokeOperator(PdfLiteral operator, List<PdfObject> operands) {
+                invokedOperators.add(operator.toString());
+                literals.put(operator, Boolean.TRUE);
+                Assertions.assertSame(operator, operands.get(operands.size() - 1));
+                super.invokeOperator(operator, operands);
+            }
+        };
+        processor.processContent(content, new PdfResources());
+
+        Assertions.assertEquals(Arrays.asList("q", "cm", "m", "l", "m", "l", "S", "Q", "BT", "Td", "ET"),
+                invokedOperators);
+        // Each operation gets its own literal
+        Assertions.assertEquals(invokedOperators.size(), literals.size());
+    }
+
+    @Test
+    public void operandStackDispatchProducesSameResultTest() {
+        byte[] content = ("2 w 5 M 0.5 g 1 0 0 RG 1 0 0 1 10 20 cm 0 0 m 10.5 10 l 20 0 5 5 30 30 c 1 1 2 2 v "
+                + "3 3 4 4 y h S 5 5 100 50 re W n 0.1 0.2 0.3 0.4 k 0 0 1 1 re f* BT 1 Tc 2 Tw 90 Tz 12 TL 3 Ts "
+                + "1 0 0 1 5 5 Tm 10 -12 TD T* 1 2 Td ET").getBytes(StandardCharsets.ISO_8859_1);
+
+        List<String> stackDispatchEvents = new ArrayList<>();
+        PdfCanvasProcessor processor = new PdfCanvasProcessor(new PathDescribingListener(stackDispatchEvents));
+        processor.processContent(content, new PdfResources());
+        String stackDispatchState = describeGraphicsState(processor.getGraphicsState());
+
+        List<String> objectDispatchEvents = new ArrayList<>();
+        // Subclasses don't process the operations from the operand stack by default
+        PdfCanvasProcessor subclassProcessor = new PdfCanvasProcessor(
+                new PathDescribingListener(objectDispatchEvents)) {
+        };
+        Assertions.assertFalse(subclassProcessor.isOperandStackDispatchAllowed());
+        subclassProcessor.processContent(content, new PdfResources());
+
+        Assertions.assertEquals(3, stackDispatchEvents.size());
+        Assertions.assertEquals(objectDispatchEvents, stackDispatchEvents);
+        Assertions.assertEquals(describeGraphicsState(subclassProcessor.getGraphicsState()), stackDispatchState);
+    }
+
+    @Test
+    public void operatorWithUnexpectedOperandsIsInvokedWithObjectsTest() {
+        PdfCanvasProcessor processor = new PdfCanvasProcessor(new FilteredEventListener());
+        // The operation can't be processed from the operand stack, so the operator fails
+        // on the operand objects the same way it always did
+        Assertions.assertThrows(ClassCastException.class, () -> processor.processContent(
+                "/Name 10 m".getBytes(StandardCharsets.ISO_8859_1), new PdfResources()));
+        Assertions.assertThrows(ClassCastException.class, () -> processor.processContent(
+                "10 m".getBytes(StandardCharsets.ISO_8859_1), new PdfResources()));
+    }
+
+    private static String describeGraphicsState(ParserGraphicsState gs) {
+        return gs.getCtm() + " " + gs.getLineWidth() + " " + gs.getMiterLimit() + " "
+                + Arrays.toString(gs.getFillColor().getColorValue()) + " "
+                + Arrays.toString(gs.getStrokeColor().getColorValue()) + " " + gs.getCharSpacing() + " "
+                + gs.getWordSpacing() + " " + gs.getHorizontalScaling() + " " + gs.getLeading() + " "
+                + gs.getTextRise();
+    }
+
+    private static final class PathDescribingListener implements IEventListener {
+        private final List<String> events;
+
+        PathDescribingListener(List<String> events) {
+            this.events = events;
+        }
+
+        @Override
+        public void eventOccurred(IEventData data, EventType type) {
+            if (type != EventType.RENDER_PATH) {
+                return;
+            }
+            PathRenderInfo renderInfo = (PathRenderInfo) data;
+            StringBuilder description = new StringBuilder();
+            description.append(renderInfo.getOperation()).append(' ').append(renderInfo.getRule()).append(' ')
+                    .append(renderInfo.isPathModifiesClippingPath()).append(' ').append(renderInfo.getCtm())
+                    .append(' ').append(renderInfo.getLineWidth()).append(' ')
+                    .append(Arrays.toString(renderInfo.getFillColor().getColorValue()));
+            for (Subpath subpath : renderInfo.getPath().getSubpaths()) {
+                description.append(" [").append(subpath.getStartPoint());
+                for (IShape segment : subpath.getSegments()) {
+                    description.append(' ').append(segment.getBasePoints());
+                }
+                description.append(subpath.isClosed() ? " closed]" : "]");
+            }
+            events.add(description.toString());
+        }
+
+        @Override
+        public Set<EventType> getSupportedEvents() {
+            return null;
+        }
+    }
 }
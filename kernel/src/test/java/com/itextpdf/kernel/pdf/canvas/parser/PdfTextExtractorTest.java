@@ -22,9 +22,18 @@
  */
 package com.itextpdf.kernel.pdf.canvas.parser;
 
+import com.itextpdf.io.font.constants.StandardFonts;
 import com.itextpdf.io.logs.IoLogMessageConstant;
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.font.PdfFontFactory;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.ReaderProperties;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.canvas.parser.listener.LocationTextExtractionStrategy;
+import com.itextpdf.kernel.utils.PageRange;
 import com.itextpdf.test.ExtendedITextTest;
 import com.itextpdf.test.annotations.LogMessage;
 import com.itextpdf.test.annotations.LogMessages;
@@ -32,7 +41,16 @@ import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Tag;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Tag("IntegrationTest")
 public class PdfTextExtractorTest extends ExtendedITextTest {
@@ -160,4 +178,87 @@ public class PdfTextExtractorTest extends ExtendedITextTest {
             Assertions.assertFalse(extractedText.contains("18个⽉"));
         }
     }
+
+    @Test
+    public void getTextFromPagesParallelTest() throws IOException {
+        byte[] bytes = createNumberedPagesDocument(30);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(bytes)))) {
+            List<String> texts = PdfTextExtractor.getTextFromPagesParallel(pdfDocument, new PageRange("3-30"),
+                    () -> new LocationTextExtractionStrategy(), executor);
+            Assertions.assertEquals(28, texts.size());
+            for (int i = 0; i < texts.size(); i++) {
+                Assertions.assertEquals("Page " + (i + 3), texts.get(i));
+                Assertions.assertEquals(PdfTextExtractor.getTextFromPage(pdfDocument.getPage(i + 3)), texts.get(i));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void getTextFromPagesParallelConcurrentReadingTest() throws IOException {
+        byte[] bytes = createNumberedPagesDocument(30);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(bytes),
+                new ReaderProperties().setConcurrentReading(true)))) {
+            List<String> texts = PdfTextExtractor.getTextFromPagesParallel(pdfDocument, new PageRange("1-30"),
+                    () -> new LocationTextExtractionStrategy(), executor);
+            Assertions.assertEquals(30, texts.size());
+            for (int i = 0; i < texts.size(); i++) {
+                Assertions.assertEquals("Page " + (i + 1), texts.get(i));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void getTextFromPagesParallelWorkersLimitedByPoolSizeTest() throws IOException {
+        byte[] bytes = createNumberedPagesDocument(10);
+        AtomicInteger submittedWorkers = new AtomicInteger();
+        ExecutorService executor = new ThreadPoolExecutor(3, 3, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>()) {
+            @Override
+            public void execute(Runnable command) {
+                submittedWorkers.incrementAndGet();
+                super.execute(command);
+            }
+        };
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(bytes)))) {
+            List<String> texts = PdfTextExtractor.getTextFromPagesParallel(pdfDocument, new PageRange("1-10"),
+                    () -> new LocationTextExtractionStrategy(), executor);
+            Assertions.assertEquals(10, texts.size());
+            Assertions.assertEquals(3, submittedWorkers.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void getTextFromPagesParallelWritingModeTest() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()))) {
+            pdfDocument.addNewPage();
+            Exception e = Assertions.assertThrows(PdfException.class, () -> PdfTextExtractor
+                    .getTextFromPagesParallel(pdfDocument, new PageRange("1"),
+                            () -> new LocationTextExtractionStrategy(), executor));
+            Assertions.assertEquals(KernelExceptionMessageConstant.PARALLEL_CONTENT_PROCESSING_REQUIRES_READING_MODE,
+                    e.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static byte[] createNumberedPagesDocument(int numberOfPages) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos))) {
+            for (int i = 1; i <= numberOfPages; i++) {
+                new PdfCanvas(pdfDocument.addNewPage()).beginText()
+                        .setFontAndSize(PdfFontFactory.createFont(StandardFonts.HELVETICA), 12)
+                        .moveText(36, 700).showText("Page " + i).endText();
+            }
+        }
+        return baos.toByteArray();
+    }
 }
@@ -0,0 +1,159 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.canvas.parser.util;
+
+import com.itextpdf.io.source.ByteUtils;
+import com.itextpdf.io.source.PdfTokenizer;
+import com.itextpdf.io.source.RandomAccessFileOrArray;
+import com.itextpdf.io.source.RandomAccessSourceFactory;
+import com.itextpdf.kernel.pdf.PdfLiteral;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfNumber;
+import com.itextpdf.kernel.pdf.PdfObject;
+import com.itextpdf.kernel.pdf.PdfResources;
+import com.itextpdf.kernel.pdf.PdfStream;
+import com.itextpdf.kernel.pdf.PdfString;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+public class ContentOperandStackTest extends ExtendedITextTest {
+
+    private static final String CONTENT = "q 1 0 0 1 -.5 +3 cm\n"
+            + "% comment\n"
+            + "BT /F1 12.25 Tf (Hello\\051 World) Tj <48656C6C6F> Tj ET\n"
+            + "[(A) -250 (B)] TJ /Span <</MCID 0>> BDC EMC\n"
+            + "0.1234567890123456789 1234567890123456789 0.00000000000000000000000001 w\n"
+            + "-- . true null d0 Q";
+
+    @Test
+    public void parseEqualsToObjectParsingTest() throws IOException {
+        PdfCanvasParser listParser = createParser(CONTENT);
+        PdfCanvasParser stackParser = createParser(CONTENT);
+        List<PdfObject> operands = new ArrayList<>();
+        ContentOperandStack operandStack = new ContentOperandStack();
+        int operations = 0;
+        while (listParser.parse(operands).size() > 0) {
+            Assertions.assertTrue(stackParser.parseOperation(operandStack));
+            Assertions.assertEquals(operands.size() - 1, operandStack.size());
+            for (int i = 0; i < operandStack.size(); i++) {
+                PdfObject expected = operands.get(i);
+                PdfObject actual = operandStack.getObject(i);
+                Assertions.assertEquals(expected.getType(), operandStack.getType(i));
+                Assertions.assertEquals(expected.getClass(), actual.getClass());
+                Assertions.assertEquals(expected.toString(), actual.toString());
+                if (expected.isNumber()) {
+                    Assertions.assertEquals(((PdfNumber) expected).doubleValue(), operandStack.getNumber(i));
+                }
+                if (expected.isString()) {
+                    Assertions.assertEquals(((PdfString) expected).isHexWriting(),
+                            ((PdfString) actual).isHexWriting());
+                }
+            }
+            String operator = operands.get(operands.size() - 1).toString();
+            Assertions.assertEquals(operator, operandStack.getOperator());
+            Assertions.assertTrue(operandStack.isOperator(operator));
+            Assertions.assertEquals(ContentOperandStack.getOperatorCode(operator), operandStack.getOperatorCode());
+            ++operations;
+        }
+        Assertions.assertFalse(stackParser.parseOperation(operandStack));
+        Assertions.assertEquals(0, operandStack.size());
+        Assertions.assertEquals(15, operations);
+    }
+
+    @Test
+    public void inlineImageTest() throws IOException {
+        PdfCanvasParser parser = createParser("q BI /W 1 /H 1 /BPC 8 /CS /G ID \u0000 EI Q");
+        ContentOperandStack operandStack = new ContentOperandStack();
+        Assertions.assertTrue(parser.parseOperation(operandStack));
+        Assertions.assertTrue(operandStack.isOperator("q"));
+        Assertions.assertTrue(parser.parseOperation(operandStack));
+        Assertions.assertTrue(operandStack.isOperator("EI"));
+        Assertions.assertEquals(1, operandStack.size());
+        Assertions.assertEquals(PdfObject.STREAM, operandStack.getType(0));
+        Assertions.assertArrayEquals(new byte[] {0}, ((PdfStream) operandStack.getObject(0)).getBytes());
+        Assertions.assertTrue(parser.parseOperation(operandStack));
+        Assertions.assertTrue(operandStack.isOperator("Q"));
+        Assertions.assertEquals(0, operandStack.size());
+    }
+
+    @Test
+    public void danglingOperandsAreIgnoredTest() throws IOException {
+        PdfCanvasParser parser = createParser("1 0 0 RG 1 2");
+        ContentOperandStack operandStack = new ContentOperandStack();
+        Assertions.assertTrue(parser.parseOperation(operandStack));
+        Assertions.assertEquals(3, operandStack.size());
+        Assertions.assertFalse(parser.parseOperation(operandStack));
+        Assertions.assertEquals(0, operandStack.size());
+    }
+
+    @Test
+    public void operandsStorageGrowsTest() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 100; i++) {
+            content.append("/Name").append(i).append(' ').append(i).append(".5 ");
+        }
+        content.append("op");
+        PdfCanvasParser parser = createParser(content.toString());
+        ContentOperandStack operandStack = new ContentOperandStack();
+        Assertions.assertTrue(parser.parseOperation(operandStack));
+        Assertions.assertEquals(200, operandStack.size());
+        Assertions.assertEquals(new PdfName("Name99"), operandStack.getObject(198));
+        Assertions.assertEquals(99.5f, operandStack.getFloat(199));
+        Assertions.assertTrue(operandStack.isOperator("op"));
+    }
+
+    @Test
+    public void nonNumberOperandTest() throws IOException {
+        PdfCanvasParser parser = createParser("/Name ] Tf");
+        ContentOperandStack operandStack = new ContentOperandStack();
+        Assertions.assertTrue(parser.parseOperation(operandStack));
+        Assertions.assertTrue(Double.isNaN(operandStack.getNumber(0)));
+        Assertions.assertEquals(PdfObject.LITERAL, operandStack.getType(1));
+        Assertions.assertEquals(new PdfLiteral(""), operandStack.getObject(1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> operandStack.getObject(2));
+    }
+
+    @Test
+    public void operatorCodeTest() {
+        Assertions.assertEquals(ContentOperandStack.UNKNOWN_OPERATOR_CODE,
+                ContentOperandStack.getOperatorCode("BDCX"));
+        Assertions.assertNotEquals(ContentOperandStack.getOperatorCode("T"), ContentOperandStack.getOperatorCode("T*"));
+        Assertions.assertNotEquals(ContentOperandStack.getOperatorCode("'"), ContentOperandStack.getOperatorCode("\""));
+        byte[] bytes = ByteUtils.getIsoBytes("BDC");
+        Assertions.assertEquals(ContentOperandStack.getOperatorCode("BDC"),
+                ContentOperandStack.computeOperatorCode(bytes, 0, bytes.length));
+    }
+
+    private static PdfCanvasParser createParser(String content) {
+        PdfTokenizer tokenizer = new PdfTokenizer(new RandomAccessFileOrArray(
+                new RandomAccessSourceFactory().createSource(ByteUtils.getIsoBytes(content))));
+        return new PdfCanvasParser(tokenizer, new PdfResources());
+    }
+}
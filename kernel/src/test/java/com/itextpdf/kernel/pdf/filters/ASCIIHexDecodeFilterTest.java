@@ -24,10 +24,13 @@ package com.itextpdf.kernel.pdf.filters;
 
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfName;
 import com.itextpdf.test.ExtendedITextTest;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -73,4 +76,16 @@ public class ASCIIHexDecodeFilterTest extends ExtendedITextTest {
         String decoded = new String(ASCIIHexDecodeFilter.ASCIIHexDecode(bytes));
         Assertions.assertEquals(expectedResult, decoded);
     }
+
+    @Test
+    public void decodingFromByteBufferTest() {
+        byte[] bytes = "stream4c6f72656d20697073756d2e>".getBytes();
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.position(6);
+
+        byte[] decoded = new ASCIIHexDecodeFilter().decode(buffer.asReadOnlyBuffer(), PdfName.ASCIIHexDecode, null,
+                new PdfDictionary());
+        Assertions.assertEquals("Lorem ipsum.", new String(decoded));
+        Assertions.assertEquals(6, buffer.position());
+    }
 }
@@ -0,0 +1,62 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.filters;
+
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+public class RunLengthDecodeFilterTest extends ExtendedITextTest {
+    @Test
+    public void decodingTest() {
+        byte[] encoded = {2, 'a', 'b', 'c', (byte) 0xFE, 'd', 0, 'e', (byte) 0x81, 'f', (byte) 0x80, 'g'};
+        byte[] decoded = new RunLengthDecodeFilter().decode(encoded, PdfName.RunLengthDecode, null,
+                new PdfDictionary());
+        Assertions.assertEquals("abcddde" + repeat('f', 128), new String(decoded, StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    public void decodingFromByteBufferTest() {
+        byte[] encoded = {'x', 2, 'a', 'b', 'c', (byte) 0xFE, 'd', 0, 'e', (byte) 0x81, 'f', (byte) 0x80, 'g'};
+        ByteBuffer buffer = ByteBuffer.wrap(encoded);
+        buffer.position(1);
+        byte[] decoded = new RunLengthDecodeFilter().decode(buffer.asReadOnlyBuffer(), PdfName.RunLengthDecode, null,
+                new PdfDictionary());
+        Assertions.assertEquals("abcddde" + repeat('f', 128), new String(decoded, StandardCharsets.ISO_8859_1));
+        Assertions.assertEquals(1, buffer.position());
+    }
+
+    private static String repeat(char ch, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, ch);
+        return new String(chars);
+    }
+}
@@ -0,0 +1,245 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.pdf.filters;
+
+import com.itextpdf.io.source.RASInputStream;
+import com.itextpdf.io.source.RandomAccessSourceFactory;
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfNumber;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.DeflaterOutputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+public class StreamingFilterHandlerTest extends ExtendedITextTest {
+
+    @Test
+    public void flateDecodingStreamTest() throws IOException {
+        byte[] data = createData(100000);
+        byte[] encoded = deflate(data);
+        assertDecodedEqually(new FlateDecodeFilter(), PdfName.FlateDecode, encoded, null);
+        Assertions.assertArrayEquals(data, decodeStreaming(new FlateDecodeFilter(), PdfName.FlateDecode, encoded,
+                null));
+    }
+
+    @Test
+    public void flateDecodingStreamPngPredictorTest() throws IOException {
+        int columns = 10;
+        byte[] rows = new byte[(columns * 3 + 1) * 50];
+        Random random = new Random(42);
+        random.nextBytes(rows);
+        for (int i = 0; i < rows.length; i += columns * 3 + 1) {
+            // Filter type of the row, from 0 to 4
+            rows[i] = (byte) (i / (columns * 3 + 1) % 5);
+        }
+        PdfDictionary decodeParams = new PdfDictionary();
+        decodeParams.put(PdfName.Predictor, new PdfNumber(15));
+        decodeParams.put(PdfName.Columns, new PdfNumber(columns));
+        decodeParams.put(PdfName.Colors, new PdfNumber(3));
+        assertDecodedEqually(new FlateDecodeFilter(), PdfName.FlateDecode, deflate(rows), decodeParams);
+    }
+
+    @Test
+    public void flateDecodingStreamTiffPredictorTest() throws IOException {
+        byte[] data = createData(1001);
+        PdfDictionary decodeParams = new PdfDictionary();
+        decodeParams.put(PdfName.Predictor, new PdfNumber(2));
+        decodeParams.put(PdfName.Columns, new PdfNumber(10));
+        assertDecodedEqually(new FlateDecodeFilter(), PdfName.FlateDecode, deflate(data), decodeParams);
+    }
+
+    @Test
+    public void flateDecodingStreamTruncatedDataTest() throws IOException {
+        byte[] data = createData(100000);
+        byte[] encoded = deflate(data);
+        byte[] truncated = Arrays.copyOf(encoded, encoded.length / 2);
+
+        byte[] decoded = decodeStreaming(new FlateDecodeFilter(), PdfName.FlateDecode, truncated, null);
+        Assertions.assertTrue(decoded.length > 0);
+        Assertions.assertArrayEquals(Arrays.copyOf(data, decoded.length), decoded);
+        assertDecodedEqually(new FlateDecodeFilter(), PdfName.FlateDecode, truncated, null);
+
+        Assertions.assertThrows(IOException.class,
+                () -> decodeStreaming(new FlateDecodeStrictFilter(), PdfName.FlateDecode, truncated, null));
+    }
+
+    @Test
+    public void flateDecodingStreamCorruptedDataTest() throws IOException {
+        byte[] encoded = deflate(createData(100000));
+        for (int i = 1; i < 8; i++) {
+            byte[] corrupted = encoded.clone();
+            int position = encoded.length * i / 8;
+            corrupted[position] = (byte) ~corrupted[position];
+            corrupted[position + 1] = (byte) ~corrupted[position + 1];
+            assertDecodedEqually(new FlateDecodeFilter(), PdfName.FlateDecode, corrupted, null);
+        }
+    }
+
+    @Test
+    public void flateDecodingStreamCorruptedSourceDataTest() throws IOException {
+        byte[] corrupted = deflate(createData(100000));
+        corrupted[corrupted.length / 2] = (byte) ~corrupted[corrupted.length / 2];
+        byte[] expected = FlateDecodeFilter.flateDecode(corrupted, false);
+
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (InputStream is = new FlateDecodeFilter().createDecodingStream(
+                new RASInputStream(new RandomAccessSourceFactory().createSource(corrupted)), PdfName.FlateDecode, null,
+                new PdfDictionary())) {
+            byte[] buffer = new byte[4096];
+            int n;
+            while ((n = is.read(buffer)) > 0) {
+                baos.write(buffer, 0, n);
+            }
+        }
+        Assertions.assertArrayEquals(expected, baos.toByteArray());
+    }
+
+    @Test
+    public void lzwDecodingStreamTest() throws IOException {
+        byte[] encoded = {(byte) 0x80, 0x0B, 0x60, 0x50, 0x22, 0x0C, 0x0C, (byte) 0x85, 0x01};
+        Assertions.assertEquals("-----A---B", new String(decodeStreaming(new LZWDecodeFilter(), PdfName.LZWDecode,
+                encoded, null), StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    public void lzwDecodingStreamUnsupportedFlavourTest() {
+        byte[] encoded = {0x00, 0x01, 0x60, 0x50};
+        Exception e = Assertions.assertThrows(PdfException.class,
+                () -> decodeStreaming(new LZWDecodeFilter(), PdfName.LZWDecode, encoded, null));
+        Assertions.assertEquals(KernelExceptionMessageConstant.LZW_FLAVOUR_NOT_SUPPORTED, e.getMessage());
+    }
+
+    @Test
+    public void asciiHexDecodingStreamTest() throws IOException {
+        byte[] data = createData(1000);
+        StringBuilder encoded = new StringBuilder();
+        for (int i = 0; i < data.length; i++) {
+            encoded.append(String.format("%02x", data[i] & 0xff));
+            if (i % 30 == 0) {
+                encoded.append('\n');
+            }
+        }
+        // The last digit is odd, so it's padded with 0
+        encoded.append("7>");
+        assertDecodedEqually(new ASCIIHexDecodeFilter(), PdfName.ASCIIHexDecode,
+                encoded.toString().getBytes(StandardCharsets.ISO_8859_1), null);
+    }
+
+    @Test
+    public void ascii85DecodingStreamTest() throws IOException {
+        byte[] data = createData(1003);
+        // A group of zeros is encoded as 'z'
+        Arrays.fill(data, 100, 108, (byte) 0);
+        assertDecodedEqually(new ASCII85DecodeFilter(), PdfName.ASCII85Decode, encodeAscii85(data), null);
+    }
+
+    @Test
+    public void runLengthDecodingStreamTest() throws IOException {
+        byte[] encoded = {2, 'a', 'b', 'c', (byte) 0xFE, 'd', 0, 'e', (byte) 0x81, 'f', (byte) 0x80, 'g'};
+        Assertions.assertEquals("abcddde" + repeat('f', 128), new String(decodeStreaming(new RunLengthDecodeFilter(),
+                PdfName.RunLengthDecode, encoded, null), StandardCharsets.ISO_8859_1));
+        assertDecodedEqually(new RunLengthDecodeFilter(), PdfName.RunLengthDecode, encoded, null);
+    }
+
+    private static void assertDecodedEqually(IStreamingFilterHandler filter, PdfName filterName, byte[] encoded,
+            PdfDictionary decodeParams) throws IOException {
+        byte[] expected = filter.decode(encoded.clone(), filterName, decodeParams, new PdfDictionary());
+        Assertions.assertArrayEquals(expected, decodeStreaming(filter, filterName, encoded, decodeParams));
+    }
+
+    private static byte[] decodeStreaming(IStreamingFilterHandler filter, PdfName filterName, byte[] encoded,
+            PdfDictionary decodeParams) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (InputStream is = filter.createDecodingStream(new ByteArrayInputStream(encoded), filterName, decodeParams,
+                new PdfDictionary())) {
+            // Odd sized reads check that the portions are split correctly
+            byte[] buffer = new byte[333];
+            int n;
+            while ((n = is.read(buffer)) > 0) {
+                baos.write(buffer, 0, n);
+            }
+        }
+        return baos.toByteArray();
+    }
+
+    private static byte[] encodeAscii85(byte[] data) {
+        StringBuilder encoded = new StringBuilder();
+        for (int i = 0; i < data.length; i += 4) {
+            int groupLength = Math.min(4, data.length - i);
+            long value = 0;
+            for (int j = 0; j < 4; j++) {
+                value = (value << 8) | (j < groupLength ? data[i + j] & 0xff : 0);
+            }
+            if (value == 0 && groupLength == 4) {
+                encoded.append('z');
+                continue;
+            }
+            char[] chars = new char[5];
+            for (int j = 4; j >= 0; j--) {
+                chars[j] = (char) (value % 85 + '!');
+                value /= 85;
+            }
+            encoded.append(chars, 0, groupLength + 1);
+            if (i % 80 == 0) {
+                encoded.append('\n');
+            }
+        }
+        return encoded.append("~>").toString().getBytes(StandardCharsets.ISO_8859_1);
+    }
+
+    private static byte[] deflate(byte[] data) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (DeflaterOutputStream zip = new DeflaterOutputStream(baos)) {
+            zip.write(data);
+        }
+        return baos.toByteArray();
+    }
+
+    private static byte[] createData(int length) {
+        byte[] data = new byte[length];
+        Random random = new Random(7);
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (random.nextInt(16) + 'a');
+        }
+        return data;
+    }
+
+    private static String repeat(char ch, int count) {
+        char[] chars = new char[count];
+        Arrays.fill(chars, ch);
+        return new String(chars);
+    }
+}
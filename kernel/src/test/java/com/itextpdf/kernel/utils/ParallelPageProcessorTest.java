@@ -0,0 +1,131 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.kernel.utils;
+
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.ReaderProperties;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+public class ParallelPageProcessorTest extends ExtendedITextTest {
+
+    @Test
+    public void everyTaskIsProcessedOnceTest() throws IOException {
+        byte[] bytes = createDocument(20);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        AtomicIntegerArray processed = new AtomicIntegerArray(20);
+        Set<PdfDocument> documents = Collections.synchronizedSet(
+                Collections.newSetFromMap(new IdentityHashMap<PdfDocument, Boolean>()));
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(bytes)))) {
+            ParallelPageProcessor.processPages(pdfDocument, 20, executor, () -> (document, index) -> {
+                Assertions.assertNotNull(document.getPage(index + 1));
+                documents.add(document);
+                processed.incrementAndGet(index);
+            });
+            // Documents read in the regular mode aren't shared with the workers
+            Assertions.assertFalse(documents.contains(pdfDocument));
+        } finally {
+            executor.shutdown();
+        }
+        for (int i = 0; i < 20; ++i) {
+            Assertions.assertEquals(1, processed.get(i));
+        }
+    }
+
+    @Test
+    public void concurrentlyReadDocumentIsSharedTest() throws IOException {
+        byte[] bytes = createDocument(5);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AtomicInteger sharedDocumentTasks = new AtomicInteger();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(bytes),
+                new ReaderProperties().setConcurrentReading(true)))) {
+            ParallelPageProcessor.processPages(pdfDocument, 5, executor, () -> (document, index) -> {
+                if (document == pdfDocument) {
+                    sharedDocumentTasks.incrementAndGet();
+                }
+            });
+        } finally {
+            executor.shutdown();
+        }
+        Assertions.assertEquals(5, sharedDocumentTasks.get());
+    }
+
+    @Test
+    public void workerExceptionIsRethrownTest() throws IOException {
+        byte[] bytes = createDocument(4);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(bytes)))) {
+            Exception e = Assertions.assertThrows(IllegalStateException.class,
+                    () -> ParallelPageProcessor.processPages(pdfDocument, 4, executor, () -> (document, index) -> {
+                        if (index == 2) {
+                            throw new IllegalStateException("Task failed");
+                        }
+                    }));
+            Assertions.assertEquals("Task failed", e.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void writingModeIsNotSupportedTest() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()))) {
+            Exception e = Assertions.assertThrows(PdfException.class,
+                    () -> ParallelPageProcessor.processPages(pdfDocument, 1, executor, () -> (document, index) -> {
+                    }));
+            Assertions.assertEquals(KernelExceptionMessageConstant.PARALLEL_CONTENT_PROCESSING_REQUIRES_READING_MODE,
+                    e.getMessage());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static byte[] createDocument(int numberOfPages) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos))) {
+            for (int i = 0; i < numberOfPages; ++i) {
+                pdfDocument.addNewPage();
+            }
+        }
+        return baos.toByteArray();
+    }
+}
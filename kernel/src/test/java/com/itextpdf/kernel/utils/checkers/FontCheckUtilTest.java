@@ -28,10 +28,24 @@ import com.itextpdf.io.font.constants.StandardFonts;
 import com.itextpdf.kernel.font.PdfFont;
 import com.itextpdf.kernel.font.PdfFontFactory;
 import com.itextpdf.kernel.font.PdfFontFactory.EmbeddingStrategy;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfIndirectReference;
+import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.canvas.PdfPatternCanvas;
+import com.itextpdf.kernel.pdf.colorspace.PdfPattern;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
 import com.itextpdf.kernel.utils.checkers.FontCheckUtil.CharacterChecker;
 import com.itextpdf.test.ExtendedITextTest;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Tag;
@@ -99,4 +113,36 @@ public class FontCheckUtilTest extends ExtendedITextTest {
         });
         Assertions.assertEquals(-1, index);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void collectFontsOfNestedResourcesTest() throws IOException {
+        try (PdfDocument document = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()))) {
+            PdfFont helvetica = PdfFontFactory.createFont(StandardFonts.HELVETICA);
+            PdfFormXObject form = new PdfFormXObject(new Rectangle(100, 20));
+            new PdfCanvas(form, document).beginText()
+                    .setFontAndSize(PdfFontFactory.createFont(StandardFonts.COURIER), 12)
+                    .showText("Form").endText().release();
+            PdfFont timesRoman = PdfFontFactory.createFont(StandardFonts.TIMES_ROMAN);
+            PdfPattern.Tiling pattern = new PdfPattern.Tiling(10, 10);
+            new PdfPatternCanvas(pattern, document).beginText().setFontAndSize(timesRoman, 12)
+                    .showText("Pattern").endText().release();
+
+            PdfPage firstPage = document.addNewPage();
+            new PdfCanvas(firstPage).beginText().setFontAndSize(helvetica, 12).showText("Page").endText()
+                    .addXObjectAt(form, 36, 36).release();
+            PdfPage secondPage = document.addNewPage();
+            new PdfCanvas(secondPage).beginText().setFontAndSize(helvetica, 12).showText("Page").endText()
+                    .addXObjectAt(form, 36, 36).release();
+            secondPage.getResources().addPattern(pattern);
+
+            Set<PdfIndirectReference> visitedObjects = new HashSet<>();
+            List<PdfDictionary> firstPageFonts = FontCheckUtil.collectFonts(firstPage, visitedObjects);
+            Assertions.assertEquals(2, firstPageFonts.size());
+            Assertions.assertTrue(firstPageFonts.contains(helvetica.getPdfObject()));
+            // Fonts of the shared resources are collected only once
+            List<PdfDictionary> secondPageFonts = FontCheckUtil.collectFonts(secondPage, visitedObjects);
+            Assertions.assertEquals(1, secondPageFonts.size());
+            Assertions.assertEquals(timesRoman.getPdfObject(), secondPageFonts.get(0));
+        }
+    }
+}
@@ -34,6 +34,7 @@ import com.itextpdf.layout.exceptions.LayoutExceptionMessageConstant;
 import com.itextpdf.layout.properties.Property;
 import com.itextpdf.layout.renderer.DocumentRenderer;
 import com.itextpdf.layout.renderer.IRenderer;
+import com.itextpdf.layout.renderer.LayoutResultCache;
 import com.itextpdf.layout.renderer.RootRenderer;
 
 /**
@@ -48,6 +49,8 @@ import com.itextpdf.layout.renderer.RootRenderer;
  */
 public class Document extends RootElement<Document> {
 
+    private LayoutResultCache layoutResultCache;
+
     /**
      * Creates a document from a {@link PdfDocument}. Initializes the first page
      * with the {@link PdfDocument}'s current default {@link PageSize}.
@@ -143,6 +146,26 @@ public class Document extends RootElement<Document> {
         this.rootRenderer = documentRenderer;
     }
 
+    /**
+     * Sets the cache of the layout results, which allows {@link #relayout()} to reuse the results of
+     * the elements which haven't changed since the previous layout. The cache is only used if
+     * {@link #immediateFlush} is <code>false</code>.
+     *
+     * @param layoutResultCache the {@link LayoutResultCache}, or <code>null</code> to lay out all the elements
+     */
+    public void setLayoutResultCache(LayoutResultCache layoutResultCache) {
+        this.layoutResultCache = layoutResultCache;
+    }
+
+    /**
+     * Gets the cache of the layout results.
+     *
+     * @return the {@link LayoutResultCache}, or <code>null</code> if the layout results are not cached
+     */
+    public LayoutResultCache getLayoutResultCache() {
+        return layoutResultCache;
+    }
+
     /**
      * Forces all registered renderers (including child element renderers) to
      * flush their contents to the content stream.
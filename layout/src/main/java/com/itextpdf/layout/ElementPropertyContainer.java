@@ -36,6 +36,7 @@ import com.itextpdf.layout.properties.BaseDirection;
 import com.itextpdf.layout.properties.BorderRadius;
 import com.itextpdf.layout.properties.FontKerning;
 import com.itextpdf.layout.properties.HorizontalAlignment;
+import com.itextpdf.layout.properties.IntPropertyMap;
 import com.itextpdf.layout.properties.Property;
 import com.itextpdf.layout.properties.TextAlignment;
 import com.itextpdf.layout.properties.TransparentColor;
@@ -44,7 +45,6 @@ import com.itextpdf.layout.properties.UnitValue;
 import com.itextpdf.layout.splitting.ISplitCharacters;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -57,7 +57,7 @@ import java.util.Map;
 public abstract class ElementPropertyContainer<T extends IPropertyContainer> extends AbstractIdentifiableElement
         implements IPropertyContainer {
 
-    protected Map<Integer, Object> properties = new HashMap<>();
+    protected Map<Integer, Object> properties = new IntPropertyMap();
 
     @Override
     public void setProperty(int property, Object value) {
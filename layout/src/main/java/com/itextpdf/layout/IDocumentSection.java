@@ -0,0 +1,48 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.layout;
+
+import java.io.IOException;
+
+/**
+ * A section of a document, which starts on a new page and doesn't depend on the layout of other sections.
+ *
+ * @see ParallelSectionLayout
+ */
+public interface IDocumentSection {
+
+    /**
+     * Adds the content of the section to the document.
+     *
+     * <p>
+     * Each section is added to its own {@link Document} of the target document, possibly in a separate thread.
+     * Fonts and images may be shared between the sections, they are written to the target document once.
+     * A {@link com.itextpdf.layout.font.FontProvider} caches the fonts it creates, so it shall not be shared.
+     * The content is drawn after the section is laid out, so flushing or closing the document has no effect.
+     *
+     * @param document the {@link Document} to add the content of the section to
+     *
+     * @throws IOException if the content can't be created, e.g. a font can't be read
+     */
+    void addContent(Document document) throws IOException;
+}
@@ -0,0 +1,324 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.layout;
+
+import com.itextpdf.commons.utils.ExecutorServiceUtil;
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.layout.element.IElement;
+import com.itextpdf.layout.renderer.RootRenderer;
+import com.itextpdf.layout.renderer.SectionRenderer;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Lays out independent sections of a document, e.g. chapters or statements, each of which starts on a new page.
+ *
+ * <p>
+ * Each {@link IDocumentSection} is laid out into its own {@link SectionRenderer}, which doesn't add pages to
+ * the target document during the layout. If an {@link ExecutorService} is set, the sections are laid out
+ * concurrently. The laid out sections are drawn into the target document in the order they were added, so
+ * fonts, images and other resources shared between the sections are written once, and the writer properties and
+ * the conformance of the target document apply to all the sections.
+ *
+ * <p>
+ * Before a section is drawn, the pages requested by its target counters, see
+ * {@link com.itextpdf.layout.renderer.TargetCounterHandler}, are compared with the pages of the targets in the
+ * target document, including the sections following it, which are laid out ahead if needed. If any of them
+ * differs, the section is laid out once more with the pages of the targets, like {@link Document#relayout()}.
+ *
+ * <p>
+ * The tags of a tagged document are created during the layout, so the sections of a tagged document are laid out
+ * sequentially in the calling thread, and targets in the following sections aren't resolved.
+ */
+public class ParallelSectionLayout {
+    private final PdfDocument pdfDocument;
+    private final List<IDocumentSection> sections = new ArrayList<>();
+    private PageSize pageSize;
+    private ExecutorService executorService;
+
+    /**
+     * Creates a {@link ParallelSectionLayout} which adds the sections to the specified document.
+     *
+     * @param pdfDocument the {@link PdfDocument} opened in writing mode to add the sections to
+     */
+    public ParallelSectionLayout(PdfDocument pdfDocument) {
+        this.pdfDocument = pdfDocument;
+        this.pageSize = pdfDocument.getDefaultPageSize();
+    }
+
+    /**
+     * Sets the default page size of the sections.
+     *
+     * <p>
+     * By default, the default page size of the target document is used.
+     *
+     * @param pageSize the default {@link PageSize} of the sections
+     *
+     * @return same instance of {@link ParallelSectionLayout}
+     */
+    public ParallelSectionLayout setPageSize(PageSize pageSize) {
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    /**
+     * Sets the {@link ExecutorService} used to lay out the sections in parallel.
+     *
+     * <p>
+     * If none is set, the sections are laid out sequentially in the calling thread. Otherwise, at most as many
+     * sections as the executor can process in parallel are laid out ahead of the section being drawn.
+     *
+     * @param executorService the {@link ExecutorService} to submit the sections to
+     *
+     * @return same instance of {@link ParallelSectionLayout}
+     */
+    public ParallelSectionLayout setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
+    /**
+     * Adds a section to be laid out.
+     *
+     * @param section the {@link IDocumentSection} to add
+     *
+     * @return same instance of {@link ParallelSectionLayout}
+     */
+    public ParallelSectionLayout addSection(IDocumentSection section) {
+        sections.add(section);
+        return this;
+    }
+
+    /**
+     * Lays out the added sections and adds the resultant pages to the end of the target document.
+     *
+     * @return the number of the first page of each section in the target document, in the order the sections
+     * were added
+     */
+    public int[] layout() {
+        boolean tagged = pdfDocument.isTagged();
+        // The default font is shared by the sections, so it's created before the layout
+        PdfFont defaultFont = getDefaultFont();
+        List<Callable<SectionDocument>> workers = new ArrayList<>(sections.size());
+        for (IDocumentSection section : sections) {
+            workers.add(new SectionLayoutWorker(section, new SectionDocument(pdfDocument, pageSize, defaultFont)));
+        }
+        SectionQueue queue = new SectionQueue(workers, tagged ? null : executorService);
+
+        Map<String, Integer> documentPages = new HashMap<>();
+        int[] firstPageNumbers = new int[sections.size()];
+        boolean completed = false;
+        try {
+            for (int i = 0; i < workers.size(); ++i) {
+                SectionDocument section = queue.get(i);
+                int firstPageNumber = pdfDocument.getNumberOfPages() + 1;
+                Map<String, Integer> requestedPages = section.getSectionRenderer().getRequestedPagesByID();
+                if (!requestedPages.isEmpty()) {
+                    Map<String, Integer> pages = new HashMap<>(documentPages);
+                    int lastPageNumber = addPages(pages, section.getSectionRenderer(), firstPageNumber - 1);
+                    // The tags of the following sections would precede the tags of the drawn one
+                    for (int j = i + 1; !tagged && j < workers.size()
+                            && !pages.keySet().containsAll(requestedPages.keySet()); ++j) {
+                        lastPageNumber = addPages(pages, queue.get(j).getSectionRenderer(), lastPageNumber);
+                    }
+                    if (!areRequestedPagesResolved(requestedPages, pages)) {
+                        section.relayout(pages);
+                    }
+                }
+                firstPageNumbers[i] = firstPageNumber;
+                section.getSectionRenderer().close();
+                addPages(documentPages, section.getSectionRenderer(), firstPageNumber - 1);
+                queue.release(i);
+            }
+            completed = true;
+        } finally {
+            if (!completed) {
+                queue.cancel();
+            }
+        }
+        return firstPageNumbers;
+    }
+
+    private PdfFont getDefaultFont() {
+        if (pdfDocument.getConformance().isPdfAOrUa()) {
+            return pdfDocument.getDefaultFont();
+        }
+        try {
+            return PdfFontFactory.createFont();
+        } catch (IOException e) {
+            throw new PdfException(e);
+        }
+    }
+
+    private static int addPages(Map<String, Integer> pages, SectionRenderer section, int precedingPagesCount) {
+        for (Map.Entry<String, Integer> page : section.getPagesByID().entrySet()) {
+            pages.put(page.getKey(), page.getValue() + precedingPagesCount);
+        }
+        return precedingPagesCount + section.getNumberOfPages();
+    }
+
+    private static boolean areRequestedPagesResolved(Map<String, Integer> requestedPages, Map<String, Integer> pages) {
+        for (Map.Entry<String, Integer> requestedPage : requestedPages.entrySet()) {
+            if (!Objects.equals(requestedPage.getValue(), pages.get(requestedPage.getKey()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Sections laid out in the order they are drawn. Only as many sections as the executor can process in parallel
+     * are laid out ahead of the requested one, so that the laid out sections don't pile up in memory.
+     */
+    private static final class SectionQueue {
+        private final List<Callable<SectionDocument>> workers;
+        private final ExecutorService executorService;
+        private final int lookAhead;
+        private final List<Future<SectionDocument>> results;
+
+        SectionQueue(List<Callable<SectionDocument>> workers, ExecutorService executorService) {
+            this.workers = workers;
+            this.executorService = executorService;
+            this.lookAhead = executorService == null ? 1 : Math.max(ExecutorServiceUtil.getParallelism(executorService), 1);
+            this.results = new ArrayList<>(workers.size());
+        }
+
+        SectionDocument get(int index) {
+            int lastSection = Math.min(index + lookAhead, workers.size());
+            while (results.size() < lastSection) {
+                Callable<SectionDocument> worker = workers.get(results.size());
+                if (executorService == null) {
+                    FutureTask<SectionDocument> result = new FutureTask<>(worker);
+                    results.add(result);
+                    result.run();
+                } else {
+                    results.add(executorService.submit(worker));
+                }
+            }
+            return awaitResult(results.get(index));
+        }
+
+        void release(int index) {
+            results.set(index, null);
+        }
+
+        void cancel() {
+            for (Future<SectionDocument> result : results) {
+                if (result != null) {
+                    result.cancel(true);
+                }
+            }
+        }
+
+        private static SectionDocument awaitResult(Future<SectionDocument> result) {
+            try {
+                return result.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PdfException(e);
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException ?
+                        (RuntimeException) e.getCause() : new PdfException(e.getCause());
+            }
+        }
+    }
+
+    private static final class SectionLayoutWorker implements Callable<SectionDocument> {
+        private final IDocumentSection section;
+        private final SectionDocument document;
+
+        SectionLayoutWorker(IDocumentSection section, SectionDocument document) {
+            this.section = section;
+            this.document = document;
+        }
+
+        @Override
+        public SectionDocument call() throws IOException {
+            section.addContent(document);
+            document.getSectionRenderer().finishLayout();
+            return document;
+        }
+    }
+
+    /**
+     * {@link Document} of a section, which neither draws nor closes the target document.
+     */
+    private static final class SectionDocument extends Document {
+        private final PageSize sectionPageSize;
+
+        SectionDocument(PdfDocument pdfDocument, PageSize sectionPageSize, PdfFont defaultFont) {
+            super(pdfDocument, pdfDocument.getDefaultPageSize(), false);
+            this.sectionPageSize = sectionPageSize;
+            this.defaultFont = defaultFont;
+        }
+
+        SectionRenderer getSectionRenderer() {
+            return (SectionRenderer) ensureRootRendererNotNull();
+        }
+
+        @Override
+        public void close() {
+            // The section is drawn and the target document is closed by the caller
+        }
+
+        @Override
+        public void flush() {
+            // The section is drawn once it's laid out
+        }
+
+        @Override
+        public void relayout() {
+            relayout(getSectionRenderer().getPagesByID());
+        }
+
+        void relayout(Map<String, Integer> pagesByID) {
+            rootRenderer = new SectionRenderer(this, sectionPageSize, new HashMap<>(pagesByID));
+            for (IElement element : childElements) {
+                createAndAddRendererSubTree(element);
+            }
+            getSectionRenderer().finishLayout();
+        }
+
+        @Override
+        protected RootRenderer ensureRootRendererNotNull() {
+            if (rootRenderer == null) {
+                rootRenderer = new SectionRenderer(this, sectionPageSize);
+            }
+            return rootRenderer;
+        }
+    }
+}
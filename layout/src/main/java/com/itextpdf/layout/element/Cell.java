@@ -27,6 +27,7 @@ import com.itextpdf.kernel.pdf.tagutils.DefaultAccessibilityProperties;
 import com.itextpdf.kernel.pdf.tagutils.AccessibilityProperties;
 import com.itextpdf.layout.borders.Border;
 import com.itextpdf.layout.borders.SolidBorder;
+import com.itextpdf.layout.properties.IntPropertyMap;
 import com.itextpdf.layout.properties.Property;
 import com.itextpdf.layout.properties.UnitValue;
 import com.itextpdf.layout.renderer.CellRenderer;
@@ -36,7 +37,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.LinkedHashSet;
 
 /**
@@ -164,7 +164,7 @@ public class Cell extends BlockElement<Cell> {
         Cell newCell = new Cell(rowspan, colspan);
         newCell.row = row;
         newCell.col = col;
-        newCell.properties = new HashMap<>(properties);
+        newCell.properties = new IntPropertyMap(properties);
         if (null != styles) {
             newCell.styles = new LinkedHashSet<>(styles);
         }
@@ -753,18 +753,18 @@ public class Table extends BlockElement<Table> implements ILargeElement {
         int firstRow = lastAddedRowGroups.get(0).startRow;
         int lastRow = lastAddedRowGroups.get(lastAddedRowGroups.size() - 1).finishRow;
 
-        List<IElement> toRemove = new ArrayList<>();
+        // Removal is done in a single pass, so that the cost is linear in the number of flushed cells
+        List<IElement> remainingCells = new ArrayList<>(childElements.size());
         for (IElement cell : childElements) {
-            if (((Cell) cell).getRow() >= firstRow && ((Cell) cell).getRow() <= lastRow) {
-                toRemove.add(cell);
+            if (((Cell) cell).getRow() < firstRow || ((Cell) cell).getRow() > lastRow) {
+                remainingCells.add(cell);
             }
         }
-        childElements.removeAll(toRemove);
+        childElements.clear();
+        childElements.addAll(remainingCells);
 
-        for (int i = 0; i < lastRow - firstRow; i++) {
-            rows.remove(firstRow - rowWindowStart);
-        }
-        lastAddedRow = rows.remove(firstRow - rowWindowStart);
+        lastAddedRow = rows.get(lastRow - rowWindowStart);
+        rows.subList(firstRow - rowWindowStart, lastRow - rowWindowStart + 1).clear();
         rowWindowStart = lastAddedRowGroups.get(lastAddedRowGroups.size() - 1).getFinishRow() + 1;
 
         lastAddedRowGroups = null;
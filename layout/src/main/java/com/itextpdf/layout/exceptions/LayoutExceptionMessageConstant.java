@@ -28,6 +28,7 @@ package com.itextpdf.layout.exceptions;
 public final class LayoutExceptionMessageConstant {
     public static final String CANNOT_ADD_CELL_TO_COMPLETED_LARGE_TABLE = "The large table was completed. It's "
             + "prohibited to use it anymore. Created different Table instance instead.";
+    public static final String CANNOT_ADD_FONT_TO_READ_ONLY_FONT_SET = "Cannot add font to the read-only FontSet.";
     public static final String CANNOT_CREATE_LAYOUT_IMAGE_BY_WMF_IMAGE = "Cannot create layout image by WmfImage "
             + "instance. First convert the image into FormXObject and then use the corresponding layout image "
             + "constructor.";
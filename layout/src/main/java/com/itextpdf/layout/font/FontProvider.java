@@ -59,6 +59,10 @@ import java.util.Map;
  * {@link #getPdfFont(FontInfo, FontSet)}, {@link #createFontSelectorStrategy(List, FontCharacteristics, FontSet)}.
  * <p>
  * Note, FontProvider does not close created {@link FontProgram}s, because of possible conflicts with {@link FontCache}.
+ * <p>
+ * If the same fonts are used by many documents, e.g. processed concurrently, fill a {@link FontSet} once, make it
+ * read-only with {@link FontSet#makeReadOnly()} and create a FontProvider per document on top of it.
+ * The providers will share the {@link FontSelector}s created for the set.
  */
 public class FontProvider {
 
@@ -108,7 +112,7 @@ public class FontProvider {
     public FontProvider(FontSet fontSet, String defaultFontFamily) {
         this.fontSet = fontSet != null ? fontSet : new FontSet();
         pdfFonts = new HashMap<>();
-        fontSelectorCache = new FontSelectorCache(this.fontSet);
+        fontSelectorCache = new FontSelectorCache(this.fontSet, defaultFontFamily, getClass());
         this.defaultFontFamily = defaultFontFamily;
         this.fontSelectorStrategyFactory = new BestMatchFontSelectorStrategyFactory();
     }
@@ -30,15 +30,23 @@ class FontSelectorCache {
     private final FontSetSelectors defaultSelectors;
     private final FontSet defaultFontSet;
     private final Map<Long, FontSetSelectors> caches = new HashMap<>();
+    private final String defaultFontFamily;
+    private final Class<?> fontProviderClass;
 
-    FontSelectorCache(FontSet defaultFontSet) {
+    FontSelectorCache(FontSet defaultFontSet, String defaultFontFamily, Class<?> fontProviderClass) {
         assert defaultFontSet != null;
         this.defaultSelectors = new FontSetSelectors();
         this.defaultSelectors.update(defaultFontSet);
         this.defaultFontSet = defaultFontSet;
+        this.defaultFontFamily = defaultFontFamily;
+        this.fontProviderClass = fontProviderClass;
     }
 
     FontSelector get(FontSelectorKey key) {
+        Map<FontSelectorKey, FontSelector> sharedSelectors = getSharedSelectors(null);
+        if (sharedSelectors != null) {
+            return sharedSelectors.get(createSharedKey(key, null));
+        }
         if (update(null, null)) {
             return null;
         } else {
@@ -50,6 +58,10 @@ class FontSelectorCache {
         if (additionalFonts == null) {
             return get(key);
         } else {
+            Map<FontSelectorKey, FontSelector> sharedSelectors = getSharedSelectors(additionalFonts);
+            if (sharedSelectors != null) {
+                return sharedSelectors.get(createSharedKey(key, additionalFonts));
+            }
             FontSetSelectors selectors = caches.get(additionalFonts.getId());
             if (selectors == null) {
                 caches.put(additionalFonts.getId(), selectors = new FontSetSelectors());
@@ -63,6 +75,11 @@ class FontSelectorCache {
     }
 
     void put(FontSelectorKey key, FontSelector fontSelector) {
+        Map<FontSelectorKey, FontSelector> sharedSelectors = getSharedSelectors(null);
+        if (sharedSelectors != null) {
+            sharedSelectors.putIfAbsent(createSharedKey(key, null), fontSelector);
+            return;
+        }
         //update defaultSelectors to reset counter before pushing if needed.
         update(null, null);
         defaultSelectors.map.put(key, fontSelector);
@@ -72,6 +89,11 @@ class FontSelectorCache {
         if (fontSet == null) {
             put(key, fontSelector);
         } else {
+            Map<FontSelectorKey, FontSelector> sharedSelectors = getSharedSelectors(fontSet);
+            if (sharedSelectors != null) {
+                sharedSelectors.putIfAbsent(createSharedKey(key, fontSet), fontSelector);
+                return;
+            }
             FontSetSelectors selectors = caches.get(fontSet.getId());
             if (selectors == null) {
                 caches.put(fontSet.getId(), selectors = new FontSetSelectors());
@@ -82,6 +104,18 @@ class FontSelectorCache {
         }
     }
 
+    private Map<FontSelectorKey, FontSelector> getSharedSelectors(FontSet additionalFonts) {
+        if (additionalFonts != null && !additionalFonts.isReadOnly()) {
+            return null;
+        }
+        return defaultFontSet.getSharedFontSelectors();
+    }
+
+    private FontSelectorKey createSharedKey(FontSelectorKey key, FontSet additionalFonts) {
+        return new FontSelectorKey(key, defaultFontFamily, fontProviderClass,
+                additionalFonts != null ? additionalFonts.getId() : 0);
+    }
+
     private boolean update(FontSetSelectors selectors, FontSet fontSet) {
         boolean updated = false;
         if (defaultSelectors.update(defaultFontSet)) {
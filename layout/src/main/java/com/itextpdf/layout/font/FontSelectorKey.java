@@ -34,11 +34,26 @@ final class FontSelectorKey {
     private List<String> fontFamilies;
     private FontCharacteristics fc;
 
+    // The fields below are set only for the keys of the selectors shared between font providers,
+    // since such selectors also depend on the font provider creating them
+    private String defaultFontFamily;
+    private Class<?> fontProviderClass;
+    private long additionalFontSetId;
+
     FontSelectorKey(List<String> fontFamilies, FontCharacteristics fc) {
         this.fontFamilies = new ArrayList<>(fontFamilies);
         this.fc = fc;
     }
 
+    FontSelectorKey(FontSelectorKey key, String defaultFontFamily, Class<?> fontProviderClass,
+            long additionalFontSetId) {
+        this.fontFamilies = key.fontFamilies;
+        this.fc = key.fc;
+        this.defaultFontFamily = defaultFontFamily;
+        this.fontProviderClass = fontProviderClass;
+        this.additionalFontSetId = additionalFontSetId;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -46,13 +61,20 @@ final class FontSelectorKey {
         FontSelectorKey that = (FontSelectorKey) o;
 
         return fontFamilies.equals(that.fontFamilies)
-                && (fc != null ? fc.equals(that.fc) : that.fc == null);
+                && (fc != null ? fc.equals(that.fc) : that.fc == null)
+                && (defaultFontFamily != null ? defaultFontFamily.equals(that.defaultFontFamily)
+                        : that.defaultFontFamily == null)
+                && fontProviderClass == that.fontProviderClass
+                && additionalFontSetId == that.additionalFontSetId;
     }
 
     @Override
     public int hashCode() {
         int result = fontFamilies != null ? fontFamilies.hashCode() : 0;
         result = 31 * result + (fc != null ? fc.hashCode() : 0);
+        result = 31 * result + (defaultFontFamily != null ? defaultFontFamily.hashCode() : 0);
+        result = 31 * result + (fontProviderClass != null ? fontProviderClass.hashCode() : 0);
+        result = 31 * result + (int) (additionalFontSetId ^ (additionalFontSetId >>> 32));
         return result;
     }
 }
@@ -25,7 +25,9 @@ package com.itextpdf.layout.font;
 import com.itextpdf.io.logs.IoLogMessageConstant;
 import com.itextpdf.io.font.FontProgram;
 import com.itextpdf.commons.utils.FileUtil;
+import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.font.Type3Font;
+import com.itextpdf.layout.exceptions.LayoutExceptionMessageConstant;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -37,6 +39,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -45,6 +48,8 @@ import java.util.concurrent.atomic.AtomicLong;
  * <p>
  * A FontSet instance could be shared for multiple threads.
  * However FontSet filling is not thread safe operation.
+ * Once filled, the set can be made read-only with {@link #makeReadOnly()}: the {@link FontSelector}s
+ * created for such a set are shared between all {@link FontProvider}s using it.
  *
  * @see FontProvider
  */
@@ -59,6 +64,9 @@ public final class FontSet {
     private final Map<FontInfo, FontProgram> fontPrograms = new HashMap<>();
     private final long id;
 
+    // Not null only for read-only font sets
+    private volatile Map<FontSelectorKey, FontSelector> sharedFontSelectors;
+
     /**
      * Creates a new instance of {@link FontSet}.
      */
@@ -332,6 +340,9 @@ public final class FontSet {
     public final boolean addFont(FontInfo fontInfo) {
         // This method MUST be final, to avoid inconsistency with FontSelectorCache.
         // (Yes, FontSet is final. Double check.)
+        if (isReadOnly()) {
+            throw new PdfException(LayoutExceptionMessageConstant.CANNOT_ADD_FONT_TO_READ_ONLY_FONT_SET);
+        }
         if (fontInfo != null && !fonts.contains(fontInfo)) {
             // NOTE! We SHALL NOT replace font, because it will influence on FontSelectorCache.
             // FontSelectorCache reset cache ONLY if number of fonts has been changed,
@@ -429,6 +440,38 @@ public final class FontSet {
         return fonts.size();
     }
 
+    /**
+     * Makes this font set read-only, so that no fonts can be added to it anymore.
+     * <p>
+     * A read-only font set can be safely used by several {@link FontProvider}s from different threads, e.g.
+     * one provider per {@link com.itextpdf.layout.Document}. The {@link FontSelector}s created for such a set
+     * are kept in a concurrent cache of the set itself, so all the providers reuse the results of the font selection
+     * instead of sorting the fonts again. The selectors created with additional fonts are shared only if
+     * the additional {@link FontSet} is read-only as well.
+     * <p>
+     * Note that the shared selectors are distinguished by the class and the default font family of the provider,
+     * thus {@link FontProvider#createFontSelector} implementations shall not depend on other provider state.
+     *
+     * @return this {@link FontSet} instance
+     */
+    public FontSet makeReadOnly() {
+        synchronized (fonts) {
+            if (sharedFontSelectors == null) {
+                sharedFontSelectors = new ConcurrentHashMap<>();
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Checks whether this font set is read-only, see {@link #makeReadOnly()}.
+     *
+     * @return {@code true} if no fonts can be added to this set, {@code false} otherwise
+     */
+    public boolean isReadOnly() {
+        return sharedFontSelectors != null;
+    }
+
     //region Internal members
 
     long getId() {
@@ -439,5 +482,9 @@ public final class FontSet {
         return fontPrograms.get(fontInfo);
     }
 
+    Map<FontSelectorKey, FontSelector> getSharedFontSelectors() {
+        return sharedFontSelectors;
+    }
+
     //endregion
 }
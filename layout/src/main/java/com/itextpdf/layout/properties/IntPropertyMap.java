@@ -0,0 +1,243 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.layout.properties;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Compact map of property values keyed by {@link Property} constants.
+ *
+ * <p>
+ * Elements and renderers usually have only a handful of own properties, so the keys are stored in a sorted
+ * {@code int} array with the values in a parallel array. The lookup doesn't box the key and doesn't allocate,
+ * and an empty map doesn't allocate any arrays at all. Like {@link java.util.HashMap}, the map permits
+ * {@code null} values, which are distinguished from missing properties. Entries are iterated in the ascending
+ * order of the keys.
+ */
+public class IntPropertyMap extends AbstractMap<Integer, Object> {
+    private static final int[] EMPTY_KEYS = new int[0];
+    private static final Object[] EMPTY_VALUES = new Object[0];
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] keys = EMPTY_KEYS;
+    private Object[] values = EMPTY_VALUES;
+    private int size;
+    private EntrySet entrySet;
+
+    /**
+     * Creates an empty {@link IntPropertyMap}.
+     */
+    public IntPropertyMap() {
+        // Empty constructor
+    }
+
+    /**
+     * Creates an {@link IntPropertyMap} with the same mappings as the specified map.
+     *
+     * @param properties the map whose mappings are to be placed in this map
+     */
+    public IntPropertyMap(Map<Integer, Object> properties) {
+        putAll(properties);
+    }
+
+    /**
+     * Gets the value of the property.
+     *
+     * @param property the property key, one of the {@link Property} constants
+     *
+     * @return the value of the property, or {@code null} if there is no such property or its value is {@code null}
+     */
+    public Object getProperty(int property) {
+        int index = indexOf(property);
+        return index >= 0 ? values[index] : null;
+    }
+
+    /**
+     * Checks whether the property is set, possibly to a {@code null} value.
+     *
+     * @param property the property key, one of the {@link Property} constants
+     *
+     * @return {@code true} if the property is set, {@code false} otherwise
+     */
+    public boolean containsProperty(int property) {
+        return indexOf(property) >= 0;
+    }
+
+    /**
+     * Sets the value of the property.
+     *
+     * @param property the property key, one of the {@link Property} constants
+     * @param value    the value of the property
+     *
+     * @return the previous value of the property, or {@code null} if there was no such property
+     */
+    public Object putProperty(int property, Object value) {
+        int index = indexOf(property);
+        if (index >= 0) {
+            Object previous = values[index];
+            values[index] = value;
+            return previous;
+        }
+        int insertionPoint = -index - 1;
+        if (size == keys.length) {
+            int newCapacity = size == 0 ? INITIAL_CAPACITY : size * 2;
+            keys = Arrays.copyOf(keys, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+        }
+        System.arraycopy(keys, insertionPoint, keys, insertionPoint + 1, size - insertionPoint);
+        System.arraycopy(values, insertionPoint, values, insertionPoint + 1, size - insertionPoint);
+        keys[insertionPoint] = property;
+        values[insertionPoint] = value;
+        ++size;
+        return null;
+    }
+
+    /**
+     * Removes the property.
+     *
+     * @param property the property key, one of the {@link Property} constants
+     *
+     * @return the removed value of the property, or {@code null} if there was no such property
+     */
+    public Object removeProperty(int property) {
+        int index = indexOf(property);
+        if (index < 0) {
+            return null;
+        }
+        Object previous = values[index];
+        removeAt(index);
+        return previous;
+    }
+
+    @Override
+    public Object get(Object key) {
+        return key instanceof Integer ? getProperty((int) (Integer) key) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof Integer && containsProperty((int) (Integer) key);
+    }
+
+    @Override
+    public Object put(Integer key, Object value) {
+        return putProperty((int) key, value);
+    }
+
+    @Override
+    public Object remove(Object key) {
+        return key instanceof Integer ? removeProperty((int) (Integer) key) : null;
+    }
+
+    @Override
+    public void putAll(Map<? extends Integer, ?> map) {
+        if (size == 0 && map instanceof IntPropertyMap) {
+            IntPropertyMap other = (IntPropertyMap) map;
+            keys = Arrays.copyOf(other.keys, other.size);
+            values = Arrays.copyOf(other.values, other.size);
+            size = other.size;
+        } else {
+            for (Map.Entry<? extends Integer, ?> entry : map.entrySet()) {
+                putProperty((int) entry.getKey(), entry.getValue());
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        keys = EMPTY_KEYS;
+        values = EMPTY_VALUES;
+        size = 0;
+    }
+
+    @Override
+    public Set<Entry<Integer, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private int indexOf(int property) {
+        return Arrays.binarySearch(keys, 0, size, property);
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        --size;
+        values[size] = null;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<Integer, Object>> {
+        @Override
+        public Iterator<Entry<Integer, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<Integer, Object>> {
+        private int nextIndex = 0;
+        private boolean canRemove = false;
+
+        @Override
+        public boolean hasNext() {
+            return nextIndex < size;
+        }
+
+        @Override
+        public Entry<Integer, Object> next() {
+            if (nextIndex >= size) {
+                throw new NoSuchElementException();
+            }
+            canRemove = true;
+            int index = nextIndex++;
+            return new SimpleImmutableEntry<>(keys[index], values[index]);
+        }
+
+        @Override
+        public void remove() {
+            if (!canRemove) {
+                throw new IllegalStateException();
+            }
+            removeAt(--nextIndex);
+            canRemove = false;
+        }
+    }
+}
@@ -234,10 +234,10 @@ public final class Property {
      * related to textual operations. Indicates whether or not this type of property is inheritable.
      */
     private static final boolean[] INHERITED_PROPERTIES;
-    private static final int MAX_INHERITED_PROPERTY_ID = 154;
+    private static final int MAX_PROPERTY_ID = 154;
 
     static {
-        INHERITED_PROPERTIES = new boolean[MAX_INHERITED_PROPERTY_ID + 1];
+        INHERITED_PROPERTIES = new boolean[MAX_PROPERTY_ID + 1];
 
         INHERITED_PROPERTIES[Property.APPEARANCE_STREAM_LAYOUT] = true;
         INHERITED_PROPERTIES[Property.BASE_DIRECTION] = true;
@@ -285,6 +285,15 @@ public final class Property {
     private Property() {
     }
 
+    /**
+     * Gets the maximal ID of the properties defined in this class.
+     *
+     * @return the maximal property ID
+     */
+    public static int getMaxPropertyId() {
+        return MAX_PROPERTY_ID;
+    }
+
     /**
      * This method checks whether a Property, in order to be picked up by the
      * rendering engine, must be defined on the current element or renderer
@@ -295,6 +304,6 @@ public final class Property {
      * @return whether the property type is inheritable
      */
     public static boolean isPropertyInherited(int property) {
-        return property >= 0 && property <= MAX_INHERITED_PROPERTY_ID && INHERITED_PROPERTIES[property];
+        return property >= 0 && property <= MAX_PROPERTY_ID && INHERITED_PROPERTIES[property];
     }
 }
@@ -75,6 +75,7 @@ import com.itextpdf.layout.properties.BlendMode;
 import com.itextpdf.layout.properties.BorderRadius;
 import com.itextpdf.layout.properties.BoxSizingPropertyValue;
 import com.itextpdf.layout.properties.HorizontalAlignment;
+import com.itextpdf.layout.properties.IntPropertyMap;
 import com.itextpdf.layout.properties.OverflowPropertyValue;
 import com.itextpdf.layout.properties.Property;
 import com.itextpdf.layout.properties.Transform;
@@ -85,7 +86,6 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import org.slf4j.Logger;
@@ -151,9 +151,15 @@ public abstract class AbstractRenderer implements IRenderer {
     protected boolean flushed = false;
     protected LayoutArea occupiedArea;
     protected IRenderer parent;
-    protected Map<Integer, Object> properties = new HashMap<>();
+    protected Map<Integer, Object> properties = new IntPropertyMap();
     protected boolean isLastRendererForModelElement = true;
 
+    /**
+     * Inherited property values resolved through the parent renderer, or {@code null} if no snapshot is taken.
+     * See {@link #startResolvedStyleSnapshot()}.
+     */
+    private IntPropertyMap resolvedInheritedProperties;
+
     /**
      * Creates a renderer.
      */
@@ -319,13 +325,18 @@ public abstract class AbstractRenderer implements IRenderer {
     @Override
     public <T1> T1 getProperty(int key) {
         Object property;
-        if ((property = properties.get(key)) != null || properties.containsKey(key)) {
+        if (properties instanceof IntPropertyMap) {
+            IntPropertyMap ownProperties = (IntPropertyMap) properties;
+            if ((property = ownProperties.getProperty(key)) != null || ownProperties.containsProperty(key)) {
+                return (T1) property;
+            }
+        } else if ((property = properties.get(key)) != null || properties.containsKey(key)) {
             return (T1) property;
         }
         if (modelElement != null && ((property = modelElement.<T1>getProperty(key)) != null || modelElement.hasProperty(key))) {
             return (T1) property;
         }
-        if (parent != null && Property.isPropertyInherited(key) && (property = parent.<T1>getProperty(key)) != null) {
+        if (parent != null && Property.isPropertyInherited(key) && (property = getInheritedProperty(key)) != null) {
             return (T1) property;
         }
         property = this.<T1>getDefaultProperty(key);
@@ -1172,6 +1183,9 @@ public abstract class AbstractRenderer implements IRenderer {
     @Override
     public IRenderer setParent(IRenderer parent) {
         this.parent = parent;
+        if (resolvedInheritedProperties != null) {
+            resolvedInheritedProperties.clear();
+        }
         return this;
     }
 
@@ -1742,6 +1756,44 @@ public abstract class AbstractRenderer implements IRenderer {
         }
     }
     
+    /**
+     * Starts caching the inherited property values resolved through the parent renderer.
+     *
+     * <p>
+     * While the snapshot is taken, each inherited property is looked up in the parent hierarchy at most once,
+     * so the snapshot must only be taken for a period during which the properties of the ancestors don't change,
+     * e.g. for the layout of this renderer.
+     *
+     * @return {@code true} if the snapshot has been started by this call and has to be ended by
+     * {@link #endResolvedStyleSnapshot()}, {@code false} if the snapshot has already been taken
+     */
+    boolean startResolvedStyleSnapshot() {
+        if (resolvedInheritedProperties != null) {
+            return false;
+        }
+        resolvedInheritedProperties = new IntPropertyMap();
+        return true;
+    }
+
+    /**
+     * Stops caching the inherited property values started by {@link #startResolvedStyleSnapshot()}.
+     */
+    void endResolvedStyleSnapshot() {
+        resolvedInheritedProperties = null;
+    }
+
+    private Object getInheritedProperty(int key) {
+        if (resolvedInheritedProperties == null) {
+            return parent.<Object>getProperty(key);
+        }
+        Object property = resolvedInheritedProperties.getProperty(key);
+        if (property == null && !resolvedInheritedProperties.containsProperty(key)) {
+            property = parent.<Object>getProperty(key);
+            resolvedInheritedProperties.putProperty(key, property);
+        }
+        return property;
+    }
+
     protected Map<Integer, Object> getOwnProperties() {
         return properties;
     }
@@ -29,6 +29,7 @@ import com.itextpdf.layout.element.Cell;
 import com.itextpdf.layout.element.Table;
 import com.itextpdf.layout.properties.Property;
 
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -135,14 +136,12 @@ class CollapsedTableBorders extends TableBorders {
 
     @Override
     public List<Border> getVerticalBorder(int index) {
+        // The outer borders are collapsed lazily: the list may contain a border per each row of a large table
+        // and is requested for each crossing of borders
         if (index == 0) {
-            List<Border> borderList = TableBorderUtil
-                    .createAndFillBorderList(null, tableBoundingBorders[3], verticalBorders.get(0).size());
-            return getCollapsedList(verticalBorders.get(0), borderList);
+            return new CollapsedBorderList(verticalBorders.get(0), tableBoundingBorders[3]);
         } else if (index == numberOfColumns) {
-            List<Border> borderList = TableBorderUtil.createAndFillBorderList(null, tableBoundingBorders[1],
-                    verticalBorders.get(verticalBorders.size() - 1).size());
-            return getCollapsedList(verticalBorders.get(verticalBorders.size() - 1), borderList);
+            return new CollapsedBorderList(verticalBorders.get(verticalBorders.size() - 1), tableBoundingBorders[1]);
         } else {
             return verticalBorders.get(index);
         }
@@ -761,4 +760,27 @@ class CollapsedTableBorders extends TableBorders {
         int comparisonResult = Float.compare(thisBorder.getWidth(), otherBorder.getWidth());
         return strict ? comparisonResult > 0 : comparisonResult >= 0;
     }
+
+    /**
+     * Read-only view of cell borders collapsed with the table border.
+     */
+    private static final class CollapsedBorderList extends AbstractList<Border> {
+        private final List<Border> cellBorders;
+        private final Border tableBorder;
+
+        CollapsedBorderList(List<Border> cellBorders, Border tableBorder) {
+            this.cellBorders = cellBorders;
+            this.tableBorder = tableBorder;
+        }
+
+        @Override
+        public Border get(int index) {
+            return getCollapsedBorder(cellBorders.get(index), tableBorder);
+        }
+
+        @Override
+        public int size() {
+            return cellBorders.size();
+        }
+    }
 }
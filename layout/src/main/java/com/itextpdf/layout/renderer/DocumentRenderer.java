@@ -76,6 +76,16 @@ public class DocumentRenderer extends RootRenderer {
         return targetCounterHandler.isRelayoutRequired();
     }
 
+    @Override
+    LayoutResultCache getLayoutResultCache() {
+        return document.getLayoutResultCache();
+    }
+
+    @Override
+    int getTargetCounterUsageCount() {
+        return targetCounterHandler.getUsageCount();
+    }
+
     @Override
     public LayoutArea getOccupiedArea() {
         throw new IllegalStateException("Not applicable for DocumentRenderer");
@@ -189,7 +199,7 @@ public class DocumentRenderer extends RootRenderer {
         return lastPageSize;
     }
 
-    private Rectangle getCurrentPageEffectiveArea(PageSize pageSize) {
+    Rectangle getCurrentPageEffectiveArea(PageSize pageSize) {
         float leftMargin = (float) getPropertyAsFloat(Property.MARGIN_LEFT);
         float bottomMargin = (float) getPropertyAsFloat(Property.MARGIN_BOTTOM);
         float topMargin = (float) getPropertyAsFloat(Property.MARGIN_TOP);
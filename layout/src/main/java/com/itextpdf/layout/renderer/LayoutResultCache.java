@@ -0,0 +1,265 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.layout.renderer;
+
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.layout.IPropertyContainer;
+import com.itextpdf.layout.element.AbstractElement;
+import com.itextpdf.layout.element.IElement;
+import com.itextpdf.layout.element.Text;
+import com.itextpdf.layout.layout.LayoutResult;
+import com.itextpdf.layout.layout.RootLayoutArea;
+import com.itextpdf.layout.properties.IntPropertyMap;
+import com.itextpdf.layout.properties.Property;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cache of the layout results of the top-level elements of a {@link com.itextpdf.layout.Document}, which makes
+ * {@link com.itextpdf.layout.Document#relayout()} reuse the results of the elements which haven't changed.
+ *
+ * <p>
+ * A result is reused if the element starts in the same area of the same page, and neither the properties and
+ * the children of the element, nor the properties of the document have changed since the element was laid out.
+ * The properties of an element, including the ones set by its {@link com.itextpdf.layout.Style styles}, are
+ * compared with {@link Object#equals(Object)} against the values captured during the layout, so a property value
+ * which is modified in place rather than set again is not noticed.
+ * Only the results of the elements which have been laid out in one piece are cached, while e.g. floating elements,
+ * elements which are split between pages, elements with {@link com.itextpdf.layout.properties.Property#KEEP_WITH_NEXT}
+ * and elements whose layout depends on {@link TargetCounterHandler} are laid out again. The cache is not used for
+ * tagged documents and documents with collapsing margins.
+ *
+ * <p>
+ * The results are only valid for the document which has produced them, so an instance shall not be shared between
+ * documents.
+ */
+public class LayoutResultCache {
+    private final Map<IPropertyContainer, CachedLayoutResult> results = new HashMap<>();
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates an empty {@link LayoutResultCache}.
+     */
+    public LayoutResultCache() {
+        // Empty constructor
+    }
+
+    /**
+     * Gets the number of the layout results which have been reused.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Gets the number of the elements which had to be laid out.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        return missCount;
+    }
+
+    /**
+     * Gets the number of the cached layout results.
+     *
+     * @return the number of the cached layout results
+     */
+    public int size() {
+        return results.size();
+    }
+
+    /**
+     * Removes all the cached layout results.
+     */
+    public void clear() {
+        results.clear();
+    }
+
+    /**
+     * Gets the cached result of the element which starts in the specified area.
+     *
+     * @param element the laid out element
+     * @param area    the area the element starts in
+     * @param inputs  the layout inputs of the element and the document, see {@link #captureLayoutInputs}
+     *
+     * @return the cached {@link LayoutResult} with the laid out renderer as the split renderer,
+     * or {@code null} if there is no valid result
+     */
+    LayoutResult get(IPropertyContainer element, RootLayoutArea area, LayoutInputs inputs) {
+        CachedLayoutResult cachedResult = results.get(element);
+        if (cachedResult != null && cachedResult.matches(area, inputs)
+                && !cachedResult.result.getSplitRenderer().isFlushed()) {
+            ++hitCount;
+            return cachedResult.result;
+        }
+        ++missCount;
+        return null;
+    }
+
+    /**
+     * Caches the result of the element which starts in the specified area.
+     *
+     * @param element  the laid out element
+     * @param area     the area the element started in
+     * @param inputs   the layout inputs of the element and the document, see {@link #captureLayoutInputs}
+     * @param renderer the laid out renderer
+     * @param result   the {@link LayoutResult} of the renderer
+     */
+    void put(IPropertyContainer element, RootLayoutArea area, LayoutInputs inputs, IRenderer renderer,
+            LayoutResult result) {
+        LayoutResult cachedResult = new LayoutResult(result.getStatus(), result.getOccupiedArea(), renderer, null);
+        results.put(element, new CachedLayoutResult((RootLayoutArea) area.clone(), inputs, cachedResult));
+    }
+
+    /**
+     * Removes the cached result of the element.
+     *
+     * @param element the element
+     */
+    void remove(IPropertyContainer element) {
+        results.remove(element);
+    }
+
+    /**
+     * Captures the layout inputs of a top-level element, which consist of the properties and the children
+     * of the element and the properties of the document.
+     *
+     * @param element  the top-level element
+     * @param document the document, the element is added to
+     *
+     * @return the captured {@link LayoutInputs}
+     */
+    static LayoutInputs captureLayoutInputs(IPropertyContainer element, IPropertyContainer document) {
+        List<Object> inputs = new ArrayList<>();
+        inputs.add(captureProperties(document));
+        captureLayoutInputs(element, inputs);
+        return new LayoutInputs(inputs);
+    }
+
+    private static void captureLayoutInputs(IPropertyContainer element, List<Object> inputs) {
+        inputs.add(element);
+        inputs.add(captureProperties(element));
+        if (element instanceof Text) {
+            inputs.add(((Text) element).getText());
+        }
+        if (element instanceof AbstractElement) {
+            List<IElement> children = ((AbstractElement<?>) element).getChildren();
+            inputs.add(children.size());
+            for (IElement child : children) {
+                captureLayoutInputs(child, inputs);
+            }
+        }
+    }
+
+    private static IntPropertyMap captureProperties(IPropertyContainer container) {
+        IntPropertyMap properties = new IntPropertyMap();
+        for (int property = 0; property <= Property.getMaxPropertyId(); ++property) {
+            // The properties of an element include the ones of its styles
+            if (container.hasProperty(property)) {
+                properties.putProperty(property, container.<Object>getProperty(property));
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * The layout inputs of a top-level element captured by {@link #captureLayoutInputs}. The elements are compared
+     * by identity and the property values and texts with {@link Object#equals(Object)}, while the hash code
+     * is only used to reject most of the changed inputs without the comparison.
+     */
+    static final class LayoutInputs {
+        private final List<Object> inputs;
+        private final int hash;
+
+        LayoutInputs(List<Object> inputs) {
+            this.inputs = inputs;
+            int hash = 1;
+            for (Object input : inputs) {
+                hash = 31 * hash + hashCode(input);
+            }
+            this.hash = hash;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            LayoutInputs that = (LayoutInputs) o;
+            if (hash != that.hash || inputs.size() != that.inputs.size()) {
+                return false;
+            }
+            for (int i = 0; i < inputs.size(); ++i) {
+                Object input = inputs.get(i);
+                Object thatInput = that.inputs.get(i);
+                boolean equal = input instanceof IPropertyContainer ? input == thatInput
+                        : Objects.equals(input, thatInput);
+                if (!equal) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+
+        private static int hashCode(Object input) {
+            if (input instanceof IPropertyContainer) {
+                return System.identityHashCode(input);
+            }
+            return input == null ? 0 : input.hashCode();
+        }
+    }
+
+    private static final class CachedLayoutResult {
+        private final RootLayoutArea area;
+        private final LayoutInputs inputs;
+        private final LayoutResult result;
+
+        CachedLayoutResult(RootLayoutArea area, LayoutInputs inputs, LayoutResult result) {
+            this.area = area;
+            this.inputs = inputs;
+            this.result = result;
+        }
+
+        boolean matches(RootLayoutArea area, LayoutInputs inputs) {
+            Rectangle bBox = this.area.getBBox();
+            return this.area.getPageNumber() == area.getPageNumber() && this.area.isEmptyArea() == area.isEmptyArea()
+                    && bBox.equalsWithEpsilon(area.getBBox()) && this.inputs.equals(inputs);
+        }
+    }
+}
@@ -85,6 +85,17 @@ public class LineRenderer extends AbstractRenderer {
 
     @Override
     public LayoutResult layout(LayoutContext layoutContext) {
+        boolean snapshotStarted = startResolvedStyleSnapshot();
+        try {
+            return layoutLine(layoutContext);
+        } finally {
+            if (snapshotStarted) {
+                endResolvedStyleSnapshot();
+            }
+        }
+    }
+
+    private LayoutResult layoutLine(LayoutContext layoutContext) {
         boolean textSequenceOverflowXProcessing = false;
         int firstChildToRelayout = -1;
 
@@ -30,6 +30,7 @@ import com.itextpdf.kernel.actions.events.LinkDocumentIdEvent;
 import com.itextpdf.kernel.geom.Rectangle;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.layout.IPropertyContainer;
+import com.itextpdf.layout.element.ILargeElement;
 import com.itextpdf.layout.layout.LayoutArea;
 import com.itextpdf.layout.layout.LayoutContext;
 import com.itextpdf.layout.layout.LayoutPosition;
@@ -93,6 +94,9 @@ public abstract class RootRenderer extends AbstractRenderer {
             }
         }
 
+        LayoutResultCache layoutResultCache = immediateFlush || taggingHelper != null || marginsCollapsingEnabled
+                || addedRenderers.size() != 1 || !addedPositionedRenderers.isEmpty() ? null : getLayoutResultCache();
+
         // Static layout
         for (int i = 0; currentArea != null && i < addedRenderers.size(); i++) {
             RootRendererAreaStateHandler rootRendererStateHandler = new RootRendererAreaStateHandler();
@@ -108,6 +112,24 @@ public abstract class RootRenderer extends AbstractRenderer {
 
             processWaitingKeepWithNextElement(renderer);
 
+            IPropertyContainer cachedElement = null;
+            LayoutResultCache.LayoutInputs cachedElementInputs = null;
+            RootLayoutArea cachedElementArea = null;
+            if (layoutResultCache != null && isLayoutResultCacheable(renderer, rendererIsFloat, clearanceOverflowsToNextPage)) {
+                cachedElement = renderer.getModelElement();
+                cachedElementInputs = LayoutResultCache.captureLayoutInputs(cachedElement, modelElement);
+                LayoutResult cachedResult = layoutResultCache.get(cachedElement, currentArea, cachedElementInputs);
+                // The same element might be added more than once
+                if (cachedResult != null && cachedResult.getSplitRenderer().getParent() != this) {
+                    shrinkCurrentAreaAndProcessRenderer(cachedResult.getSplitRenderer().setParent(this),
+                            new ArrayList<IRenderer>(), cachedResult);
+                    continue;
+                }
+                cachedElementArea = currentArea;
+            }
+            int targetCounterUsageCount = getTargetCounterUsageCount();
+            boolean laidOutAtOnce = true;
+
             List<IRenderer> resultRenderers = new ArrayList<>();
             LayoutResult result = null;
 
@@ -118,6 +140,7 @@ public abstract class RootRenderer extends AbstractRenderer {
             while (clearanceOverflowsToNextPage || currentArea != null && renderer != null
                         && (result = renderer.setParent(this)
                             .layout(new LayoutContext(currentArea.clone(), childMarginsInfo, floatRendererAreas))).getStatus() != LayoutResult.FULL) {
+                laidOutAtOnce = false;
                 boolean currentAreaNeedsToBeUpdated = false;
                 if (clearanceOverflowsToNextPage) {
                     result = new LayoutResult(LayoutResult.NOTHING, null, null, renderer);
@@ -220,6 +243,15 @@ public abstract class RootRenderer extends AbstractRenderer {
                         keepWithNextHangingRendererLayoutResult = result;
                     }
                 } else if (result.getStatus() != LayoutResult.NOTHING) {
+                    if (cachedElement != null) {
+                        // Results which depend on the pages of other elements can't be reused
+                        if (laidOutAtOnce && targetCounterUsageCount == getTargetCounterUsageCount()) {
+                            layoutResultCache.put(cachedElement, cachedElementArea, cachedElementInputs, renderer,
+                                    result);
+                        } else {
+                            layoutResultCache.remove(cachedElement);
+                        }
+                    }
                     shrinkCurrentAreaAndProcessRenderer(renderer, resultRenderers, result);
                 }
             }
@@ -275,13 +307,7 @@ public abstract class RootRenderer extends AbstractRenderer {
      * and when no consequent element has been added. This method addresses such situations.
      */
     public void close() {
-        addAllWaitingNextPageRenderers();
-        if (keepWithNextHangingRenderer != null) {
-            keepWithNextHangingRenderer.setProperty(Property.KEEP_WITH_NEXT, false);
-            IRenderer rendererToBeAdded = keepWithNextHangingRenderer;
-            keepWithNextHangingRenderer = null;
-            addChild(rendererToBeAdded);
-        }
+        addHangingRenderers();
         if (!immediateFlush) {
             flush();
         }
@@ -364,6 +390,49 @@ public abstract class RootRenderer extends AbstractRenderer {
         }
     }
 
+    /**
+     * Gets the cache of the layout results of the added elements.
+     *
+     * @return the {@link LayoutResultCache}, or {@code null} if the layout results shall not be cached
+     */
+    LayoutResultCache getLayoutResultCache() {
+        return null;
+    }
+
+    /**
+     * Gets the number of the {@link TargetCounterHandler} calls made during the layout, which is used to find
+     * the layout results depending on the pages of other elements.
+     *
+     * @return the number of the target counter calls
+     */
+    int getTargetCounterUsageCount() {
+        return 0;
+    }
+
+    /**
+     * Lays out the renderers which are still waiting for the next element or the next page.
+     */
+    void addHangingRenderers() {
+        addAllWaitingNextPageRenderers();
+        if (keepWithNextHangingRenderer != null) {
+            keepWithNextHangingRenderer.setProperty(Property.KEEP_WITH_NEXT, false);
+            IRenderer rendererToBeAdded = keepWithNextHangingRenderer;
+            keepWithNextHangingRenderer = null;
+            addChild(rendererToBeAdded);
+        }
+    }
+
+    private boolean isLayoutResultCacheable(IRenderer renderer, boolean rendererIsFloat,
+            boolean clearanceOverflowsToNextPage) {
+        // Horizontally aligned renderers are moved after the layout, so their results can't be placed once more
+        return !rendererIsFloat && !clearanceOverflowsToNextPage && !floatOverflowedCompletely
+                && waitingNextPageRenderers.isEmpty() && floatRendererAreas.isEmpty()
+                && keepWithNextHangingRenderer == null && renderer.getModelElement() != null
+                && !(renderer.getModelElement() instanceof ILargeElement)
+                && !Boolean.TRUE.equals(renderer.<Boolean>getProperty(Property.KEEP_WITH_NEXT))
+                && !renderer.hasProperty(Property.HORIZONTAL_ALIGNMENT);
+    }
+
     private void processRenderer(IRenderer renderer, List<IRenderer> resultRenderers) {
         alignChildHorizontally(renderer, currentArea.getBBox());
         if (immediateFlush) {
@@ -0,0 +1,228 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.layout.renderer;
+
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.AreaBreak;
+import com.itextpdf.layout.layout.LayoutArea;
+import com.itextpdf.layout.layout.LayoutResult;
+import com.itextpdf.layout.layout.RootLayoutArea;
+import com.itextpdf.layout.properties.AreaBreakType;
+import com.itextpdf.layout.properties.Property;
+import com.itextpdf.layout.tagging.LayoutTaggingHelper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Renderer of a section of a document, which is laid out independently of the content preceding it.
+ *
+ * <p>
+ * The pages of the section are only sized during the layout and are numbered from 1, no pages are added to
+ * the {@link PdfDocument}, so that several sections of the same document can be laid out at the same time.
+ * When the section is flushed, its pages are added to the end of the document and the laid out renderers are
+ * moved to the added pages.
+ */
+public class SectionRenderer extends DocumentRenderer {
+
+    private final PageSize pageSize;
+    private final List<PageSize> pageSizes = new ArrayList<>();
+    private int firstPageNumber;
+
+    /**
+     * Creates a renderer of a section.
+     *
+     * @param document the {@link Document} the section is added to
+     * @param pageSize the default page size of the section
+     */
+    public SectionRenderer(Document document, PageSize pageSize) {
+        this(document, pageSize, Collections.<String, Integer>emptyMap());
+    }
+
+    /**
+     * Creates a renderer of a section, which resolves the target counters with the specified pages.
+     *
+     * @param document the {@link Document} the section is added to
+     * @param pageSize the default page size of the section
+     * @param pagesByID the pages of the elements with id in the document, which are returned to the target counters
+     */
+    public SectionRenderer(Document document, PageSize pageSize, Map<String, Integer> pagesByID) {
+        super(document, false);
+        this.pageSize = pageSize;
+        this.targetCounterHandler = new TargetCounterHandler(pagesByID);
+    }
+
+    /**
+     * Lays out the elements which are still waiting for the next element or the next page, so that all the pages
+     * of the section are known before it's drawn.
+     */
+    public void finishLayout() {
+        addHangingRenderers();
+    }
+
+    /**
+     * Gets the number of the pages of the laid out section.
+     *
+     * @return the number of the pages
+     */
+    public int getNumberOfPages() {
+        return pageSizes.size();
+    }
+
+    /**
+     * Gets the pages of the laid out elements with id, which are numbered from the first page of the section.
+     *
+     * @return the pages of the elements by id
+     */
+    public Map<String, Integer> getPagesByID() {
+        return Collections.unmodifiableMap(targetCounterHandler.getRenderersPages());
+    }
+
+    /**
+     * Gets the pages which were returned to the target counters of the section during the layout.
+     *
+     * @return the returned pages by id, a page is <code>null</code> if it wasn't known
+     */
+    public Map<String, Integer> getRequestedPagesByID() {
+        return Collections.unmodifiableMap(targetCounterHandler.getRequestedPages());
+    }
+
+    @Override
+    public IRenderer getNextRenderer() {
+        SectionRenderer renderer = new SectionRenderer(document, pageSize);
+        renderer.targetCounterHandler = new TargetCounterHandler(targetCounterHandler);
+        return renderer;
+    }
+
+    @Override
+    public void flush() {
+        if (firstPageNumber == 0) {
+            for (IRenderer resultRenderer : childRenderers) {
+                ensureSectionHasPageOf(resultRenderer);
+            }
+            for (IRenderer resultRenderer : positionedRenderers) {
+                ensureSectionHasPageOf(resultRenderer);
+            }
+            PdfDocument pdfDocument = document.getPdfDocument();
+            firstPageNumber = pdfDocument.getNumberOfPages() + 1;
+            for (PageSize sectionPageSize : pageSizes) {
+                pdfDocument.addNewPage(sectionPageSize);
+            }
+            Set<IRenderer> movedRenderers = new HashSet<>();
+            for (IRenderer resultRenderer : childRenderers) {
+                movePageNumbers(resultRenderer, firstPageNumber - 1, movedRenderers);
+            }
+            for (IRenderer resultRenderer : positionedRenderers) {
+                movePageNumbers(resultRenderer, firstPageNumber - 1, movedRenderers);
+            }
+        }
+        super.flush();
+    }
+
+    @Override
+    protected LayoutArea updateCurrentArea(LayoutResult overflowResult) {
+        LayoutTaggingHelper taggingHelper = this.<LayoutTaggingHelper>getProperty(Property.TAGGING_HELPER);
+        if (taggingHelper != null) {
+            taggingHelper.releaseFinishedHints();
+        }
+        AreaBreak areaBreak = overflowResult != null && overflowResult.getAreaBreak() != null ?
+                overflowResult.getAreaBreak() : null;
+        int currentPageNumber = currentArea == null ? 0 : currentArea.getPageNumber();
+        if (areaBreak != null && areaBreak.getType() == AreaBreakType.LAST_PAGE) {
+            currentPageNumber = Math.max(currentPageNumber, pageSizes.size());
+        } else {
+            currentPageNumber++;
+        }
+        PageSize customPageSize = areaBreak != null ? areaBreak.getPageSize() : null;
+        PageSize lastPageSize = ensureDocumentHasNPages(currentPageNumber, customPageSize);
+        if (lastPageSize == null) {
+            lastPageSize = pageSizes.get(currentPageNumber - 1);
+        }
+        return (currentArea = new RootLayoutArea(currentPageNumber, getCurrentPageEffectiveArea(lastPageSize)));
+    }
+
+    @Override
+    protected PageSize addNewPage(PageSize customPageSize) {
+        if (firstPageNumber > 0) {
+            return super.addNewPage(customPageSize);
+        }
+        PageSize newPageSize = customPageSize != null ? customPageSize : pageSize;
+        pageSizes.add(newPageSize);
+        return newPageSize;
+    }
+
+    @Override
+    protected PageSize ensureDocumentHasNPages(int n, PageSize customPageSize) {
+        if (firstPageNumber > 0) {
+            return super.ensureDocumentHasNPages(n, customPageSize);
+        }
+        PageSize lastPageSize = null;
+        while (pageSizes.size() < n) {
+            lastPageSize = addNewPage(customPageSize);
+        }
+        return lastPageSize;
+    }
+
+    private void ensureSectionHasPageOf(IRenderer renderer) {
+        if (renderer.getOccupiedArea() != null) {
+            ensureDocumentHasNPages(renderer.getOccupiedArea().getPageNumber(), null);
+        }
+    }
+
+    private static void movePageNumbers(IRenderer renderer, int offset, Set<IRenderer> movedRenderers) {
+        if (!(renderer instanceof AbstractRenderer) || !movedRenderers.add(renderer)) {
+            return;
+        }
+        AbstractRenderer abstractRenderer = (AbstractRenderer) renderer;
+        LayoutArea area = abstractRenderer.occupiedArea;
+        if (area != null) {
+            // The areas might be shared between the renderers, so they are replaced rather than changed
+            abstractRenderer.occupiedArea = new LayoutArea(area.getPageNumber() + offset, area.getBBox());
+        }
+        for (IRenderer child : abstractRenderer.childRenderers) {
+            movePageNumbers(child, offset, movedRenderers);
+        }
+        for (IRenderer child : abstractRenderer.positionedRenderers) {
+            movePageNumbers(child, offset, movedRenderers);
+        }
+        // Some renderers draw the renderers which aren't their children
+        if (renderer instanceof ParagraphRenderer && ((ParagraphRenderer) renderer).lines != null) {
+            for (IRenderer line : ((ParagraphRenderer) renderer).lines) {
+                movePageNumbers(line, offset, movedRenderers);
+            }
+        } else if (renderer instanceof TableRenderer) {
+            TableRenderer tableRenderer = (TableRenderer) renderer;
+            movePageNumbers(tableRenderer.headerRenderer, offset, movedRenderers);
+            movePageNumbers(tableRenderer.footerRenderer, offset, movedRenderers);
+            movePageNumbers(tableRenderer.captionRenderer, offset, movedRenderers);
+        } else if (renderer instanceof ListItemRenderer) {
+            movePageNumbers(((ListItemRenderer) renderer).symbolRenderer, offset, movedRenderers);
+        }
+    }
+}
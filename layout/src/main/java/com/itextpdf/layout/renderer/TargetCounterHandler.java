@@ -39,6 +39,13 @@ public class TargetCounterHandler {
 
     private Map<String, Integer> previousRenderersPages = new HashMap<>();
 
+    /**
+     * Pages returned for the requested ids, which are <code>null</code> if a page wasn't known yet.
+     */
+    private Map<String, Integer> requestedPages = new HashMap<>();
+
+    private int usageCount;
+
     /**
      * Creates a copy of the given {@link TargetCounterHandler} instance.
      *
@@ -54,6 +61,15 @@ public class TargetCounterHandler {
      */
     public TargetCounterHandler() {}
 
+    /**
+     * Creates a new {@link TargetCounterHandler} instance, which returns the specified pages for the requested ids.
+     *
+     * @param previousRenderersPages the pages of the renderers with id, e.g. laid out in other sections
+     */
+    TargetCounterHandler(Map<String, Integer> previousRenderersPages) {
+        this.previousRenderersPages = new HashMap<>(previousRenderersPages);
+    }
+
     /**
      * Adds renderer's page to the root renderer map.
      *
@@ -64,6 +80,7 @@ public class TargetCounterHandler {
         if (id != null) {
             final TargetCounterHandler targetCounterHandler = getTargetCounterHandler(renderer);
             if (targetCounterHandler != null && renderer.getOccupiedArea() != null) {
+                ++targetCounterHandler.usageCount;
                 final int currentPageNumber = renderer.getOccupiedArea().getPageNumber();
                 targetCounterHandler.renderersPages.put(id, currentPageNumber);
             }
@@ -79,7 +96,13 @@ public class TargetCounterHandler {
      */
     public static Integer getPageByID(IRenderer renderer, String id) {
         final TargetCounterHandler targetCounterHandler = getTargetCounterHandler(renderer);
-        return targetCounterHandler == null ? null : targetCounterHandler.previousRenderersPages.get(id);
+        if (targetCounterHandler == null) {
+            return null;
+        }
+        ++targetCounterHandler.usageCount;
+        final Integer page = targetCounterHandler.previousRenderersPages.get(id);
+        targetCounterHandler.requestedPages.put(id, page);
+        return page;
     }
 
     /**
@@ -91,7 +114,11 @@ public class TargetCounterHandler {
      */
     public static boolean isValueDefinedForThisId(IRenderer renderer, String id) {
         final TargetCounterHandler targetCounterHandler = getTargetCounterHandler(renderer);
-        return targetCounterHandler != null && targetCounterHandler.renderersPages.containsKey(id);
+        if (targetCounterHandler == null) {
+            return false;
+        }
+        ++targetCounterHandler.usageCount;
+        return targetCounterHandler.renderersPages.containsKey(id);
     }
 
     /**
@@ -115,6 +142,33 @@ public class TargetCounterHandler {
         previousRenderersPages = new HashMap<>(renderersPages);
     }
 
+    /**
+     * Gets the number of the calls which have added or requested the pages of the renderers.
+     *
+     * @return the number of the calls
+     */
+    int getUsageCount() {
+        return usageCount;
+    }
+
+    /**
+     * Gets the pages of the renderers with id added during the layout.
+     *
+     * @return the pages of the renderers by id
+     */
+    Map<String, Integer> getRenderersPages() {
+        return renderersPages;
+    }
+
+    /**
+     * Gets the pages returned for the ids requested during the layout.
+     *
+     * @return the returned pages by id, a page is <code>null</code> if it wasn't known
+     */
+    Map<String, Integer> getRequestedPages() {
+        return requestedPages;
+    }
+
     private static TargetCounterHandler getTargetCounterHandler(IRenderer renderer) {
         IRenderer rootRenderer = renderer;
         while (rootRenderer.getParent() != null) {
@@ -155,6 +155,17 @@ public class TextRenderer extends AbstractRenderer implements ILeafElementRender
 
     @Override
     public LayoutResult layout(LayoutContext layoutContext) {
+        boolean snapshotStarted = startResolvedStyleSnapshot();
+        try {
+            return layoutText(layoutContext);
+        } finally {
+            if (snapshotStarted) {
+                endResolvedStyleSnapshot();
+            }
+        }
+    }
+
+    private LayoutResult layoutText(LayoutContext layoutContext) {
         updateFontAndText();
 
         LayoutArea area = layoutContext.getArea();
@@ -26,6 +26,7 @@ import com.itextpdf.commons.utils.FileUtil;
 import com.itextpdf.io.font.PdfEncodings;
 import com.itextpdf.io.font.constants.StandardFontFamilies;
 import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.font.PdfFont;
 import com.itextpdf.kernel.font.PdfFontFactory;
 import com.itextpdf.kernel.font.PdfType3Font;
@@ -40,6 +41,7 @@ import com.itextpdf.layout.font.FontCharacteristics;
 import com.itextpdf.layout.font.FontInfo;
 import com.itextpdf.layout.font.FontProvider;
 import com.itextpdf.layout.font.FontSelector;
+import com.itextpdf.layout.font.FontSet;
 import com.itextpdf.layout.properties.Property;
 import com.itextpdf.test.ExtendedITextTest;
 import org.junit.jupiter.api.Assertions;
@@ -51,7 +53,11 @@ import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Tag("IntegrationTest")
 public class FontProviderTest extends ExtendedITextTest {
@@ -191,4 +197,75 @@ public class FontProviderTest extends ExtendedITextTest {
             Assertions.assertEquals(LayoutExceptionMessageConstant.FONT_PROVIDER_NOT_SET_FONT_FAMILY_NOT_RESOLVED, e.getMessage());
         }
     }
+
+    @Test
+    public void readOnlyFontSetSharesFontSelectorsTest() {
+        FontSet fontSet = new FontSet();
+        fontSet.addFont(StandardFonts.HELVETICA);
+        fontSet.addFont(StandardFonts.TIMES_ROMAN);
+        fontSet.makeReadOnly();
+        List<String> fontFamilies = Collections.singletonList(StandardFontFamilies.TIMES);
+        FontCharacteristics fc = new FontCharacteristics();
+
+        FontSelector selector = new FontProvider(fontSet).getFontSelector(fontFamilies, fc);
+        Assertions.assertSame(selector, new FontProvider(fontSet).getFontSelector(fontFamilies, fc));
+        Assertions.assertNotSame(selector,
+                new FontProvider(fontSet, StandardFontFamilies.TIMES).getFontSelector(fontFamilies, fc));
+        Assertions.assertNotSame(selector, new FontProvider(fontSet) { }.getFontSelector(fontFamilies, fc));
+    }
+
+    @Test
+    public void readOnlyAdditionalFontSetSharesFontSelectorsTest() {
+        FontSet fontSet = new FontSet().makeReadOnly();
+        FontSet additionalFonts = new FontSet();
+        additionalFonts.addFont(StandardFonts.COURIER);
+        List<String> fontFamilies = Collections.singletonList(StandardFontFamilies.COURIER);
+        FontCharacteristics fc = new FontCharacteristics();
+
+        FontSelector selector = new FontProvider(fontSet).getFontSelector(fontFamilies, fc, additionalFonts);
+        Assertions.assertNotSame(selector,
+                new FontProvider(fontSet).getFontSelector(fontFamilies, fc, additionalFonts));
+
+        additionalFonts.makeReadOnly();
+        selector = new FontProvider(fontSet).getFontSelector(fontFamilies, fc, additionalFonts);
+        Assertions.assertSame(selector,
+                new FontProvider(fontSet).getFontSelector(fontFamilies, fc, additionalFonts));
+        Assertions.assertNotSame(selector, new FontProvider(fontSet).getFontSelector(fontFamilies, fc));
+    }
+
+    @Test
+    public void concurrentFontSelectionOnReadOnlyFontSetTest() throws Exception {
+        FontSet fontSet = new FontSet();
+        fontSet.addFont(StandardFonts.HELVETICA);
+        fontSet.addFont(StandardFonts.HELVETICA_BOLD);
+        fontSet.addFont(StandardFonts.TIMES_ROMAN);
+        fontSet.makeReadOnly();
+        List<String> fontFamilies = Collections.singletonList(StandardFontFamilies.HELVETICA);
+        FontCharacteristics fc = new FontCharacteristics().setBoldFlag(true);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<FontSelector>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> new FontProvider(fontSet).getFontSelector(fontFamilies, fc)));
+            }
+            FontSelector expected = new FontProvider(fontSet).getFontSelector(fontFamilies, fc);
+            for (Future<FontSelector> result : results) {
+                Assertions.assertSame(expected, result.get());
+            }
+            Assertions.assertEquals(StandardFonts.HELVETICA_BOLD,
+                    expected.bestMatch().getDescriptor().getFontName());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void addFontToReadOnlyFontSetTest() {
+        FontSet fontSet = new FontSet().makeReadOnly();
+        Assertions.assertTrue(fontSet.isReadOnly());
+        Exception e = Assertions.assertThrows(PdfException.class, () -> fontSet.addFont(StandardFonts.HELVETICA));
+        Assertions.assertEquals(LayoutExceptionMessageConstant.CANNOT_ADD_FONT_TO_READ_ONLY_FONT_SET, e.getMessage());
+        Assertions.assertTrue(fontSet.isEmpty());
+    }
 }
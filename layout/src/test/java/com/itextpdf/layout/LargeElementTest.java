@@ -23,6 +23,7 @@
 package com.itextpdf.layout;
 
 import com.itextpdf.io.logs.IoLogMessageConstant;
+import com.itextpdf.io.source.ByteArrayOutputStream;
 import com.itextpdf.commons.utils.MessageFormatUtil;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.colors.ColorConstants;
@@ -100,6 +101,37 @@ public class LargeElementTest extends ExtendedITextTest {
         Assertions.assertNull(new CompareTool().compareByContent(outFileName, cmpFileName, destinationFolder, testName + "_diff"));
     }
 
+    @Test
+    @LogMessages(messages = {
+            @LogMessage(messageTemplate = IoLogMessageConstant.LAST_ROW_IS_NOT_COMPLETE)
+    })
+    public void largeTableFlushReleasesFlushedRowsTest() {
+        Document doc = new Document(new PdfDocument(new PdfWriter(new ByteArrayOutputStream())));
+        Table table = new Table(UnitValue.createPercentArray(3), true);
+        doc.add(table);
+
+        for (int i = 0; i < 9; i++) {
+            table.addCell(new Cell().add(new Paragraph("Cell " + i)));
+        }
+        table.addCell(new Cell(2, 1).add(new Paragraph("Cell with rowspan")));
+        table.addCell(new Cell().add(new Paragraph("Cell 10")));
+        table.flush();
+
+        // The last rows are not flushed since the cell with rowspan is not finished yet
+        Assertions.assertEquals(2, table.getNumberOfRows());
+        Assertions.assertEquals(2, table.getChildren().size());
+        Assertions.assertEquals(3, table.getLastRowBottomBorder().size());
+
+        table.addCell(new Cell().add(new Paragraph("Cell 11")));
+        table.addCell(new Cell().add(new Paragraph("Cell 12")));
+        table.addCell(new Cell().add(new Paragraph("Cell 13")));
+        table.flush();
+        Assertions.assertEquals(0, table.getChildren().size());
+
+        table.complete();
+        doc.close();
+    }
+
     @Test
     public void largeTableTest02() throws IOException, InterruptedException {
         String testName = "largeTableTest02.pdf";
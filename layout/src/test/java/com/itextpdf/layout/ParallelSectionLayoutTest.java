@@ -0,0 +1,401 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.layout;
+
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.geom.PageSize;
+import com.itextpdf.kernel.pdf.PdfArray;
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfIndirectReference;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfString;
+import com.itextpdf.kernel.pdf.PdfVersion;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.WriterProperties;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import com.itextpdf.kernel.pdf.tagging.IStructureNode;
+import com.itextpdf.kernel.pdf.tagging.PdfStructElem;
+import com.itextpdf.layout.element.AreaBreak;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Text;
+import com.itextpdf.layout.layout.LayoutContext;
+import com.itextpdf.layout.layout.LayoutResult;
+import com.itextpdf.layout.properties.Property;
+import com.itextpdf.layout.renderer.IRenderer;
+import com.itextpdf.layout.renderer.TargetCounterHandler;
+import com.itextpdf.layout.renderer.TextRenderer;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("IntegrationTest")
+public class ParallelSectionLayoutTest extends ExtendedITextTest {
+
+    private static final String FONTS_FOLDER = "./src/test/resources/com/itextpdf/layout/fonts/";
+
+    private static final int SECTIONS = 12;
+
+    @Test
+    public void sequentialLayoutTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        int[] firstPageNumbers;
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos))) {
+            firstPageNumbers = addSections(new ParallelSectionLayout(pdfDocument)).layout();
+        }
+        assertSections(baos.toByteArray(), firstPageNumbers);
+    }
+
+    @Test
+    public void parallelLayoutTest() throws IOException {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            int[] firstPageNumbers;
+            try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos))) {
+                firstPageNumbers = addSections(new ParallelSectionLayout(pdfDocument)
+                        .setExecutorService(executorService)).layout();
+            }
+            assertSections(baos.toByteArray(), firstPageNumbers);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void sectionsAfterExistingContentTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos))) {
+            Document document = new Document(pdfDocument, PageSize.A5);
+            document.add(new Paragraph("Title"));
+            document.flush();
+            int[] firstPageNumbers = new ParallelSectionLayout(pdfDocument)
+                    .addSection(new ChapterSection(0, 1))
+                    .layout();
+            Assertions.assertArrayEquals(new int[] {2}, firstPageNumbers);
+            Assertions.assertTrue(PageSize.A5.equalsWithEpsilon(pdfDocument.getPage(2).getPageSize()));
+            document.close();
+        }
+    }
+
+    @Test
+    public void taggedDocumentTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos))) {
+            pdfDocument.setTagged();
+            new ParallelSectionLayout(pdfDocument)
+                    .addSection(new ChapterSection(0, 1))
+                    .addSection(new ChapterSection(1, 2))
+                    .layout();
+        }
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())))) {
+            Assertions.assertTrue(pdfDocument.isTagged());
+            Assertions.assertEquals(3, pdfDocument.getNumberOfPages());
+            Assertions.assertEquals(3, countParagraphTags(pdfDocument.getStructTreeRoot().getKids()));
+        }
+    }
+
+    @Test
+    public void sharedFontIsWrittenOnceTest() throws IOException {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos))) {
+                PdfFont font = PdfFontFactory.createFont(FONTS_FOLDER + "FreeSans.ttf", PdfEncodings.IDENTITY_H);
+                ParallelSectionLayout layout = new ParallelSectionLayout(pdfDocument)
+                        .setExecutorService(executorService);
+                for (int i = 0; i < SECTIONS; ++i) {
+                    final int chapter = i;
+                    layout.addSection(document -> document.setFont(font)
+                            .add(new Paragraph("Chapter " + chapter + ", page 0")));
+                }
+                layout.layout();
+            }
+            try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(
+                    baos.toByteArray())))) {
+                Set<PdfIndirectReference> fonts = new HashSet<>();
+                for (int i = 1; i <= pdfDocument.getNumberOfPages(); ++i) {
+                    PdfDictionary pageFonts = pdfDocument.getPage(i).getResources().getResource(PdfName.Font);
+                    for (PdfName name : pageFonts.keySet()) {
+                        fonts.add(pageFonts.get(name, false).getIndirectReference());
+                    }
+                    Assertions.assertEquals("Chapter " + (i - 1) + ", page 0",
+                            PdfTextExtractor.getTextFromPage(pdfDocument.getPage(i)));
+                }
+                Assertions.assertEquals(SECTIONS, pdfDocument.getNumberOfPages());
+                Assertions.assertEquals(1, fonts.size());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void writerPropertiesOfTargetDocumentTest() throws IOException {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            int[] firstPageNumbers;
+            try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos, new WriterProperties()
+                    .setPdfVersion(PdfVersion.PDF_2_0).setFullCompressionMode(true)))) {
+                firstPageNumbers = addSections(new ParallelSectionLayout(pdfDocument)
+                        .setExecutorService(executorService)).layout();
+            }
+            assertSections(baos.toByteArray(), firstPageNumbers);
+            try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(
+                    baos.toByteArray())))) {
+                Assertions.assertEquals(PdfVersion.PDF_2_0, pdfDocument.getPdfVersion());
+                Assertions.assertTrue(pdfDocument.getReader().hasXrefStm());
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void destinationsAreOnTargetDocumentPagesTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos))) {
+            new ParallelSectionLayout(pdfDocument)
+                    .addSection(new ChapterSection(0, 2))
+                    .addSection(document -> document.add(new Paragraph("Chapter 1").setDestination("chapter1")))
+                    .layout();
+        }
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())))) {
+            PdfArray destination = (PdfArray) pdfDocument.getCatalog().getNameTree(PdfName.Dests).getNames()
+                    .get(new PdfString("chapter1"));
+            Assertions.assertEquals(pdfDocument.getPage(3).getPdfObject(), destination.getAsDictionary(0));
+        }
+    }
+
+    @Test
+    public void sequentialTargetCountersAcrossSectionsTest() throws IOException {
+        assertTargetCountersAcrossSections(null);
+    }
+
+    @Test
+    public void parallelTargetCountersAcrossSectionsTest() throws IOException {
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            assertTargetCountersAcrossSections(executorService);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void sectionExceptionTest() {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+            ParallelSectionLayout layout = new ParallelSectionLayout(pdfDocument)
+                    .setExecutorService(executorService)
+                    .addSection(new ChapterSection(0, 1))
+                    .addSection(document -> {
+                        throw new IOException("Section can't be created");
+                    });
+            Exception e = Assertions.assertThrows(PdfException.class, () -> layout.layout());
+            Assertions.assertTrue(e.getCause() instanceof IOException);
+            Assertions.assertEquals("Section can't be created", e.getCause().getMessage());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void sectionsLaidOutAheadAreLimitedByPoolSizeTest() {
+        AtomicInteger submittedSections = new AtomicInteger();
+        ExecutorService executorService = new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>()) {
+            @Override
+            public void execute(Runnable command) {
+                submittedSections.incrementAndGet();
+                super.execute(command);
+            }
+        };
+        try {
+            PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+            ParallelSectionLayout layout = new ParallelSectionLayout(pdfDocument)
+                    .setExecutorService(executorService)
+                    .addSection(document -> {
+                        throw new IOException("Section can't be created");
+                    });
+            addSections(layout);
+            Assertions.assertThrows(PdfException.class, () -> layout.layout());
+            Assertions.assertEquals(2, submittedSections.get());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void drawExceptionCancelsSectionsTest() throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            PdfDocument pdfDocument = new PdfDocument(new PdfWriter(new ByteArrayOutputStream())) {
+                @Override
+                public PdfPage addNewPage(PageSize pageSize) {
+                    throw new IllegalStateException("Page can't be added");
+                }
+            };
+            ParallelSectionLayout layout = new ParallelSectionLayout(pdfDocument)
+                    .setExecutorService(executorService)
+                    .addSection(new ChapterSection(0, 1))
+                    .addSection(document -> {
+                        try {
+                            new CountDownLatch(1).await();
+                        } catch (InterruptedException e) {
+                            // The section is cancelled
+                        }
+                    });
+            Exception e = Assertions.assertThrows(IllegalStateException.class, () -> layout.layout());
+            Assertions.assertEquals("Page can't be added", e.getMessage());
+        } finally {
+            executorService.shutdown();
+        }
+        // The blocked section is either interrupted or not started at all, otherwise the pool can't terminate
+        Assertions.assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    private static void assertTargetCountersAcrossSections(ExecutorService executorService) throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos))) {
+            new ParallelSectionLayout(pdfDocument)
+                    .setExecutorService(executorService)
+                    .addSection(document -> document.add(createReference("Contents", "contents", "chapter2")))
+                    .addSection(new ChapterSection(1, 2))
+                    .addSection(document -> document.add(createReference("Chapter 2", "chapter2", "contents")))
+                    .layout();
+        }
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())))) {
+            Assertions.assertEquals(4, pdfDocument.getNumberOfPages());
+            Assertions.assertEquals("Contents, see page 4", PdfTextExtractor.getTextFromPage(pdfDocument.getPage(1)));
+            Assertions.assertEquals("Chapter 2, see page 1", PdfTextExtractor.getTextFromPage(pdfDocument.getPage(4)));
+        }
+    }
+
+    private static Paragraph createReference(String title, String id, String targetId) {
+        Text pageNumber = new Text("?");
+        pageNumber.setNextRenderer(new PageReferenceRenderer(pageNumber, targetId));
+        Paragraph paragraph = new Paragraph(title + ", see page ").add(pageNumber);
+        paragraph.setProperty(Property.ID, id);
+        return paragraph;
+    }
+
+    private static int countParagraphTags(List<IStructureNode> nodes) {
+        int count = 0;
+        for (IStructureNode node : nodes) {
+            if (node instanceof PdfStructElem) {
+                count += PdfName.P.equals(node.getRole()) ? 1 : 0;
+                count += countParagraphTags(node.getKids());
+            }
+        }
+        return count;
+    }
+
+    private static ParallelSectionLayout addSections(ParallelSectionLayout layout) {
+        for (int i = 0; i < SECTIONS; ++i) {
+            layout.addSection(new ChapterSection(i, 1 + i % 3));
+        }
+        return layout;
+    }
+
+    private static void assertSections(byte[] pdf, int[] firstPageNumbers) throws IOException {
+        Assertions.assertEquals(SECTIONS, firstPageNumbers.length);
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)))) {
+            int expectedPage = 1;
+            for (int i = 0; i < SECTIONS; ++i) {
+                Assertions.assertEquals(expectedPage, firstPageNumbers[i]);
+                for (int page = 0; page < 1 + i % 3; ++page) {
+                    Assertions.assertEquals("Chapter " + i + ", page " + page,
+                            PdfTextExtractor.getTextFromPage(pdfDocument.getPage(expectedPage + page)));
+                }
+                expectedPage += 1 + i % 3;
+            }
+            Assertions.assertEquals(expectedPage - 1, pdfDocument.getNumberOfPages());
+        }
+    }
+
+    private static final class PageReferenceRenderer extends TextRenderer {
+        private final String targetId;
+
+        PageReferenceRenderer(Text text, String targetId) {
+            super(text);
+            this.targetId = targetId;
+        }
+
+        @Override
+        public LayoutResult layout(LayoutContext layoutContext) {
+            Integer targetPageNumber = TargetCounterHandler.getPageByID(this, targetId);
+            if (targetPageNumber != null) {
+                setText(String.valueOf(targetPageNumber));
+            }
+            return super.layout(layoutContext);
+        }
+
+        @Override
+        public IRenderer getNextRenderer() {
+            return new PageReferenceRenderer((Text) getModelElement(), targetId);
+        }
+    }
+
+    private static final class ChapterSection implements IDocumentSection {
+        private final int chapter;
+        private final int pages;
+
+        ChapterSection(int chapter, int pages) {
+            this.chapter = chapter;
+            this.pages = pages;
+        }
+
+        @Override
+        public void addContent(Document document) {
+            for (int page = 0; page < pages; ++page) {
+                if (page > 0) {
+                    document.add(new AreaBreak());
+                }
+                document.add(new Paragraph("Chapter " + chapter + ", page " + page));
+            }
+        }
+    }
+}
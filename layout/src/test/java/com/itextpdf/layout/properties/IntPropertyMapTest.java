@@ -0,0 +1,118 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.layout.properties;
+
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+public class IntPropertyMapTest extends ExtendedITextTest {
+
+    @Test
+    public void putAndGetTest() {
+        IntPropertyMap map = new IntPropertyMap();
+        Assertions.assertNull(map.putProperty(Property.FONT_SIZE, UnitValue.createPointValue(12)));
+        Assertions.assertNull(map.put(Property.MARGIN_TOP, UnitValue.createPointValue(5)));
+        Assertions.assertEquals(2, map.size());
+        Assertions.assertEquals(UnitValue.createPointValue(12), map.getProperty(Property.FONT_SIZE));
+        Assertions.assertEquals(UnitValue.createPointValue(5), map.get(Property.MARGIN_TOP));
+        Assertions.assertNull(map.getProperty(Property.MARGIN_LEFT));
+        Assertions.assertNull(map.get("key"));
+        Assertions.assertEquals(UnitValue.createPointValue(12),
+                map.putProperty(Property.FONT_SIZE, UnitValue.createPointValue(14)));
+        Assertions.assertEquals(UnitValue.createPointValue(14), map.getProperty(Property.FONT_SIZE));
+        Assertions.assertEquals(2, map.size());
+    }
+
+    @Test
+    public void nullValueTest() {
+        IntPropertyMap map = new IntPropertyMap();
+        map.putProperty(Property.FONT_COLOR, null);
+        Assertions.assertTrue(map.containsProperty(Property.FONT_COLOR));
+        Assertions.assertTrue(map.containsKey(Property.FONT_COLOR));
+        Assertions.assertNull(map.getProperty(Property.FONT_COLOR));
+        Assertions.assertFalse(map.containsProperty(Property.FONT));
+        Assertions.assertEquals(1, map.size());
+    }
+
+    @Test
+    public void removeTest() {
+        IntPropertyMap map = new IntPropertyMap();
+        for (int property = 0; property < 20; ++property) {
+            map.putProperty(property, property);
+        }
+        Assertions.assertEquals(7, map.removeProperty(7));
+        Assertions.assertNull(map.remove(7));
+        Assertions.assertEquals(19, map.size());
+        Assertions.assertFalse(map.containsProperty(7));
+        Assertions.assertEquals(8, map.getProperty(8));
+    }
+
+    @Test
+    public void iterationOrderAndRemovalTest() {
+        IntPropertyMap map = new IntPropertyMap();
+        for (int property : new int[] {Property.WIDTH, Property.FONT, Property.BORDER_TOP, -3, Property.TEXT_RISE}) {
+            map.putProperty(property, property);
+        }
+        Assertions.assertEquals(Arrays.asList(-3, Property.BORDER_TOP, Property.FONT, Property.TEXT_RISE, Property.WIDTH),
+                new ArrayList<>(map.keySet()));
+
+        Iterator<Integer> iterator = map.keySet().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next() != Property.FONT) {
+                iterator.remove();
+            }
+        }
+        Assertions.assertEquals(1, map.size());
+        Assertions.assertEquals(Property.FONT, map.getProperty(Property.FONT));
+    }
+
+    @Test
+    public void copyAndEqualsTest() {
+        Map<Integer, Object> expected = new HashMap<>();
+        expected.put(Property.FONT_SIZE, UnitValue.createPointValue(10));
+        expected.put(Property.TEXT_ALIGNMENT, TextAlignment.CENTER);
+        expected.put(Property.FONT_COLOR, null);
+
+        IntPropertyMap map = new IntPropertyMap(expected);
+        Assertions.assertEquals(expected, map);
+        IntPropertyMap copy = new IntPropertyMap(map);
+        Assertions.assertEquals(expected, copy);
+
+        copy.putProperty(Property.BOLD_SIMULATION, true);
+        Assertions.assertEquals(3, map.size());
+        Assertions.assertFalse(map.containsProperty(Property.BOLD_SIMULATION));
+
+        map.clear();
+        Assertions.assertTrue(map.isEmpty());
+        Assertions.assertEquals(4, copy.size());
+    }
+}
@@ -57,6 +57,7 @@ public class PropertyTest extends ExtendedITextTest {
             }
         }
 
+        Assertions.assertEquals(maxFieldValue, Property.getMaxPropertyId());
         System.out.println(MessageFormatUtil.format("Max field value: {0}", maxFieldValue));
     }
 
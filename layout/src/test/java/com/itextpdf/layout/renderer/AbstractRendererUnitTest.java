@@ -676,4 +676,41 @@ public class AbstractRendererUnitTest extends ExtendedITextTest {
         Rectangle rect = new Rectangle(0, 0);
         Assertions.assertThrows(ClassCastException.class, () -> renderer.applyMargins(rect, false));
     }
+
+    @Test
+    public void resolvedStyleSnapshotTest() {
+        DivRenderer parent = new DivRenderer(new Div());
+        parent.setProperty(Property.FONT_SIZE, UnitValue.createPointValue(10));
+        DivRenderer child = new DivRenderer(new Div());
+        child.setParent(parent);
+
+        Assertions.assertTrue(child.startResolvedStyleSnapshot());
+        Assertions.assertFalse(child.startResolvedStyleSnapshot());
+        Assertions.assertEquals(UnitValue.createPointValue(10), child.<UnitValue>getProperty(Property.FONT_SIZE));
+        parent.setProperty(Property.FONT_SIZE, UnitValue.createPointValue(20));
+        // The inherited value is taken from the snapshot, while own properties are always up to date
+        Assertions.assertEquals(UnitValue.createPointValue(10), child.<UnitValue>getProperty(Property.FONT_SIZE));
+        child.setProperty(Property.FONT_SIZE, UnitValue.createPointValue(30));
+        Assertions.assertEquals(UnitValue.createPointValue(30), child.<UnitValue>getProperty(Property.FONT_SIZE));
+        child.deleteOwnProperty(Property.FONT_SIZE);
+
+        child.endResolvedStyleSnapshot();
+        Assertions.assertEquals(UnitValue.createPointValue(20), child.<UnitValue>getProperty(Property.FONT_SIZE));
+    }
+
+    @Test
+    public void resolvedStyleSnapshotResetOnParentChangeTest() {
+        DivRenderer firstParent = new DivRenderer(new Div());
+        firstParent.setProperty(Property.FONT_SIZE, UnitValue.createPointValue(10));
+        DivRenderer secondParent = new DivRenderer(new Div());
+        secondParent.setProperty(Property.FONT_SIZE, UnitValue.createPointValue(20));
+        DivRenderer child = new DivRenderer(new Div());
+        child.setParent(firstParent);
+
+        child.startResolvedStyleSnapshot();
+        Assertions.assertEquals(UnitValue.createPointValue(10), child.<UnitValue>getProperty(Property.FONT_SIZE));
+        child.setParent(secondParent);
+        Assertions.assertEquals(UnitValue.createPointValue(20), child.<UnitValue>getProperty(Property.FONT_SIZE));
+        child.endResolvedStyleSnapshot();
+    }
 }
@@ -0,0 +1,244 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.layout.renderer;
+
+import com.itextpdf.kernel.colors.ColorConstants;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.canvas.parser.PdfTextExtractor;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.Style;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.layout.element.Text;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("IntegrationTest")
+public class LayoutResultCacheTest extends ExtendedITextTest {
+
+    private static final int PARAGRAPHS_NUMBER = 20;
+
+    @Test
+    public void relayoutReusesUnchangedElementsTest() {
+        LayoutResultCache cache = new LayoutResultCache();
+        Document document = createDocument(new ByteArrayOutputStream(), cache, false);
+        addParagraphs(document);
+        Assertions.assertEquals(0, cache.getHitCount());
+        Assertions.assertEquals(PARAGRAPHS_NUMBER, cache.getMissCount());
+        Assertions.assertEquals(PARAGRAPHS_NUMBER, cache.size());
+
+        document.relayout();
+        Assertions.assertEquals(PARAGRAPHS_NUMBER, cache.getHitCount());
+        Assertions.assertEquals(PARAGRAPHS_NUMBER, cache.getMissCount());
+        document.close();
+    }
+
+    @Test
+    public void changedElementIsLaidOutAgainTest() {
+        LayoutResultCache cache = new LayoutResultCache();
+        Document document = createDocument(new ByteArrayOutputStream(), cache, false);
+        Paragraph[] paragraphs = addParagraphs(document);
+
+        paragraphs[5].setFontColor(ColorConstants.RED);
+        ((Text) paragraphs[7].getChildren().get(0)).setText("Changed text of the same length 7");
+        document.relayout();
+        Assertions.assertEquals(PARAGRAPHS_NUMBER - 2, cache.getHitCount());
+        Assertions.assertEquals(PARAGRAPHS_NUMBER + 2, cache.getMissCount());
+        document.close();
+    }
+
+    @Test
+    public void changedTextWithEqualHashCodeIsLaidOutAgainTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        LayoutResultCache cache = new LayoutResultCache();
+        Document document = createDocument(baos, cache, false);
+        Text text = new Text("Aa");
+        document.add(new Paragraph().add(text));
+
+        // "Aa" and "BB" have the same hash code
+        Assertions.assertEquals("Aa".hashCode(), "BB".hashCode());
+        text.setText("BB");
+        document.relayout();
+        Assertions.assertEquals(0, cache.getHitCount());
+        Assertions.assertEquals(2, cache.getMissCount());
+        document.close();
+
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())))) {
+            Assertions.assertEquals("BB", PdfTextExtractor.getTextFromPage(pdfDocument.getPage(1)));
+        }
+    }
+
+    @Test
+    public void styleAddedAfterLayoutTest() {
+        LayoutResultCache cache = new LayoutResultCache();
+        Document document = createDocument(new ByteArrayOutputStream(), cache, false);
+        Paragraph[] paragraphs = addParagraphs(document);
+
+        paragraphs[5].addStyle(new Style().setFontColor(ColorConstants.RED));
+        document.relayout();
+        Assertions.assertEquals(PARAGRAPHS_NUMBER - 1, cache.getHitCount());
+        Assertions.assertEquals(PARAGRAPHS_NUMBER + 1, cache.getMissCount());
+        document.close();
+    }
+
+    @Test
+    public void sharedStyleChangedAfterLayoutTest() {
+        LayoutResultCache cache = new LayoutResultCache();
+        Document document = createDocument(new ByteArrayOutputStream(), cache, false);
+        Style style = new Style().setFontColor(ColorConstants.BLUE);
+        for (int i = 0; i < PARAGRAPHS_NUMBER; ++i) {
+            Paragraph paragraph = new Paragraph().add(new Text("Paragraph of the document " + i));
+            if (i % 2 == 0) {
+                paragraph.addStyle(style);
+            }
+            document.add(paragraph);
+        }
+
+        style.setFontColor(ColorConstants.RED);
+        document.relayout();
+        Assertions.assertEquals(PARAGRAPHS_NUMBER / 2, cache.getHitCount());
+        Assertions.assertEquals(PARAGRAPHS_NUMBER + PARAGRAPHS_NUMBER / 2, cache.getMissCount());
+        document.close();
+    }
+
+    @Test
+    public void elementsAfterResizedElementAreLaidOutAgainTest() {
+        LayoutResultCache cache = new LayoutResultCache();
+        Document document = createDocument(new ByteArrayOutputStream(), cache, false);
+        Paragraph[] paragraphs = addParagraphs(document);
+
+        paragraphs[10].setFontSize(20);
+        document.relayout();
+        Assertions.assertEquals(10, cache.getHitCount());
+        Assertions.assertEquals(PARAGRAPHS_NUMBER + 10, cache.getMissCount());
+        document.close();
+    }
+
+    @Test
+    public void changedDocumentPropertiesTest() {
+        LayoutResultCache cache = new LayoutResultCache();
+        Document document = createDocument(new ByteArrayOutputStream(), cache, false);
+        addParagraphs(document);
+
+        document.setFontColor(ColorConstants.BLUE);
+        document.relayout();
+        Assertions.assertEquals(0, cache.getHitCount());
+        Assertions.assertEquals(2 * PARAGRAPHS_NUMBER, cache.getMissCount());
+        document.close();
+    }
+
+    @Test
+    public void splitElementIsNotCachedTest() {
+        LayoutResultCache cache = new LayoutResultCache();
+        Document document = createDocument(new ByteArrayOutputStream(), cache, false);
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 1000; ++i) {
+            text.append("Long paragraph which doesn't fit the page. ");
+        }
+        document.add(new Paragraph(text.toString()));
+        document.add(new Paragraph("Short paragraph"));
+        Assertions.assertEquals(1, cache.size());
+
+        document.relayout();
+        Assertions.assertEquals(1, cache.getHitCount());
+        document.close();
+    }
+
+    @Test
+    public void taggedDocumentIsNotCachedTest() {
+        LayoutResultCache cache = new LayoutResultCache();
+        Document document = createDocument(new ByteArrayOutputStream(), cache, true);
+        addParagraphs(document);
+        document.relayout();
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(0, cache.getHitCount());
+        document.close();
+    }
+
+    @Test
+    public void immediateFlushDocumentIsNotCachedTest() {
+        LayoutResultCache cache = new LayoutResultCache();
+        Document document = new Document(new PdfDocument(new PdfWriter(new ByteArrayOutputStream())));
+        document.setLayoutResultCache(cache);
+        addParagraphs(document);
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(0, cache.getMissCount());
+        document.close();
+    }
+
+    @Test
+    public void relayoutWithCacheProducesSameContentTest() throws IOException {
+        ByteArrayOutputStream cachedBaos = new ByteArrayOutputStream();
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        createChangedDocument(cachedBaos, new LayoutResultCache());
+        createChangedDocument(baos, null);
+
+        try (PdfDocument cachedPdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(cachedBaos.toByteArray())));
+                PdfDocument pdfDocument = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())))) {
+            Assertions.assertEquals(pdfDocument.getNumberOfPages(), cachedPdfDocument.getNumberOfPages());
+            for (int i = 1; i <= pdfDocument.getNumberOfPages(); ++i) {
+                Assertions.assertEquals(PdfTextExtractor.getTextFromPage(pdfDocument.getPage(i)),
+                        PdfTextExtractor.getTextFromPage(cachedPdfDocument.getPage(i)));
+                Assertions.assertArrayEquals(pdfDocument.getPage(i).getContentBytes(),
+                        cachedPdfDocument.getPage(i).getContentBytes());
+            }
+        }
+    }
+
+    private static void createChangedDocument(ByteArrayOutputStream baos, LayoutResultCache cache) {
+        Document document = createDocument(baos, cache, false);
+        Paragraph[] paragraphs = addParagraphs(document);
+        paragraphs[3].setFontColor(ColorConstants.GREEN);
+        paragraphs[15].setFontSize(30);
+        document.relayout();
+        paragraphs[0].simulateBold();
+        document.relayout();
+        document.close();
+    }
+
+    private static Document createDocument(ByteArrayOutputStream baos, LayoutResultCache cache, boolean tagged) {
+        PdfDocument pdfDocument = new PdfDocument(new PdfWriter(baos));
+        if (tagged) {
+            pdfDocument.setTagged();
+        }
+        Document document = new Document(pdfDocument, pdfDocument.getDefaultPageSize(), false);
+        document.setLayoutResultCache(cache);
+        return document;
+    }
+
+    private static Paragraph[] addParagraphs(Document document) {
+        Paragraph[] paragraphs = new Paragraph[PARAGRAPHS_NUMBER];
+        for (int i = 0; i < PARAGRAPHS_NUMBER; ++i) {
+            paragraphs[i] = new Paragraph().add(new Text("Paragraph of the document " + i));
+            document.add(paragraphs[i]);
+        }
+        return paragraphs;
+    }
+}
@@ -0,0 +1,221 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.pdfa;
+
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.pdf.PageFlushingHelper;
+import com.itextpdf.kernel.pdf.PdfAConformance;
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfIndirectReference;
+import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.utils.IPageProcessingWorker;
+import com.itextpdf.kernel.utils.ParallelPageProcessor;
+import com.itextpdf.kernel.utils.checkers.FontCheckUtil;
+import com.itextpdf.kernel.validation.ConformanceValidationReport;
+import com.itextpdf.pdfa.checker.ContentStreamCheckCache;
+import com.itextpdf.pdfa.checker.PdfAChecker;
+import com.itextpdf.pdfa.exceptions.PdfAConformanceException;
+import com.itextpdf.pdfa.exceptions.PdfaExceptionMessageConstant;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Validates an existing document against the PDF/A requirements without opening it as {@link PdfADocument}.
+ *
+ * <p>
+ * The document-wide requirements are checked first, then the pages are checked one by one. Once a page is checked,
+ * the page and its resources are released from memory (see {@link PageFlushingHelper#releaseDeep(int)}), so that
+ * the memory consumption doesn't grow with the number of pages. Content streams are checked only once per unique
+ * content, see {@link ContentStreamCheckCache}. Unlike {@link PdfADocument}, the validation doesn't stop at the first
+ * violation: the first violation of every page is added to the returned {@link ConformanceValidationReport}.
+ *
+ * <p>
+ * The fonts are checked once per document, including the fonts of the form XObjects, patterns, Type 3 fonts
+ * and annotation appearances used by the pages.
+ *
+ * <p>
+ * If an {@link ExecutorService} is set, the pages are distributed between workers, see {@link ParallelPageProcessor}.
+ * In that case the requirements which depend on several pages at once, such as the usage of different device
+ * color spaces, are only checked between the pages processed by the same worker. If the document is read
+ * in concurrent reading mode, the workers share it and the pages aren't released during the validation.
+ */
+public class PdfAValidator {
+    private final PdfAConformance conformance;
+    private ExecutorService executorService;
+
+    /**
+     * Creates a {@link PdfAValidator} which validates documents against the conformance declared
+     * in their XMP metadata.
+     */
+    public PdfAValidator() {
+        this(null);
+    }
+
+    /**
+     * Creates a {@link PdfAValidator} which validates documents against the specified conformance.
+     *
+     * @param conformance the {@link PdfAConformance} to validate against
+     */
+    public PdfAValidator(PdfAConformance conformance) {
+        this.conformance = conformance;
+    }
+
+    /**
+     * Sets the {@link ExecutorService} used to check the pages in parallel.
+     *
+     * <p>
+     * If none is set, the pages are checked sequentially in the calling thread.
+     *
+     * @param executorService the {@link ExecutorService} to submit the workers to
+     *
+     * @return same instance of {@link PdfAValidator}
+     */
+    public PdfAValidator setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
+    /**
+     * Validates the document against the PDF/A requirements.
+     *
+     * <p>
+     * Pages of the document are released during the validation, so they shall not be used by the caller
+     * concurrently with this method.
+     *
+     * @param document the {@link PdfDocument} opened in reading mode
+     *
+     * @return the {@link ConformanceValidationReport} with the found violations
+     */
+    public ConformanceValidationReport validate(PdfDocument document) {
+        PdfReader reader = document.getReader();
+        if (reader == null || document.getWriter() != null) {
+            throw new PdfException(KernelExceptionMessageConstant.STANDALONE_VALIDATION_REQUIRES_READING_MODE);
+        }
+        PdfAConformance aConformance = conformance;
+        if (aConformance == null) {
+            aConformance = document.getConformance().getAConformance();
+            if (aConformance == null) {
+                throw new PdfAConformanceException(PdfaExceptionMessageConstant
+                        .DOCUMENT_TO_READ_FROM_SHALL_BE_A_PDFA_CONFORMANT_FILE_WITH_VALID_XMP_METADATA);
+            }
+        }
+        ContentStreamCheckCache contentStreamCheckCache = new ContentStreamCheckCache();
+        ConformanceValidationReport report = new ConformanceValidationReport();
+
+        PdfAChecker checker = createChecker(aConformance, contentStreamCheckCache);
+        try {
+            checker.checkDocument(document.getCatalog(), false);
+        } catch (PdfException e) {
+            report.addFailure(ConformanceValidationReport.DOCUMENT_LEVEL, e);
+        }
+        checker.releaseCheckedObjects();
+
+        int numberOfPages = document.getNumberOfPages();
+        final PdfException[] pageFailures = new PdfException[numberOfPages];
+        if (executorService == null || numberOfPages < 2) {
+            PageValidator pageValidator = new PageValidator(checker, pageFailures, true);
+            for (int i = 0; i < numberOfPages; ++i) {
+                pageValidator.process(document, i);
+            }
+        } else {
+            // The document is shared between the workers in concurrent reading mode, so its pages can't be released
+            final boolean releasePages = !reader.isConcurrentReading();
+            final PdfAConformance workersConformance = aConformance;
+            ParallelPageProcessor.processPages(document, numberOfPages, executorService,
+                    () -> new PageValidator(createChecker(workersConformance, contentStreamCheckCache), pageFailures,
+                            releasePages));
+        }
+        for (int i = 0; i < numberOfPages; ++i) {
+            if (pageFailures[i] != null) {
+                report.addFailure(i + 1, pageFailures[i]);
+            }
+        }
+        return report;
+    }
+
+    private static PdfAChecker createChecker(PdfAConformance aConformance,
+            ContentStreamCheckCache contentStreamCheckCache) {
+        PdfAChecker checker = PdfADocument.getCorrectCheckerFromConformance(aConformance);
+        checker.setFullCheckMode(true);
+        checker.setContentStreamCheckCache(contentStreamCheckCache);
+        return checker;
+    }
+
+    private static final class PageValidator implements IPageProcessingWorker {
+        private final PdfAChecker checker;
+        private final PdfException[] pageFailures;
+        private final boolean releasePages;
+        private final Set<PdfIndirectReference> visitedObjects = new HashSet<>();
+        private PageFlushingHelper flushingHelper;
+
+        PageValidator(PdfAChecker checker, PdfException[] pageFailures, boolean releasePages) {
+            this.checker = checker;
+            this.pageFailures = pageFailures;
+            this.releasePages = releasePages;
+        }
+
+        @Override
+        public void process(PdfDocument document, int taskIndex) {
+            int pageNumber = taskIndex + 1;
+            try {
+                PdfPage page = document.getPage(pageNumber);
+                checker.checkSinglePage(page);
+                checkFonts(page);
+            } catch (PdfException e) {
+                pageFailures[taskIndex] = e;
+            }
+            checker.releaseCheckedObjects();
+            if (releasePages) {
+                // The worker processes a single document, see ParallelPageProcessor
+                if (flushingHelper == null) {
+                    flushingHelper = new PageFlushingHelper(document);
+                }
+                flushingHelper.releaseDeep(pageNumber);
+            }
+        }
+
+        private void checkFonts(PdfPage page) {
+            PdfReader reader = page.getDocument().getReader();
+            // Fonts are usually shared between the pages, indirect references stay in memory anyway
+            for (PdfDictionary font : FontCheckUtil.collectFonts(page, visitedObjects)) {
+                PdfFont pdfFont;
+                if (reader.isConcurrentReading()) {
+                    // Fonts of a document shared between the workers are read under the reader lock
+                    synchronized (reader) {
+                        pdfFont = PdfFontFactory.createFont(font);
+                    }
+                } else {
+                    pdfFont = PdfFontFactory.createFont(font);
+                }
+                checker.checkFont(pdfFont);
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.pdfa.checker;
+
+import com.itextpdf.kernel.exceptions.PdfException;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache of content streams which were already successfully checked for conformance.
+ *
+ * <p>
+ * Content streams are identified by the SHA-256 digest of their decoded bytes, so a stream is checked only once
+ * even if it is reused by many pages, patterns or form XObjects, or if the same content is written into different
+ * stream objects. Only digests are stored, so the cache stays valid after the checked objects are flushed.
+ * The number of stored digests is bounded, the least recently met contents are evicted once the bound is exceeded,
+ * so a cache shared between many documents doesn't grow without limit.
+ *
+ * <p>
+ * The result of a content stream check depends on the conformance level, so an instance shall only be shared
+ * between checkers of the same class and conformance. This class is thread-safe.
+ */
+public class ContentStreamCheckCache {
+
+    /**
+     * The default maximum number of the contents kept by the cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final int maxSize;
+
+    private final Object lock = new Object();
+
+    // Access ordered, so the eldest entry is the least recently met one
+    private final Map<ContentKey, Boolean> checkedContents = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates an empty {@link ContentStreamCheckCache} keeping at most {@link #DEFAULT_MAX_SIZE} contents.
+     */
+    public ContentStreamCheckCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates an empty {@link ContentStreamCheckCache} keeping at most the specified number of contents.
+     *
+     * @param maxSize the maximum number of contents kept by the cache, shall be positive
+     */
+    public ContentStreamCheckCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Performs the check of the content unless the content was already successfully checked.
+     * The content is cached only if the check completes normally, i.e. an exception thrown by the check
+     * is propagated and the content will be checked again next time. The result is counted as a cache hit or miss.
+     *
+     * @param contentBytes decoded bytes of the content stream
+     * @param check        the check of the content
+     *
+     * @return {@code true} if the check was performed, {@code false} if the content was already checked
+     */
+    public boolean checkIfAbsent(byte[] contentBytes, Runnable check) {
+        ContentKey key = new ContentKey(contentBytes);
+        synchronized (lock) {
+            if (checkedContents.get(key) != null) {
+                ++hitCount;
+                return false;
+            }
+            ++missCount;
+        }
+        // The check isn't performed under the lock, so the same content may be checked concurrently
+        check.run();
+        synchronized (lock) {
+            checkedContents.put(key, Boolean.TRUE);
+            evictExcessEntries();
+        }
+        return true;
+    }
+
+    /**
+     * Gets the number of checks which were skipped because the content was already checked.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        synchronized (lock) {
+            return hitCount;
+        }
+    }
+
+    /**
+     * Gets the number of checks which had to be performed because the content wasn't checked yet.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        synchronized (lock) {
+            return missCount;
+        }
+    }
+
+    /**
+     * Gets the number of distinct contents which were successfully checked and are kept by the cache.
+     *
+     * @return the number of cached contents
+     */
+    public int size() {
+        synchronized (lock) {
+            return checkedContents.size();
+        }
+    }
+
+    /**
+     * Gets the maximum number of contents kept by the cache.
+     *
+     * @return the maximum number of cached contents
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Removes all the cached contents and resets the counters.
+     */
+    public void clear() {
+        synchronized (lock) {
+            checkedContents.clear();
+            hitCount = 0;
+            missCount = 0;
+        }
+    }
+
+    private void evictExcessEntries() {
+        Iterator<ContentKey> iterator = checkedContents.keySet().iterator();
+        while (checkedContents.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private static byte[] digest(byte[] contentBytes) {
+        try {
+            return MessageDigest.getInstance(DIGEST_ALGORITHM).digest(contentBytes);
+        } catch (NoSuchAlgorithmException e) {
+            throw new PdfException(e);
+        }
+    }
+
+    private static final class ContentKey {
+        private final byte[] digest;
+        private final int hash;
+
+        ContentKey(byte[] contentBytes) {
+            this.digest = digest(contentBytes);
+            this.hash = Arrays.hashCode(digest);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof ContentKey && Arrays.equals(digest, ((ContentKey) o).digest);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -47,6 +47,7 @@ import com.itextpdf.kernel.pdf.PdfString;
 import com.itextpdf.kernel.pdf.PdfXrefTable;
 import com.itextpdf.kernel.pdf.annot.PdfAnnotation;
 import com.itextpdf.kernel.pdf.canvas.CanvasGraphicsState;
+import com.itextpdf.kernel.pdf.canvas.parser.util.ContentOperandStack;
 import com.itextpdf.kernel.pdf.canvas.parser.util.PdfCanvasParser;
 import com.itextpdf.kernel.pdf.colorspace.PdfColorSpace;
 import com.itextpdf.kernel.pdf.colorspace.PdfDeviceCs;
@@ -58,11 +59,9 @@ import com.itextpdf.pdfa.exceptions.PdfaExceptionMessageConstant;
 import com.itextpdf.pdfa.logs.PdfAConformanceLogMessageConstant;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -363,20 +362,45 @@ public class PdfA1Checker extends PdfAChecker {
     protected void checkContentStream(PdfStream contentStream) {
         if (isFullCheckMode() || contentStream.isModified()) {
             byte[] contentBytes = contentStream.getBytes();
-            PdfTokenizer tokenizer = new PdfTokenizer(
-                    new RandomAccessFileOrArray(new RandomAccessSourceFactory().createSource(contentBytes)));
-
-            PdfCanvasParser parser = new PdfCanvasParser(tokenizer);
-            List<PdfObject> operands = new ArrayList<>();
-            try {
-                while (parser.parse(operands).size() > 0) {
-                    for (PdfObject operand : operands) {
-                        checkContentStreamObject(operand);
+            ContentStreamCheckCache checkCache = getContentStreamCheckCache();
+            if (checkCache == null) {
+                checkContentStreamBytes(contentBytes);
+            } else {
+                checkCache.checkIfAbsent(contentBytes, () -> checkContentStreamBytes(contentBytes));
+            }
+        }
+    }
+
+    private void checkContentStreamBytes(byte[] contentBytes) {
+        PdfTokenizer tokenizer = new PdfTokenizer(
+                new RandomAccessFileOrArray(new RandomAccessSourceFactory().createSource(contentBytes)));
+
+        PdfCanvasParser parser = new PdfCanvasParser(tokenizer);
+        ContentOperandStack operands = new ContentOperandStack();
+        try {
+            while (parser.parseOperation(operands)) {
+                for (int i = 0; i < operands.size(); i++) {
+                    // Only the operands which are checked are created as objects, operators and literals aren't
+                    if (isCheckedContentStreamOperand(operands.getType(i))) {
+                        checkContentStreamObject(operands.getObject(i));
                     }
                 }
-            } catch (IOException e) {
-                throw new PdfException(PdfaExceptionMessageConstant.CANNOT_PARSE_CONTENT_STREAM, e);
             }
+        } catch (IOException e) {
+            throw new PdfException(PdfaExceptionMessageConstant.CANNOT_PARSE_CONTENT_STREAM, e);
+        }
+    }
+
+    private static boolean isCheckedContentStreamOperand(byte type) {
+        switch (type) {
+            case PdfObject.NAME:
+            case PdfObject.STRING:
+            case PdfObject.NUMBER:
+            case PdfObject.ARRAY:
+            case PdfObject.DICTIONARY:
+                return true;
+            default:
+                return false;
         }
     }
 
@@ -147,6 +147,7 @@ public abstract class PdfAChecker implements IValidationChecker {
     protected Map<PdfObject, PdfColorSpace> checkedObjectsColorspace = new HashMap<>();
 
     private boolean fullCheckMode = false;
+    private ContentStreamCheckCache contentStreamCheckCache = new ContentStreamCheckCache();
     private boolean alreadyLoggedThatPageFlushingWasNotPerformed = false;
     private boolean alreadyLoggedThatObjectFlushingWasNotPerformed = false;
 
@@ -168,6 +169,19 @@ public abstract class PdfAChecker implements IValidationChecker {
      * @param catalog The catalog being checked
      */
     public void checkDocument(PdfCatalog catalog) {
+        checkDocument(catalog, true);
+    }
+
+    /**
+     * This method checks a number of document-wide requirements of the PDF/A
+     * standard, the same way {@link #checkDocument(PdfCatalog)} does, but allows
+     * to skip the pages, e.g. if they are checked one by one with
+     * {@link #checkSinglePage(PdfPage)}.
+     *
+     * @param catalog The catalog being checked
+     * @param checkPages whether the pages of the document shall be checked
+     */
+    public void checkDocument(PdfCatalog catalog, boolean checkPages) {
         PdfDictionary catalogDict = catalog.getPdfObject();
         setPdfAOutputIntentColorSpace(catalogDict);
 
@@ -181,7 +195,9 @@ public abstract class PdfAChecker implements IValidationChecker {
         if (catalog.getDocument().hasOutlines()) {
             checkOutlines(catalog.getDocument().getOutlines(false));
         }
-        checkPages(catalog.getDocument());
+        if (checkPages) {
+            checkPages(catalog.getDocument());
+        }
         checkOpenAction(catalogDict.get(PdfName.OpenAction));
     }
 
@@ -369,6 +385,37 @@ public abstract class PdfAChecker implements IValidationChecker {
         this.fullCheckMode = fullCheckMode;
     }
 
+    /**
+     * Forgets the objects which were already checked, so that they can be garbage collected after
+     * being released from the document, e.g. when an existing document is validated page by page.
+     * Objects which are met again after this call will be checked again, apart from the content
+     * streams cached by the {@link ContentStreamCheckCache}.
+     */
+    public void releaseCheckedObjects() {
+        checkedObjects.clear();
+        checkedObjectsColorspace.clear();
+    }
+
+    /**
+     * Gets the cache of content streams which were already successfully checked by this checker.
+     *
+     * @return the {@link ContentStreamCheckCache} instance, or {@code null} if content streams are not cached
+     */
+    public ContentStreamCheckCache getContentStreamCheckCache() {
+        return contentStreamCheckCache;
+    }
+
+    /**
+     * Sets the cache of content streams which were already successfully checked. The same instance may be shared
+     * between checkers of the same class and conformance, e.g. to check identical templates of many documents
+     * only once. Passing {@code null} disables caching, so every content stream is checked each time it is met.
+     *
+     * @param contentStreamCheckCache the {@link ContentStreamCheckCache} instance to be used
+     */
+    public void setContentStreamCheckCache(ContentStreamCheckCache contentStreamCheckCache) {
+        this.contentStreamCheckCache = contentStreamCheckCache;
+    }
+
     /**
      * This method checks compliance of the tag structure elements, such as struct elements
      * or parent tree entries.
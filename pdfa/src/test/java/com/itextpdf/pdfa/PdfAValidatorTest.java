@@ -0,0 +1,197 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.pdfa;
+
+import com.itextpdf.commons.utils.FileUtil;
+import com.itextpdf.commons.utils.MessageFormatUtil;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.font.PdfFontFactory.EmbeddingStrategy;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfAConformance;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfOutputIntent;
+import com.itextpdf.kernel.pdf.PdfPage;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.ReaderProperties;
+import com.itextpdf.kernel.pdf.StampingProperties;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+import com.itextpdf.kernel.validation.ConformanceValidationReport;
+import com.itextpdf.pdfa.exceptions.PdfaExceptionMessageConstant;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("IntegrationTest")
+public class PdfAValidatorTest extends ExtendedITextTest {
+    private static final String SOURCE_FOLDER = "./src/test/resources/com/itextpdf/pdfa/";
+    private static final int PAGES_COUNT = 6;
+
+    @Test
+    public void validDocumentTest() throws IOException {
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(createPdfA())))) {
+            ConformanceValidationReport report = new PdfAValidator().validate(document);
+            Assertions.assertTrue(report.isValid());
+        }
+    }
+
+    @Test
+    public void invalidPagesAreReportedTest() throws IOException {
+        byte[] invalidPdf = addLongStrings(createPdfA(), 3, 5);
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(invalidPdf)))) {
+            ConformanceValidationReport report = new PdfAValidator(PdfAConformance.PDF_A_2B).validate(document);
+            assertLongStringFailures(report.getFailures(), 3, 5);
+        }
+    }
+
+    @Test
+    public void invalidPagesAreReportedInParallelTest() throws IOException {
+        byte[] invalidPdf = addLongStrings(createPdfA(), 1, 4, 6);
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(invalidPdf)))) {
+            ConformanceValidationReport report = new PdfAValidator().setExecutorService(executorService)
+                    .validate(document);
+            assertLongStringFailures(report.getFailures(), 1, 4, 6);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void invalidPagesAreReportedInParallelWithConcurrentReadingTest() throws IOException {
+        byte[] invalidPdf = addLongStrings(createPdfA(), 2, 3);
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(invalidPdf),
+                new ReaderProperties().setConcurrentReading(true)))) {
+            ConformanceValidationReport report = new PdfAValidator().setExecutorService(executorService)
+                    .validate(document);
+            assertLongStringFailures(report.getFailures(), 2, 3);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void notEmbeddedFontInFormXObjectTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(createPdfA())),
+                new PdfWriter(baos), new StampingProperties().useAppendMode())) {
+            PdfFormXObject xObject = new PdfFormXObject(new Rectangle(200, 50));
+            new PdfCanvas(xObject, document).beginText()
+                    .setFontAndSize(PdfFontFactory.createFont(StandardFonts.HELVETICA), 12).moveText(10, 10)
+                    .showText("Not embedded").endText().release();
+            new PdfCanvas(document.getPage(4)).addXObjectAt(xObject, 36, 500).release();
+        }
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())))) {
+            ConformanceValidationReport report = new PdfAValidator().validate(document);
+            Assertions.assertEquals(1, report.getFailures().size());
+            ConformanceValidationReport.Failure failure = report.getFailures().get(0);
+            Assertions.assertEquals(4, failure.getPageNumber());
+            Assertions.assertEquals(MessageFormatUtil.format(
+                    PdfaExceptionMessageConstant.ALL_THE_FONTS_MUST_BE_EMBEDDED_THIS_ONE_IS_NOT_0,
+                    StandardFonts.HELVETICA), failure.getMessage());
+        }
+    }
+
+    @Test
+    public void documentInWritingModeTest() {
+        PdfDocument document = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+        Exception e = Assertions.assertThrows(PdfException.class, () -> new PdfAValidator().validate(document));
+        Assertions.assertEquals(KernelExceptionMessageConstant.STANDALONE_VALIDATION_REQUIRES_READING_MODE,
+                e.getMessage());
+    }
+
+    @Test
+    public void notPdfADocumentTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument document = new PdfDocument(new PdfWriter(baos))) {
+            document.addNewPage();
+        }
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())))) {
+            Exception e = Assertions.assertThrows(PdfException.class, () -> new PdfAValidator().validate(document));
+            Assertions.assertEquals(
+                    PdfaExceptionMessageConstant.DOCUMENT_TO_READ_FROM_SHALL_BE_A_PDFA_CONFORMANT_FILE_WITH_VALID_XMP_METADATA,
+                    e.getMessage());
+        }
+    }
+
+    private static void assertLongStringFailures(List<ConformanceValidationReport.Failure> failures,
+            Integer... pageNumbers) {
+        Assertions.assertEquals(pageNumbers.length, failures.size());
+        for (int i = 0; i < pageNumbers.length; ++i) {
+            Assertions.assertEquals((int) pageNumbers[i], failures.get(i).getPageNumber());
+            Assertions.assertEquals(PdfaExceptionMessageConstant.PDF_STRING_IS_TOO_LONG,
+                    failures.get(i).getMessage());
+        }
+    }
+
+    private static byte[] createPdfA() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        PdfOutputIntent outputIntent = new PdfOutputIntent("Custom", "", "http://www.color.org", "sRGB IEC61966-2.1",
+                FileUtil.getInputStreamForFile(SOURCE_FOLDER + "sRGB Color Space Profile.icm"));
+        try (PdfADocument document = new PdfADocument(new PdfWriter(baos), PdfAConformance.PDF_A_2B,
+                outputIntent)) {
+            PdfFont font = PdfFontFactory.createFont(SOURCE_FOLDER + "FreeSans.ttf", PdfEncodings.WINANSI,
+                    EmbeddingStrategy.FORCE_EMBEDDED);
+            PdfFormXObject template = new PdfFormXObject(new Rectangle(200, 50));
+            new PdfCanvas(template, document).beginText().setFontAndSize(font, 12).moveText(10, 10)
+                    .showText("Shared template").endText().release();
+            for (int i = 1; i <= PAGES_COUNT; ++i) {
+                PdfPage page = document.addNewPage();
+                new PdfCanvas(page).beginText().setFontAndSize(font, 12).moveText(36, 700)
+                        .showText("Page " + i).endText().addXObjectAt(template, 36, 600).release();
+            }
+        }
+        return baos.toByteArray();
+    }
+
+    private static byte[] addLongStrings(byte[] pdf, Integer... pageNumbers) throws IOException {
+        char[] chars = new char[70000];
+        Arrays.fill(chars, 'a');
+        byte[] content = ("BT (" + new String(chars) + ") Tj ET").getBytes(StandardCharsets.ISO_8859_1);
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(pdf)),
+                new PdfWriter(baos), new StampingProperties().useAppendMode())) {
+            for (int pageNumber : pageNumbers) {
+                document.getPage(pageNumber).newContentStreamAfter().setData(content);
+            }
+        }
+        return baos.toByteArray();
+    }
+}
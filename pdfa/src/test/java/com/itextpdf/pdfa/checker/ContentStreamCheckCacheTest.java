@@ -0,0 +1,150 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.pdfa.checker;
+
+import com.itextpdf.kernel.pdf.PdfAConformance;
+import com.itextpdf.kernel.pdf.PdfStream;
+import com.itextpdf.kernel.pdf.PdfString;
+import com.itextpdf.pdfa.exceptions.PdfAConformanceException;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+public class ContentStreamCheckCacheTest extends ExtendedITextTest {
+
+    @Test
+    public void sameContentIsCheckedOnceTest() {
+        PdfA1Checker checker = new PdfA1Checker(PdfAConformance.PDF_A_1B);
+        checker.setFullCheckMode(true);
+        byte[] content = "q 1 0 0 1 10 10 cm (Hello) Tj Q".getBytes(StandardCharsets.ISO_8859_1);
+
+        checker.checkContentStream(new PdfStream(content));
+        checker.checkContentStream(new PdfStream(content));
+        checker.checkContentStream(new PdfStream("(World) Tj".getBytes(StandardCharsets.ISO_8859_1)));
+
+        ContentStreamCheckCache cache = checker.getContentStreamCheckCache();
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(2, cache.getMissCount());
+        Assertions.assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void failedContentIsNotCachedTest() {
+        PdfA1Checker checker = new PdfA1Checker(PdfAConformance.PDF_A_1B);
+        checker.setFullCheckMode(true);
+        PdfString longString = PdfACheckerTestUtils.getLongString(checker.getMaxStringLength() + 1);
+        byte[] content = PdfACheckerTestUtils.getStreamWithValue(longString).getBytes(StandardCharsets.UTF_8);
+
+        Assertions.assertThrows(PdfAConformanceException.class,
+                () -> checker.checkContentStream(new PdfStream(content)));
+        Assertions.assertThrows(PdfAConformanceException.class,
+                () -> checker.checkContentStream(new PdfStream(content)));
+
+        ContentStreamCheckCache cache = checker.getContentStreamCheckCache();
+        Assertions.assertEquals(0, cache.getHitCount());
+        Assertions.assertEquals(2, cache.getMissCount());
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void sharedCacheTest() {
+        ContentStreamCheckCache cache = new ContentStreamCheckCache();
+        PdfA1Checker first = new PdfA1Checker(PdfAConformance.PDF_A_1B);
+        first.setFullCheckMode(true);
+        PdfA1Checker second = new PdfA1Checker(PdfAConformance.PDF_A_1B);
+        second.setFullCheckMode(true);
+        first.setContentStreamCheckCache(cache);
+        second.setContentStreamCheckCache(cache);
+        byte[] content = "0 0 m 100 100 l S".getBytes(StandardCharsets.ISO_8859_1);
+
+        first.checkContentStream(new PdfStream(content));
+        second.checkContentStream(new PdfStream(content));
+
+        Assertions.assertEquals(1, cache.getHitCount());
+        Assertions.assertEquals(1, cache.getMissCount());
+
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(0, cache.getHitCount());
+        Assertions.assertEquals(0, cache.getMissCount());
+    }
+
+    @Test
+    public void leastRecentlyCheckedContentIsEvictedTest() {
+        ContentStreamCheckCache cache = new ContentStreamCheckCache(2);
+        PdfA1Checker checker = new PdfA1Checker(PdfAConformance.PDF_A_1B);
+        checker.setFullCheckMode(true);
+        checker.setContentStreamCheckCache(cache);
+        byte[] first = "0 0 m 100 100 l S".getBytes(StandardCharsets.ISO_8859_1);
+        byte[] second = "0 0 m 200 200 l S".getBytes(StandardCharsets.ISO_8859_1);
+        byte[] third = "0 0 m 300 300 l S".getBytes(StandardCharsets.ISO_8859_1);
+
+        checker.checkContentStream(new PdfStream(first));
+        checker.checkContentStream(new PdfStream(second));
+        // Meeting the first content again makes the second one the least recently met
+        checker.checkContentStream(new PdfStream(first));
+        checker.checkContentStream(new PdfStream(third));
+        checker.checkContentStream(new PdfStream(first));
+        checker.checkContentStream(new PdfStream(second));
+
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(2, cache.getHitCount());
+        Assertions.assertEquals(4, cache.getMissCount());
+    }
+
+    @Test
+    public void checkIsPerformedOnceTest() {
+        ContentStreamCheckCache cache = new ContentStreamCheckCache();
+        byte[] content = "0 0 m 100 100 l S".getBytes(StandardCharsets.ISO_8859_1);
+        AtomicInteger checks = new AtomicInteger();
+
+        Assertions.assertTrue(cache.checkIfAbsent(content, () -> checks.incrementAndGet()));
+        Assertions.assertFalse(cache.checkIfAbsent(content, () -> checks.incrementAndGet()));
+
+        Assertions.assertEquals(1, checks.get());
+        Assertions.assertEquals(ContentStreamCheckCache.DEFAULT_MAX_SIZE, cache.getMaxSize());
+    }
+
+    @Test
+    public void nonPositiveMaxSizeTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ContentStreamCheckCache(0));
+    }
+
+    @Test
+    public void disabledCacheTest() {
+        PdfA1Checker checker = new PdfA1Checker(PdfAConformance.PDF_A_1B);
+        checker.setFullCheckMode(true);
+        checker.setContentStreamCheckCache(null);
+        byte[] content = "0 0 m 100 100 l S".getBytes(StandardCharsets.ISO_8859_1);
+
+        checker.checkContentStream(new PdfStream(content));
+        checker.checkContentStream(new PdfStream(content));
+
+        Assertions.assertNull(checker.getContentStreamCheckCache());
+    }
+}
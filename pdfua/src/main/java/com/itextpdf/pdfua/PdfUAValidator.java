@@ -0,0 +1,115 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.pdfua;
+
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.pdf.PageFlushingHelper;
+import com.itextpdf.kernel.pdf.PdfDictionary;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfIndirectReference;
+import com.itextpdf.kernel.utils.checkers.FontCheckUtil;
+import com.itextpdf.kernel.validation.ConformanceValidationReport;
+import com.itextpdf.kernel.validation.context.PdfDocumentValidationContext;
+import com.itextpdf.pdfua.checkers.PdfUA1Checker;
+import com.itextpdf.pdfua.exceptions.PdfUAConformanceException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Validates an existing document against the PDF/UA-1 requirements without opening it as {@link PdfUADocument}.
+ *
+ * <p>
+ * The pages are walked one by one to check the fonts used by them, including the fonts of form XObjects, patterns,
+ * Type 3 fonts and annotation appearances, and are released from memory right after that
+ * (see {@link PageFlushingHelper#releaseDeep(int)}). Each font is checked once, only the fonts which aren't embedded
+ * are kept until the end of the validation. Then the catalog, the structure tree and the fonts are checked
+ * by {@link PdfUA1Checker}. Objects of the structure tree are read on demand during the traversal, so the memory used
+ * by them can be bounded with {@link com.itextpdf.kernel.pdf.ReaderProperties#setObjectCacheSize(int)}.
+ *
+ * <p>
+ * The PDF/UA requirements to the existing documents are document-wide, so the report contains at most one failure.
+ */
+public class PdfUAValidator {
+
+    /**
+     * Creates a {@link PdfUAValidator}.
+     */
+    public PdfUAValidator() {
+        // Empty constructor
+    }
+
+    /**
+     * Validates the document against the PDF/UA-1 requirements.
+     *
+     * <p>
+     * Pages of the document are released during the validation, so they shall not be used by the caller
+     * concurrently with this method.
+     *
+     * @param document the {@link PdfDocument} opened in reading mode
+     *
+     * @return the {@link ConformanceValidationReport} with the found violations
+     */
+    public ConformanceValidationReport validate(PdfDocument document) {
+        if (document.getReader() == null || document.getWriter() != null) {
+            throw new PdfException(KernelExceptionMessageConstant.STANDALONE_VALIDATION_REQUIRES_READING_MODE);
+        }
+        ConformanceValidationReport report = new ConformanceValidationReport();
+        if (!document.isTagged()) {
+            return report.addFailure(ConformanceValidationReport.DOCUMENT_LEVEL,
+                    new PdfUAConformanceException(KernelExceptionMessageConstant.MUST_BE_A_TAGGED_DOCUMENT));
+        }
+        try {
+            List<PdfFont> notEmbeddedFonts = collectNotEmbeddedFonts(document);
+            new PdfUA1Checker(document).validate(new PdfDocumentValidationContext(document, notEmbeddedFonts));
+        } catch (PdfException e) {
+            report.addFailure(ConformanceValidationReport.DOCUMENT_LEVEL, e);
+        }
+        return report;
+    }
+
+    private static List<PdfFont> collectNotEmbeddedFonts(PdfDocument document) {
+        // Only the fonts which fail the check are kept, one per font name, the others are dropped right away
+        List<PdfFont> notEmbeddedFonts = new ArrayList<>();
+        Set<String> notEmbeddedFontNames = new HashSet<>();
+        Set<PdfIndirectReference> visitedObjects = new HashSet<>();
+        PageFlushingHelper flushingHelper = new PageFlushingHelper(document);
+        for (int pageNumber = 1; pageNumber <= document.getNumberOfPages(); ++pageNumber) {
+            for (PdfDictionary fontDictionary : FontCheckUtil.collectFonts(document.getPage(pageNumber),
+                    visitedObjects)) {
+                PdfFont font = PdfFontFactory.createFont(fontDictionary);
+                if (!font.isEmbedded()
+                        && notEmbeddedFontNames.add(font.getFontProgram().getFontNames().getFontName())) {
+                    notEmbeddedFonts.add(font);
+                }
+            }
+            flushingHelper.releaseDeep(pageNumber);
+        }
+        return notEmbeddedFonts;
+    }
+}
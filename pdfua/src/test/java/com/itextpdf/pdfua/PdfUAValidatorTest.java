@@ -0,0 +1,164 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.pdfua;
+
+import com.itextpdf.commons.utils.MessageFormatUtil;
+import com.itextpdf.io.font.PdfEncodings;
+import com.itextpdf.io.font.constants.StandardFonts;
+import com.itextpdf.kernel.exceptions.KernelExceptionMessageConstant;
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.font.PdfFont;
+import com.itextpdf.kernel.font.PdfFontFactory;
+import com.itextpdf.kernel.font.PdfFontFactory.EmbeddingStrategy;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.PdfWriter;
+import com.itextpdf.kernel.pdf.StampingProperties;
+import com.itextpdf.kernel.pdf.annot.PdfAnnotation;
+import com.itextpdf.kernel.pdf.annot.PdfSquareAnnotation;
+import com.itextpdf.kernel.pdf.canvas.PdfCanvas;
+import com.itextpdf.kernel.pdf.xobject.PdfFormXObject;
+import com.itextpdf.kernel.validation.ConformanceValidationReport;
+import com.itextpdf.layout.Document;
+import com.itextpdf.layout.element.AreaBreak;
+import com.itextpdf.layout.element.Paragraph;
+import com.itextpdf.pdfua.exceptions.PdfUAExceptionMessageConstants;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("IntegrationTest")
+public class PdfUAValidatorTest extends ExtendedITextTest {
+    private static final String FONT = "./src/test/resources/com/itextpdf/pdfua/font/FreeSans.ttf";
+
+    @Test
+    public void validDocumentTest() throws IOException {
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(createPdfUA())))) {
+            ConformanceValidationReport report = new PdfUAValidator().validate(document);
+            Assertions.assertTrue(report.isValid());
+        }
+    }
+
+    @Test
+    public void notEmbeddedFontTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(createPdfUA())),
+                new PdfWriter(baos), new StampingProperties().useAppendMode())) {
+            PdfFont font = PdfFontFactory.createFont(StandardFonts.HELVETICA);
+            new PdfCanvas(document.getPage(2)).beginText().setFontAndSize(font, 12).moveText(36, 36)
+                    .showText("Not embedded").endText().release();
+        }
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())))) {
+            ConformanceValidationReport report = new PdfUAValidator().validate(document);
+            Assertions.assertEquals(1, report.getFailures().size());
+            ConformanceValidationReport.Failure failure = report.getFailures().get(0);
+            Assertions.assertEquals(ConformanceValidationReport.DOCUMENT_LEVEL, failure.getPageNumber());
+            Assertions.assertEquals(MessageFormatUtil.format(PdfUAExceptionMessageConstants.FONT_SHOULD_BE_EMBEDDED,
+                    StandardFonts.HELVETICA), failure.getMessage());
+        }
+    }
+
+    @Test
+    public void notEmbeddedFontInFormXObjectTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(createPdfUA())),
+                new PdfWriter(baos), new StampingProperties().useAppendMode())) {
+            PdfFormXObject xObject = createTextXObject(document, StandardFonts.COURIER);
+            new PdfCanvas(document.getPage(2)).addXObjectAt(xObject, 36, 36).release();
+        }
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())))) {
+            ConformanceValidationReport report = new PdfUAValidator().validate(document);
+            Assertions.assertEquals(1, report.getFailures().size());
+            Assertions.assertEquals(MessageFormatUtil.format(PdfUAExceptionMessageConstants.FONT_SHOULD_BE_EMBEDDED,
+                    StandardFonts.COURIER), report.getFailures().get(0).getMessage());
+        }
+    }
+
+    @Test
+    public void notEmbeddedFontInAnnotationAppearanceTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(createPdfUA())),
+                new PdfWriter(baos), new StampingProperties().useAppendMode())) {
+            PdfAnnotation annotation = new PdfSquareAnnotation(new Rectangle(36, 36, 100, 20));
+            annotation.setContents("Square");
+            annotation.setNormalAppearance(createTextXObject(document, StandardFonts.TIMES_ROMAN).getPdfObject());
+            document.getPage(1).addAnnotation(annotation);
+        }
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())))) {
+            ConformanceValidationReport report = new PdfUAValidator().validate(document);
+            Assertions.assertEquals(1, report.getFailures().size());
+            Assertions.assertEquals(MessageFormatUtil.format(PdfUAExceptionMessageConstants.FONT_SHOULD_BE_EMBEDDED,
+                    StandardFonts.TIMES_ROMAN), report.getFailures().get(0).getMessage());
+        }
+    }
+
+    @Test
+    public void notTaggedDocumentTest() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument document = new PdfDocument(new PdfWriter(baos))) {
+            document.addNewPage();
+        }
+        try (PdfDocument document = new PdfDocument(new PdfReader(new ByteArrayInputStream(baos.toByteArray())))) {
+            ConformanceValidationReport report = new PdfUAValidator().validate(document);
+            Assertions.assertFalse(report.isValid());
+            Assertions.assertEquals(KernelExceptionMessageConstant.MUST_BE_A_TAGGED_DOCUMENT,
+                    report.getFailures().get(0).getMessage());
+        }
+    }
+
+    @Test
+    public void documentInWritingModeTest() {
+        PdfDocument document = new PdfDocument(new PdfWriter(new ByteArrayOutputStream()));
+        Exception e = Assertions.assertThrows(PdfException.class, () -> new PdfUAValidator().validate(document));
+        Assertions.assertEquals(KernelExceptionMessageConstant.STANDALONE_VALIDATION_REQUIRES_READING_MODE,
+                e.getMessage());
+    }
+
+    private static PdfFormXObject createTextXObject(PdfDocument document, String fontName) throws IOException {
+        PdfFormXObject xObject = new PdfFormXObject(new Rectangle(100, 20));
+        PdfFont font = PdfFontFactory.createFont(fontName);
+        new PdfCanvas(xObject, document).beginText().setFontAndSize(font, 12).moveText(0, 5)
+                .showText("Not embedded").endText().release();
+        return xObject;
+    }
+
+    private static byte[] createPdfUA() throws IOException {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (PdfDocument pdfDocument = new PdfUATestPdfDocument(new PdfWriter(baos))) {
+            PdfFont font = PdfFontFactory.createFont(FONT, PdfEncodings.WINANSI, EmbeddingStrategy.FORCE_EMBEDDED);
+            Document document = new Document(pdfDocument);
+            document.setFont(font);
+            document.add(new Paragraph("First page"));
+            document.add(new AreaBreak());
+            document.add(new Paragraph("Second page"));
+            document.close();
+        }
+        return baos.toByteArray();
+    }
+}
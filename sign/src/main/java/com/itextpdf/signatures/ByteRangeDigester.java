@@ -0,0 +1,133 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures;
+
+import com.itextpdf.io.source.IRandomAccessSource;
+
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.SignatureException;
+
+/**
+ * Calculates digests of the signed byte ranges of a PDF document.
+ *
+ * <p>
+ * The byte ranges are read directly from the underlying {@link IRandomAccessSource} in large chunks and each chunk
+ * is fed to all the requested digests, so the document is only read once no matter how many digests are needed.
+ * The instance is not thread-safe.
+ */
+public class ByteRangeDigester {
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private final IRandomAccessSource source;
+    private final long[] byteRange;
+    private int rangeIndex;
+    private long rangeOffset;
+
+    /**
+     * Creates new {@link ByteRangeDigester} instance.
+     *
+     * @param source    the source containing the whole document
+     * @param byteRange the byte range as pairs of an offset and a length
+     */
+    public ByteRangeDigester(IRandomAccessSource source, long[] byteRange) {
+        this.source = source;
+        this.byteRange = byteRange;
+    }
+
+    /**
+     * Calculates the digests of the byte ranges in a single pass over the document.
+     *
+     * @param messageDigests the digests to update with the byte ranges content
+     *
+     * @return the calculated digests in the same order as the passed message digests
+     *
+     * @throws IOException if some I/O problem occurs
+     */
+    public byte[][] digest(MessageDigest... messageDigests) throws IOException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        rewind();
+        int read;
+        while ((read = readNext(buffer)) > 0) {
+            for (MessageDigest messageDigest : messageDigests) {
+                messageDigest.update(buffer, 0, read);
+            }
+        }
+        byte[][] digests = new byte[messageDigests.length][];
+        for (int i = 0; i < messageDigests.length; i++) {
+            digests[i] = messageDigests[i].digest();
+        }
+        return digests;
+    }
+
+    /**
+     * Updates the signature container with the byte ranges content.
+     *
+     * @param pkcs7 the signature container to update
+     *
+     * @throws IOException        if some I/O problem occurs
+     * @throws SignatureException if the signature container cannot be updated
+     */
+    void update(PdfPKCS7 pkcs7) throws IOException, SignatureException {
+        byte[] buffer = new byte[BUFFER_SIZE];
+        rewind();
+        int read;
+        while ((read = readNext(buffer)) > 0) {
+            pkcs7.update(buffer, 0, read);
+        }
+    }
+
+    private void rewind() {
+        rangeIndex = 0;
+        rangeOffset = 0;
+    }
+
+    /**
+     * Reads the next chunk of the byte ranges content.
+     *
+     * @param buffer the buffer to read into
+     *
+     * @return the number of bytes read, or -1 if the byte ranges or the source are exhausted
+     *
+     * @throws IOException if some I/O problem occurs
+     */
+    private int readNext(byte[] buffer) throws IOException {
+        while (rangeIndex + 1 < byteRange.length) {
+            long remaining = byteRange[rangeIndex + 1] - rangeOffset;
+            if (remaining <= 0) {
+                rangeIndex += 2;
+                rangeOffset = 0;
+                continue;
+            }
+            int read = source.get(byteRange[rangeIndex] + rangeOffset, buffer, 0,
+                    (int) Math.min(buffer.length, remaining));
+            if (read <= 0) {
+                // The range goes beyond the end of the source, the same way a ranged stream ends
+                return -1;
+            }
+            rangeOffset += read;
+            return read;
+        }
+        return -1;
+    }
+}
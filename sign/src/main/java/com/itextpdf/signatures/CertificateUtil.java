@@ -489,6 +489,57 @@ public class CertificateUtil {
         return certificate.getIssuerX500Principal().equals(certificate.getSubjectX500Principal());
     }
 
+    /**
+     * Retrieves the key identifier from the subject key identifier extension of the certificate.
+     *
+     * @param certificate the certificate from which the key identifier shall be retrieved
+     *
+     * @return the subject key identifier, or {@code null} if the extension is absent or cannot be parsed.
+     */
+    public static byte[] getSubjectKeyIdentifier(X509Certificate certificate) {
+        try {
+            IASN1Primitive extension = getExtensionValue(certificate, OID.X509Extensions.SUBJECT_KEY_IDENTIFIER);
+            if (extension == null) {
+                return null;
+            }
+            IASN1OctetString keyIdentifier = FACTORY.createASN1OctetString(extension);
+            return keyIdentifier == null ? null : keyIdentifier.getOctets();
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Retrieves the key identifier from the authority key identifier extension of the certificate.
+     *
+     * @param certificate the certificate from which the key identifier shall be retrieved
+     *
+     * @return the authority key identifier, or {@code null} if the extension or its key identifier field
+     * is absent or cannot be parsed.
+     */
+    public static byte[] getAuthorityKeyIdentifier(X509Certificate certificate) {
+        try {
+            IASN1Primitive extension = getExtensionValue(certificate, OID.X509Extensions.AUTHORITY_KEY_IDENTIFIER);
+            if (extension == null) {
+                return null;
+            }
+            IASN1Sequence sequence = FACTORY.createASN1Sequence(extension);
+            if (sequence == null) {
+                return null;
+            }
+            for (int i = 0; i < sequence.size(); i++) {
+                IASN1TaggedObject taggedObject = FACTORY.createASN1TaggedObject(sequence.getObjectAt(i));
+                // keyIdentifier [0] KeyIdentifier
+                if (taggedObject != null && taggedObject.getTagNo() == 0) {
+                    return FACTORY.createASN1OctetString(taggedObject, false).getOctets();
+                }
+            }
+            return null;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
     // helper methods
 
     /**
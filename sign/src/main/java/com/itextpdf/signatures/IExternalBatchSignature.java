@@ -0,0 +1,46 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures;
+
+import java.security.GeneralSecurityException;
+import java.util.List;
+
+/**
+ * Extension of {@link IExternalSignature} which is able to sign several messages in one call,
+ * e.g. to send a single request to a remote signing service or HSM for a whole batch of documents.
+ */
+public interface IExternalBatchSignature extends IExternalSignature {
+
+    /**
+     * Signs the given messages using the encryption algorithm in combination
+     * with the hash algorithm.
+     *
+     * @param messages the messages you want to be hashed and signed
+     *
+     * @return signed message digests, in the same order as the provided messages
+     *
+     * @throws GeneralSecurityException when requested cryptographic algorithm or security provider
+     * is not available
+     */
+    List<byte[]> signBatch(List<byte[]> messages) throws GeneralSecurityException;
+}
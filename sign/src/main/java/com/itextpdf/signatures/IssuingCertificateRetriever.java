@@ -25,11 +25,13 @@ package com.itextpdf.signatures;
 import com.itextpdf.bouncycastleconnector.BouncyCastleFactoryCreator;
 import com.itextpdf.commons.bouncycastle.IBouncyCastleFactory;
 import com.itextpdf.commons.bouncycastle.cert.ocsp.IBasicOCSPResp;
+import com.itextpdf.commons.utils.Base64;
 import com.itextpdf.signatures.logs.SignLogMessageConstant;
 import com.itextpdf.signatures.validation.TrustedCertificatesStore;
 
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -58,6 +60,7 @@ public class IssuingCertificateRetriever implements IIssuingCertificateRetriever
 
     private final TrustedCertificatesStore trustedCertificatesStore = new TrustedCertificatesStore();
     private final Map<String, List<Certificate>> knownCertificates = new HashMap<>();
+    private final Map<String, List<Certificate>> knownCertificatesByKeyIdentifier = new HashMap<>();
 
     /**
      * Creates {@link IssuingCertificateRetriever} instance.
@@ -93,11 +96,10 @@ public class IssuingCertificateRetriever implements IIssuingCertificateRetriever
                 Collection<Certificate> certificatesFromAIA = processCertificatesFromAIA(url);
                 if (certificatesFromAIA == null || certificatesFromAIA.isEmpty()) {
                     // Retrieve Issuer from the certificate store
-                    Certificate issuer = getIssuerFromCertificateSet(lastAddedCert, trustedCertificatesStore
-                            .getKnownCertificates(lastAddedCert.getIssuerX500Principal().getName()));
+                    Certificate issuer = getIssuerFromCertificateSet(lastAddedCert,
+                            trustedCertificatesStore.getPossibleIssuers(lastAddedCert));
                     if (issuer == null || !isSignedBy(lastAddedCert, issuer)) {
-                        issuer = getIssuerFromCertificateSet(lastAddedCert, knownCertificates.get(
-                                lastAddedCert.getIssuerX500Principal().getName()));
+                        issuer = getIssuerFromCertificateSet(lastAddedCert, getPossibleKnownIssuers(lastAddedCert));
                         if (issuer == null) {
                             // Unable to retrieve missing certificates
                             while (i < chain.length) {
@@ -180,12 +182,8 @@ public class IssuingCertificateRetriever implements IIssuingCertificateRetriever
                 allChains.add(issuerChain);
             }
         } else {
-            Set<Certificate> possibleIssuers = trustedCertificatesStore
-                    .getKnownCertificates(certificate.getIssuerX500Principal().getName());
-            if (knownCertificates.get(
-                    certificate.getIssuerX500Principal().getName()) != null) {
-                possibleIssuers.addAll(knownCertificates.get(certificate.getIssuerX500Principal().getName()));
-            }
+            Set<Certificate> possibleIssuers = trustedCertificatesStore.getPossibleIssuers(certificate);
+            possibleIssuers.addAll(getPossibleKnownIssuers(certificate));
             if (possibleIssuers.isEmpty()) {
                 List<List<X509Certificate>> singleChain = new ArrayList<>();
                 List<X509Certificate> chain = new ArrayList<>();
@@ -348,6 +346,11 @@ public class IssuingCertificateRetriever implements IIssuingCertificateRetriever
             String name = ((X509Certificate) certificate).getSubjectX500Principal().getName();
             List<Certificate> certs = knownCertificates.computeIfAbsent(name,k -> new ArrayList<>());
             certs.add(certificate);
+            byte[] keyIdentifier = CertificateUtil.getSubjectKeyIdentifier((X509Certificate) certificate);
+            if (keyIdentifier != null) {
+                knownCertificatesByKeyIdentifier.computeIfAbsent(Base64.encodeBytes(keyIdentifier),
+                        k -> new ArrayList<>()).add(certificate);
+            }
         }
     }
 
@@ -441,6 +444,28 @@ public class IssuingCertificateRetriever implements IIssuingCertificateRetriever
         return null;
     }
 
+    private List<Certificate> getPossibleKnownIssuers(X509Certificate certificate) {
+        List<Certificate> candidates = knownCertificates.get(certificate.getIssuerX500Principal().getName());
+        if (candidates == null) {
+            return Collections.<Certificate>emptyList();
+        }
+        byte[] authorityKeyIdentifier = CertificateUtil.getAuthorityKeyIdentifier(certificate);
+        List<Certificate> keyIdentifierMatches = authorityKeyIdentifier == null ? null :
+                knownCertificatesByKeyIdentifier.get(Base64.encodeBytes(authorityKeyIdentifier));
+        if (keyIdentifierMatches == null) {
+            return candidates;
+        }
+        // Candidates with the matching key identifier are the most probable issuers, so they go first.
+        Set<Certificate> issuers = new LinkedHashSet<>();
+        for (Certificate candidate : keyIdentifierMatches) {
+            if (candidates.contains(candidate)) {
+                issuers.add(candidate);
+            }
+        }
+        issuers.addAll(candidates);
+        return new ArrayList<>(issuers);
+    }
+
     private List<Certificate> getCrlIssuersFromKnownCertificates(X509CRL crl) {
         return knownCertificates.get(crl.getIssuerX500Principal().getName());
     }
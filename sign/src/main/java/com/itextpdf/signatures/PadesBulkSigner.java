@@ -0,0 +1,406 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures;
+
+import com.itextpdf.commons.utils.MessageFormatUtil;
+import com.itextpdf.kernel.crypto.DigestAlgorithms;
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfName;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.kernel.pdf.StampingProperties;
+import com.itextpdf.signatures.cms.CMSContainer;
+import com.itextpdf.signatures.exceptions.SignExceptionMessageConstant;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Class which signs many documents with the same certificate chain using PAdES Baseline-B profile.
+ *
+ * <p>
+ * Signing happens in the same two steps as in {@link PadesTwoPhaseSigningHelper}, but for a batch of documents
+ * at once: all the documents of the batch are prepared for signing, their signed attributes are passed
+ * to the {@link IExternalBatchSignature} in a single call and then the resulting signatures are embedded.
+ * The certificate chain, the signature algorithm identifier and the signature size are calculated only once.
+ *
+ * <p>
+ * If an {@link ExecutorService} is set, documents of a batch are prepared and finalized in parallel.
+ * Prepared documents of the current batch are kept in memory until their signatures are embedded.
+ */
+public class PadesBulkSigner {
+    private final Certificate[] certificates;
+    private final String digestAlgorithm;
+    private final List<BulkSigningEntry> entries = new ArrayList<>();
+    private IIssuingCertificateRetriever issuingCertificateRetriever = new IssuingCertificateRetriever();
+    private StampingProperties stampingProperties = new StampingProperties().useAppendMode();
+    private ExecutorService executorService;
+    private int estimatedSize = -1;
+    private int batchSize = 100;
+
+    /**
+     * Create an instance of {@link PadesBulkSigner}.
+     *
+     * @param certificates    the certificate chain to be used for signing, missing certificates are retrieved
+     *                        using {@link IIssuingCertificateRetriever}
+     * @param digestAlgorithm the algorithm to be used for digesting the documents
+     */
+    public PadesBulkSigner(Certificate[] certificates, String digestAlgorithm) {
+        this.certificates = certificates;
+        this.digestAlgorithm = digestAlgorithm;
+    }
+
+    /**
+     * Set {@link IIssuingCertificateRetriever} to be used to retrieve missing certificates in chain.
+     *
+     * <p>
+     * If none is set, {@link IssuingCertificateRetriever} instance will be used instead.
+     *
+     * @param issuingCertificateRetriever {@link IIssuingCertificateRetriever} instance to be used
+     *
+     * @return same instance of {@link PadesBulkSigner}
+     */
+    public PadesBulkSigner setIssuingCertificateRetriever(IIssuingCertificateRetriever issuingCertificateRetriever) {
+        this.issuingCertificateRetriever = issuingCertificateRetriever;
+        return this;
+    }
+
+    /**
+     * Set stamping properties to be used during main signing operation.
+     *
+     * <p>
+     * If none is set, stamping properties with append mode enabled will be used.
+     *
+     * @param stampingProperties {@link StampingProperties} instance to be used during main signing operation
+     *
+     * @return same instance of {@link PadesBulkSigner}
+     */
+    public PadesBulkSigner setStampingProperties(StampingProperties stampingProperties) {
+        this.stampingProperties = stampingProperties;
+        return this;
+    }
+
+    /**
+     * Set {@link ExecutorService} to be used to prepare and finalize documents of a batch in parallel.
+     *
+     * <p>
+     * If none is set, documents are processed sequentially in the calling thread.
+     *
+     * @param executorService {@link ExecutorService} instance to be used
+     *
+     * @return same instance of {@link PadesBulkSigner}
+     */
+    public PadesBulkSigner setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
+    /**
+     * Set estimated size of a signature to be applied.
+     *
+     * <p>
+     * If none is set, the required space will be calculated from the certificate chain.
+     *
+     * @param estimatedSize amount of bytes to be used as estimated value
+     *
+     * @return same instance of {@link PadesBulkSigner}
+     */
+    public PadesBulkSigner setEstimatedSize(int estimatedSize) {
+        this.estimatedSize = estimatedSize;
+        return this;
+    }
+
+    /**
+     * Set maximum amount of documents to be signed by a single {@link IExternalBatchSignature#signBatch} call.
+     *
+     * <p>
+     * If none is set, 100 will be used.
+     *
+     * @param batchSize maximum amount of documents in a batch
+     *
+     * @return same instance of {@link PadesBulkSigner}
+     */
+    public PadesBulkSigner setBatchSize(int batchSize) {
+        this.batchSize = Math.max(1, batchSize);
+        return this;
+    }
+
+    /**
+     * Add document to be signed by the next {@link #signWithBaselineBProfile} call.
+     *
+     * @param inputDocument    reader {@link PdfReader} instance to read original PDF file
+     * @param outputStream     the output PDF, it is closed once the document is signed
+     * @param signerProperties properties to be used in the signing operation
+     *
+     * @return same instance of {@link PadesBulkSigner}
+     */
+    public PadesBulkSigner addDocument(PdfReader inputDocument, OutputStream outputStream,
+            SignerProperties signerProperties) {
+        entries.add(new BulkSigningEntry(inputDocument, outputStream, signerProperties));
+        return this;
+    }
+
+    /**
+     * Sign all the added documents with PAdES Baseline-B profile.
+     *
+     * <p>
+     * Once signing is finished, the list of added documents is cleared. If signing of any document fails,
+     * the output streams of all the added documents are closed before the exception is thrown.
+     *
+     * @param externalSignature external signature to do the actual signing of the whole batch
+     *
+     * @throws IOException              if some I/O problem occurs
+     * @throws GeneralSecurityException if some problem during signing occurs
+     */
+    public void signWithBaselineBProfile(IExternalBatchSignature externalSignature)
+            throws IOException, GeneralSecurityException {
+        final SigningTemplate template = createTemplate(externalSignature);
+        boolean signed = false;
+        try {
+            for (int start = 0; start < entries.size(); start += batchSize) {
+                List<BulkSigningEntry> batch = entries.subList(start, Math.min(start + batchSize, entries.size()));
+                signBatch(batch, template, externalSignature);
+            }
+            signed = true;
+        } finally {
+            if (!signed) {
+                closeOutputStreams();
+            }
+            entries.clear();
+        }
+    }
+
+    private void closeOutputStreams() {
+        for (BulkSigningEntry entry : entries) {
+            if (!entry.outputStreamClosed) {
+                try {
+                    entry.closeOutputStream();
+                } catch (IOException ignored) {
+                    // The exception which caused signing to fail is thrown instead.
+                }
+            }
+        }
+    }
+
+    private SigningTemplate createTemplate(IExternalSignature externalSignature)
+            throws IOException, GeneralSecurityException {
+        Certificate[] fullChain = issuingCertificateRetriever.retrieveMissingCertificates(certificates);
+        X509Certificate[] x509FullChain = Arrays.asList(fullChain).toArray(new X509Certificate[0]);
+        String digestAlgorithmOid = DigestAlgorithms.getAllowedDigest(digestAlgorithm);
+
+        CMSContainer cms = PadesTwoPhaseSigningHelper.createCMSContainer(x509FullChain, digestAlgorithmOid);
+        // Validates that the digest algorithms of the signature and of the container are the same.
+        PadesTwoPhaseSigningHelper.setSignatureAlgorithm(externalSignature, cms);
+
+        int realSignatureSize = PadesTwoPhaseSigningHelper.estimateSignatureSize(cms, digestAlgorithmOid);
+        int signatureSize = estimatedSize < 0 ? realSignatureSize : estimatedSize;
+        return new SigningTemplate(x509FullChain, digestAlgorithmOid, signatureSize);
+    }
+
+    private void signBatch(List<BulkSigningEntry> batch, final SigningTemplate template,
+            final IExternalBatchSignature externalSignature) throws IOException, GeneralSecurityException {
+        List<Callable<Void>> preparations = new ArrayList<>(batch.size());
+        for (final BulkSigningEntry entry : batch) {
+            preparations.add(() -> {
+                prepareDocument(entry, template, externalSignature);
+                return null;
+            });
+        }
+        execute(preparations);
+
+        List<byte[]> signedAttributes = new ArrayList<>(batch.size());
+        for (BulkSigningEntry entry : batch) {
+            signedAttributes.add(entry.cms.getSerializedSignedAttributes());
+        }
+        List<byte[]> signatures = externalSignature.signBatch(signedAttributes);
+        if (signatures == null || signatures.size() != batch.size()) {
+            throw new PdfException(MessageFormatUtil.format(
+                    SignExceptionMessageConstant.BATCH_SIGNATURES_NUMBER_MISMATCH,
+                    signatures == null ? 0 : signatures.size(), batch.size()));
+        }
+        for (int i = 0; i < batch.size(); ++i) {
+            batch.get(i).cms.getSignerInfo().setSignature(signatures.get(i));
+        }
+
+        List<Callable<Void>> finalizations = new ArrayList<>(batch.size());
+        for (final BulkSigningEntry entry : batch) {
+            finalizations.add(() -> {
+                embedSignature(entry);
+                return null;
+            });
+        }
+        execute(finalizations);
+    }
+
+    private void prepareDocument(BulkSigningEntry entry, SigningTemplate template,
+            IExternalSignature externalSignature) throws IOException, GeneralSecurityException {
+        CMSContainer cms = PadesTwoPhaseSigningHelper.createCMSContainer(template.chain, template.digestAlgorithmOid);
+        PadesTwoPhaseSigningHelper.setSignatureAlgorithm(externalSignature, cms);
+
+        ByteArrayOutputStream preparedDocument = new ByteArrayOutputStream();
+        PdfTwoPhaseSigner pdfTwoPhaseSigner = new PdfTwoPhaseSigner(entry.reader, preparedDocument);
+        pdfTwoPhaseSigner.setStampingProperties(stampingProperties);
+        byte[] digest = pdfTwoPhaseSigner.prepareDocumentForSignature(entry.signerProperties, digestAlgorithm,
+                PdfName.Adobe_PPKLite, PdfName.ETSI_CAdES_DETACHED, template.signatureSize, true);
+        cms.getSignerInfo().setMessageDigest(digest);
+
+        entry.cms = cms;
+        entry.fieldName = entry.signerProperties.getFieldName();
+        entry.preparedDocument = preparedDocument.toByteArray();
+    }
+
+    private void embedSignature(BulkSigningEntry entry) throws IOException, GeneralSecurityException {
+        PdfReader reader = new PdfReader(new ByteArrayInputStream(entry.preparedDocument));
+        try (PdfDocument document = new PdfDocument(reader, stampingProperties)) {
+            PdfTwoPhaseSigner.addSignatureToPreparedDocument(document, entry.fieldName, entry.outputStream,
+                    entry.cms);
+        } finally {
+            entry.preparedDocument = null;
+            entry.closeOutputStream();
+        }
+    }
+
+    private void execute(List<Callable<Void>> tasks) throws IOException, GeneralSecurityException {
+        if (executorService == null) {
+            for (Callable<Void> task : tasks) {
+                try {
+                    task.call();
+                } catch (IOException | GeneralSecurityException | RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new PdfException(e);
+                }
+            }
+            return;
+        }
+        // Once a task fails, the tasks which haven't started yet are skipped. The running ones are awaited,
+        // so that none of them writes to its output stream after the failure is thrown.
+        final AtomicBoolean failed = new AtomicBoolean(false);
+        List<Future<Void>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (final Callable<Void> task : tasks) {
+                futures.add(executorService.submit(() -> {
+                    if (failed.get()) {
+                        return null;
+                    }
+                    try {
+                        return task.call();
+                    } catch (Exception e) {
+                        failed.set(true);
+                        throw e;
+                    }
+                }));
+            }
+        } catch (RuntimeException e) {
+            failed.set(true);
+            awaitAll(futures);
+            throw e;
+        }
+        ExecutionException failure = null;
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                failed.set(true);
+                Thread.currentThread().interrupt();
+                throw new PdfException(e);
+            } catch (ExecutionException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            Throwable cause = failure.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof GeneralSecurityException) {
+                throw (GeneralSecurityException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new PdfException(cause);
+        }
+    }
+
+    private static void awaitAll(List<Future<Void>> futures) {
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (ExecutionException ignored) {
+                // The exception which caused signing to fail is thrown instead.
+            }
+        }
+    }
+
+    private static final class SigningTemplate {
+        private final X509Certificate[] chain;
+        private final String digestAlgorithmOid;
+        private final int signatureSize;
+
+        SigningTemplate(X509Certificate[] chain, String digestAlgorithmOid, int signatureSize) {
+            this.chain = chain;
+            this.digestAlgorithmOid = digestAlgorithmOid;
+            this.signatureSize = signatureSize;
+        }
+    }
+
+    private static final class BulkSigningEntry {
+        private final PdfReader reader;
+        private final OutputStream outputStream;
+        private final SignerProperties signerProperties;
+        private CMSContainer cms;
+        private String fieldName;
+        private byte[] preparedDocument;
+        private boolean outputStreamClosed;
+
+        BulkSigningEntry(PdfReader reader, OutputStream outputStream, SignerProperties signerProperties) {
+            this.reader = reader;
+            this.outputStream = outputStream;
+            this.signerProperties = signerProperties;
+        }
+
+        void closeOutputStream() throws IOException {
+            outputStreamClosed = true;
+            outputStream.close();
+        }
+    }
+}
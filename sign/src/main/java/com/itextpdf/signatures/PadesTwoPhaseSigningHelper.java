@@ -248,16 +248,10 @@ public class PadesTwoPhaseSigningHelper {
         PdfTwoPhaseSigner pdfTwoPhaseSigner = new PdfTwoPhaseSigner(inputDocument, outputStream);
         pdfTwoPhaseSigner.setStampingProperties(stampingProperties);
 
-        CMSContainer cms = new CMSContainer();
-        SignerInfo signerInfo = new SignerInfo();
         String digestAlgorithmOid = DigestAlgorithms.getAllowedDigest(digestAlgorithm);
-        signerInfo.setSigningCertificateAndAddToSignedAttributes(x509FullChain[0], digestAlgorithmOid);
-        signerInfo.setDigestAlgorithm(new AlgorithmIdentifier(digestAlgorithmOid));
-        cms.addCertificates(x509FullChain);
-        cms.setSignerInfo(signerInfo);
+        CMSContainer cms = createCMSContainer(x509FullChain, digestAlgorithmOid);
 
-        MessageDigest messageDigest = MessageDigest.getInstance(DigestAlgorithms.getDigest(digestAlgorithmOid));
-        int realSignatureSize = (messageDigest.getDigestLength() + (int) cms.getSizeEstimation()) * 2 + 2;
+        int realSignatureSize = estimateSignatureSize(cms, digestAlgorithmOid);
         if (tsaClient != null) {
             realSignatureSize += tsaClient.getTokenSizeEstimate();
         }
@@ -265,7 +259,7 @@ public class PadesTwoPhaseSigningHelper {
 
         byte[] digestedDocumentBytes = pdfTwoPhaseSigner.prepareDocumentForSignature(signerProperties, digestAlgorithm,
                 PdfName.Adobe_PPKLite, PdfName.ETSI_CAdES_DETACHED, expectedSignatureSize, true);
-        signerInfo.setMessageDigest(digestedDocumentBytes);
+        cms.getSignerInfo().setMessageDigest(digestedDocumentBytes);
 
         return cms;
     }
@@ -389,6 +383,14 @@ public class PadesTwoPhaseSigningHelper {
 
     private byte[] setSignatureAlgorithmAndSignature(IExternalSignature externalSignature, CMSContainer cmsContainer)
             throws IOException, GeneralSecurityException {
+        setSignatureAlgorithm(externalSignature, cmsContainer);
+        byte[] signedAttributes = cmsContainer.getSerializedSignedAttributes();
+        byte[] signature = externalSignature.sign(signedAttributes);
+        cmsContainer.getSignerInfo().setSignature(signature);
+        return signature;
+    }
+
+    static void setSignatureAlgorithm(IExternalSignature externalSignature, CMSContainer cmsContainer) {
         String signatureDigest = externalSignature.getDigestAlgorithmName();
         String containerDigest = cmsContainer.getDigestAlgorithm().getAlgorithmOid();
         String providedSignatureAlgorithm = externalSignature.getSignatureAlgorithmName();
@@ -406,11 +408,23 @@ public class PadesTwoPhaseSigningHelper {
                     SignatureMechanisms.getSignatureMechanismOid(providedSignatureAlgorithm, signatureDigest),
                     signatureMechanismParams.toEncodable().toASN1Primitive()));
         }
+    }
 
-        byte[] signedAttributes = cmsContainer.getSerializedSignedAttributes();
-        byte[] signature = externalSignature.sign(signedAttributes);
-        cmsContainer.getSignerInfo().setSignature(signature);
-        return signature;
+    static CMSContainer createCMSContainer(X509Certificate[] chain, String digestAlgorithmOid)
+            throws GeneralSecurityException {
+        CMSContainer cms = new CMSContainer();
+        SignerInfo signerInfo = new SignerInfo();
+        signerInfo.setSigningCertificateAndAddToSignedAttributes(chain[0], digestAlgorithmOid);
+        signerInfo.setDigestAlgorithm(new AlgorithmIdentifier(digestAlgorithmOid));
+        cms.addCertificates(chain);
+        cms.setSignerInfo(signerInfo);
+        return cms;
+    }
+
+    static int estimateSignatureSize(CMSContainer cms, String digestAlgorithmOid)
+            throws IOException, GeneralSecurityException {
+        MessageDigest messageDigest = MessageDigest.getInstance(DigestAlgorithms.getDigest(digestAlgorithmOid));
+        return (messageDigest.getDigestLength() + (int) cms.getSizeEstimation()) * 2 + 2;
     }
 
     private PdfPadesSigner createPadesSigner(PdfReader inputDocument, OutputStream outputStream) {
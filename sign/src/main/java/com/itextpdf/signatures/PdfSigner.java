@@ -652,8 +652,7 @@ public class PdfSigner {
         if (signaturePolicy != null) {
             sgn.setSignaturePolicy(signaturePolicy);
         }
-        InputStream data = getRangeStream();
-        byte[] hash = DigestAlgorithms.digest(data, SignUtils.getMessageDigest(hashAlgorithm, externalDigest));
+        byte[] hash = digestRange(SignUtils.getMessageDigest(hashAlgorithm, externalDigest))[0];
         List<byte[]> ocspList = new ArrayList<>();
         if (chain.length > 1 && ocspClient != null) {
             for (int j = 0; j < chain.length - 1; ++j) {
@@ -780,14 +779,7 @@ public class PdfSigner {
         Map<PdfName, Integer> exc = new HashMap<>();
         exc.put(PdfName.Contents, contentEstimated * 2 + 2);
         preClose(exc);
-        InputStream data = getRangeStream();
-        MessageDigest messageDigest = tsa.getMessageDigest();
-        byte[] buf = new byte[4096];
-        int n;
-        while ((n = data.read(buf)) > 0) {
-            messageDigest.update(buf, 0, n);
-        }
-        byte[] tsImprint = messageDigest.digest();
+        byte[] tsImprint = digestRange(tsa.getMessageDigest())[0];
         byte[] tsToken;
         try {
             tsToken = tsa.getTimeStampToken(tsImprint);
@@ -1132,6 +1124,20 @@ public class PdfSigner {
         return new RASInputStream(randomAccessSource);
     }
 
+    /**
+     * Calculates the digests of the document bytes that are hashable, reading the document only once.
+     * Shall be called after {@link #preClose(Map)}.
+     *
+     * @param messageDigests the digests to update with the hashable document bytes
+     *
+     * @return the calculated digests in the same order as the passed message digests
+     *
+     * @throws IOException if some I/O problem occurs
+     */
+    byte[][] digestRange(MessageDigest... messageDigests) throws IOException {
+        return new ByteRangeDigester(getUnderlyingSource(), range).digest(messageDigests);
+    }
+
     /**
      * This is the last method to be called when using external signatures. The general sequence is:
      * preClose(), getDocumentBytes() and close().
@@ -22,7 +22,6 @@
  */
 package com.itextpdf.signatures;
 
-import com.itextpdf.kernel.crypto.DigestAlgorithms;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.mac.IMacContainerLocator;
 import com.itextpdf.kernel.pdf.PdfDeveloperExtension;
@@ -37,7 +36,6 @@ import com.itextpdf.signatures.cms.CMSContainer;
 import com.itextpdf.signatures.exceptions.SignExceptionMessageConstant;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
@@ -195,8 +193,7 @@ public class PdfTwoPhaseSigner {
         exc.put(PdfName.Contents, estimatedSize * 2 + 2);
         pdfSigner.preClose(exc);
 
-        InputStream data = pdfSigner.getRangeStream();
-        byte[] digest = DigestAlgorithms.digest(data, messageDigest);
+        byte[] digest = pdfSigner.digestRange(messageDigest)[0];
         byte[] paddedSig = new byte[estimatedSize];
 
         PdfDictionary dic2 = new PdfDictionary();
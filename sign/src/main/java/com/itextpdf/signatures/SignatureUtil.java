@@ -30,7 +30,6 @@ import com.itextpdf.io.source.IRandomAccessSource;
 import com.itextpdf.io.source.PdfTokenizer;
 import com.itextpdf.io.source.RASInputStream;
 import com.itextpdf.io.source.RandomAccessFileOrArray;
-import com.itextpdf.io.source.RandomAccessSourceFactory;
 import com.itextpdf.io.source.WindowRandomAccessSource;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.pdf.PdfArray;
@@ -47,6 +46,7 @@ import com.itextpdf.signatures.exceptions.SignExceptionMessageConstant;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
@@ -156,6 +156,28 @@ public class SignatureUtil {
         }
     }
 
+    /**
+     * Calculates several digests of the byte ranges signed by the given signature, reading the document only once.
+     *
+     * @param signatureFieldName the signature field name
+     * @param messageDigests     the digests to update with the signed byte ranges content
+     *
+     * @return the calculated digests in the same order as the passed message digests,
+     * or {@code null} if there is no signature with the given name
+     */
+    public byte[][] digestSignedRanges(String signatureFieldName, MessageDigest... messageDigests) {
+        PdfSignature signature = getSignature(signatureFieldName);
+        if (signature == null) {
+            return null;
+        }
+        try {
+            return new ByteRangeDigester(document.getReader().getSafeFile().createSourceView(),
+                    signature.getByteRange().toLongArray()).digest(messageDigests);
+        } catch (IOException e) {
+            throw new PdfException(e);
+        }
+    }
+
     /**
      * Get {@link PdfSignature} dictionary based on the provided name.
      *
@@ -195,24 +217,10 @@ public class SignatureUtil {
     private void updateByteRange(PdfPKCS7 pkcs7, PdfSignature signature) {
         PdfArray b = signature.getByteRange();
         RandomAccessFileOrArray rf = document.getReader().getSafeFile();
-        InputStream rg = null;
         try {
-            rg = new RASInputStream(
-                    new RandomAccessSourceFactory().createRanged(rf.createSourceView(), b.toLongArray()));
-            byte[] buf = new byte[8192];
-            int rd;
-            while ((rd = rg.read(buf, 0, buf.length)) > 0) {
-                pkcs7.update(buf, 0, rd);
-            }
+            new ByteRangeDigester(rf.createSourceView(), b.toLongArray()).update(pkcs7);
         } catch (Exception e) {
             throw new PdfException(e);
-        } finally {
-            try {
-                if (rg != null) rg.close();
-            } catch (IOException e) {
-                // this really shouldn't ever happen - the source view we use is based on a Safe view, which is a no-op anyway
-                throw new PdfException(e);
-            }
         }
     }
 
@@ -314,6 +322,29 @@ public class SignatureUtil {
         return new RASInputStream(new WindowRandomAccessSource(raf.createSourceView(), 0, length));
     }
 
+    /**
+     * Creates a {@link PdfReader} for the revision of the document covered by the signature.
+     * <p>
+     * Unlike reading the stream of {@link #extractRevision(String)}, the created reader works directly on the bytes
+     * of the document limited by the end of the revision, so the revision is not copied. Closing the created reader
+     * doesn't close the reader of the document.
+     *
+     * @param field the signature field name
+     * @return {@link PdfReader} instance, which shall be closed by the caller. Returns null if it's not a signature
+     * field
+     * @throws IOException in case of input-output related exceptions during reader creation
+     */
+    public PdfReader createRevisionReader(String field) throws IOException {
+        getSignatureNames();
+        if (!sigNames.containsKey(field)) {
+            return null;
+        }
+        int length = sigNames.get(field)[0];
+        RandomAccessFileOrArray raf = document.getReader().getSafeFile();
+        return new PdfReader(new WindowRandomAccessSource(raf.createSourceView(), 0, length),
+                document.getReader().getPropertiesCopy());
+    }
+
     /**
      * Checks if the signature covers the entire document (except for signature's Contents) or just a part of it.
      * <p>
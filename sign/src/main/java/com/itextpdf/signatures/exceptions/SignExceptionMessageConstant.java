@@ -32,6 +32,8 @@ public final class SignExceptionMessageConstant {
             + "the digest.";
     public static final String AVAILABLE_SPACE_IS_NOT_ENOUGH_FOR_SIGNATURE = "Available space is not enough for "
             + "signature.";
+    public static final String BATCH_SIGNATURES_NUMBER_MISMATCH = "IExternalBatchSignature returned {0} "
+            + "signatures, while {1} messages were provided for signing.";
     public static final String TOKEN_ESTIMATION_SIZE_IS_NOT_LARGE_ENOUGH = "Timestamp token estimation size is not " 
             + "large enough to accommodate the entire timestamp token. Timestamp token estimation size is: {0} bytes, " 
             + "however real timestamp token size is: {1} bytes.";
@@ -100,6 +100,7 @@ public class CRLValidator {
     private final Map<Certificate, Integer> checkedReasonsMask = new HashMap<>();
     private final IssuingCertificateRetriever certificateRetriever;
     private final SignatureValidationProperties properties;
+    private final ValidationSession validationSession;
     private final ValidatorChainBuilder builder;
 
     /**
@@ -110,6 +111,7 @@ public class CRLValidator {
     protected CRLValidator(ValidatorChainBuilder builder) {
         this.certificateRetriever = builder.getCertificateRetriever();
         this.properties = builder.getProperties();
+        this.validationSession = builder.getValidationSession();
         this.builder = builder;
     }
 
@@ -312,7 +314,7 @@ public class CRLValidator {
                         CRL_CHECK, CRL_ISSUER_NO_COMMON_ROOT, ReportItemStatus.INDETERMINATE));
                 continue;
             }
-            onExceptionLog(() -> crl.verify(crlIssuer.getPublicKey()), candidateReport,
+            onExceptionLog(() -> validationSession.verifyCrlSignature(crl, crlIssuer), candidateReport,
                     e -> new CertificateReportItem(certificate, CRL_CHECK, CRL_INVALID, e,
                             ReportItemStatus.INDETERMINATE));
             ValidationReport responderReport = new ValidationReport();
@@ -76,6 +76,7 @@ public class CertificateChainValidator {
 
 
     private final SignatureValidationProperties properties;
+    private final ValidationSession validationSession;
     private final IssuingCertificateRetriever certificateRetriever;
     private final RevocationDataValidator revocationDataValidator;
 
@@ -87,6 +88,7 @@ public class CertificateChainValidator {
     protected CertificateChainValidator(ValidatorChainBuilder builder) {
         this.certificateRetriever = builder.getCertificateRetriever();
         this.properties = builder.getProperties();
+        this.validationSession = builder.getValidationSession();
         this.revocationDataValidator = builder.getRevocationDataValidator();
     }
 
@@ -279,7 +281,7 @@ public class CertificateChainValidator {
         for (int i = 0; i < issuerCertificates.size(); i++) {
             candidateReports[i] = new ValidationReport();
             try {
-                certificate.verify(issuerCertificates.get(i).getPublicKey());
+                validationSession.verifyCertificateSignature(certificate, issuerCertificates.get(i));
             } catch (GeneralSecurityException e) {
                 candidateReports[i].addReportItem(new CertificateReportItem(certificate, CERTIFICATE_CHECK,
                         MessageFormatUtil.format(ISSUER_CANNOT_BE_VERIFIED,
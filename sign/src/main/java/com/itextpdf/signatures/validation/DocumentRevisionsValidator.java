@@ -29,9 +29,6 @@ import com.itextpdf.forms.PdfAcroForm;
 import com.itextpdf.forms.fields.PdfFormAnnotationUtil;
 import com.itextpdf.forms.fields.PdfFormCreator;
 import com.itextpdf.forms.fields.PdfFormField;
-import com.itextpdf.io.source.RASInputStream;
-import com.itextpdf.io.source.RandomAccessFileOrArray;
-import com.itextpdf.io.source.WindowRandomAccessSource;
 import com.itextpdf.kernel.pdf.DocumentProperties;
 import com.itextpdf.kernel.pdf.DocumentRevision;
 import com.itextpdf.kernel.pdf.PdfArray;
@@ -57,12 +54,13 @@ import com.itextpdf.signatures.validation.report.ValidationReport;
 import com.itextpdf.signatures.validation.report.ValidationReport.ValidationResult;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -145,6 +143,11 @@ public class DocumentRevisionsValidator {
             + "\"Action\" value \"{0}\". \"All\" will be used instead.";
 
     private static final float EPS = 1e-5f;
+    /**
+     * Revisions are validated pairwise, so keeping the documents of two neighbouring revisions
+     * is enough to open each revision only once.
+     */
+    private static final int MAX_OPENED_REVISIONS = 2;
     private static final PdfDictionary DUMMY_STRUCT_TREE_ELEMENT =
             new PdfDictionary(Collections.singletonMap(PdfName.K, (PdfObject) new PdfArray()));
 
@@ -159,6 +162,8 @@ public class DocumentRevisionsValidator {
     private Set<PdfDictionary> removedTaggedObjects;
     private Set<PdfDictionary> addedTaggedObjects;
     private Pair<Set<PdfIndirectReference>, Set<PdfIndirectReference>> usuallyModifiedObjects;
+    private PdfRevisionsReader revisionsReader;
+    private final Map<Long, PdfDocument> openedRevisions = new LinkedHashMap<>();
 
     /**
      * Creates new instance of {@link DocumentRevisionsValidator}.
@@ -233,8 +238,26 @@ public class DocumentRevisionsValidator {
                                                   String signatureName) {
         resetClassFields();
         ValidationContext localContext = context.setValidatorContext(ValidatorContext.DOCUMENT_REVISIONS_VALIDATOR);
-        ValidationReport report = new ValidationReport();
-        PdfRevisionsReader revisionsReader = new PdfRevisionsReader(document.getReader());
+        try {
+            return validateAllDocumentRevisions(localContext, document, signatureName, new ValidationReport());
+        } finally {
+            closeOpenedRevisions();
+        }
+    }
+
+    void validateRevision(DocumentRevision previousRevision, DocumentRevision currentRevision,
+            PdfDocument originalDocument, ValidationReport validationReport, ValidationContext context) {
+        try {
+            validateRevisionWithOpenedDocuments(previousRevision, currentRevision, originalDocument,
+                    validationReport, context);
+        } finally {
+            closeOpenedRevisions();
+        }
+    }
+
+    private ValidationReport validateAllDocumentRevisions(ValidationContext localContext, PdfDocument document,
+            String signatureName, ValidationReport report) {
+        revisionsReader = new PdfRevisionsReader(document.getReader());
         revisionsReader.setEventCountingMetaInfo(metaInfo);
         List<DocumentRevision> documentRevisions;
         try {
@@ -300,8 +323,8 @@ public class DocumentRevisionsValidator {
             }
             if (documentSigned && i < documentRevisions.size() - 1) {
                 ValidationReport validationReport = new ValidationReport();
-                validateRevision(documentRevisions.get(i), documentRevisions.get(i + 1), document, validationReport,
-                        localContext);
+                validateRevisionWithOpenedDocuments(documentRevisions.get(i), documentRevisions.get(i + 1), document,
+                        validationReport, localContext);
                 if (collectRevisionsValidationReport) {
                     report.merge(validationReport);
                 }
@@ -316,8 +339,9 @@ public class DocumentRevisionsValidator {
         return report;
     }
 
-    void validateRevision(DocumentRevision previousRevision, DocumentRevision currentRevision,
-            PdfDocument originalDocument, ValidationReport validationReport, ValidationContext context) {
+    private void validateRevisionWithOpenedDocuments(DocumentRevision previousRevision,
+            DocumentRevision currentRevision, PdfDocument originalDocument, ValidationReport validationReport,
+            ValidationContext context) {
         createDocumentAndPerformOperation(previousRevision, originalDocument, validationReport,
                 documentWithoutRevision ->
                         createDocumentAndPerformOperation(currentRevision, originalDocument, validationReport,
@@ -395,13 +419,6 @@ public class DocumentRevisionsValidator {
                 requestedAccessPermissions;
     }
 
-    private static InputStream createInputStreamFromRevision(PdfDocument originalDocument, DocumentRevision revision) {
-        RandomAccessFileOrArray raf = originalDocument.getReader().getSafeFile();
-        WindowRandomAccessSource source = new WindowRandomAccessSource(
-                raf.createSourceView(), 0, revision.getEofOffset());
-        return new RASInputStream(source);
-    }
-
     private static boolean isLinearizedPdf(PdfDocument originalDocument) {
         for (int i = 0; i < originalDocument.getNumberOfPdfObjects(); ++i) {
             PdfObject object = originalDocument.getPdfObject(i);
@@ -574,11 +591,8 @@ public class DocumentRevisionsValidator {
 
     private boolean createDocumentAndPerformOperation(DocumentRevision revision, PdfDocument originalDocument,
             ValidationReport report, Function<PdfDocument, Boolean> operation) {
-        try (InputStream inputStream = createInputStreamFromRevision(originalDocument, revision);
-                PdfReader reader = new PdfReader(inputStream, originalDocument.getReader().getPropertiesCopy())
-                        .setStrictnessLevel(StrictnessLevel.CONSERVATIVE);
-                PdfDocument documentWithRevision = new PdfDocument(reader,
-                        new DocumentProperties().setEventCountingMetaInfo(metaInfo))) {
+        try {
+            PdfDocument documentWithRevision = getOrOpenRevision(revision, originalDocument);
             return (boolean) operation.apply(documentWithRevision);
         } catch (IOException | RuntimeException exception) {
             report.addReportItem(new ReportItem(DOC_MDP_CHECK, REVISIONS_READING_EXCEPTION, exception,
@@ -587,6 +601,45 @@ public class DocumentRevisionsValidator {
         }
     }
 
+    /**
+     * Gets the document of the revision. Revision documents are only read, so the same document is reused
+     * for all the checks of the revision instead of parsing the revision again for each of them.
+     */
+    private PdfDocument getOrOpenRevision(DocumentRevision revision, PdfDocument originalDocument)
+            throws IOException {
+        PdfDocument documentWithRevision = openedRevisions.remove(revision.getEofOffset());
+        if (documentWithRevision == null) {
+            if (revisionsReader == null) {
+                revisionsReader = new PdfRevisionsReader(originalDocument.getReader());
+            }
+            PdfReader reader = revisionsReader.createRevisionReader(revision)
+                    .setStrictnessLevel(StrictnessLevel.CONSERVATIVE);
+            try {
+                documentWithRevision = new PdfDocument(reader,
+                        new DocumentProperties().setEventCountingMetaInfo(metaInfo));
+            } catch (RuntimeException e) {
+                reader.close();
+                throw e;
+            }
+            while (openedRevisions.size() >= MAX_OPENED_REVISIONS) {
+                Iterator<PdfDocument> eldest = openedRevisions.values().iterator();
+                eldest.next().close();
+                eldest.remove();
+            }
+        }
+        // Reinsert the document to keep the most recently used revisions at the end
+        openedRevisions.put(revision.getEofOffset(), documentWithRevision);
+        return documentWithRevision;
+    }
+
+    private void closeOpenedRevisions() {
+        for (PdfDocument document : openedRevisions.values()) {
+            document.close();
+        }
+        openedRevisions.clear();
+        revisionsReader = null;
+    }
+
     private void resetClassFields() {
         lockedFields.clear();
         accessPermissions = AccessPermissions.ANNOTATION_MODIFICATION;
@@ -93,6 +93,7 @@ public class OCSPValidator {
 
     private final IssuingCertificateRetriever certificateRetriever;
     private final SignatureValidationProperties properties;
+    private final ValidationSession validationSession;
     private final ValidatorChainBuilder builder;
 
     /**
@@ -103,6 +104,7 @@ public class OCSPValidator {
     protected OCSPValidator(ValidatorChainBuilder builder) {
         this.certificateRetriever = builder.getCertificateRetriever();
         this.properties = builder.getProperties();
+        this.validationSession = builder.getValidationSession();
         this.builder = builder;
     }
 
@@ -250,7 +252,7 @@ public class OCSPValidator {
 
         // First check if the issuer certificate signed the response since it is expected to be the most common case:
         // the CA will already be validated by the chain validator
-        if (CertificateUtil.isSignatureValid(ocspResp, issuerCert)) {
+        if (validationSession.isOcspResponseSignatureValid(ocspResp, issuerCert)) {
             report.addReportItem(new CertificateReportItem(issuerCert, OCSP_CHECK, OCSP_RESPONDER_IS_CA,
                     ReportItemStatus.INFO));
             return;
@@ -277,7 +279,7 @@ public class OCSPValidator {
             candidateReports[reportIndex++] = candidateReport;
 
             // if the response was not signed by this candidate we can stop further processing
-            if (!CertificateUtil.isSignatureValid(ocspResp, responderCert)) {
+            if (!validationSession.isOcspResponseSignatureValid(ocspResp, responderCert)) {
                 candidateReport.addReportItem(new CertificateReportItem(responderCert,
                         OCSP_CHECK, OCSP_RESPONDER_DID_NOT_SIGN, ReportItemStatus.INDETERMINATE));
                 continue;
@@ -305,7 +307,7 @@ public class OCSPValidator {
             // certificate being checked for revocation were signed by the same key."
             // and "This certificate MUST be issued directly by the CA that is identified in the request".
             try {
-                responderCert.verify(issuerCert.getPublicKey());
+                validationSession.verifyCertificateSignature(responderCert, issuerCert);
             } catch (Exception e) {
                 candidateReport.addReportItem(new CertificateReportItem(responderCert, OCSP_CHECK, INVALID_OCSP, e,
                         ReportItemStatus.INVALID));
@@ -90,6 +90,7 @@ public class RevocationDataValidator {
     private final List<IOcspClient> ocspClients = new ArrayList<>();
     private final List<ICrlClient> crlClients = new ArrayList<>();
     private final SignatureValidationProperties properties;
+    private final ValidationSession validationSession;
     private final IssuingCertificateRetriever certificateRetriever;
     private final OCSPValidator ocspValidator;
     private final CRLValidator crlValidator;
@@ -102,6 +103,7 @@ public class RevocationDataValidator {
     protected RevocationDataValidator(ValidatorChainBuilder builder) {
         this.certificateRetriever = builder.getCertificateRetriever();
         this.properties = builder.getProperties();
+        this.validationSession = builder.getValidationSession();
         this.ocspValidator = builder.getOCSPValidator();
         this.crlValidator = builder.getCRLValidator();
         this.crlClients.addAll(this.properties.getCrlClients());
@@ -229,9 +231,9 @@ public class RevocationDataValidator {
         }
     }
 
-    private static List<CrlValidationInfo> retrieveAllCRLResponsesUsingClient(ValidationReport report,
-                                                                              X509Certificate certificate,
-                                                                              ICrlClient crlClient) {
+    private List<CrlValidationInfo> retrieveAllCRLResponsesUsingClient(ValidationReport report,
+                                                                       X509Certificate certificate,
+                                                                       ICrlClient crlClient) {
         List<CrlValidationInfo> crlResponses = new ArrayList<>();
         if (crlClient instanceof ValidationCrlClient) {
             ValidationCrlClient validationCrlClient = (ValidationCrlClient) crlClient;
@@ -243,7 +245,7 @@ public class RevocationDataValidator {
                             MessageFormatUtil.format(CRL_CLIENT_FAILURE, crlClient), e, ReportItemStatus.INFO));
             for (byte[] crlBytes : crlBytesCollection) {
                 onExceptionLog(() ->
-                        crlResponses.add(new CrlValidationInfo((X509CRL) CertificateUtil.parseCrlFromBytes(crlBytes),
+                        crlResponses.add(new CrlValidationInfo(validationSession.parseCrl(crlBytes),
                                 DateTimeUtil.getCurrentTimeDate(), TimeBasedContext.PRESENT)), report, e ->
                         new CertificateReportItem(certificate, REVOCATION_DATA_CHECK,
                                 MessageFormatUtil.format(CANNOT_PARSE_CRL, crlClient), e, ReportItemStatus.INFO));
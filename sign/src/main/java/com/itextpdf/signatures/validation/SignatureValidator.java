@@ -29,6 +29,7 @@ import com.itextpdf.commons.bouncycastle.asn1.ocsp.IBasicOCSPResponse;
 import com.itextpdf.commons.bouncycastle.asn1.tsp.ITSTInfo;
 import com.itextpdf.commons.bouncycastle.cert.ocsp.AbstractOCSPException;
 import com.itextpdf.commons.utils.DateTimeUtil;
+import com.itextpdf.commons.utils.ExecutorServiceUtil;
 import com.itextpdf.commons.utils.MessageFormatUtil;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.pdf.DocumentProperties;
@@ -67,6 +68,10 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static com.itextpdf.signatures.validation.SafeCalling.onExceptionLog;
 import static com.itextpdf.signatures.validation.SafeCalling.onRuntimeExceptionLog;
@@ -111,6 +116,7 @@ public class SignatureValidator {
     private final DocumentRevisionsValidator documentRevisionsValidator;
     private final IssuingCertificateRetriever certificateRetriever;
     private final SignatureValidationProperties properties;
+    private final ValidationSession validationSession;
     private Date lastKnownPoE = DateTimeUtil.getCurrentTimeDate();
     private IMetaInfo metaInfo = new ValidationMetaInfo();
     private final PdfDocument originalDocument;
@@ -130,6 +136,7 @@ public class SignatureValidator {
         this.builder = builder;
         this.certificateRetriever = builder.getCertificateRetriever();
         this.properties = builder.getProperties();
+        this.validationSession = builder.getValidationSession();
         this.certificateChainValidator = builder.getCertificateChainValidator();
         this.documentRevisionsValidator = builder.getDocumentRevisionsValidator();
         findValidationClients();
@@ -203,8 +210,12 @@ public class SignatureValidator {
     }
 
     ValidationReport validateLatestSignature(PdfDocument document) {
+        return validateLatestSignature(document, SignatureVerification.verify(document));
+    }
+
+    private ValidationReport validateLatestSignature(PdfDocument document, SignatureVerification verification) {
         ValidationReport validationReport = new ValidationReport();
-        PdfPKCS7 pkcs7 = mathematicallyVerifySignature(validationReport, document);
+        PdfPKCS7 pkcs7 = mathematicallyVerifySignature(validationReport, verification);
         updateValidationClients(pkcs7, validationReport, validationContext, document);
         // We only retrieve not signed revocation data at the very beginning of signature processing.
         retrieveNotSignedRevocationInfoFromSignatureContainer(pkcs7, validationContext);
@@ -293,24 +304,39 @@ public class SignatureValidator {
         List<String> signatureNames = util.getSignatureNames();
         Collections.reverse(signatureNames);
 
-        for (String fieldName : signatureNames) {
-            ValidationReport subReport = new ValidationReport();
-            try (PdfDocument doc = new PdfDocument(
-                    new PdfReader(util.extractRevision(fieldName), originalDocument.getReader().getPropertiesCopy())
-                            .setStrictnessLevel(PdfReader.StrictnessLevel.CONSERVATIVE),
-                    new DocumentProperties().setEventCountingMetaInfo(metaInfo))) {
-                subReport.merge(validateLatestSignature(doc));
-            } catch (IOException | RuntimeException e) {
-                subReport.addReportItem(new ReportItem(SIGNATURE_VERIFICATION, REVISIONS_RETRIEVAL_FAILED,
-                        e, ReportItemStatus.INDETERMINATE));
-            }
-            if (!validateSingleSignature) {
-                validationReport.merge(subReport);
-                if (stopValidation(subReport, validationContext)) {
-                    return validationReport;
+        ExecutorService executor = builder.getExecutorService();
+        RevisionsPreparer revisionsPreparer = executor == null ? null :
+                new RevisionsPreparer(util, signatureNames, executor);
+        try {
+            for (String fieldName : signatureNames) {
+                ValidationReport subReport = new ValidationReport();
+                try {
+                    if (revisionsPreparer == null) {
+                        try (PdfDocument doc = openRevision(util.createRevisionReader(fieldName), metaInfo)) {
+                            subReport.merge(validateLatestSignature(doc));
+                        }
+                    } else {
+                        PreparedRevision revision = revisionsPreparer.next();
+                        try (PdfDocument doc = revision.getDocument()) {
+                            subReport.merge(validateLatestSignature(doc, revision.getVerification()));
+                        }
+                    }
+                } catch (IOException | RuntimeException e) {
+                    subReport.addReportItem(new ReportItem(SIGNATURE_VERIFICATION, REVISIONS_RETRIEVAL_FAILED,
+                            e, ReportItemStatus.INDETERMINATE));
+                }
+                if (!validateSingleSignature) {
+                    validationReport.merge(subReport);
+                    if (stopValidation(subReport, validationContext)) {
+                        return validationReport;
+                    }
+                } else if (fieldName.equals(signatureName)) {
+                    return subReport;
                 }
-            } else if (fieldName.equals(signatureName)) {
-                return subReport;
+            }
+        } finally {
+            if (revisionsPreparer != null) {
+                revisionsPreparer.discardRemaining();
             }
         }
         if (validateSingleSignature) {
@@ -321,6 +347,16 @@ public class SignatureValidator {
         return validationReport;
     }
 
+    private static PdfDocument openRevision(PdfReader reader, IMetaInfo metaInfo) throws IOException {
+        reader.setStrictnessLevel(PdfReader.StrictnessLevel.CONSERVATIVE);
+        try {
+            return new PdfDocument(reader, new DocumentProperties().setEventCountingMetaInfo(metaInfo));
+        } catch (RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+    }
+
     private void findValidationClients() {
         for (IOcspClient ocspClient : this.properties.getOcspClients()) {
             if (ocspClient.getClass() == ValidationOcspClient.class) {
@@ -336,33 +372,29 @@ public class SignatureValidator {
         }
     }
 
-    private PdfPKCS7 mathematicallyVerifySignature(ValidationReport validationReport, PdfDocument document) {
-        SignatureUtil signatureUtil = new SignatureUtil(document);
-        List<String> signatures = signatureUtil.getSignatureNames();
-        String latestSignatureName = signatures.get(signatures.size() - 1);
-        PdfPKCS7 pkcs7 = signatureUtil.readSignatureData(latestSignatureName);
+    private PdfPKCS7 mathematicallyVerifySignature(ValidationReport validationReport,
+            SignatureVerification verification) {
+        PdfPKCS7 pkcs7 = verification.getPkcs7();
+        String latestSignatureName = verification.getSignatureName();
         validationReport.addReportItem(new ReportItem(SIGNATURE_VERIFICATION,
                 MessageFormatUtil.format(VALIDATING_SIGNATURE_NAME, latestSignatureName), ReportItemStatus.INFO));
         if (pkcs7.isTsp()) {
-            builder.getAdESReportAggregator().proofOfExistenceFound(
-                    signatureUtil.getSignature(latestSignatureName).getContents().getValueBytes(), true);
+            builder.getAdESReportAggregator().proofOfExistenceFound(verification.getSignatureContents(), true);
         } else {
-            builder.getAdESReportAggregator().startSignatureValidation(
-                    signatureUtil.getSignature(latestSignatureName).getContents().getValueBytes(), latestSignatureName,
-                    lastKnownPoE);
+            builder.getAdESReportAggregator().startSignatureValidation(verification.getSignatureContents(),
+                    latestSignatureName, lastKnownPoE);
         }
-        if (!signatureUtil.signatureCoversWholeDocument(latestSignatureName)) {
+        if (!verification.isWholeDocumentCovered()) {
             validationReport.addReportItem(new ReportItem(SIGNATURE_VERIFICATION,
                     MessageFormatUtil.format(DOCUMENT_IS_NOT_COVERED, latestSignatureName), ReportItemStatus.INVALID));
         }
-        try {
-            if (!pkcs7.verifySignatureIntegrityAndAuthenticity()) {
-                validationReport.addReportItem(new ReportItem(SIGNATURE_VERIFICATION, MessageFormatUtil.format(
-                        CANNOT_VERIFY_SIGNATURE, latestSignatureName), ReportItemStatus.INVALID));
-            }
-        } catch (GeneralSecurityException | RuntimeException e) {
+        if (verification.getVerificationException() != null) {
             validationReport.addReportItem(new ReportItem(SIGNATURE_VERIFICATION, MessageFormatUtil.format(
-                    CANNOT_VERIFY_SIGNATURE, latestSignatureName), e, ReportItemStatus.INVALID));
+                    CANNOT_VERIFY_SIGNATURE, latestSignatureName), verification.getVerificationException(),
+                    ReportItemStatus.INVALID));
+        } else if (!verification.isSignatureVerified()) {
+            validationReport.addReportItem(new ReportItem(SIGNATURE_VERIFICATION, MessageFormatUtil.format(
+                    CANNOT_VERIFY_SIGNATURE, latestSignatureName), ReportItemStatus.INVALID));
         }
         return pkcs7;
     }
@@ -504,7 +536,7 @@ public class SignatureValidator {
                     PdfStream crlStream = crls.getAsStream(i);
                     onExceptionLog(() ->
                             validationCrlClient.addCrl(
-                                    (X509CRL) CertificateUtil.parseCrlFromBytes(crlStream.getBytes()),
+                                    validationSession.parseCrl(crlStream.getBytes()),
                                     lastKnownPoE, context.getTimeBasedContext()), validationReport, e ->
                             new ReportItem(SIGNATURE_VERIFICATION, MessageFormatUtil.format(
                                     CANNOT_PARSE_CRL_FROM_DSS, crlStream), e, ReportItemStatus.INFO));
@@ -538,4 +570,220 @@ public class SignatureValidator {
         return !properties.getContinueAfterFailure(validationContext)
                 && result.getValidationResult() == ValidationResult.INVALID;
     }
+
+    /**
+     * Opens the revisions of the signatures and verifies their latest signatures in the executor. Only as many
+     * revisions as the executor can process in parallel are prepared ahead of the one being validated, so that
+     * the opened revision documents don't pile up in memory.
+     */
+    private final class RevisionsPreparer {
+        private final SignatureUtil util;
+        private final List<String> signatureNames;
+        private final ExecutorService executor;
+        private final int lookAhead;
+        private final List<PendingRevision> pendingRevisions = new ArrayList<>();
+        private int nextRevision = 0;
+
+        RevisionsPreparer(SignatureUtil util, List<String> signatureNames, ExecutorService executor) {
+            this.util = util;
+            this.signatureNames = signatureNames;
+            this.executor = executor;
+            this.lookAhead = ExecutorServiceUtil.getParallelism(executor);
+        }
+
+        PreparedRevision next() throws IOException {
+            int lastRevision = Math.min(nextRevision + lookAhead, signatureNames.size());
+            while (pendingRevisions.size() < lastRevision) {
+                try {
+                    pendingRevisions.add(prepare(signatureNames.get(pendingRevisions.size())));
+                } catch (IOException e) {
+                    if (pendingRevisions.size() > nextRevision) {
+                        // The revision is prepared again when it is validated, so that the failure is reported for it
+                        break;
+                    }
+                    pendingRevisions.add(null);
+                    ++nextRevision;
+                    throw e;
+                }
+            }
+            return pendingRevisions.get(nextRevision++).await();
+        }
+
+        void discardRemaining() {
+            for (PendingRevision pendingRevision : pendingRevisions.subList(nextRevision, pendingRevisions.size())) {
+                pendingRevision.discard();
+            }
+        }
+
+        private PendingRevision prepare(String fieldName) throws IOException {
+            // Readers are created in the calling thread as creation of a view changes the state of the reader
+            PdfReader reader = util.createRevisionReader(fieldName);
+            PendingRevision pendingRevision = new PendingRevision(reader);
+            IMetaInfo revisionMetaInfo = metaInfo;
+            try {
+                pendingRevision.preparedRevision = executor.submit(() -> {
+                    if (!pendingRevision.start()) {
+                        // The revision has been discarded and its reader closed
+                        return null;
+                    }
+                    PdfDocument document = openRevision(reader, revisionMetaInfo);
+                    try {
+                        return new PreparedRevision(document, SignatureVerification.verify(document));
+                    } catch (RuntimeException e) {
+                        document.close();
+                        throw e;
+                    }
+                });
+            } catch (RuntimeException e) {
+                reader.close();
+                throw e;
+            }
+            return pendingRevision;
+        }
+    }
+
+    /**
+     * A revision submitted to the executor. The reader of the revision is owned by the task once it has started,
+     * otherwise it is closed when the revision is discarded.
+     */
+    private static final class PendingRevision {
+        private final PdfReader reader;
+        private final AtomicBoolean started = new AtomicBoolean(false);
+        private Future<PreparedRevision> preparedRevision;
+
+        PendingRevision(PdfReader reader) {
+            this.reader = reader;
+        }
+
+        boolean start() {
+            return started.compareAndSet(false, true);
+        }
+
+        PreparedRevision await() throws IOException {
+            try {
+                return preparedRevision.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new PdfException(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof IOException) {
+                    throw (IOException) e.getCause();
+                }
+                throw e.getCause() instanceof RuntimeException ?
+                        (RuntimeException) e.getCause() : new PdfException(e.getCause());
+            }
+        }
+
+        void discard() {
+            if (start()) {
+                preparedRevision.cancel(false);
+                try {
+                    reader.close();
+                } catch (IOException ignored) {
+                    // The reader isn't used anymore.
+                }
+                return;
+            }
+            // The revision is already being prepared, wait for it so that its document can be closed
+            try {
+                preparedRevision.get().getDocument().close();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException | RuntimeException ignored) {
+                // The revision wasn't prepared, there is nothing to close.
+            }
+        }
+    }
+
+    private static final class PreparedRevision {
+        private final PdfDocument document;
+        private final SignatureVerification verification;
+
+        PreparedRevision(PdfDocument document, SignatureVerification verification) {
+            this.document = document;
+            this.verification = verification;
+        }
+
+        PdfDocument getDocument() {
+            return document;
+        }
+
+        SignatureVerification getVerification() {
+            return verification;
+        }
+    }
+
+    /**
+     * The results of the document independent checks of the latest signature of a revision: digest of the signed
+     * byte ranges, signature container verification and byte ranges coverage. These checks only access the revision
+     * document, so they can be performed on any thread, while the results are reported in the validation order.
+     */
+    private static final class SignatureVerification {
+        private String signatureName;
+        private PdfPKCS7 pkcs7;
+        private byte[] signatureContents;
+        private boolean wholeDocumentCovered;
+        private boolean signatureVerified;
+        private Exception verificationException;
+        private RuntimeException readingException;
+        private RuntimeException coverageCheckException;
+
+        static SignatureVerification verify(PdfDocument document) {
+            SignatureVerification verification = new SignatureVerification();
+            SignatureUtil signatureUtil = new SignatureUtil(document);
+            try {
+                List<String> signatures = signatureUtil.getSignatureNames();
+                verification.signatureName = signatures.get(signatures.size() - 1);
+                verification.pkcs7 = signatureUtil.readSignatureData(verification.signatureName);
+                verification.signatureContents =
+                        signatureUtil.getSignature(verification.signatureName).getContents().getValueBytes();
+            } catch (RuntimeException e) {
+                verification.readingException = e;
+                return verification;
+            }
+            try {
+                verification.wholeDocumentCovered =
+                        signatureUtil.signatureCoversWholeDocument(verification.signatureName);
+            } catch (RuntimeException e) {
+                verification.coverageCheckException = e;
+                return verification;
+            }
+            try {
+                verification.signatureVerified = verification.pkcs7.verifySignatureIntegrityAndAuthenticity();
+            } catch (GeneralSecurityException | RuntimeException e) {
+                verification.verificationException = e;
+            }
+            return verification;
+        }
+
+        String getSignatureName() {
+            return signatureName;
+        }
+
+        PdfPKCS7 getPkcs7() {
+            if (readingException != null) {
+                throw readingException;
+            }
+            return pkcs7;
+        }
+
+        byte[] getSignatureContents() {
+            return signatureContents;
+        }
+
+        boolean isWholeDocumentCovered() {
+            if (coverageCheckException != null) {
+                throw coverageCheckException;
+            }
+            return wholeDocumentCovered;
+        }
+
+        boolean isSignatureVerified() {
+            return signatureVerified;
+        }
+
+        Exception getVerificationException() {
+            return verificationException;
+        }
+    }
 }
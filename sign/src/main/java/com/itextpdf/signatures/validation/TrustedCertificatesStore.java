@@ -22,12 +22,16 @@
  */
 package com.itextpdf.signatures.validation;
 
+import com.itextpdf.commons.utils.Base64;
+import com.itextpdf.signatures.CertificateUtil;
+
 import java.security.cert.Certificate;
 import java.security.cert.X509Certificate;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -40,6 +44,11 @@ public class TrustedCertificatesStore {
     private final Map<String, Set<Certificate>> timestampTrustedCertificates = new HashMap<>();
     private final Map<String, Set<Certificate>> crlTrustedCertificates = new HashMap<>();
     private final Map<String, Set<Certificate>> caTrustedCertificates = new HashMap<>();
+    // Indexes over all the trusted certificates regardless of their usage,
+    // so that issuer lookups don't need to go through every usage specific map.
+    private final Set<Certificate> allTrustedCertificates = new HashSet<>();
+    private final Map<String, Set<Certificate>> allTrustedCertificatesByName = new HashMap<>();
+    private final Map<String, Set<Certificate>> allTrustedCertificatesByKeyIdentifier = new HashMap<>();
 
     /**
      * Add collection of certificates to be trusted for any possible usage.
@@ -48,7 +57,7 @@ public class TrustedCertificatesStore {
      */
     public void addGenerallyTrustedCertificates(Collection<Certificate> certificates) {
         for (Certificate certificate : certificates) {
-            addCertificateToMap(certificate, generallyTrustedCertificates);
+            addCertificate(certificate, generallyTrustedCertificates);
         }
     }
 
@@ -61,7 +70,7 @@ public class TrustedCertificatesStore {
      */
     public void addOcspTrustedCertificates(Collection<Certificate> certificates) {
         for (Certificate certificate : certificates) {
-            addCertificateToMap(certificate, ocspTrustedCertificates);
+            addCertificate(certificate, ocspTrustedCertificates);
         }
     }
 
@@ -74,7 +83,7 @@ public class TrustedCertificatesStore {
      */
     public void addCrlTrustedCertificates(Collection<Certificate> certificates) {
         for (Certificate certificate : certificates) {
-            addCertificateToMap(certificate, crlTrustedCertificates);
+            addCertificate(certificate, crlTrustedCertificates);
         }
     }
 
@@ -87,7 +96,7 @@ public class TrustedCertificatesStore {
      */
     public void addTimestampTrustedCertificates(Collection<Certificate> certificates) {
         for (Certificate certificate : certificates) {
-            addCertificateToMap(certificate, timestampTrustedCertificates);
+            addCertificate(certificate, timestampTrustedCertificates);
         }
     }
 
@@ -99,7 +108,7 @@ public class TrustedCertificatesStore {
      */
     public void addCATrustedCertificates(Collection<Certificate> certificates) {
         for (Certificate certificate : certificates) {
-            addCertificateToMap(certificate, caTrustedCertificates);
+            addCertificate(certificate, caTrustedCertificates);
         }
     }
 
@@ -226,13 +235,52 @@ public class TrustedCertificatesStore {
      * @return set of {@link Certificate} which correspond to the provided certificate name
      */
     public Set<Certificate> getKnownCertificates(String certificateName) {
-        Set<Certificate> result = new HashSet<>();
-        addMatched(result, generallyTrustedCertificates, certificateName);
-        addMatched(result, ocspTrustedCertificates, certificateName);
-        addMatched(result, crlTrustedCertificates, certificateName);
-        addMatched(result, timestampTrustedCertificates, certificateName);
-        addMatched(result, caTrustedCertificates, certificateName);
-        return result;
+        return getAllTrustedCertificates(certificateName);
+    }
+
+    /**
+     * Get certificates, if any, which can be the issuer of the provided certificate.
+     *
+     * <p>
+     * The candidates are the certificates having the issuer name of the provided certificate as subject.
+     * Candidates, whose subject key identifier matches the authority key identifier of the provided certificate,
+     * come first in the iteration order.
+     *
+     * @param certificate {@link X509Certificate} for which possible issuers shall be retrieved
+     *
+     * @return set of {@link Certificate} which can be the issuer of the provided certificate
+     */
+    public Set<Certificate> getPossibleIssuers(X509Certificate certificate) {
+        Set<Certificate> issuers = new LinkedHashSet<>();
+        Set<Certificate> candidates = allTrustedCertificatesByName.get(
+                certificate.getIssuerX500Principal().getName());
+        if (candidates == null) {
+            return issuers;
+        }
+        byte[] authorityKeyIdentifier = CertificateUtil.getAuthorityKeyIdentifier(certificate);
+        Set<Certificate> keyIdentifierMatches = authorityKeyIdentifier == null ? null :
+                allTrustedCertificatesByKeyIdentifier.get(Base64.encodeBytes(authorityKeyIdentifier));
+        if (keyIdentifierMatches != null) {
+            for (Certificate candidate : keyIdentifierMatches) {
+                if (candidates.contains(candidate)) {
+                    issuers.add(candidate);
+                }
+            }
+        }
+        issuers.addAll(candidates);
+        return issuers;
+    }
+
+    /**
+     * Get certificates, if any, which subject key identifier corresponds to the provided key identifier.
+     *
+     * @param keyIdentifier subject key identifier value
+     *
+     * @return set of {@link Certificate} which correspond to the provided key identifier
+     */
+    public Set<Certificate> getTrustedCertificatesByKeyIdentifier(byte[] keyIdentifier) {
+        Set<Certificate> certificates = allTrustedCertificatesByKeyIdentifier.get(Base64.encodeBytes(keyIdentifier));
+        return certificates == null ? new HashSet<Certificate>() : new HashSet<>(certificates);
     }
 
     /**
@@ -241,23 +289,7 @@ public class TrustedCertificatesStore {
      * @return {@link Collection} of {@link Certificate} instances
      */
     public Collection<Certificate> getAllTrustedCertificates() {
-        Set<Certificate> certificates = new HashSet<>();
-        for (Set<Certificate> set : generallyTrustedCertificates.values()) {
-            certificates.addAll(set);
-        }
-        for (Set<Certificate> set : ocspTrustedCertificates.values()) {
-            certificates.addAll(set);
-        }
-        for (Set<Certificate> set : crlTrustedCertificates.values()) {
-            certificates.addAll(set);
-        }
-        for (Set<Certificate> set : timestampTrustedCertificates.values()) {
-            certificates.addAll(set);
-        }
-        for (Set<Certificate> set : caTrustedCertificates.values()) {
-            certificates.addAll(set);
-        }
-        return certificates;
+        return new HashSet<>(allTrustedCertificates);
     }
 
     /**
@@ -268,30 +300,21 @@ public class TrustedCertificatesStore {
      * @return set of {@link Certificate} which correspond to the provided certificate name
      */
     public Set<Certificate> getAllTrustedCertificates(String name) {
-        Set<Certificate> certificates = new HashSet<>();
-        Set<Certificate> set = generallyTrustedCertificates.get(name);
-        if (set != null) {
-            certificates.addAll(set);
-        }
-        set = ocspTrustedCertificates.get(name);
-        if (set != null) {
-            certificates.addAll(set);
-        }
-        set = crlTrustedCertificates.get(name);
-        if (set != null) {
-            certificates.addAll(set);
-        }
-        set = timestampTrustedCertificates.get(name);
-        if (set != null) {
-            certificates.addAll(set);
-        }
-        set = caTrustedCertificates.get(name);
-        if (set != null) {
-            certificates.addAll(set);
-        }
-        return certificates;
+        Set<Certificate> certificates = allTrustedCertificatesByName.get(name);
+        return certificates == null ? new HashSet<Certificate>() : new HashSet<>(certificates);
     }
 
+    private void addCertificate(Certificate certificate, Map<String, Set<Certificate>> map) {
+        addCertificateToMap(certificate, map);
+        if (allTrustedCertificates.add(certificate)) {
+            addCertificateToMap(certificate, allTrustedCertificatesByName);
+            byte[] keyIdentifier = CertificateUtil.getSubjectKeyIdentifier((X509Certificate) certificate);
+            if (keyIdentifier != null) {
+                allTrustedCertificatesByKeyIdentifier.computeIfAbsent(Base64.encodeBytes(keyIdentifier),
+                        k -> new HashSet<>()).add(certificate);
+            }
+        }
+    }
 
     private static void addCertificateToMap(Certificate certificate, Map<String, Set<Certificate>> map) {
         String name = ((X509Certificate) certificate).getSubjectX500Principal().getName();
@@ -307,12 +330,4 @@ public class TrustedCertificatesStore {
         }
         return set.contains(certificate);
     }
-
-    private static void addMatched(Set<Certificate> target, Map<String, Set<Certificate>> source,
-            String certificateName) {
-        Set<Certificate> subset = source.get(certificateName);
-        if (subset != null) {
-            target.addAll(subset);
-        }
-    }
 }
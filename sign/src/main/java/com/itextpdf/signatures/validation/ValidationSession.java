@@ -0,0 +1,332 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures.validation;
+
+import com.itextpdf.commons.bouncycastle.cert.ocsp.IBasicOCSPResp;
+import com.itextpdf.signatures.BouncyCastleDigest;
+import com.itextpdf.signatures.CertificateUtil;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.cert.CRLException;
+import java.security.cert.Certificate;
+import java.security.cert.CertificateException;
+import java.security.cert.X509CRL;
+import java.security.cert.X509Certificate;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+
+/**
+ * Cache of the validation results which don't depend on the validated document, shared between validators.
+ * <p>
+ * The session caches parsed CRLs and the results of the signature verification of certificates, CRLs and
+ * OCSP responses. Entries are keyed by the fingerprints of the whole encoded data and the public key of the issuer, so
+ * validating the same intermediate CAs, CRLs and OCSP responses for different documents is only done once.
+ * Time dependent checks, like the freshness of revocation data or the validity period of certificates,
+ * are still performed for each validation, since their results depend on the validation date.
+ * <p>
+ * The session is thread-safe. The same instance can be passed to multiple {@link ValidatorChainBuilder} instances
+ * which are used to validate documents in parallel. The number of cached entries is limited, the least recently
+ * used entries are discarded first.
+ */
+public class ValidationSession {
+    /**
+     * Default maximum number of the cached entries.
+     */
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    private static final String FINGERPRINT_ALGORITHM = "SHA256";
+
+    private final int maxSize;
+    private final Object lock = new Object();
+    private final LinkedHashMap<CacheKey, Object> cache = new LinkedHashMap<>(16, 0.75f, true);
+    private long hitCount;
+    private long missCount;
+
+    /**
+     * Creates a new {@link ValidationSession} instance which caches up to {@link #DEFAULT_MAX_SIZE} entries.
+     */
+    public ValidationSession() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates a new {@link ValidationSession} instance.
+     *
+     * @param maxSize maximum number of the cached entries, zero disables caching
+     */
+    public ValidationSession(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Maximum size of the validation session can't be negative.");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Gets the maximum number of the cached entries.
+     *
+     * @return the maximum number of the cached entries
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Gets the number of the cached entries.
+     *
+     * @return the number of the cached entries
+     */
+    public int size() {
+        synchronized (lock) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * Gets the number of requests which were served from the cache.
+     *
+     * @return the number of cache hits
+     */
+    public long getHitCount() {
+        synchronized (lock) {
+            return hitCount;
+        }
+    }
+
+    /**
+     * Gets the number of requests which weren't served from the cache.
+     *
+     * @return the number of cache misses
+     */
+    public long getMissCount() {
+        synchronized (lock) {
+            return missCount;
+        }
+    }
+
+    /**
+     * Removes all the cached entries.
+     */
+    public void clear() {
+        synchronized (lock) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Parses CRL from its encoded form. CRLs with the same encoding are only parsed once.
+     *
+     * @param crlBytes the encoded CRL
+     *
+     * @return the parsed CRL
+     *
+     * @throws CertificateException thrown if there's no X509 implementation in the provider
+     * @throws CRLException         thrown when encountering errors when parsing the CRL
+     */
+    public X509CRL parseCrl(byte[] crlBytes) throws CertificateException, CRLException {
+        CacheKey key = maxSize == 0 ? null : CacheKey.create(KeyType.PARSED_CRL, crlBytes, null);
+        Object cached = get(key);
+        if (cached != null) {
+            return (X509CRL) cached;
+        }
+        X509CRL crl = (X509CRL) CertificateUtil.parseCrlFromBytes(crlBytes);
+        put(key, crl);
+        return crl;
+    }
+
+    /**
+     * Verifies that the certificate was signed by the private key of the issuer.
+     *
+     * @param certificate the certificate to verify
+     * @param issuer      the issuer certificate
+     *
+     * @throws GeneralSecurityException if the certificate can't be verified, the same exception is thrown
+     *                                  for all subsequent verifications of the same certificate
+     */
+    public void verifyCertificateSignature(X509Certificate certificate, Certificate issuer)
+            throws GeneralSecurityException {
+        CacheKey key = null;
+        if (maxSize != 0) {
+            try {
+                key = CacheKey.create(KeyType.CERTIFICATE_SIGNATURE, certificate.getEncoded(), issuer);
+            } catch (GeneralSecurityException e) {
+                // The certificate can't be identified, so it's verified without caching.
+            }
+        }
+        Object cached = get(key);
+        if (cached == null) {
+            try {
+                certificate.verify(issuer.getPublicKey());
+                cached = Boolean.TRUE;
+            } catch (GeneralSecurityException e) {
+                cached = e;
+            }
+            put(key, cached);
+        }
+        if (cached instanceof GeneralSecurityException) {
+            throw (GeneralSecurityException) cached;
+        }
+    }
+
+    /**
+     * Verifies that the CRL was signed by the private key of the issuer.
+     *
+     * @param crl    the CRL to verify
+     * @param issuer the issuer certificate
+     *
+     * @throws GeneralSecurityException if the CRL can't be verified, the same exception is thrown
+     *                                  for all subsequent verifications of the same CRL
+     */
+    public void verifyCrlSignature(X509CRL crl, Certificate issuer) throws GeneralSecurityException {
+        CacheKey key = null;
+        if (maxSize != 0) {
+            try {
+                key = CacheKey.create(KeyType.CRL_SIGNATURE, crl.getEncoded(), issuer);
+            } catch (GeneralSecurityException e) {
+                // The CRL can't be identified, so it's verified without caching.
+            }
+        }
+        Object cached = get(key);
+        if (cached == null) {
+            try {
+                crl.verify(issuer.getPublicKey());
+                cached = Boolean.TRUE;
+            } catch (GeneralSecurityException e) {
+                cached = e;
+            }
+            put(key, cached);
+        }
+        if (cached instanceof GeneralSecurityException) {
+            throw (GeneralSecurityException) cached;
+        }
+    }
+
+    /**
+     * Checks whether the OCSP response was signed by the private key of the responder.
+     *
+     * @param ocspResp      the OCSP response to check
+     * @param responderCert the responder certificate
+     *
+     * @return {@code true} if the response was signed by the responder, {@code false} otherwise
+     */
+    public boolean isOcspResponseSignatureValid(IBasicOCSPResp ocspResp, Certificate responderCert) {
+        CacheKey key = null;
+        if (maxSize != 0) {
+            try {
+                key = CacheKey.create(KeyType.OCSP_SIGNATURE, ocspResp.getEncoded(), responderCert);
+            } catch (IOException e) {
+                // The response can't be identified, so it's verified without caching.
+            }
+        }
+        Object cached = get(key);
+        if (cached == null) {
+            cached = CertificateUtil.isSignatureValid(ocspResp, responderCert);
+            put(key, cached);
+        }
+        return (boolean) (Boolean) cached;
+    }
+
+    private Object get(CacheKey key) {
+        if (key == null) {
+            return null;
+        }
+        synchronized (lock) {
+            Object value = cache.get(key);
+            if (value == null) {
+                ++missCount;
+            } else {
+                ++hitCount;
+            }
+            return value;
+        }
+    }
+
+    private void put(CacheKey key, Object value) {
+        if (key == null) {
+            return;
+        }
+        synchronized (lock) {
+            cache.put(key, value);
+            Iterator<CacheKey> iterator = cache.keySet().iterator();
+            while (cache.size() > maxSize) {
+                iterator.next();
+                iterator.remove();
+            }
+        }
+    }
+
+    private enum KeyType {
+        PARSED_CRL,
+        CERTIFICATE_SIGNATURE,
+        CRL_SIGNATURE,
+        OCSP_SIGNATURE
+    }
+
+    private static final class CacheKey {
+        private final KeyType type;
+        private final byte[] dataFingerprint;
+        private final byte[] issuerKey;
+        private final int hash;
+
+        private CacheKey(KeyType type, byte[] dataFingerprint, byte[] issuerKey) {
+            this.type = type;
+            this.dataFingerprint = dataFingerprint;
+            this.issuerKey = issuerKey;
+            this.hash = 31 * (31 * type.hashCode() + Arrays.hashCode(dataFingerprint)) + Arrays.hashCode(issuerKey);
+        }
+
+        /**
+         * Creates the key, or returns {@code null} if the data can't be fingerprinted,
+         * in which case the result is not cached.
+         */
+        static CacheKey create(KeyType type, byte[] data, Certificate issuer) {
+            try {
+                MessageDigest digest = new BouncyCastleDigest().getMessageDigest(FINGERPRINT_ALGORITHM);
+                byte[] issuerKey = issuer == null ? null : issuer.getPublicKey().getEncoded();
+                return new CacheKey(type, digest.digest(data), issuerKey);
+            } catch (GeneralSecurityException | RuntimeException e) {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            CacheKey that = (CacheKey) o;
+            return type == that.type && Arrays.equals(dataFingerprint, that.dataFingerprint)
+                    && Arrays.equals(issuerKey, that.issuerKey);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
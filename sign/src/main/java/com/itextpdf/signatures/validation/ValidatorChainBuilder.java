@@ -32,6 +32,7 @@ import java.io.Writer;
 import java.security.cert.Certificate;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Supplier;
 
 /**
@@ -49,6 +50,8 @@ public class ValidatorChainBuilder {
     private Collection<Certificate> trustedCertificates;
     private Collection<Certificate> knownCertificates;
     private AdESReportAggregator adESReportAggregator = new NullAdESReportAggregator();
+    private ValidationSession validationSession;
+    private ExecutorService executorService;
 
     /**
      * Create a new {@link SignatureValidator} instance with the current configuration.
@@ -226,6 +229,42 @@ public class ValidatorChainBuilder {
         return this;
     }
 
+    /**
+     * Sets the {@link ValidationSession} which caches the document independent validation results, like parsed CRLs
+     * and verified certificate, CRL and OCSP response signatures.
+     *
+     * <p>
+     * The session is thread-safe, so the same instance can be used by multiple builders which validate
+     * documents in parallel. By default, nothing is cached.
+     *
+     * @param validationSession the validation session to use
+     *
+     * @return the current ValidatorChainBuilder
+     */
+    public ValidatorChainBuilder withValidationSession(ValidationSession validationSession) {
+        this.validationSession = validationSession;
+        return this;
+    }
+
+    /**
+     * Sets the {@link ExecutorService} which is used by {@link SignatureValidator} to validate signatures in parallel.
+     *
+     * <p>
+     * Document revisions are opened, signed byte ranges are hashed and signature containers are verified
+     * concurrently for all the signatures, including document timestamps. Certificate chain and revocation data
+     * checks are still performed one signature after another, because each signature is validated using
+     * the proof of existence established by the later ones. The reports are merged in the same order as
+     * in sequential validation. By default, all the signatures are validated in the calling thread.
+     *
+     * @param executorService the executor to use, or {@code null} to validate signatures sequentially
+     *
+     * @return the current ValidatorChainBuilder
+     */
+    public ValidatorChainBuilder withExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
     /**
      * Use this AdES report aggregator to enable AdES compliant report generation.
      *
@@ -276,6 +315,29 @@ public class ValidatorChainBuilder {
         return adESReportAggregator;
     }
 
+    /**
+     * Retrieves the explicitly added {@link ExecutorService} instance.
+     *
+     * @return the explicitly added {@link ExecutorService} instance, or {@code null} if signatures
+     * are validated sequentially.
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    /**
+     * Retrieves the explicitly added or automatically created {@link ValidationSession} instance.
+     * The automatically created session doesn't cache anything.
+     *
+     * @return the explicitly added or automatically created {@link ValidationSession} instance.
+     */
+    public ValidationSession getValidationSession() {
+        if (validationSession == null) {
+            validationSession = new ValidationSession(0);
+        }
+        return validationSession;
+    }
+
     /**
      * Retrieves the explicitly added or automatically created {@link DocumentRevisionsValidator} instance.
      *
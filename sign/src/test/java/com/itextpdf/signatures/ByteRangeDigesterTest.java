@@ -0,0 +1,105 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures;
+
+import com.itextpdf.io.source.IRandomAccessSource;
+import com.itextpdf.io.source.RASInputStream;
+import com.itextpdf.io.source.RandomAccessSourceFactory;
+import com.itextpdf.kernel.crypto.DigestAlgorithms;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("UnitTest")
+public class ByteRangeDigesterTest extends ExtendedITextTest {
+
+    @Test
+    public void severalDigestsTest() throws IOException, GeneralSecurityException {
+        byte[] data = createData(3 * ByteRangeDigester.BUFFER_SIZE + 17);
+        long[] byteRange = new long[] {0, ByteRangeDigester.BUFFER_SIZE + 5,
+                2 * ByteRangeDigester.BUFFER_SIZE, ByteRangeDigester.BUFFER_SIZE + 17};
+        IRandomAccessSource source = new RandomAccessSourceFactory().createSource(data);
+
+        byte[][] digests = new ByteRangeDigester(source, byteRange).digest(
+                MessageDigest.getInstance(DigestAlgorithms.SHA256), MessageDigest.getInstance(DigestAlgorithms.SHA1));
+
+        Assertions.assertEquals(2, digests.length);
+        Assertions.assertArrayEquals(digestRangedStream(source, byteRange, DigestAlgorithms.SHA256), digests[0]);
+        Assertions.assertArrayEquals(digestRangedStream(source, byteRange, DigestAlgorithms.SHA1), digests[1]);
+    }
+
+    @Test
+    public void digesterIsReusableTest() throws IOException, GeneralSecurityException {
+        byte[] data = createData(1000);
+        long[] byteRange = new long[] {0, 100, 200, 800};
+        ByteRangeDigester digester =
+                new ByteRangeDigester(new RandomAccessSourceFactory().createSource(data), byteRange);
+
+        byte[] first = digester.digest(MessageDigest.getInstance(DigestAlgorithms.SHA256))[0];
+        byte[] second = digester.digest(MessageDigest.getInstance(DigestAlgorithms.SHA256))[0];
+
+        Assertions.assertArrayEquals(first, second);
+    }
+
+    @Test
+    public void rangeBeyondSourceEndTest() throws IOException, GeneralSecurityException {
+        byte[] data = createData(1000);
+        long[] byteRange = new long[] {0, 100, 900, 500};
+
+        byte[] digest = new ByteRangeDigester(new RandomAccessSourceFactory().createSource(data), byteRange)
+                .digest(MessageDigest.getInstance(DigestAlgorithms.SHA256))[0];
+
+        // Reading stops at the end of the source
+        MessageDigest expected = MessageDigest.getInstance(DigestAlgorithms.SHA256);
+        expected.update(data, 0, 100);
+        expected.update(data, 900, 100);
+        Assertions.assertArrayEquals(expected.digest(), digest);
+    }
+
+    @Test
+    public void emptyByteRangeTest() throws IOException, GeneralSecurityException {
+        byte[] digest = new ByteRangeDigester(new RandomAccessSourceFactory().createSource(createData(10)), new long[0])
+                .digest(MessageDigest.getInstance(DigestAlgorithms.SHA256))[0];
+
+        Assertions.assertArrayEquals(MessageDigest.getInstance(DigestAlgorithms.SHA256).digest(), digest);
+    }
+
+    private static byte[] digestRangedStream(IRandomAccessSource source, long[] byteRange, String algorithm)
+            throws IOException, GeneralSecurityException {
+        return DigestAlgorithms.digest(new RASInputStream(new RandomAccessSourceFactory().createRanged(source,
+                byteRange)), MessageDigest.getInstance(algorithm));
+    }
+
+    private static byte[] createData(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) (i * 31 + i / 7);
+        }
+        return data;
+    }
+}
@@ -34,6 +34,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Tag;
 
 import java.security.cert.X509Certificate;
+import java.util.Arrays;
 import java.util.List;
 
 @Tag("BouncyCastleUnitTest")
@@ -80,4 +81,26 @@ public class CertificateUtilTest extends ExtendedITextTest {
 
         Assertions.assertTrue(crls.isEmpty());
     }
+
+    @Test
+    public void getKeyIdentifiersTest() throws Exception {
+        X509Certificate rootCert = (X509Certificate) PemFileHelper.readFirstChain(CERTS_SRC + "root.pem")[0];
+        X509Certificate intermediateCert =
+                (X509Certificate) PemFileHelper.readFirstChain(CERTS_SRC + "intermediate.pem")[0];
+
+        Assertions.assertEquals(20, CertificateUtil.getSubjectKeyIdentifier(rootCert).length);
+        Assertions.assertArrayEquals(CertificateUtil.getSubjectKeyIdentifier(rootCert),
+                CertificateUtil.getAuthorityKeyIdentifier(intermediateCert));
+        Assertions.assertFalse(Arrays.equals(CertificateUtil.getSubjectKeyIdentifier(rootCert),
+                CertificateUtil.getSubjectKeyIdentifier(intermediateCert)));
+    }
+
+    @Test
+    public void getKeyIdentifiersWithoutExtensionsTest() throws Exception {
+        X509Certificate cert =
+                (X509Certificate) PemFileHelper.readFirstChain(CERTS_SRC + "adobeExtensionCert.pem")[0];
+
+        Assertions.assertNull(CertificateUtil.getSubjectKeyIdentifier(cert));
+        Assertions.assertNull(CertificateUtil.getAuthorityKeyIdentifier(cert));
+    }
 }
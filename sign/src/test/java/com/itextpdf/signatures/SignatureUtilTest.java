@@ -25,12 +25,18 @@ package com.itextpdf.signatures;
 import com.itextpdf.bouncycastleconnector.BouncyCastleFactoryCreator;
 import com.itextpdf.commons.bouncycastle.IBouncyCastleFactory;
 import com.itextpdf.commons.utils.DateTimeUtil;
+import com.itextpdf.io.source.IRandomAccessSource;
+import com.itextpdf.io.source.RASInputStream;
+import com.itextpdf.io.source.RandomAccessSourceFactory;
+import com.itextpdf.kernel.crypto.DigestAlgorithms;
 import com.itextpdf.kernel.exceptions.PdfException;
 import com.itextpdf.kernel.pdf.PdfDocument;
 import com.itextpdf.kernel.pdf.PdfReader;
 import com.itextpdf.signatures.testutils.TimeTestUtil;
 import com.itextpdf.test.ExtendedITextTest;
 
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
 import java.security.Security;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
@@ -73,6 +79,26 @@ public class SignatureUtilTest extends ExtendedITextTest {
         Assertions.assertEquals(0, signatureNames.size());
     }
 
+    @Test
+    public void digestSignedRangesTest() throws IOException, GeneralSecurityException {
+        String inPdf = sourceFolder + "simpleSignature.pdf";
+        try (PdfDocument pdfDocument = new PdfDocument(new PdfReader(inPdf))) {
+            SignatureUtil signatureUtil = new SignatureUtil(pdfDocument);
+            byte[][] digests = signatureUtil.digestSignedRanges("Signature1",
+                    MessageDigest.getInstance(DigestAlgorithms.SHA256),
+                    MessageDigest.getInstance(DigestAlgorithms.SHA512));
+
+            long[] byteRange = signatureUtil.getSignature("Signature1").getByteRange().toLongArray();
+            IRandomAccessSource source = pdfDocument.getReader().getSafeFile().createSourceView();
+            Assertions.assertArrayEquals(DigestAlgorithms.digest(new RASInputStream(new RandomAccessSourceFactory()
+                    .createRanged(source, byteRange)), MessageDigest.getInstance(DigestAlgorithms.SHA256)), digests[0]);
+            Assertions.assertArrayEquals(DigestAlgorithms.digest(new RASInputStream(new RandomAccessSourceFactory()
+                    .createRanged(source, byteRange)), MessageDigest.getInstance(DigestAlgorithms.SHA512)), digests[1]);
+            Assertions.assertNull(signatureUtil.digestSignedRanges("Signature2",
+                    MessageDigest.getInstance(DigestAlgorithms.SHA256)));
+        }
+    }
+
     @Test
     public void eolNotIncludedIntoByteRangeTest1() throws IOException {
         String inPdf = sourceFolder + "eolNotIncludedIntoByteRange1.pdf";
@@ -365,4 +391,26 @@ public class SignatureUtilTest extends ExtendedITextTest {
 
         Assertions.assertNull(signatureUtil.extractRevision("Signature1"));
     }
+
+    @Test
+    public void createRevisionReaderTest() throws IOException {
+        String inPdf = sourceFolder + "simpleSignature.pdf";
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(inPdf));
+        SignatureUtil signatureUtil = new SignatureUtil(pdfDocument);
+
+        try (PdfDocument revision = new PdfDocument(signatureUtil.createRevisionReader("Signature1"))) {
+            Assertions.assertEquals(pdfDocument.getNumberOfPages(), revision.getNumberOfPages());
+        }
+        // Closing the revision doesn't close the original document
+        Assertions.assertNotNull(pdfDocument.getPage(1).getContentBytes());
+    }
+
+    @Test
+    public void createRevisionReaderNotSignatureFieldTest() throws IOException {
+        String inPdf = sourceFolder + "signatureInTextTypeField.pdf";
+        PdfDocument pdfDocument = new PdfDocument(new PdfReader(inPdf));
+        SignatureUtil signatureUtil = new SignatureUtil(pdfDocument);
+
+        Assertions.assertNull(signatureUtil.createRevisionReader("Signature1"));
+    }
 }
@@ -58,6 +58,7 @@ import java.security.cert.X509Certificate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.Set;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -196,6 +197,35 @@ public class TrustedCerrtificatesStoreTest extends ExtendedITextTest {
         Assertions.assertTrue(sut.getAllTrustedCertificates(tsaCert.getSubjectX500Principal().getName()).contains(tsaCert));
     }
 
+    @Test
+    public void testGetPossibleIssuers() {
+        TrustedCertificatesStore sut = new TrustedCertificatesStore();
+        sut.addCATrustedCertificates(Collections.singletonList(rootCert));
+        sut.addGenerallyTrustedCertificates(Arrays.asList(intermediateCert, tsaRootCert));
+
+        Set<Certificate> signCertIssuers = sut.getPossibleIssuers(signCert);
+        Assertions.assertEquals(1, signCertIssuers.size());
+        Assertions.assertTrue(signCertIssuers.contains(intermediateCert));
+        Set<Certificate> intermediateCertIssuers = sut.getPossibleIssuers(intermediateCert);
+        Assertions.assertEquals(1, intermediateCertIssuers.size());
+        Assertions.assertTrue(intermediateCertIssuers.contains(rootCert));
+        Assertions.assertTrue(sut.getPossibleIssuers(crlCert).isEmpty());
+    }
+
+    @Test
+    public void testGetTrustedCertificatesByKeyIdentifier() {
+        TrustedCertificatesStore sut = new TrustedCertificatesStore();
+        sut.addCATrustedCertificates(Collections.singletonList(rootCert));
+        sut.addOcspTrustedCertificates(Collections.singletonList(rootCert));
+        sut.addTimestampTrustedCertificates(Collections.singletonList(intermediateCert));
+
+        Set<Certificate> certificates =
+                sut.getTrustedCertificatesByKeyIdentifier(CertificateUtil.getAuthorityKeyIdentifier(intermediateCert));
+        Assertions.assertEquals(1, certificates.size());
+        Assertions.assertTrue(certificates.contains(rootCert));
+        Assertions.assertTrue(sut.getTrustedCertificatesByKeyIdentifier(new byte[] {1, 2, 3}).isEmpty());
+    }
+
      @Test
     public void testGetGenerallyTrustedCertificates() {
         TrustedCertificatesStore sut = new TrustedCertificatesStore();
@@ -0,0 +1,280 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures.sign;
+
+import com.itextpdf.bouncycastleconnector.BouncyCastleFactoryCreator;
+import com.itextpdf.commons.bouncycastle.IBouncyCastleFactory;
+import com.itextpdf.commons.utils.MessageFormatUtil;
+import com.itextpdf.kernel.crypto.DigestAlgorithms;
+import com.itextpdf.kernel.exceptions.PdfException;
+import com.itextpdf.kernel.geom.Rectangle;
+import com.itextpdf.kernel.pdf.PdfDocument;
+import com.itextpdf.kernel.pdf.PdfReader;
+import com.itextpdf.signatures.IExternalBatchSignature;
+import com.itextpdf.signatures.ISignatureMechanismParams;
+import com.itextpdf.signatures.PadesBulkSigner;
+import com.itextpdf.signatures.PdfPKCS7;
+import com.itextpdf.signatures.PrivateKeySignature;
+import com.itextpdf.signatures.SignatureUtil;
+import com.itextpdf.signatures.SignerProperties;
+import com.itextpdf.signatures.exceptions.SignExceptionMessageConstant;
+import com.itextpdf.signatures.testutils.PemFileHelper;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Security;
+import java.security.cert.Certificate;
+import java.security.cert.X509Certificate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("BouncyCastleIntegrationTest")
+public class PadesBulkSignerTest extends ExtendedITextTest {
+    private static final IBouncyCastleFactory FACTORY = BouncyCastleFactoryCreator.getFactory();
+    private static final String sourceFolder = "./src/test/resources/com/itextpdf/signatures/sign/PadesTwoPhaseSigningTest/";
+    private static final String certsSrc = "./src/test/resources/com/itextpdf/signatures/certs/";
+    private static final char[] PASSWORD = "testpassphrase".toCharArray();
+
+    private static Certificate[] certChain;
+    private static PrivateKey signPrivateKey;
+
+    @BeforeAll
+    public static void before() throws Exception {
+        Security.addProvider(FACTORY.getProvider());
+        String signCertFileName = certsSrc + "signCertRsa01.pem";
+        X509Certificate signCert = (X509Certificate) PemFileHelper.readFirstChain(signCertFileName)[0];
+        X509Certificate rootCert = (X509Certificate) PemFileHelper.readFirstChain(certsSrc + "rootRsa.pem")[0];
+        certChain = new X509Certificate[] {signCert, rootCert};
+        signPrivateKey = PemFileHelper.readFirstKey(signCertFileName, PASSWORD);
+    }
+
+    @Test
+    public void signDocumentsInBatchesTest() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(3);
+        try {
+            TestBatchSignature batchSignature = new TestBatchSignature(DigestAlgorithms.SHA256, false);
+            PadesBulkSigner bulkSigner = new PadesBulkSigner(certChain, DigestAlgorithms.SHA256)
+                    .setExecutorService(executorService).setBatchSize(3);
+            List<ByteArrayOutputStream> outputs = new ArrayList<>();
+            for (int i = 0; i < 7; ++i) {
+                ByteArrayOutputStream output = new ByteArrayOutputStream();
+                outputs.add(output);
+                bulkSigner.addDocument(new PdfReader(sourceFolder + "helloWorldDoc.pdf"), output,
+                        createSignerProperties("Signature" + i));
+            }
+            bulkSigner.signWithBaselineBProfile(batchSignature);
+
+            Assertions.assertEquals(3, batchSignature.getBatchCalls());
+            for (int i = 0; i < outputs.size(); ++i) {
+                assertSigned(outputs.get(i).toByteArray(), "Signature" + i);
+            }
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    @Test
+    public void signDocumentsSequentiallyTest() throws Exception {
+        TestBatchSignature batchSignature = new TestBatchSignature(DigestAlgorithms.SHA384, false);
+        PadesBulkSigner bulkSigner = new PadesBulkSigner(certChain, DigestAlgorithms.SHA384);
+        ByteArrayOutputStream first = new ByteArrayOutputStream();
+        ByteArrayOutputStream second = new ByteArrayOutputStream();
+        bulkSigner.addDocument(new PdfReader(sourceFolder + "helloWorldDoc.pdf"), first,
+                createSignerProperties("Signature1"));
+        bulkSigner.addDocument(new PdfReader(sourceFolder + "helloWorldDoc.pdf"), second,
+                createSignerProperties("Signature2"));
+        bulkSigner.signWithBaselineBProfile(batchSignature);
+
+        Assertions.assertEquals(1, batchSignature.getBatchCalls());
+        assertSigned(first.toByteArray(), "Signature1");
+        assertSigned(second.toByteArray(), "Signature2");
+    }
+
+    @Test
+    public void differentDigestAlgorithmsTest() throws Exception {
+        TestBatchSignature batchSignature = new TestBatchSignature(DigestAlgorithms.SHA512, false);
+        PadesBulkSigner bulkSigner = new PadesBulkSigner(certChain, DigestAlgorithms.SHA256);
+        bulkSigner.addDocument(new PdfReader(sourceFolder + "helloWorldDoc.pdf"), new ByteArrayOutputStream(),
+                createSignerProperties("Signature1"));
+
+        Exception exception = Assertions.assertThrows(PdfException.class,
+                () -> bulkSigner.signWithBaselineBProfile(batchSignature));
+        Assertions.assertEquals(MessageFormatUtil.format(SignExceptionMessageConstant.DIGEST_ALGORITHMS_ARE_NOT_SAME,
+                "SHA256", "SHA512"), exception.getMessage());
+        Assertions.assertEquals(0, batchSignature.getBatchCalls());
+    }
+
+    @Test
+    public void batchSignaturesNumberMismatchTest() throws Exception {
+        TestBatchSignature batchSignature = new TestBatchSignature(DigestAlgorithms.SHA256, true);
+        PadesBulkSigner bulkSigner = new PadesBulkSigner(certChain, DigestAlgorithms.SHA256);
+        bulkSigner.addDocument(new PdfReader(sourceFolder + "helloWorldDoc.pdf"), new ByteArrayOutputStream(),
+                createSignerProperties("Signature1"));
+        bulkSigner.addDocument(new PdfReader(sourceFolder + "helloWorldDoc.pdf"), new ByteArrayOutputStream(),
+                createSignerProperties("Signature2"));
+
+        Exception exception = Assertions.assertThrows(PdfException.class,
+                () -> bulkSigner.signWithBaselineBProfile(batchSignature));
+        Assertions.assertEquals(MessageFormatUtil.format(
+                SignExceptionMessageConstant.BATCH_SIGNATURES_NUMBER_MISMATCH, 1, 2), exception.getMessage());
+    }
+
+    @Test
+    public void outputStreamsClosedOnFailureTest() throws Exception {
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            TestBatchSignature batchSignature = new TestBatchSignature(DigestAlgorithms.SHA256, false);
+            PadesBulkSigner bulkSigner = new PadesBulkSigner(certChain, DigestAlgorithms.SHA256)
+                    .setExecutorService(executorService).setBatchSize(2);
+            List<ClosingTrackingOutputStream> outputs = new ArrayList<>();
+            for (int i = 0; i < 5; ++i) {
+                ClosingTrackingOutputStream output = new ClosingTrackingOutputStream();
+                outputs.add(output);
+                PdfReader reader = new PdfReader(sourceFolder + "helloWorldDoc.pdf");
+                if (i == 2) {
+                    // The document of the second batch can't be read, so signing fails in the middle
+                    reader.close();
+                }
+                bulkSigner.addDocument(reader, output, createSignerProperties("Signature" + i));
+            }
+
+            Assertions.assertThrows(Exception.class, () -> bulkSigner.signWithBaselineBProfile(batchSignature));
+
+            Assertions.assertEquals(1, batchSignature.getBatchCalls());
+            for (ClosingTrackingOutputStream output : outputs) {
+                Assertions.assertTrue(output.isClosed());
+                Assertions.assertFalse(output.isWrittenAfterClose());
+            }
+            assertSigned(outputs.get(0).toByteArray(), "Signature0");
+            assertSigned(outputs.get(1).toByteArray(), "Signature1");
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    private static void assertSigned(byte[] document, String fieldName) throws Exception {
+        try (PdfDocument pdfDoc = new PdfDocument(new PdfReader(new ByteArrayInputStream(document)))) {
+            SignatureUtil signatureUtil = new SignatureUtil(pdfDoc);
+            Assertions.assertTrue(signatureUtil.signatureCoversWholeDocument(fieldName));
+            PdfPKCS7 data = signatureUtil.readSignatureData(fieldName, FACTORY.getProviderName());
+            Assertions.assertTrue(data.verifySignatureIntegrityAndAuthenticity());
+        }
+    }
+
+    private static SignerProperties createSignerProperties(String fieldName) {
+        SignerProperties signerProperties = new SignerProperties();
+        signerProperties.setFieldName(fieldName);
+        signerProperties.setPageRect(new Rectangle(50, 650, 200, 100));
+        return signerProperties;
+    }
+
+    private static class ClosingTrackingOutputStream extends ByteArrayOutputStream {
+        private volatile boolean closed;
+        private volatile boolean writtenAfterClose;
+
+        boolean isClosed() {
+            return closed;
+        }
+
+        boolean isWrittenAfterClose() {
+            return writtenAfterClose;
+        }
+
+        @Override
+        public synchronized void write(int b) {
+            writtenAfterClose |= closed;
+            super.write(b);
+        }
+
+        @Override
+        public synchronized void write(byte[] b, int off, int len) {
+            writtenAfterClose |= closed;
+            super.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed = true;
+            super.close();
+        }
+    }
+
+    private static class TestBatchSignature implements IExternalBatchSignature {
+        private final PrivateKeySignature signature;
+        private final boolean dropLastSignature;
+        private final AtomicInteger batchCalls = new AtomicInteger();
+
+        TestBatchSignature(String digestAlgorithm, boolean dropLastSignature) {
+            this.signature = new PrivateKeySignature(signPrivateKey, digestAlgorithm, FACTORY.getProviderName());
+            this.dropLastSignature = dropLastSignature;
+        }
+
+        int getBatchCalls() {
+            return batchCalls.get();
+        }
+
+        @Override
+        public List<byte[]> signBatch(List<byte[]> messages) throws GeneralSecurityException {
+            batchCalls.incrementAndGet();
+            List<byte[]> signatures = new ArrayList<>(messages.size());
+            for (byte[] message : messages) {
+                signatures.add(signature.sign(message));
+            }
+            if (dropLastSignature) {
+                signatures.remove(signatures.size() - 1);
+            }
+            return signatures;
+        }
+
+        @Override
+        public String getDigestAlgorithmName() {
+            return signature.getDigestAlgorithmName();
+        }
+
+        @Override
+        public String getSignatureAlgorithmName() {
+            return signature.getSignatureAlgorithmName();
+        }
+
+        @Override
+        public ISignatureMechanismParams getSignatureMechanismParameters() {
+            return signature.getSignatureMechanismParameters();
+        }
+
+        @Override
+        public byte[] sign(byte[] message) throws GeneralSecurityException {
+            return signature.sign(message);
+        }
+    }
+}
@@ -79,6 +79,34 @@ public class CertificateChainValidatorTest extends ExtendedITextTest {
                 .withRevocationDataValidatorFactory(()-> mockRevocationDataValidator);
     }
 
+    @Test
+    public void validChainWithSharedValidationSessionTest() throws CertificateException, IOException {
+        String chainName = CERTS_SRC + "chain.pem";
+        Certificate[] certificateChain = PemFileHelper.readFirstChain(chainName);
+        X509Certificate signingCert = (X509Certificate) certificateChain[0];
+        X509Certificate intermediateCert = (X509Certificate) certificateChain[1];
+        X509Certificate rootCert = (X509Certificate) certificateChain[2];
+        certificateRetriever.addKnownCertificates(Collections.<Certificate>singletonList(intermediateCert));
+        certificateRetriever.setTrustedCertificates(Collections.<Certificate>singletonList(rootCert));
+
+        ValidationSession session = new ValidationSession();
+        for (int i = 0; i < 2; i++) {
+            ValidatorChainBuilder builder = new ValidatorChainBuilder()
+                    .withIssuingCertificateRetrieverFactory(() -> certificateRetriever)
+                    .withSignatureValidationProperties(properties)
+                    .withRevocationDataValidatorFactory(() -> mockRevocationDataValidator)
+                    .withValidationSession(session);
+            ValidationReport report = builder.buildCertificateChainValidator()
+                    .validateCertificate(baseContext, signingCert, TimeTestUtil.TEST_DATE_TIME);
+            AssertValidationReport.assertThat(report, a -> a
+                    .hasStatus(ValidationResult.VALID)
+                    .hasNumberOfFailures(0)
+                    .hasNumberOfLogs(1));
+        }
+        Assertions.assertEquals(2, session.getMissCount());
+        Assertions.assertEquals(2, session.getHitCount());
+    }
+
     @Test
     public void validChainTest() throws CertificateException, IOException {
         String chainName = CERTS_SRC + "chain.pem";
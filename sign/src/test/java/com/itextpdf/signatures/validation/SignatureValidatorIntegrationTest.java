@@ -28,6 +28,7 @@ import com.itextpdf.commons.bouncycastle.operator.AbstractOperatorCreationExcept
 import com.itextpdf.commons.bouncycastle.pkcs.AbstractPKCSException;
 import com.itextpdf.commons.utils.DateTimeUtil;
 import com.itextpdf.commons.utils.FileUtil;
+import com.itextpdf.commons.utils.MessageFormatUtil;
 import com.itextpdf.kernel.crypto.CryptoUtil;
 import com.itextpdf.kernel.logs.KernelLogMessageConstant;
 import com.itextpdf.kernel.pdf.PdfDocument;
@@ -69,9 +70,17 @@ import java.security.cert.Certificate;
 import java.security.cert.CertificateException;
 import java.security.cert.X509Certificate;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
@@ -721,6 +730,144 @@ public class SignatureValidatorIntegrationTest extends ExtendedITextTest {
         }
     }
 
+    @Test
+    public void validateMultipleSignaturesInParallelTest() throws Exception {
+        String trustedCertsFileName = CERTS_SRC + "trustedCerts.pem";
+        Certificate[] trustedCerts = PemFileHelper.readFirstChain(trustedCertsFileName);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (PdfDocument document = new PdfDocument(
+                new PdfReader(SOURCE_FOLDER + "signatureSigningCertExpired.pdf"))) {
+            SignatureValidator signatureValidator = new ValidatorChainBuilder()
+                    .withTrustedCertificates(Arrays.asList(trustedCerts))
+                    .withExecutorService(executor)
+                    .withRevocationDataValidatorFactory(()->
+                            new MockRevocationDataValidator()).buildSignatureValidator(document);
+            ValidationReport report = signatureValidator.validateSignatures();
+
+            AssertValidationReport.assertThat(report, r -> r
+                    .hasStatus(ValidationResult.VALID)
+                    .hasNumberOfLogs(5).hasNumberOfFailures(0)
+                    .hasLogItem(l -> l
+                            .withCheckName(SignatureValidator.SIGNATURE_VERIFICATION)
+                            .withMessage(SignatureValidator.VALIDATING_SIGNATURE_NAME, p -> "timestampSig1"))
+                    .hasLogItem(l -> l
+                            .withCheckName(SignatureValidator.SIGNATURE_VERIFICATION)
+                            .withMessage(SignatureValidator.VALIDATING_SIGNATURE_NAME, p -> "Signature1"))
+            );
+            // Reports are merged in the same order as in sequential validation
+            Assertions.assertEquals(MessageFormatUtil.format(SignatureValidator.VALIDATING_SIGNATURE_NAME,
+                    "timestampSig1"), getValidatingSignatureMessages(report).get(0));
+            Assertions.assertEquals(MessageFormatUtil.format(SignatureValidator.VALIDATING_SIGNATURE_NAME,
+                    "Signature1"), getValidatingSignatureMessages(report).get(1));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void stopParallelValidationAfterFailureTest() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (PdfDocument document = new PdfDocument(
+                new PdfReader(SOURCE_FOLDER + "validDocWithTimestamp.pdf"))) {
+            SignatureValidator signatureValidator = new ValidatorChainBuilder()
+                    .withSignatureValidationProperties(new SignatureValidationProperties()
+                            .setContinueAfterFailure(ValidatorContexts.all(), CertificateSources.all(), false))
+                    .withExecutorService(executor)
+                    .withRevocationDataValidatorFactory(()->
+                            new MockRevocationDataValidator()).buildSignatureValidator(document);
+            ValidationReport report = signatureValidator.validateSignatures();
+
+            AssertValidationReport.assertThat(report, r -> r
+                    .hasStatus(ValidationResult.INDETERMINATE)
+                    .hasNumberOfLogs(3).hasNumberOfFailures(2)
+                    .hasLogItem(l -> l
+                            .withCheckName(SignatureValidator.SIGNATURE_VERIFICATION)
+                            .withMessage(SignatureValidator.VALIDATING_SIGNATURE_NAME, p -> "Signature1"))
+            );
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void parallelValidationLooksAheadByPoolSizeTest() throws Exception {
+        AtomicInteger submittedTasks = new AtomicInteger();
+        ExecutorService executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>()) {
+            @Override
+            public void execute(Runnable command) {
+                submittedTasks.incrementAndGet();
+                super.execute(command);
+            }
+        };
+        try (PdfDocument document = new PdfDocument(
+                new PdfReader(SOURCE_FOLDER + "signatureSigningCertExpired.pdf"))) {
+            SignatureValidator signatureValidator = new ValidatorChainBuilder()
+                    .withExecutorService(executor)
+                    .withRevocationDataValidatorFactory(()->
+                            new MockRevocationDataValidator()).buildSignatureValidator(document);
+            // The latest signature is validated first, so the validation stops after it
+            ValidationReport report = signatureValidator.validateSignature("timestampSig1");
+
+            AssertValidationReport.assertThat(report, r -> r.hasLogItem(l -> l
+                    .withCheckName(SignatureValidator.SIGNATURE_VERIFICATION)
+                    .withMessage(SignatureValidator.VALIDATING_SIGNATURE_NAME, p -> "timestampSig1")));
+            // Only one revision is prepared at a time, so the second revision is never opened
+            Assertions.assertEquals(1, submittedTasks.get());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void parallelValidationCancelsRevisionsNotStartedTest() throws Exception {
+        List<Runnable> heldBackTasks = new ArrayList<>();
+        ExecutorService executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<Runnable>()) {
+            private boolean firstTaskExecuted = false;
+
+            @Override
+            public void execute(Runnable command) {
+                // Only the first revision is prepared, the other one waits as if all the threads were busy
+                if (firstTaskExecuted) {
+                    heldBackTasks.add(command);
+                } else {
+                    firstTaskExecuted = true;
+                    super.execute(command);
+                }
+            }
+        };
+        try (PdfDocument document = new PdfDocument(
+                new PdfReader(SOURCE_FOLDER + "signatureSigningCertExpired.pdf"))) {
+            SignatureValidator signatureValidator = new ValidatorChainBuilder()
+                    .withExecutorService(executor)
+                    .withRevocationDataValidatorFactory(()->
+                            new MockRevocationDataValidator()).buildSignatureValidator(document);
+            // The latest signature is validated first, so the validation stops after it
+            ValidationReport report = signatureValidator.validateSignature("timestampSig1");
+
+            AssertValidationReport.assertThat(report, r -> r.hasLogItem(l -> l
+                    .withCheckName(SignatureValidator.SIGNATURE_VERIFICATION)
+                    .withMessage(SignatureValidator.VALIDATING_SIGNATURE_NAME, p -> "timestampSig1")));
+            // The revision which hasn't been started is cancelled, its reader is closed by the validator
+            Assertions.assertEquals(1, heldBackTasks.size());
+            Assertions.assertTrue(((Future<?>) heldBackTasks.get(0)).isCancelled());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static List<String> getValidatingSignatureMessages(ValidationReport report) {
+        List<String> messages = new ArrayList<>();
+        for (ReportItem item : report.getLogs()) {
+            if (item.getMessage().startsWith("Validating signature")) {
+                messages.add(item.getMessage());
+            }
+        }
+        return messages;
+    }
+
     private void addRevDataClients()
             throws AbstractOperatorCreationException, IOException, AbstractPKCSException, CertificateException {
         String chainName = CERTS_SRC + "validCertsChain.pem";
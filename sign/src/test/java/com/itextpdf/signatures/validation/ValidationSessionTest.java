@@ -0,0 +1,141 @@
+/*
+    This file is part of the iText (R) project.
+    Copyright (c) 1998-2024 Apryse Group NV
+    Authors: Apryse Software.
+
+    This program is offered under a commercial and under the AGPL license.
+    For commercial licensing, contact us at https://itextpdf.com/sales.  For AGPL licensing, see below.
+
+    AGPL licensing:
+    This program is free software: you can redistribute it and/or modify
+    it under the terms of the GNU Affero General Public License as published by
+    the Free Software Foundation, either version 3 of the License, or
+    (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+    GNU Affero General Public License for more details.
+
+    You should have received a copy of the GNU Affero General Public License
+    along with this program.  If not, see <https://www.gnu.org/licenses/>.
+ */
+package com.itextpdf.signatures.validation;
+
+import com.itextpdf.bouncycastleconnector.BouncyCastleFactoryCreator;
+import com.itextpdf.commons.bouncycastle.IBouncyCastleFactory;
+import com.itextpdf.commons.utils.DateTimeUtil;
+import com.itextpdf.signatures.testutils.PemFileHelper;
+import com.itextpdf.signatures.testutils.TimeTestUtil;
+import com.itextpdf.signatures.testutils.builder.TestCrlBuilder;
+import com.itextpdf.test.ExtendedITextTest;
+
+import java.security.GeneralSecurityException;
+import java.security.PrivateKey;
+import java.security.Security;
+import java.security.cert.X509CRL;
+import java.security.cert.X509Certificate;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+@Tag("BouncyCastleUnitTest")
+public class ValidationSessionTest extends ExtendedITextTest {
+    private static final String SOURCE_FOLDER =
+            "./src/test/resources/com/itextpdf/signatures/validation/CRLValidatorTest/";
+    private static final IBouncyCastleFactory FACTORY = BouncyCastleFactoryCreator.getFactory();
+    private static final char[] KEY_PASSWORD = "testpassphrase".toCharArray();
+
+    private X509Certificate rootCert;
+    private X509Certificate crlIssuerCert;
+    private X509Certificate signCert;
+    private byte[] crlBytes;
+
+    @BeforeAll
+    public static void setUpOnce() {
+        Security.addProvider(FACTORY.getProvider());
+    }
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        String resourcePath = SOURCE_FOLDER + "happyPath/";
+        rootCert = (X509Certificate) PemFileHelper.readFirstChain(resourcePath + "ca.cert.pem")[0];
+        crlIssuerCert = (X509Certificate) PemFileHelper.readFirstChain(resourcePath + "crl-issuer.cert.pem")[0];
+        signCert = (X509Certificate) PemFileHelper.readFirstChain(resourcePath + "sign.cert.pem")[0];
+        PrivateKey crlIssuerKey = PemFileHelper.readFirstKey(SOURCE_FOLDER + "keys/crl-key.pem", KEY_PASSWORD);
+        TestCrlBuilder crlBuilder = new TestCrlBuilder(crlIssuerCert, crlIssuerKey,
+                DateTimeUtil.addDaysToDate(TimeTestUtil.TEST_DATE_TIME, -5));
+        crlBuilder.setNextUpdate(DateTimeUtil.addDaysToDate(TimeTestUtil.TEST_DATE_TIME, 5));
+        crlBytes = crlBuilder.makeCrl();
+    }
+
+    @Test
+    public void parseCrlOnceTest() throws Exception {
+        ValidationSession session = new ValidationSession();
+        X509CRL crl = session.parseCrl(crlBytes);
+        Assertions.assertSame(crl, session.parseCrl(crlBytes.clone()));
+        Assertions.assertEquals(1, session.getMissCount());
+        Assertions.assertEquals(1, session.getHitCount());
+        Assertions.assertEquals(1, session.size());
+    }
+
+    @Test
+    public void verifyCertificateSignatureTest() throws Exception {
+        ValidationSession session = new ValidationSession();
+        session.verifyCertificateSignature(crlIssuerCert, rootCert);
+        session.verifyCertificateSignature(crlIssuerCert, rootCert);
+        Assertions.assertEquals(1, session.getHitCount());
+
+        GeneralSecurityException first = Assertions.assertThrows(GeneralSecurityException.class,
+                () -> session.verifyCertificateSignature(signCert, rootCert));
+        GeneralSecurityException second = Assertions.assertThrows(GeneralSecurityException.class,
+                () -> session.verifyCertificateSignature(signCert, rootCert));
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(2, session.getHitCount());
+        Assertions.assertEquals(2, session.getMissCount());
+    }
+
+    @Test
+    public void verifyCrlSignatureDependsOnIssuerTest() throws Exception {
+        ValidationSession session = new ValidationSession();
+        X509CRL crl = session.parseCrl(crlBytes);
+        session.verifyCrlSignature(crl, crlIssuerCert);
+        Assertions.assertThrows(GeneralSecurityException.class, () -> session.verifyCrlSignature(crl, rootCert));
+        session.verifyCrlSignature(crl, crlIssuerCert);
+        Assertions.assertEquals(3, session.size());
+        Assertions.assertEquals(1, session.getHitCount());
+    }
+
+    @Test
+    public void leastRecentlyUsedEntriesAreDiscardedTest() throws Exception {
+        ValidationSession session = new ValidationSession(2);
+        session.verifyCertificateSignature(crlIssuerCert, rootCert);
+        session.parseCrl(crlBytes);
+        session.verifyCertificateSignature(crlIssuerCert, rootCert);
+        X509CRL crl = session.parseCrl(crlBytes);
+        session.verifyCrlSignature(crl, crlIssuerCert);
+        Assertions.assertEquals(2, session.size());
+        // The certificate signature check was used before the CRL parsing, so it was discarded
+        session.parseCrl(crlBytes);
+        session.verifyCertificateSignature(crlIssuerCert, rootCert);
+        Assertions.assertEquals(3, session.getHitCount());
+        Assertions.assertEquals(4, session.getMissCount());
+    }
+
+    @Test
+    public void disabledCachingTest() throws Exception {
+        ValidationSession session = new ValidationSession(0);
+        Assertions.assertEquals(session.parseCrl(crlBytes), session.parseCrl(crlBytes));
+        session.verifyCertificateSignature(crlIssuerCert, rootCert);
+        Assertions.assertEquals(0, session.size());
+        Assertions.assertEquals(0, session.getHitCount());
+        Assertions.assertEquals(0, session.getMissCount());
+    }
+
+    @Test
+    public void negativeMaxSizeTest() {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new ValidationSession(-1));
+    }
+}